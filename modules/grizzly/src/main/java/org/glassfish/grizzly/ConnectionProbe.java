@@ -104,6 +104,17 @@ public interface ConnectionProbe {
      */
     void onIOEventDisableEvent(Connection connection, IOEvent ioEvent);
 
+    /**
+     * Method will be called, when the {@link Connection} read buffer size gets adjusted according to the observed
+     * traffic.
+     *
+     * @param connection {@link Connection}, the event belongs to.
+     * @param oldSize the previous read buffer size.
+     * @param newSize the new read buffer size.
+     */
+    default void onReadBufferResizeEvent(Connection connection, int oldSize, int newSize) {
+    }
+
     // ---------------------------------------------------------- Nested Classes
 
     /**
@@ -64,6 +64,7 @@ public abstract class NIOTransportBuilder<T extends NIOTransportBuilder> {
     protected boolean reuseAddress = NIOTransport.DEFAULT_REUSE_ADDRESS;
     protected int maxPendingBytesPerConnection = AsyncQueueWriter.AUTO_SIZE;
     protected boolean optimizedForMultiplexing = NIOTransport.DEFAULT_OPTIMIZED_FOR_MULTIPLEXING;
+    protected boolean autoCorkEnabled = NIOTransport.DEFAULT_AUTO_CORK_ENABLED;
 
     protected long readTimeout = TimeUnit.MILLISECONDS.convert(Transport.DEFAULT_READ_TIMEOUT, TimeUnit.SECONDS);
     protected long writeTimeout = TimeUnit.MILLISECONDS.convert(Transport.DEFAULT_WRITE_TIMEOUT, TimeUnit.SECONDS);
@@ -544,6 +545,23 @@ public abstract class NIOTransportBuilder<T extends NIOTransportBuilder> {
         return getThis();
     }
 
+    /**
+     * @see org.glassfish.grizzly.nio.NIOTransport#isAutoCorkEnabled()
+     */
+    public boolean isAutoCorkEnabled() {
+        return autoCorkEnabled;
+    }
+
+    /**
+     * @see org.glassfish.grizzly.nio.NIOTransport#setAutoCorkEnabled(boolean)
+     *
+     * @return this <code>NIOTransportBuilder</code>
+     */
+    public T setAutoCorkEnabled(final boolean autoCorkEnabled) {
+        this.autoCorkEnabled = autoCorkEnabled;
+        return getThis();
+    }
+
     /**
      * @return an {@link NIOTransport} based on the builder's configuration.
      */
@@ -573,6 +591,7 @@ public abstract class NIOTransportBuilder<T extends NIOTransportBuilder> {
         transport.setWriteBufferSize(writeBufferSize);
         transport.setReuseAddress(reuseAddress);
         transport.setOptimizedForMultiplexing(isOptimizedForMultiplexing());
+        transport.setAutoCorkEnabled(autoCorkEnabled);
         transport.getAsyncQueueIO().getWriter().setMaxPendingBytesPerConnection(maxPendingBytesPerConnection);
         return transport;
     }
@@ -21,6 +21,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import org.glassfish.grizzly.threadpool.DefaultWorkerThread;
+import org.glassfish.grizzly.threadpool.Threads;
 
 /**
  *
@@ -59,6 +60,9 @@ public final class ThreadCache {
     public static <E> boolean putToCache(final Thread currentThread, final CachedTypeIndex<E> index, final E o) {
         if (currentThread instanceof DefaultWorkerThread) {
             return ((DefaultWorkerThread) currentThread).putToCache(index, o);
+        } else if (Threads.isVirtual(currentThread)) {
+            // virtual threads are short-lived, the cached objects would never be reused
+            return false;
         } else {
             ObjectCache genericCache = genericCacheAttr.get();
             if (genericCache == null) {
@@ -104,6 +104,20 @@ public interface TransportProbe {
      */
     void onErrorEvent(Transport transport, Throwable error);
 
+    /**
+     * Method will be called, when the load of a {@link Transport} selector runner has been sampled.
+     *
+     * @param transport {@link Transport}, the event belongs to.
+     * @param runnerIndex the selector runner index.
+     * @param registeredKeysCount the number of channels registered with the runner.
+     * @param selectedKeysRate the number of keys selected by the runner per second since the previous sample.
+     * @param pendingTasksCount the number of tasks waiting to be executed by the runner.
+     *
+     * @since 3.0
+     */
+    default void onSelectorRunnerLoadEvent(Transport transport, int runnerIndex, int registeredKeysCount, float selectedKeysRate, int pendingTasksCount) {
+    }
+
     // ---------------------------------------------------------- Nested Classes
 
     /**
@@ -0,0 +1,408 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.attributes;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+import org.glassfish.grizzly.utils.NullaryFunction;
+
+/**
+ * Lock-free thread-safe {@link AttributeHolder}, which supports indexed access to stored {@link Attribute}s.
+ *
+ * The values are stored in an {@link AtomicReferenceArray}, which has a slot per {@link Attribute} set on the holder,
+ * so the holder stays compact, even though the {@link AttributeBuilder} has many {@link Attribute}s registered. The
+ * mapping of {@link Attribute} indexes to the slots is immutable, new {@link Attribute}s are added by replacing the
+ * mapping using CAS. Getting a value of an already mapped {@link Attribute} is a single volatile read, setting is a
+ * single CAS. When the slots are exhausted, the values are copied to a bigger array, the copied slots are frozen, so a
+ * value can't be set to the old array after it has been copied.
+ *
+ * Unlike {@link IndexedAttributeHolder}, {@link IndexedAttributeAccessor#getAttribute(int, NullaryFunction)} may call
+ * the initializer from several threads concurrently, only one of the evaluated values is stored and returned to all the
+ * threads though.
+ *
+ * @see AttributeHolder
+ *
+ * @since 3.0
+ */
+public final class AtomicAttributeHolder implements AttributeHolder {
+    private static final int INITIAL_CAPACITY = 8;
+
+    // the slot value of the values array, which has been copied to a bigger one
+    private static final Object MOVED = new Object();
+
+    private static final AtomicReferenceFieldUpdater<AtomicAttributeHolder, Snapshot> STATE_UPDATER = AtomicReferenceFieldUpdater
+            .newUpdater(AtomicAttributeHolder.class, Snapshot.class, "state");
+
+    private volatile Snapshot state = Snapshot.EMPTY;
+
+    private final DefaultAttributeBuilder attributeBuilder;
+    private final IndexedAttributeAccessor indexedAttributeAccessor = new IndexedAttributeAccessorImpl();
+
+    public AtomicAttributeHolder(final AttributeBuilder attributeBuilder) {
+        this.attributeBuilder = (DefaultAttributeBuilder) attributeBuilder;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getAttribute(final String name) {
+        return getAttribute(name, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getAttribute(final String name, final NullaryFunction initializer) {
+        final Attribute attribute = attributeBuilder.getAttributeByName(name);
+        if (attribute != null) {
+            return indexedAttributeAccessor.getAttribute(attribute.index(), initializer);
+        }
+
+        return initializer != null ? initializer.evaluate() : null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setAttribute(final String name, final Object value) {
+        Attribute attribute = attributeBuilder.getAttributeByName(name);
+        if (attribute == null) {
+            attribute = attributeBuilder.createAttribute(name);
+        }
+
+        indexedAttributeAccessor.setAttribute(attribute.index(), value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object removeAttribute(final String name) {
+        final Attribute attribute = attributeBuilder.getAttributeByName(name);
+        if (attribute != null) {
+            return indexedAttributeAccessor.removeAttribute(attribute.index());
+        }
+
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<String> getAttributeNames() {
+        final Snapshot stateNow = state;
+        if (stateNow.size == 0) {
+            return Collections.emptySet();
+        }
+
+        final Set<String> result = new HashSet<>();
+
+        final int[] i2v = stateNow.i2v;
+        for (int i = 0; i < i2v.length; i++) {
+            final int mappedIdx = i2v[i];
+            if (mappedIdx != -1 && indexedAttributeAccessor.getAttribute(i) != null) {
+                result.add(attributeBuilder.getAttributeByIndex(i).name());
+            }
+        }
+
+        return result;
+    }
+
+    @Override
+    public void copyFrom(final AttributeHolder srcAttributes) {
+        srcAttributes.copyTo(this);
+    }
+
+    @Override
+    public void copyTo(final AttributeHolder dstAttributes) {
+        dstAttributes.clear();
+
+        final Snapshot stateNow = state;
+        if (stateNow.size == 0) {
+            return;
+        }
+
+        final IndexedAttributeAccessor dstAccessor = dstAttributes.getAttributeBuilder() == attributeBuilder ? dstAttributes.getIndexedAttributeAccessor()
+                : null;
+
+        final int[] i2v = stateNow.i2v;
+        for (int i = 0; i < i2v.length; i++) {
+            final int mappedIdx = i2v[i];
+            if (mappedIdx == -1) {
+                continue;
+            }
+
+            final Object value = indexedAttributeAccessor.getAttribute(i);
+            if (value != null) {
+                if (dstAccessor != null) {
+                    dstAccessor.setAttribute(i, value);
+                } else {
+                    dstAttributes.setAttribute(attributeBuilder.getAttributeByIndex(i).name(), value);
+                }
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void recycle() {
+        clear();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        // the slots mapping is kept, so the holder could be reused without reallocation
+        Snapshot stateNow;
+        boolean isCleared;
+        do {
+            stateNow = state;
+            isCleared = true;
+            for (int i = 0; i < stateNow.size && isCleared; i++) {
+                isCleared = replace(stateNow.values, i, null) != MOVED;
+            }
+
+            if (!isCleared) {
+                Thread.yield();
+            }
+        } while (!isCleared);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public AttributeBuilder getAttributeBuilder() {
+        return attributeBuilder;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IndexedAttributeAccessor getIndexedAttributeAccessor() {
+        return indexedAttributeAccessor;
+    }
+
+    /**
+     * {@link IndexedAttributeAccessor} implementation.
+     */
+    private final class IndexedAttributeAccessorImpl implements IndexedAttributeAccessor {
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Object getAttribute(final int index) {
+            while (true) {
+                final Snapshot stateNow = state;
+                final int mappedIdx = stateNow.mappedIndex(index);
+                if (mappedIdx == -1) {
+                    return null;
+                }
+
+                final Object value = stateNow.values.get(mappedIdx);
+                if (value != MOVED) {
+                    return value;
+                }
+
+                // the values are being copied, wait for the new copy
+                Thread.yield();
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Object getAttribute(final int index, final NullaryFunction initializer) {
+            final Object value = getAttribute(index);
+            if (value != null || initializer == null) {
+                return value;
+            }
+
+            final Object newValue = initializer.evaluate();
+            if (newValue == null) {
+                return null;
+            }
+
+            while (true) {
+                final Snapshot stateNow = state;
+                final int mappedIdx = stateNow.mappedIndex(index);
+                if (mappedIdx == -1) {
+                    map(stateNow, index);
+                    continue;
+                }
+
+                if (stateNow.values.compareAndSet(mappedIdx, null, newValue)) {
+                    return newValue;
+                }
+
+                final Object winner = stateNow.values.get(mappedIdx);
+                if (winner == MOVED) {
+                    Thread.yield();
+                } else if (winner != null) {
+                    return winner;
+                }
+
+                // the values have been copied or the value has been removed concurrently, try again
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void setAttribute(final int index, final Object value) {
+            while (true) {
+                final Snapshot stateNow = state;
+                final int mappedIdx = stateNow.mappedIndex(index);
+                if (mappedIdx == -1) {
+                    if (value == null) {
+                        return;
+                    }
+
+                    map(stateNow, index);
+                    continue;
+                }
+
+                if (replace(stateNow.values, mappedIdx, value) != MOVED) {
+                    return;
+                }
+
+                Thread.yield();
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Object removeAttribute(final int index) {
+            while (true) {
+                final Snapshot stateNow = state;
+                final int mappedIdx = stateNow.mappedIndex(index);
+                if (mappedIdx == -1) {
+                    return null;
+                }
+
+                final Object oldValue = replace(stateNow.values, mappedIdx, null);
+                if (oldValue != MOVED) {
+                    return oldValue;
+                }
+
+                Thread.yield();
+            }
+        }
+
+        /**
+         * Maps the attribute index to a new slot, the slot value is set by the caller. If there are no free slots - the
+         * values are copied to a bigger array instead, and the caller retries.
+         */
+        private void map(final Snapshot stateNow, final int index) {
+            final int mappedIdx = stateNow.size;
+            if (mappedIdx == stateNow.values.length()) {
+                grow(stateNow);
+                return;
+            }
+
+            final int[] newI2v = Arrays.copyOf(stateNow.i2v, Math.max(stateNow.i2v.length, index + 1));
+            Arrays.fill(newI2v, stateNow.i2v.length, newI2v.length, -1);
+            newI2v[index] = mappedIdx;
+
+            STATE_UPDATER.compareAndSet(AtomicAttributeHolder.this, stateNow, new Snapshot(stateNow.values, newI2v, mappedIdx + 1));
+        }
+
+        /**
+         * Copies the values to a bigger array. Each copied slot is frozen with {@link #MOVED}, so a concurrent write to
+         * the old array either gets to the copy, or fails and is retried on the new array. The thread, which has frozen
+         * the first slot, does the copying, the other threads wait until the new array is published.
+         */
+        private void grow(final Snapshot stateNow) {
+            final AtomicReferenceArray<Object> values = stateNow.values;
+            final int length = values.length();
+
+            final AtomicReferenceArray<Object> newValues = new AtomicReferenceArray<>(Math.max(INITIAL_CAPACITY, length * 3 / 2 + 1));
+            if (length == 0) {
+                STATE_UPDATER.compareAndSet(AtomicAttributeHolder.this, stateNow, new Snapshot(newValues, stateNow.i2v, stateNow.size));
+                return;
+            }
+
+            final Object first = values.getAndSet(0, MOVED);
+            if (first == MOVED) {
+                // another thread is copying the values
+                Thread.yield();
+                return;
+            }
+
+            newValues.lazySet(0, first);
+            for (int i = 1; i < length; i++) {
+                newValues.lazySet(i, values.getAndSet(i, MOVED));
+            }
+
+            // no slots could be mapped to the full array meanwhile, so the mapping is the same
+            state = new Snapshot(newValues, stateNow.i2v, stateNow.size);
+        }
+    }
+
+    /**
+     * Replaces the slot value, unless the slot is {@link #MOVED}.
+     *
+     * @return the old value, or {@link #MOVED}, if the value hasn't been replaced.
+     */
+    private static Object replace(final AtomicReferenceArray<Object> values, final int mappedIdx, final Object value) {
+        while (true) {
+            final Object oldValue = values.get(mappedIdx);
+            if (oldValue == MOVED || values.compareAndSet(mappedIdx, oldValue, value)) {
+                return oldValue;
+            }
+        }
+    }
+
+    private static final class Snapshot {
+        private static final Snapshot EMPTY = new Snapshot(new AtomicReferenceArray<>(0), new int[0], 0);
+
+        // the slots, [0, size) are mapped to attribute indexes
+        private final AtomicReferenceArray<Object> values;
+        // attribute index -> slot, -1 if not mapped
+        private final int[] i2v;
+
+        private final int size;
+
+        Snapshot(final AtomicReferenceArray<Object> values, final int[] i2v, final int size) {
+            this.values = values;
+            this.i2v = i2v;
+            this.size = size;
+        }
+
+        int mappedIndex(final int index) {
+            return index < i2v.length ? i2v[index] : -1;
+        }
+    }
+}
@@ -31,6 +31,12 @@ import org.glassfish.grizzly.utils.NullaryFunction;
  * @author Alexey Stashok
  */
 public class DefaultAttributeBuilder implements AttributeBuilder {
+    /**
+     * If <tt>true</tt>, {@link #createSafeAttributeHolder()} creates lock-free {@link AtomicAttributeHolder}s instead of
+     * {@link IndexedAttributeHolder}s.
+     */
+    public static final boolean LOCK_FREE_ATTRIBUTE_HOLDERS = Boolean.getBoolean(DefaultAttributeBuilder.class.getName() + ".lock-free-holders");
+
     protected final List<Attribute> attributes = new ArrayList<>();
     protected final Map<String, Attribute> name2Attribute = new HashMap<>();
 
@@ -87,7 +93,7 @@ public class DefaultAttributeBuilder implements AttributeBuilder {
 
     @Override
     public AttributeHolder createSafeAttributeHolder() {
-        return new IndexedAttributeHolder(this);
+        return LOCK_FREE_ATTRIBUTE_HOLDERS ? new AtomicAttributeHolder(this) : new IndexedAttributeHolder(this);
     }
 
     @Override
@@ -17,6 +17,7 @@
 package org.glassfish.grizzly.filterchain;
 
 import java.io.IOException;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.concurrent.ExecutionException;
@@ -61,6 +62,11 @@ public final class DefaultFilterChain extends ListFacadeFilterChain {
 
     private static final Logger LOGGER = Grizzly.logger(DefaultFilterChain.class);
 
+    private volatile boolean isCompiled;
+
+    // the filter indexes to jump to, skipping pass-through filters, null if not compiled yet or the chain has been changed
+    private volatile FilterIndexes compiledIndexes;
+
     public DefaultFilterChain() {
         this(new ArrayList<Filter>());
     }
@@ -69,6 +75,26 @@ public final class DefaultFilterChain extends ListFacadeFilterChain {
         super(new ArrayList<>(initialFilters));
     }
 
+    /**
+     * @return <tt>true</tt> if the chain skips the {@link BaseFilter} subclasses, which don't override the processed
+     * {@link Operation} handler, <tt>false</tt> otherwise (default).
+     */
+    public boolean isCompiled() {
+        return isCompiled;
+    }
+
+    /**
+     * Enables or disables skipping of the {@link BaseFilter} subclasses, which don't override the processed
+     * {@link Operation} handler, so the pass-through handlers, which just return the invoke action, are not called. The
+     * filters to skip are resolved once per {@link Operation}, and resolved again after the chain has been changed.
+     *
+     * @param isCompiled <tt>true</tt> to skip the pass-through filters.
+     */
+    public void setCompiled(final boolean isCompiled) {
+        this.isCompiled = isCompiled;
+        compiledIndexes = null;
+    }
+
     @Override
     public ProcessorResult process(final Context context) {
         if (isEmpty()) {
@@ -164,6 +190,8 @@ public final class DefaultFilterChain extends ListFacadeFilterChain {
         int lastNextActionType = InvokeAction.TYPE;
         NextAction lastNextAction = null;
 
+        final FilterIndexes filterIndexes = obtainFilterIndexes();
+
         while (i != end) {
 
             // current Filter to be executed
@@ -194,7 +222,7 @@ public final class DefaultFilterChain extends ListFacadeFilterChain {
                 storeMessage(ctx, filtersState, invokeAction.isIncomplete(), i, chunk, invokeAction.getAppender());
             }
 
-            i = executor.getNextFilter(ctx);
+            i = filterIndexes == null ? executor.getNextFilter(ctx) : filterIndexes.getNextFilter(executor, ctx, end);
             ctx.setFilterIdx(i);
         }
 
@@ -429,7 +457,35 @@ public final class DefaultFilterChain extends ListFacadeFilterChain {
 
     @Override
     public DefaultFilterChain subList(int fromIndex, int toIndex) {
-        return new DefaultFilterChain(filters.subList(fromIndex, toIndex));
+        final DefaultFilterChain subChain = new DefaultFilterChain(filters.subList(fromIndex, toIndex));
+        subChain.setCompiled(isCompiled);
+        return subChain;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        compiledIndexes = null;
+    }
+
+    @Override
+    protected void notifyChangedExcept(final Filter filter) {
+        compiledIndexes = null;
+        super.notifyChangedExcept(filter);
+    }
+
+    private FilterIndexes obtainFilterIndexes() {
+        if (!isCompiled) {
+            return null;
+        }
+
+        FilterIndexes indexes = compiledIndexes;
+        if (indexes == null || indexes.size != size()) {
+            indexes = new FilterIndexes(filters.toArray(new Filter[0]));
+            compiledIndexes = indexes;
+        }
+
+        return indexes;
     }
 
     @SuppressWarnings("unchecked")
@@ -637,6 +693,106 @@ public final class DefaultFilterChain extends ListFacadeFilterChain {
         }
     }
 
+    /**
+     * Per {@link Operation} and direction table of the next filter indexes, which skips pass-through filters.
+     */
+    private static final class FilterIndexes {
+        private static final int OPERATIONS_NUM = Operation.values().length;
+
+        private final int size;
+
+        // [operation][filterIdx] -> the index of the next filter to execute
+        private final int[][] upstreamNext;
+        private final int[][] downstreamNext;
+
+        FilterIndexes(final Filter[] filters) {
+            size = filters.length;
+            upstreamNext = new int[OPERATIONS_NUM][];
+            downstreamNext = new int[OPERATIONS_NUM][];
+
+            for (Operation operation : Operation.values()) {
+                if (operation == Operation.NONE) {
+                    continue;
+                }
+
+                final boolean[] isPassThrough = new boolean[size];
+                for (int i = 0; i < size; i++) {
+                    isPassThrough[i] = isPassThrough(filters[i], operation);
+                }
+
+                final int[] up = new int[size];
+                int next = size;
+                for (int i = size - 1; i >= 0; i--) {
+                    up[i] = next;
+                    if (!isPassThrough[i]) {
+                        next = i;
+                    }
+                }
+
+                final int[] down = new int[size];
+                next = -1;
+                for (int i = 0; i < size; i++) {
+                    down[i] = next;
+                    if (!isPassThrough[i]) {
+                        next = i;
+                    }
+                }
+
+                upstreamNext[operation.ordinal()] = up;
+                downstreamNext[operation.ordinal()] = down;
+            }
+        }
+
+        int getNextFilter(final FilterExecutor executor, final FilterChainContext ctx, final int end) {
+            final int idx = ctx.getFilterIdx();
+            final int[] next = (executor.isUpstream() ? upstreamNext : downstreamNext)[ctx.getOperation().ordinal()];
+
+            if (next == null || idx < 0 || idx >= next.length) {
+                return executor.getNextFilter(ctx);
+            }
+
+            // don't go beyond the end of the executed chain part
+            return executor.isUpstream() ? Math.min(next[idx], end) : Math.max(next[idx], end);
+        }
+
+        private static boolean isPassThrough(final Filter filter, final Operation operation) {
+            if (!(filter instanceof BaseFilter)) {
+                return false;
+            }
+
+            try {
+                final Class<?> filterClass = filter.getClass();
+                final Method handler;
+                switch (operation) {
+                case ACCEPT:
+                    handler = filterClass.getMethod("handleAccept", FilterChainContext.class);
+                    break;
+                case CONNECT:
+                    handler = filterClass.getMethod("handleConnect", FilterChainContext.class);
+                    break;
+                case READ:
+                    handler = filterClass.getMethod("handleRead", FilterChainContext.class);
+                    break;
+                case WRITE:
+                    handler = filterClass.getMethod("handleWrite", FilterChainContext.class);
+                    break;
+                case EVENT:
+                    handler = filterClass.getMethod("handleEvent", FilterChainContext.class, FilterChainEvent.class);
+                    break;
+                case CLOSE:
+                    handler = filterClass.getMethod("handleClose", FilterChainContext.class);
+                    break;
+                default:
+                    return false;
+                }
+
+                return handler.getDeclaringClass() == BaseFilter.class;
+            } catch (Exception e) {
+                return false;
+            }
+        }
+    }
+
     private final class FiltersStateFactory implements NullaryFunction<FiltersState> {
 
         @Override
@@ -27,6 +27,7 @@ import java.util.List;
  */
 public abstract class FilterChainBuilder {
     protected final List<Filter> patternFilterChain;
+    protected boolean isCompiled;
 
     private FilterChainBuilder() {
         patternFilterChain = new ArrayList<>();
@@ -42,6 +43,20 @@ public abstract class FilterChainBuilder {
 
     public abstract FilterChain build();
 
+    /**
+     * Makes the built {@link FilterChain}s skip the {@link BaseFilter} subclasses, which don't override the processed
+     * operation handler.
+     *
+     * @param isCompiled <tt>true</tt> to skip the pass-through filters.
+     * @return this {@link FilterChainBuilder}
+     *
+     * @see DefaultFilterChain#setCompiled(boolean)
+     */
+    public FilterChainBuilder compiled(final boolean isCompiled) {
+        this.isCompiled = isCompiled;
+        return this;
+    }
+
     public FilterChainBuilder add(Filter filter) {
         return addLast(filter);
     }
@@ -123,7 +138,8 @@ public abstract class FilterChainBuilder {
     public static class StatelessFilterChainBuilder extends FilterChainBuilder {
         @Override
         public FilterChain build() {
-            final FilterChain fc = new DefaultFilterChain();
+            final DefaultFilterChain fc = new DefaultFilterChain();
+            fc.setCompiled(isCompiled);
             fc.addAll(patternFilterChain);
             return fc;
         }
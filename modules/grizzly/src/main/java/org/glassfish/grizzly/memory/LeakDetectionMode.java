@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.memory;
+
+import java.util.Locale;
+
+/**
+ * {@link MemoryManager} buffer leak detection modes.
+ *
+ * Leaks are reported via {@link MemoryProbe#onBufferLeakEvent(int, Throwable)}.
+ *
+ * @since 3.0
+ */
+public enum LeakDetectionMode {
+
+    /**
+     * Leak detection is disabled.
+     */
+    DISABLED,
+
+    /**
+     * Every n-th allocated buffer (on average) is tracked, where n is the sampling interval.
+     */
+    SAMPLED,
+
+    /**
+     * Every allocated buffer is tracked. Please note, this mode has significant performance impact and should be used
+     * for debugging only.
+     */
+    PARANOID;
+
+    /**
+     * Parses the case insensitive mode name.
+     *
+     * @param value the mode name, may be <tt>null</tt>.
+     * @param defaultMode the mode to return if the value is <tt>null</tt> or unknown.
+     * @return the {@link LeakDetectionMode}.
+     */
+    static LeakDetectionMode parse(final String value, final LeakDetectionMode defaultMode) {
+        if (value == null) {
+            return defaultMode;
+        }
+
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ENGLISH));
+        } catch (IllegalArgumentException e) {
+            return defaultMode;
+        }
+    }
+}
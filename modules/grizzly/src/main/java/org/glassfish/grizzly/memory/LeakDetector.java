@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.memory;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayDeque;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.glassfish.grizzly.Buffer;
+import org.glassfish.grizzly.Grizzly;
+import org.glassfish.grizzly.localization.LogMessages;
+import org.glassfish.grizzly.monitoring.DefaultMonitoringConfig;
+
+/**
+ * Tracks allocated {@link Buffer}s and reports the ones, which became unreachable without being disposed.
+ *
+ * A tracked buffer is referenced weakly, so if it gets garbage collected before {@link LeakRecord#close()} is called -
+ * the leak is logged along with the buffer allocation and last touch stack traces, and reported via
+ * {@link MemoryProbe#onBufferLeakEvent(int, Throwable)}. The leaks are checked, when new buffers are tracked.
+ */
+final class LeakDetector {
+    private static final Logger LOGGER = Grizzly.logger(LeakDetector.class);
+
+    // the max number of the last touch records kept per tracked buffer
+    private static final int MAX_TOUCH_RECORDS = 4;
+
+    private final LeakDetectionMode mode;
+    private final int samplingInterval;
+    private final DefaultMonitoringConfig<MemoryProbe> monitoringConfig;
+
+    private final Set<LeakRecord> records = ConcurrentHashMap.newKeySet();
+    private final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+    private final AtomicLong leaksCount = new AtomicLong();
+
+    /**
+     * @param mode the {@link LeakDetectionMode}, must not be {@link LeakDetectionMode#DISABLED}.
+     * @param samplingInterval the {@link LeakDetectionMode#SAMPLED} mode sampling interval.
+     * @param monitoringConfig the {@link MemoryProbe}s to notify about leaks.
+     */
+    LeakDetector(final LeakDetectionMode mode, final int samplingInterval, final DefaultMonitoringConfig<MemoryProbe> monitoringConfig) {
+        if (mode == null || mode == LeakDetectionMode.DISABLED) {
+            throw new IllegalArgumentException("Leak detection mode must be SAMPLED or PARANOID");
+        }
+        if (samplingInterval <= 0) {
+            throw new IllegalArgumentException("samplingInterval must be greater than zero");
+        }
+
+        this.mode = mode;
+        this.samplingInterval = samplingInterval;
+        this.monitoringConfig = monitoringConfig;
+    }
+
+    LeakDetectionMode getMode() {
+        return mode;
+    }
+
+    int getSamplingInterval() {
+        return samplingInterval;
+    }
+
+    long getLeaksCount() {
+        return leaksCount.get();
+    }
+
+    /**
+     * Starts tracking the buffer, if it's sampled.
+     *
+     * @param buffer the allocated {@link Buffer}.
+     * @param size the size to report.
+     * @param leakHandler the task to run if the buffer leaks, may be <tt>null</tt>. The task must not reference the
+     * buffer.
+     * @return the {@link LeakRecord} or <tt>null</tt>, if the buffer is not sampled.
+     */
+    LeakRecord track(final Buffer buffer, final int size, final Runnable leakHandler) {
+        reportLeaks();
+
+        if (mode == LeakDetectionMode.SAMPLED && samplingInterval > 1 && ThreadLocalRandom.current().nextInt(samplingInterval) != 0) {
+            return null;
+        }
+
+        final LeakRecord record = new LeakRecord(this, buffer, size, leakHandler);
+        records.add(record);
+
+        return record;
+    }
+
+    /**
+     * Reports the tracked buffers, which have been garbage collected without being disposed.
+     */
+    void reportLeaks() {
+        LeakRecord record;
+        while ((record = (LeakRecord) queue.poll()) != null) {
+            if (!records.remove(record)) {
+                continue;
+            }
+
+            leaksCount.incrementAndGet();
+
+            final Throwable trace = record.toTrace();
+            if (LOGGER.isLoggable(Level.WARNING)) {
+                LOGGER.log(Level.WARNING, LogMessages.WARNING_GRIZZLY_MEMORY_BUFFER_LEAK(record.size), trace);
+            }
+            ProbeNotifier.notifyBufferLeak(monitoringConfig, record.size, trace);
+
+            if (record.leakHandler != null) {
+                record.leakHandler.run();
+            }
+        }
+    }
+
+    /**
+     * The tracked buffer record.
+     */
+    static final class LeakRecord extends WeakReference<Object> {
+        private final LeakDetector detector;
+        private final int size;
+        private final Runnable leakHandler;
+        private final Throwable allocationTrace;
+
+        // guarded by "this"
+        private final ArrayDeque<Throwable> touchTraces = new ArrayDeque<>(MAX_TOUCH_RECORDS);
+
+        private LeakRecord(final LeakDetector detector, final Buffer buffer, final int size, final Runnable leakHandler) {
+            super(buffer, detector.queue);
+            this.detector = detector;
+            this.size = size;
+            this.leakHandler = leakHandler;
+            this.allocationTrace = new Throwable("Buffer was allocated from:");
+        }
+
+        /**
+         * Records the current stack trace as the buffer last touch.
+         */
+        void touch() {
+            final Throwable trace = new Throwable("Buffer was accessed from:");
+            synchronized (this) {
+                if (touchTraces.size() == MAX_TOUCH_RECORDS) {
+                    touchTraces.pollFirst();
+                }
+
+                touchTraces.addLast(trace);
+            }
+        }
+
+        /**
+         * Stops tracking the buffer, should be called when the buffer gets disposed.
+         */
+        void close() {
+            if (detector.records.remove(this)) {
+                clear();
+            }
+        }
+
+        private Throwable toTrace() {
+            synchronized (this) {
+                for (Throwable touchTrace : touchTraces) {
+                    allocationTrace.addSuppressed(touchTrace);
+                }
+
+                touchTraces.clear();
+            }
+
+            return allocationTrace;
+        }
+    }
+}
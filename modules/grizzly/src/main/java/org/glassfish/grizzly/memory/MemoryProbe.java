@@ -43,6 +43,33 @@ public interface MemoryProbe {
      */
     void onBufferReleaseToPoolEvent(int size);
 
+    /**
+     * Called by {@link MemoryManager}, when buffer gets allocated from the current thread's magazine (per-thread buffer
+     * cache)
+     *
+     * @param size buffer size
+     */
+    default void onMagazineHitEvent(int size) {
+    }
+
+    /**
+     * Called by {@link MemoryManager}, when buffer allocation finds the current thread's magazine (per-thread buffer
+     * cache) empty, so the magazine has to be refilled from the shared pool
+     *
+     * @param size buffer size
+     */
+    default void onMagazineMissEvent(int size) {
+    }
+
+    /**
+     * Called by {@link MemoryManager}, when it detects a buffer, which became unreachable without being disposed
+     *
+     * @param size buffer size
+     * @param allocationTrace the stack trace of the leaked buffer allocation
+     */
+    default void onBufferLeakEvent(int size, Throwable allocationTrace) {
+    }
+
     // ---------------------------------------------------------- Nested Classes
 
     /**
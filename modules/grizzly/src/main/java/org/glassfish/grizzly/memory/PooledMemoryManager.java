@@ -19,6 +19,8 @@ package org.glassfish.grizzly.memory;
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReferenceArray;
@@ -28,6 +30,7 @@ import org.glassfish.grizzly.Buffer;
 import org.glassfish.grizzly.monitoring.DefaultMonitoringConfig;
 import org.glassfish.grizzly.monitoring.MonitoringConfig;
 import org.glassfish.grizzly.monitoring.MonitoringUtils;
+import org.glassfish.grizzly.threadpool.DefaultWorkerThread;
 
 /**
  * A {@link MemoryManager} implementation based on a series of shared memory pools. Each pool contains multiple buffers
@@ -44,6 +47,8 @@ import org.glassfish.grizzly.monitoring.MonitoringUtils;
  * <li>The percentage of the heap that this manager will use when populating the pools</li>
  * <li>The percentage of buffers to be pre-allocated during MemoryManager initialization</li>
  * <li>The flag indicating whether direct or heap based {@link Buffer}s will be allocated</li>
+ * <li>The per-thread magazine size, see {@link #getMagazineSize()}</li>
+ * <li>The buffer leak detection mode, see {@link #setLeakDetection(LeakDetectionMode, int)}</li>
  * </ul>
  *
  * If no explicit configuration is provided, the following defaults will be used:
@@ -56,6 +61,8 @@ import org.glassfish.grizzly.monitoring.MonitoringUtils;
  * <li>Percentage of heap: 3% ({@link #DEFAULT_HEAP_USAGE_PERCENTAGE})</li>
  * <li>Percentage of buffers to be pre-allocated: 100% ({@link #DEFAULT_PREALLOCATED_BUFFERS_PERCENTAGE})</li>
  * <li>Heap based {@link Buffer}s will be allocated</li>
+ * <li>Per-thread magazines are disabled ({@link #DEFAULT_MAGAZINE_SIZE})</li>
+ * <li>Leak detection is disabled ({@link #DEFAULT_LEAK_DETECTION_MODE})</li>
  * </ul>
  *
  * The main advantage of this manager over {@link org.glassfish.grizzly.memory.HeapMemoryManager} or
@@ -72,6 +79,10 @@ public class PooledMemoryManager implements MemoryManager<Buffer>, WrapperAware
 
     public static final float DEFAULT_HEAP_USAGE_PERCENTAGE = 0.03f;
     public static final float DEFAULT_PREALLOCATED_BUFFERS_PERCENTAGE = 1.0f;
+    public static final int DEFAULT_MAGAZINE_SIZE = Integer.getInteger(PooledMemoryManager.class.getName() + ".magazine-size", 0);
+    public static final LeakDetectionMode DEFAULT_LEAK_DETECTION_MODE = LeakDetectionMode
+            .parse(System.getProperty(PooledMemoryManager.class.getName() + ".leak-detection"), LeakDetectionMode.DISABLED);
+    public static final int DEFAULT_LEAK_SAMPLING_INTERVAL = Integer.getInteger(PooledMemoryManager.class.getName() + ".leak-sampling-interval", 128);
 
     private static final boolean FORCE_BYTE_BUFFER_BASED_BUFFERS = Boolean.getBoolean(PooledMemoryManager.class + ".force-byte-buffer-based-buffers");
 
@@ -95,6 +106,12 @@ public class PooledMemoryManager implements MemoryManager<Buffer>, WrapperAware
     // the max buffer size pooled by this memory manager
     private final int maxPooledBufferSize;
 
+    // the max number of buffers cached per thread per pool
+    private final int magazineSize;
+
+    // null, if the leak detection is disabled
+    private volatile LeakDetector leakDetector;
+
     // ------------------------------------------------------------ Constructors
 
     /**
@@ -110,7 +127,7 @@ public class PooledMemoryManager implements MemoryManager<Buffer>, WrapperAware
      */
     public PooledMemoryManager() {
         this(DEFAULT_BASE_BUFFER_SIZE, DEFAULT_NUMBER_OF_POOLS, DEFAULT_GROWTH_FACTOR, Runtime.getRuntime().availableProcessors(),
-                DEFAULT_HEAP_USAGE_PERCENTAGE, DEFAULT_PREALLOCATED_BUFFERS_PERCENTAGE, false);
+                DEFAULT_HEAP_USAGE_PERCENTAGE, DEFAULT_PREALLOCATED_BUFFERS_PERCENTAGE, false, DEFAULT_MAGAZINE_SIZE);
     }
 
     /**
@@ -121,7 +138,7 @@ public class PooledMemoryManager implements MemoryManager<Buffer>, WrapperAware
     @SuppressWarnings("unused")
     public PooledMemoryManager(final boolean isDirect) {
         this(DEFAULT_BASE_BUFFER_SIZE, DEFAULT_NUMBER_OF_POOLS, DEFAULT_GROWTH_FACTOR, Runtime.getRuntime().availableProcessors(),
-                DEFAULT_HEAP_USAGE_PERCENTAGE, DEFAULT_PREALLOCATED_BUFFERS_PERCENTAGE, isDirect);
+                DEFAULT_HEAP_USAGE_PERCENTAGE, DEFAULT_PREALLOCATED_BUFFERS_PERCENTAGE, isDirect, DEFAULT_MAGAZINE_SIZE);
     }
 
     /**
@@ -139,6 +156,26 @@ public class PooledMemoryManager implements MemoryManager<Buffer>, WrapperAware
      */
     public PooledMemoryManager(final int baseBufferSize, final int numberOfPools, final int growthFactor, final int numberOfPoolSlices,
             final float percentOfHeap, final float percentPreallocated, final boolean isDirect) {
+        this(baseBufferSize, numberOfPools, growthFactor, numberOfPoolSlices, percentOfHeap, percentPreallocated, isDirect, DEFAULT_MAGAZINE_SIZE);
+    }
+
+    /**
+     * Creates a new <code>PooledMemoryManager</code> using the specified parameters for configuration.
+     *
+     * @param baseBufferSize the base size of the buffer for the 1st pool, every next pool n will have buffer size equal to
+     * bufferSize(n-1) * 2^growthFactor
+     * @param numberOfPools the number of pools, responsible for allocation of buffers of a pool-specific size
+     * @param growthFactor the buffer size growth factor, that defines 2^x multiplier, used to calculate buffer size for
+     * next allocated pool
+     * @param numberOfPoolSlices the number of pool slices that every pool will stripe allocation requests across
+     * @param percentOfHeap percentage of the heap that will be used when populating the pools
+     * @param percentPreallocated percentage of buffers to be pre-allocated during MemoryManager initialization
+     * @param isDirect flag, indicating whether direct or heap based {@link Buffer}s will be allocated
+     * @param magazineSize the max number of buffers every worker thread caches per pool, <tt>0</tt> disables the per-thread
+     * magazines
+     */
+    public PooledMemoryManager(final int baseBufferSize, final int numberOfPools, final int growthFactor, final int numberOfPoolSlices,
+            final float percentOfHeap, final float percentPreallocated, final boolean isDirect, final int magazineSize) {
         if (baseBufferSize <= 0) {
             throw new IllegalArgumentException("baseBufferSize must be greater than zero");
         }
@@ -167,14 +204,22 @@ public class PooledMemoryManager implements MemoryManager<Buffer>, WrapperAware
             throw new IllegalArgumentException("percentPreallocated must be greater or equal to zero and less or equal to 1");
         }
 
+        if (magazineSize < 0) {
+            throw new IllegalArgumentException("magazineSize must be greater or equal to zero");
+        }
+
+        this.magazineSize = magazineSize;
+
         final long heapSize = Runtime.getRuntime().maxMemory();
         final long memoryPerSubPool = (long) (heapSize * percentOfHeap / numberOfPools);
 
         pools = new Pool[numberOfPools];
         for (int i = 0, bufferSize = baseBufferSize; i < numberOfPools; i++, bufferSize <<= growthFactor) {
-            pools[i] = new Pool(bufferSize, memoryPerSubPool, numberOfPoolSlices, percentPreallocated, isDirect, monitoringConfig);
+            pools[i] = new Pool(bufferSize, memoryPerSubPool, numberOfPoolSlices, percentPreallocated, isDirect, magazineSize, monitoringConfig);
         }
         maxPooledBufferSize = pools[numberOfPools - 1].bufferSize;
+
+        setLeakDetection(DEFAULT_LEAK_DETECTION_MODE, DEFAULT_LEAK_SAMPLING_INTERVAL);
     }
 
     // ---------------------------------------------- Methods from MemoryManager
@@ -209,7 +254,7 @@ public class PooledMemoryManager implements MemoryManager<Buffer>, WrapperAware
             return Buffers.EMPTY_BUFFER;
         }
 
-        return size <= maxPooledBufferSize ? getPoolFor(size).allocate() : allocateToCompositeBuffer(newCompositeBuffer(), size);
+        return size <= maxPooledBufferSize ? allocateFromPool(getPoolFor(size)) : allocateToCompositeBuffer(newCompositeBuffer(), size);
     }
 
     /**
@@ -237,7 +282,7 @@ public class PooledMemoryManager implements MemoryManager<Buffer>, WrapperAware
                 if (newPool != oldPoolBuffer.owner().owner) {
                     final int pos = Math.min(oldPoolBuffer.position(), newSize);
 
-                    final Buffer newPoolBuffer = newPool.allocate();
+                    final Buffer newPoolBuffer = allocateFromPool(newPool);
                     Buffers.setPositionLimit(oldPoolBuffer, 0, newSize);
                     newPoolBuffer.put(oldPoolBuffer);
                     Buffers.setPositionLimit(newPoolBuffer, pos, newSize);
@@ -247,6 +292,7 @@ public class PooledMemoryManager implements MemoryManager<Buffer>, WrapperAware
                     return newPoolBuffer;
                 }
 
+                touch(oldPoolBuffer);
                 return oldPoolBuffer.limit(newSize);
             } else {
                 final int pos = oldBuffer.position();
@@ -256,7 +302,7 @@ public class PooledMemoryManager implements MemoryManager<Buffer>, WrapperAware
 
                     final Pool newPool = getPoolFor(newSize);
 
-                    final Buffer newPoolBuffer = newPool.allocate();
+                    final Buffer newPoolBuffer = allocateFromPool(newPool);
                     newPoolBuffer.put(oldBuffer);
                     Buffers.setPositionLimit(newPoolBuffer, pos, newSize);
 
@@ -338,6 +384,72 @@ public class PooledMemoryManager implements MemoryManager<Buffer>, WrapperAware
         return new ByteBufferWrapper(byteBuffer);
     }
 
+    /**
+     * Returns the max number of buffers, every {@link DefaultWorkerThread} caches per pool. Buffers are taken from and
+     * returned to the pool slices in batches of half the magazine size, so most of the allocations and releases don't
+     * touch the shared pool slices. A buffer released by a worker thread other than the allocating one simply goes to the
+     * releasing thread's magazine.
+     *
+     * Other threads, including short-lived and virtual ones, don't have magazines and always work with the shared pool
+     * slices, so their buffers are never stranded. The magazine of a terminated worker thread is returned to the pool
+     * slices once another worker thread gets its magazine, or once the pool elements are counted. <tt>0</tt> means the
+     * per-thread magazines are disabled.
+     *
+     * @return the per-thread magazine size.
+     */
+    public int getMagazineSize() {
+        return magazineSize;
+    }
+
+    /**
+     * Configures the buffer leak detection. A tracked buffer has its allocation and last touch (like sharing the buffer
+     * memory using split, slice or duplicate) stack traces recorded. If the buffer gets garbage collected without being
+     * disposed - the leak is logged and reported via {@link MemoryProbe#onBufferLeakEvent(int, Throwable)}. When the
+     * detection is disabled, the allocation cost is a single volatile read.
+     *
+     * Please note, the leaks of the buffers, which were allocated before the leak detection reconfiguration, are not
+     * reported.
+     *
+     * @param mode the {@link LeakDetectionMode}.
+     * @param samplingInterval the {@link LeakDetectionMode#SAMPLED} mode interval, every n-th buffer (on average) is
+     * tracked.
+     */
+    public void setLeakDetection(final LeakDetectionMode mode, final int samplingInterval) {
+        if (mode == null) {
+            throw new IllegalArgumentException("mode can not be null");
+        }
+        if (samplingInterval <= 0) {
+            throw new IllegalArgumentException("samplingInterval must be greater than zero");
+        }
+
+        leakDetector = mode == LeakDetectionMode.DISABLED ? null : new LeakDetector(mode, samplingInterval, monitoringConfig);
+    }
+
+    /**
+     * @return the {@link LeakDetectionMode}.
+     */
+    public LeakDetectionMode getLeakDetectionMode() {
+        final LeakDetector detector = leakDetector;
+        return detector != null ? detector.getMode() : LeakDetectionMode.DISABLED;
+    }
+
+    /**
+     * @return the {@link LeakDetectionMode#SAMPLED} mode sampling interval, or <tt>0</tt> if the leak detection is
+     * disabled.
+     */
+    public int getLeakSamplingInterval() {
+        final LeakDetector detector = leakDetector;
+        return detector != null ? detector.getSamplingInterval() : 0;
+    }
+
+    /**
+     * @return the number of leaked buffers, detected by the current leak detector.
+     */
+    public long getLeakedBuffersCount() {
+        final LeakDetector detector = leakDetector;
+        return detector != null ? detector.getLeaksCount() : 0;
+    }
+
     // ------------------------------------------------------- Protected Methods
 
     protected Object createJmxManagementObject() {
@@ -351,6 +463,24 @@ public class PooledMemoryManager implements MemoryManager<Buffer>, WrapperAware
 
     // --------------------------------------------------------- Private Methods
 
+    private Buffer allocateFromPool(final Pool pool) {
+        final Buffer buffer = pool.allocate();
+
+        final LeakDetector detector = leakDetector;
+        if (detector != null) {
+            ((PoolBuffer) buffer).leakRecord(detector.track(buffer, buffer.capacity(), null));
+        }
+
+        return buffer;
+    }
+
+    private static void touch(final PoolBuffer buffer) {
+        final LeakDetector.LeakRecord record = buffer.leakRecord();
+        if (record != null) {
+            record.touch();
+        }
+    }
+
     private Pool getPoolFor(final int size) {
         for (int i = 0; i < pools.length; i++) {
             final Pool pool = pools[i];
@@ -370,7 +500,7 @@ public class PooledMemoryManager implements MemoryManager<Buffer>, WrapperAware
             final Pool maxBufferSizePool = pools[pools.length - 1];
 
             do {
-                cb.append(maxBufferSizePool.allocate());
+                cb.append(allocateFromPool(maxBufferSizePool));
                 size -= maxPooledBufferSize;
             } while (size >= maxPooledBufferSize);
         }
@@ -378,7 +508,7 @@ public class PooledMemoryManager implements MemoryManager<Buffer>, WrapperAware
         for (int i = 0; i < pools.length; i++) {
             final Pool pool = pools[i];
             if (pool.bufferSize >= size) {
-                final Buffer b = pool.allocate();
+                final Buffer b = allocateFromPool(pool);
                 cb.append(b.limit(size));
                 break;
             }
@@ -422,9 +552,28 @@ public class PooledMemoryManager implements MemoryManager<Buffer>, WrapperAware
         private final PoolSlice[] slices;
         private final int bufferSize;
 
+        // per-thread buffer caches of the worker threads, null if disabled
+        private final ThreadLocal<Magazine> magazines;
+        // all the magazines, so the ones of the terminated threads could be returned to the slices
+        private final Queue<Magazine> allMagazines;
+        private final int magazineSize;
+        // the number of buffers moved between a magazine and slices at once
+        private final int magazineBatchSize;
+        private final DefaultMonitoringConfig<MemoryProbe> monitoringConfig;
+
         public Pool(final int bufferSize, final long memoryPerSubPool, final int numberOfPoolSlices, final float percentPreallocated, final boolean isDirect,
                 final DefaultMonitoringConfig<MemoryProbe> monitoringConfig) {
+            this(bufferSize, memoryPerSubPool, numberOfPoolSlices, percentPreallocated, isDirect, 0, monitoringConfig);
+        }
+
+        public Pool(final int bufferSize, final long memoryPerSubPool, final int numberOfPoolSlices, final float percentPreallocated, final boolean isDirect,
+                final int magazineSize, final DefaultMonitoringConfig<MemoryProbe> monitoringConfig) {
             this.bufferSize = bufferSize;
+            this.monitoringConfig = monitoringConfig;
+            this.magazines = magazineSize > 0 ? new ThreadLocal<Magazine>() : null;
+            this.allMagazines = magazineSize > 0 ? new ConcurrentLinkedQueue<Magazine>() : null;
+            this.magazineSize = magazineSize;
+            this.magazineBatchSize = Math.max(1, magazineSize / 2);
             slices = new PoolSlice[numberOfPoolSlices];
             final long memoryPerSlice = memoryPerSubPool / numberOfPoolSlices;
 
@@ -434,6 +583,9 @@ public class PooledMemoryManager implements MemoryManager<Buffer>, WrapperAware
         }
 
         public int elementsCount() {
+            // the buffers cached by the terminated threads are counted as well
+            reclaimMagazines();
+
             int sum = 0;
             for (int i = 0; i < slices.length; i++) {
                 sum += slices[i].elementsCount();
@@ -455,6 +607,11 @@ public class PooledMemoryManager implements MemoryManager<Buffer>, WrapperAware
         }
 
         public Buffer allocate() {
+            final Magazine magazine = getMagazine();
+            if (magazine != null) {
+                return allocateFromMagazine(magazine);
+            }
+
             final PoolSlice slice = getSlice();
             PoolBuffer b = slice.poll();
             if (b == null) {
@@ -464,6 +621,105 @@ public class PooledMemoryManager implements MemoryManager<Buffer>, WrapperAware
             return b.prepare();
         }
 
+        /**
+         * Returns the buffer back to the pool.
+         *
+         * @param b the {@link PoolBuffer} to be released.
+         */
+        void release(final PoolBuffer b) {
+            final Magazine magazine = getMagazine();
+            if (magazine != null) {
+                if (magazine.isFull()) {
+                    // drain the batch back to the shared slices
+                    for (int i = 0; i < magazineBatchSize; i++) {
+                        final PoolBuffer pb = magazine.pop();
+                        pb.owner().offer(pb);
+                    }
+                }
+
+                magazine.push(b);
+                return;
+            }
+
+            b.owner().offer(b);
+        }
+
+        /**
+         * @return the current thread's {@link Magazine}, or <tt>null</tt>, if the magazines are disabled or the current
+         * thread is not a {@link DefaultWorkerThread}.
+         */
+        private Magazine getMagazine() {
+            if (magazines == null) {
+                return null;
+            }
+
+            // virtual threads can't be DefaultWorkerThreads
+            final Thread thread = Thread.currentThread();
+            if (!(thread instanceof DefaultWorkerThread)) {
+                return null;
+            }
+
+            Magazine magazine = magazines.get();
+            if (magazine == null) {
+                // a new worker thread is likely to replace a terminated one
+                reclaimMagazines();
+
+                magazine = new Magazine(magazineSize, thread);
+                magazines.set(magazine);
+                allMagazines.add(magazine);
+            }
+
+            return magazine;
+        }
+
+        /**
+         * Returns the buffers, cached by the terminated threads, to the slices.
+         */
+        private void reclaimMagazines() {
+            if (allMagazines == null) {
+                return;
+            }
+
+            for (Magazine magazine : allMagazines) {
+                // Thread.isAlive() returning false makes the owner's magazine changes visible,
+                // and only one thread succeeds in removing the magazine
+                if (!magazine.owner.isAlive() && allMagazines.remove(magazine)) {
+                    PoolBuffer pb;
+                    while ((pb = magazine.pop()) != null) {
+                        pb.owner().offer(pb);
+                    }
+                }
+            }
+        }
+
+        private Buffer allocateFromMagazine(final Magazine magazine) {
+            PoolBuffer b = magazine.pop();
+            if (b != null) {
+                ProbeNotifier.notifyMagazineHit(monitoringConfig, bufferSize);
+                return b.prepare();
+            }
+
+            ProbeNotifier.notifyMagazineMiss(monitoringConfig, bufferSize);
+
+            // refill the magazine with a batch of buffers taken from the shared slice
+            final PoolSlice slice = getSlice();
+            for (int i = 0; i < magazineBatchSize; i++) {
+                final PoolBuffer pb = slice.poll();
+                if (pb == null) {
+                    break;
+                }
+
+                magazine.push(pb);
+            }
+
+            b = magazine.pop();
+            if (b == null) {
+                b = slice.allocate();
+            }
+
+            return b.prepare();
+        }
+
         @Override
         public String toString() {
             final StringBuilder sb = new StringBuilder(
@@ -487,6 +743,43 @@ public class PooledMemoryManager implements MemoryManager<Buffer>, WrapperAware
         }
     }
 
+    /**
+     * Small bounded per-thread stack of free {@link PoolBuffer}s, accessed by its owner thread only, until the owner
+     * terminates.
+     */
+    static final class Magazine {
+        private final PoolBuffer[] buffers;
+        private final Thread owner;
+        private int size;
+
+        Magazine(final int capacity, final Thread owner) {
+            buffers = new PoolBuffer[capacity];
+            this.owner = owner;
+        }
+
+        boolean isFull() {
+            return size == buffers.length;
+        }
+
+        int size() {
+            return size;
+        }
+
+        void push(final PoolBuffer b) {
+            buffers[size++] = b;
+        }
+
+        PoolBuffer pop() {
+            if (size == 0) {
+                return null;
+            }
+
+            final PoolBuffer b = buffers[--size];
+            buffers[size] = null;
+            return b;
+        }
+    }
+
     /*
      * This array backed by this pool can only support 2^30-1 elements instead of the usual 2^32-1. This is because we use
      * bit 30 to store information about the read and write pointer 'wrapping' status. Without these bits, it's difficult to
@@ -794,6 +1087,10 @@ public class PooledMemoryManager implements MemoryManager<Buffer>, WrapperAware
         PoolBuffer free(boolean free);
 
         PoolSlice owner();
+
+        LeakDetector.LeakRecord leakRecord();
+
+        void leakRecord(LeakDetector.LeakRecord leakRecord);
     }
 
     private static final class PoolHeapBuffer extends HeapBuffer implements PoolBuffer {
@@ -814,6 +1111,9 @@ public class PooledMemoryManager implements MemoryManager<Buffer>, WrapperAware
         // non-null in any 'child' buffers created from the original.
         protected final PoolHeapBuffer source;
 
+        // the leak detector record of the source buffer, if it's tracked
+        private LeakDetector.LeakRecord leakRecord;
+
         // ------------------------------------------------------------ Constructors
 
         /**
@@ -878,6 +1178,16 @@ public class PooledMemoryManager implements MemoryManager<Buffer>, WrapperAware
             return this;
         }
 
+        @Override
+        public LeakDetector.LeakRecord leakRecord() {
+            return source.leakRecord;
+        }
+
+        @Override
+        public void leakRecord(final LeakDetector.LeakRecord leakRecord) {
+            source.leakRecord = leakRecord;
+        }
+
         // ------------------------------------------ Methods from HeapBuffer
 
         @Override
@@ -947,12 +1257,17 @@ public class PooledMemoryManager implements MemoryManager<Buffer>, WrapperAware
         }
 
         private void returnToPool() {
+            if (leakRecord != null) {
+                leakRecord.close();
+                leakRecord = null;
+            }
+
             // restore capacity
             cap = heap.length;
             // clear
             clear();
 
-            owner.offer(this);
+            owner.owner.release(this);
         }
 
         // ----------------------------------------------------- Protected Methods
@@ -993,6 +1308,7 @@ public class PooledMemoryManager implements MemoryManager<Buffer>, WrapperAware
             super.onShareHeap();
 
             shareCount.incrementAndGet();
+            touch(this);
         }
     } // END PoolBuffer
 
@@ -1014,6 +1330,9 @@ public class PooledMemoryManager implements MemoryManager<Buffer>, WrapperAware
         // non-null in any 'child' buffers created from the original.
         protected final PoolByteBufferWrapper source;
 
+        // the leak detector record of the source buffer, if it's tracked
+        private LeakDetector.LeakRecord leakRecord;
+
         // Used for the special case of the split() method. This maintains
         // the original wrapper from the pool which must ultimately be returned.
         private final ByteBuffer origVisible;
@@ -1083,6 +1402,16 @@ public class PooledMemoryManager implements MemoryManager<Buffer>, WrapperAware
             return this;
         }
 
+        @Override
+        public LeakDetector.LeakRecord leakRecord() {
+            return source.leakRecord;
+        }
+
+        @Override
+        public void leakRecord(final LeakDetector.LeakRecord leakRecord) {
+            source.leakRecord = leakRecord;
+        }
+
         // ------------------------------------------ Methods from ByteBufferWrapper
 
         @Override
@@ -1123,6 +1452,7 @@ public class PooledMemoryManager implements MemoryManager<Buffer>, WrapperAware
                     shareCount); // pass the shareCount
             b.allowBufferDispose(true);
             shareCount.incrementAndGet();
+            touch(this);
 
             return b;
         }
@@ -1142,9 +1472,14 @@ public class PooledMemoryManager implements MemoryManager<Buffer>, WrapperAware
 
         private void returnToPool() {
             // should be called on "source" only
+            if (leakRecord != null) {
+                leakRecord.close();
+                leakRecord = null;
+            }
+
             visible = origVisible;
             visible.clear();
-            owner.offer(this);
+            owner.owner.release(this);
         }
     } // END PoolBuffer
 }
@@ -70,4 +70,49 @@ final class ProbeNotifier {
         }
     }
 
+    /**
+     * Notify registered {@link MemoryProbe}s about the "allocated from per-thread magazine" event.
+     *
+     * @param size buffer size
+     */
+    static void notifyMagazineHit(final DefaultMonitoringConfig<MemoryProbe> config, final int size) {
+
+        final MemoryProbe[] probes = config.getProbesUnsafe();
+        if (probes != null) {
+            for (MemoryProbe probe : probes) {
+                probe.onMagazineHitEvent(size);
+            }
+        }
+    }
+
+    /**
+     * Notify registered {@link MemoryProbe}s about the "per-thread magazine is empty" event.
+     *
+     * @param size buffer size
+     */
+    static void notifyMagazineMiss(final DefaultMonitoringConfig<MemoryProbe> config, final int size) {
+
+        final MemoryProbe[] probes = config.getProbesUnsafe();
+        if (probes != null) {
+            for (MemoryProbe probe : probes) {
+                probe.onMagazineMissEvent(size);
+            }
+        }
+    }
+
+    /**
+     * Notify registered {@link MemoryProbe}s about the "buffer leak" event.
+     *
+     * @param size buffer size
+     * @param allocationTrace the leaked buffer allocation stack trace
+     */
+    static void notifyBufferLeak(final DefaultMonitoringConfig<MemoryProbe> config, final int size, final Throwable allocationTrace) {
+
+        final MemoryProbe[] probes = config.getProbesUnsafe();
+        if (probes != null) {
+            for (MemoryProbe probe : probes) {
+                probe.onBufferLeakEvent(size, allocationTrace);
+            }
+        }
+    }
 }
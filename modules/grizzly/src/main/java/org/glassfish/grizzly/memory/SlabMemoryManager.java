@@ -0,0 +1,889 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.memory;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.glassfish.grizzly.Buffer;
+import org.glassfish.grizzly.monitoring.DefaultMonitoringConfig;
+import org.glassfish.grizzly.monitoring.MonitoringConfig;
+import org.glassfish.grizzly.monitoring.MonitoringUtils;
+
+/**
+ * A {@link MemoryManager} implementation, which allocates direct memory in large native arenas and carves them into
+ * fixed size slabs. Each slab is assigned to a size class on demand and split into regions of the size class size, so a
+ * {@link Buffer} is backed by a single slab region.
+ *
+ * Unlike {@link ByteBufferManager} or direct {@link PooledMemoryManager}, the memory of a disposed {@link Buffer} is
+ * reclaimed immediately and deterministically: the region goes back to its slab and a completely free slab goes back to
+ * the arena, so it can be reused by any other size class. Native arenas are allocated lazily up to the configured limit
+ * and are kept until {@link #destroy()}, so the direct memory footprint doesn't depend on the GC activity. The native
+ * memory of the destroyed manager's arenas is left to the GC, because the {@link ByteBuffer} views of the disposed
+ * buffers, for example the ones returned by {@link Buffer#toByteBuffer()}, may still refer to it.
+ *
+ * There are several tuning options for this {@link MemoryManager} implementation.
+ * <ul>
+ * <li>The native arena size and the max number of arenas, which limit the total amount of the direct memory</li>
+ * <li>The slab size, every arena is split into</li>
+ * <li>The min and max region (size class) sizes. Size classes are powers of two between the min and max region
+ * sizes</li>
+ * <li>The leak detection sampling interval, see {@link #getLeakSamplingInterval()}</li>
+ * </ul>
+ *
+ * Allocations bigger than the max region size are served by a {@link CompositeBuffer} of several regions. If all the
+ * arenas are exhausted, the buffers are allocated on heap.
+ *
+ * The manager could be installed as the {@link MemoryManager#DEFAULT_MEMORY_MANAGER} using {@link Factory}.
+ *
+ * @since 3.0
+ */
+public class SlabMemoryManager implements MemoryManager<Buffer>, WrapperAware {
+    public static final int DEFAULT_ARENA_SIZE = Integer.getInteger(SlabMemoryManager.class.getName() + ".arena-size", 16 * 1024 * 1024);
+    public static final int DEFAULT_MAX_ARENAS = Integer.getInteger(SlabMemoryManager.class.getName() + ".max-arenas", 16);
+    public static final int DEFAULT_SLAB_SIZE = 256 * 1024;
+    public static final int DEFAULT_MIN_REGION_SIZE = 256;
+    public static final int DEFAULT_MAX_REGION_SIZE = 64 * 1024;
+    public static final int DEFAULT_LEAK_SAMPLING_INTERVAL = Integer.getInteger(SlabMemoryManager.class.getName() + ".leak-sampling-interval", 0);
+
+    /**
+     * Basic monitoring support. Concrete implementations of this class need only to implement the
+     * {@link #createJmxManagementObject()} method to plug into the Grizzly 2.0 JMX framework.
+     */
+    protected final DefaultMonitoringConfig<MemoryProbe> monitoringConfig = new DefaultMonitoringConfig<MemoryProbe>(MemoryProbe.class) {
+
+        @Override
+        public Object createManagementObject() {
+            return createJmxManagementObject();
+        }
+
+    };
+
+    private final int arenaSize;
+    private final int maxArenas;
+    private final int slabSize;
+    private final int minRegionSize;
+    private final int maxRegionSize;
+    private final int leakSamplingInterval;
+
+    private final int slabsPerArena;
+    private final int minRegionSizeShift;
+    private final SizeClass[] sizeClasses;
+
+    // the allocated arenas and unassigned slabs, guarded by "arenas"
+    private final List<Arena> arenas = new ArrayList<>();
+    private final ArrayDeque<Slab> freeSlabs = new ArrayDeque<>();
+    private volatile int assignedSlabsCount;
+    private volatile int arenasCount;
+    private volatile boolean isDestroyed;
+
+    private final AtomicLong usedBytes = new AtomicLong();
+    private final AtomicLong requestedBytes = new AtomicLong();
+
+    // null, if the leak detection is disabled
+    private final LeakDetector leakDetector;
+
+    // ------------------------------------------------------------ Constructors
+
+    /**
+     * Creates a new <code>SlabMemoryManager</code> using the following defaults:
+     * <ul>
+     * <li>16 MiB native arenas ({@link #DEFAULT_ARENA_SIZE})</li>
+     * <li>At most 16 arenas ({@link #DEFAULT_MAX_ARENAS})</li>
+     * <li>256 KiB slabs</li>
+     * <li>Size classes from 256 bytes to 64 KiB</li>
+     * <li>Leak detection is disabled ({@link #DEFAULT_LEAK_SAMPLING_INTERVAL})</li>
+     * </ul>
+     */
+    public SlabMemoryManager() {
+        this(DEFAULT_ARENA_SIZE, DEFAULT_MAX_ARENAS, DEFAULT_SLAB_SIZE, DEFAULT_MIN_REGION_SIZE, DEFAULT_MAX_REGION_SIZE,
+                DEFAULT_LEAK_SAMPLING_INTERVAL);
+    }
+
+    /**
+     * Creates a new <code>SlabMemoryManager</code> using the specified parameters for configuration.
+     *
+     * @param arenaSize the size of a single native arena
+     * @param maxArenas the max number of native arenas
+     * @param slabSize the size of a slab, must be a power of two, which divides the arena size
+     * @param minRegionSize the smallest size class, must be a power of two
+     * @param maxRegionSize the biggest size class, must be a power of two not bigger than the slab size
+     * @param leakSamplingInterval track every n-th allocated buffer for leaks, <tt>0</tt> disables the leak detection
+     */
+    public SlabMemoryManager(final int arenaSize, final int maxArenas, final int slabSize, final int minRegionSize, final int maxRegionSize,
+            final int leakSamplingInterval) {
+        if (maxArenas <= 0) {
+            throw new IllegalArgumentException("maxArenas must be greater than zero");
+        }
+        if (minRegionSize <= 0 || !isPowerOfTwo(minRegionSize) || !isPowerOfTwo(maxRegionSize) || !isPowerOfTwo(slabSize)) {
+            throw new IllegalArgumentException("minRegionSize, maxRegionSize and slabSize must be a power of two");
+        }
+        if (minRegionSize > maxRegionSize || maxRegionSize > slabSize) {
+            throw new IllegalArgumentException("minRegionSize must not exceed maxRegionSize, which must not exceed slabSize");
+        }
+        if (arenaSize < slabSize || arenaSize % slabSize != 0) {
+            throw new IllegalArgumentException("arenaSize must be a multiple of slabSize");
+        }
+        if (leakSamplingInterval < 0) {
+            throw new IllegalArgumentException("leakSamplingInterval must be greater or equal to zero");
+        }
+
+        this.arenaSize = arenaSize;
+        this.maxArenas = maxArenas;
+        this.slabSize = slabSize;
+        this.minRegionSize = minRegionSize;
+        this.maxRegionSize = maxRegionSize;
+        this.leakSamplingInterval = leakSamplingInterval;
+
+        leakDetector = leakSamplingInterval == 0 ? null
+                : new LeakDetector(leakSamplingInterval == 1 ? LeakDetectionMode.PARANOID : LeakDetectionMode.SAMPLED, leakSamplingInterval,
+                        monitoringConfig);
+
+        slabsPerArena = arenaSize / slabSize;
+        minRegionSizeShift = Integer.numberOfTrailingZeros(minRegionSize);
+        sizeClasses = new SizeClass[Integer.numberOfTrailingZeros(maxRegionSize) - minRegionSizeShift + 1];
+        for (int i = 0; i < sizeClasses.length; i++) {
+            sizeClasses[i] = new SizeClass(this, minRegionSize << i);
+        }
+    }
+
+    // ---------------------------------------------- Methods from MemoryManager
+
+    /**
+     * For this implementation, this method simply calls through to {@link #allocateAtLeast(int)};
+     */
+    @Override
+    public Buffer allocate(final int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Requested allocation size must be greater than or equal to zero.");
+        }
+        return allocateAtLeast(size).limit(size);
+    }
+
+    /**
+     * Allocates a buffer of at least the size requested.
+     * <p/>
+     * Keep in mind that the capacity of the buffer may be greater than the allocation request. The limit however, will be
+     * set to the specified size. The memory beyond the limit, is available for use.
+     *
+     * @param size the min {@link Buffer} size to be allocated.
+     * @return a buffer with a limit of the specified <tt>size</tt>.
+     */
+    @Override
+    public Buffer allocateAtLeast(final int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Requested allocation size must be greater than or equal to zero.");
+        }
+
+        if (size == 0) {
+            return Buffers.EMPTY_BUFFER;
+        }
+
+        return size <= maxRegionSize ? allocateRegion(size) : allocateToCompositeBuffer(newCompositeBuffer(), size);
+    }
+
+    /**
+     * Reallocates an existing buffer to at least the specified size.
+     *
+     * @param oldBuffer old {@link Buffer} to be reallocated.
+     * @param newSize new {@link Buffer} required size.
+     *
+     * @return potentially a new buffer of at least the specified size.
+     */
+    @Override
+    public Buffer reallocate(final Buffer oldBuffer, final int newSize) {
+        if (newSize == 0) {
+            oldBuffer.tryDispose();
+            return Buffers.EMPTY_BUFFER;
+        }
+
+        final int curBufSize = oldBuffer.capacity();
+
+        if (oldBuffer.isComposite()) {
+            final CompositeBuffer oldCompositeBuffer = (CompositeBuffer) oldBuffer;
+            if (curBufSize > newSize) {
+                final int oldPos = oldCompositeBuffer.position();
+                Buffers.setPositionLimit(oldBuffer, newSize, newSize);
+                oldCompositeBuffer.trim();
+                oldCompositeBuffer.position(Math.min(oldPos, newSize));
+
+                return oldCompositeBuffer;
+            } else {
+                return allocateToCompositeBuffer(oldCompositeBuffer, newSize - curBufSize);
+            }
+        }
+
+        if (curBufSize >= newSize && (!(oldBuffer instanceof SlabBuffer) || ((SlabBuffer) oldBuffer).slab.owner == sizeClassFor(newSize))) {
+            // the buffer fits and there is no smaller size class to move the buffer to
+            return oldBuffer.limit(newSize);
+        }
+
+        final int pos = Math.min(oldBuffer.position(), newSize);
+        Buffers.setPositionLimit(oldBuffer, 0, Math.min(curBufSize, newSize));
+
+        final Buffer newBuffer = allocate(newSize);
+        newBuffer.put(oldBuffer);
+        Buffers.setPositionLimit(newBuffer, pos, newSize);
+
+        oldBuffer.tryDispose();
+
+        return newBuffer;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void release(final Buffer buffer) {
+        buffer.tryDispose();
+    }
+
+    /**
+     * Returns <tt>true</tt>, if there is a free region of the size class, a free slab or an arena could be allocated,
+     * so the {@link Buffer} is not going to be allocated on heap. The result is a hint: concurrent allocations may
+     * exhaust the arenas, and the new arena allocation may still fail, if the direct memory limit is reached.
+     */
+    @Override
+    public boolean willAllocateDirect(final int size) {
+        if (isDestroyed) {
+            return false;
+        }
+
+        if (arenasCount < maxArenas || assignedSlabsCount < arenasCount * slabsPerArena) {
+            return true;
+        }
+
+        // the bigger buffers are composed of the regions of the biggest size class
+        return sizeClassFor(Math.min(size, maxRegionSize)).hasAvailableSlabs;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public MonitoringConfig<MemoryProbe> getMonitoringConfig() {
+        return monitoringConfig;
+    }
+
+    // ----------------------------------------------- Methods from WrapperAware
+
+    @Override
+    public Buffer wrap(final byte[] data) {
+        return wrap(ByteBuffer.wrap(data));
+    }
+
+    @Override
+    public Buffer wrap(byte[] data, int offset, int length) {
+        return wrap(ByteBuffer.wrap(data, offset, length));
+    }
+
+    @Override
+    public Buffer wrap(final String s) {
+        return wrap(s.getBytes(Charset.defaultCharset()));
+    }
+
+    @Override
+    public Buffer wrap(final String s, final Charset charset) {
+        return wrap(s.getBytes(charset));
+    }
+
+    @Override
+    public Buffer wrap(final ByteBuffer byteBuffer) {
+        return new ByteBufferWrapper(byteBuffer);
+    }
+
+    // ---------------------------------------------------------- Public Methods
+
+    /**
+     * Destroys this <code>SlabMemoryManager</code> and releases its arenas. Arenas, which still have undisposed
+     * {@link Buffer}s, are released once the last of their buffers is disposed. The native memory of the released arenas
+     * is not freed explicitly, it's reclaimed by the GC once no {@link Buffer} or {@link ByteBuffer} view refers to it.
+     * After this method is called, new buffers are allocated on heap.
+     */
+    public void destroy() {
+        synchronized (arenas) {
+            if (isDestroyed) {
+                return;
+            }
+
+            isDestroyed = true;
+        }
+
+        for (SizeClass sizeClass : sizeClasses) {
+            sizeClass.releaseFreeSlabs();
+        }
+
+        synchronized (arenas) {
+            for (Arena arena : new ArrayList<>(arenas)) {
+                if (arena.freeSlabsCount == arena.slabsCount) {
+                    releaseArena(arena);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return <tt>true</tt>, if {@link #destroy()} has been called, or <tt>false</tt> otherwise.
+     */
+    public boolean isDestroyed() {
+        return isDestroyed;
+    }
+
+    /**
+     * @return the size of a single native arena.
+     */
+    public int getArenaSize() {
+        return arenaSize;
+    }
+
+    /**
+     * @return the max number of native arenas.
+     */
+    public int getMaxArenas() {
+        return maxArenas;
+    }
+
+    /**
+     * @return the number of currently allocated native arenas.
+     */
+    public int getArenasCount() {
+        return arenasCount;
+    }
+
+    /**
+     * @return the size of a slab.
+     */
+    public int getSlabSize() {
+        return slabSize;
+    }
+
+    /**
+     * @return the smallest size class.
+     */
+    public int getMinRegionSize() {
+        return minRegionSize;
+    }
+
+    /**
+     * @return the biggest size class.
+     */
+    public int getMaxRegionSize() {
+        return maxRegionSize;
+    }
+
+    /**
+     * @return the total size of the allocated native arenas.
+     */
+    public long getReservedBytes() {
+        return (long) arenasCount * arenaSize;
+    }
+
+    /**
+     * @return the total size of the slabs, which are assigned to the size classes.
+     */
+    public long getAssignedBytes() {
+        return (long) assignedSlabsCount * slabSize;
+    }
+
+    /**
+     * @return the total size of the regions, which back the undisposed {@link Buffer}s.
+     */
+    public long getUsedBytes() {
+        return usedBytes.get();
+    }
+
+    /**
+     * @return the total number of bytes requested by the undisposed {@link Buffer}s allocations.
+     */
+    public long getRequestedBytes() {
+        return requestedBytes.get();
+    }
+
+    /**
+     * Returns the fraction of the memory held by the size classes, which doesn't store the requested data. It includes
+     * both the region size rounding waste and the free regions of the partially used slabs.
+     *
+     * @return the fragmentation ratio between <tt>0</tt> and <tt>1</tt>.
+     */
+    public float getFragmentation() {
+        final long assigned = getAssignedBytes();
+        return assigned == 0 ? 0 : Math.max(0, assigned - getRequestedBytes()) / (float) assigned;
+    }
+
+    /**
+     * Returns the leak detection sampling interval. If the value is <tt>n</tt> - every n-th allocated {@link Buffer} (on
+     * average) is tracked: its allocation stack trace is recorded, and if the buffer gets garbage collected without being
+     * disposed - the leak is reported via {@link MemoryProbe#onBufferLeakEvent(int, Throwable)} and the buffer region is
+     * reclaimed. <tt>0</tt> means the leak detection is disabled.
+     *
+     * @return the leak detection sampling interval.
+     */
+    public int getLeakSamplingInterval() {
+        return leakSamplingInterval;
+    }
+
+    /**
+     * @return the number of detected buffer leaks.
+     */
+    public long getLeakedBuffersCount() {
+        return leakDetector != null ? leakDetector.getLeaksCount() : 0;
+    }
+
+    // ------------------------------------------------------- Protected Methods
+
+    protected Object createJmxManagementObject() {
+        return MonitoringUtils.loadJmxObject("org.glassfish.grizzly.memory.jmx.SlabMemoryManager", this, SlabMemoryManager.class);
+    }
+
+    // --------------------------------------------------------- Private Methods
+
+    private Buffer allocateRegion(final int size) {
+        final SlabBuffer buffer = sizeClassFor(size).allocate(size);
+        if (buffer == null) {
+            // all the arenas are exhausted
+            ProbeNotifier.notifyBufferAllocated(monitoringConfig, size);
+            final ByteBufferWrapper heapBuffer = new ByteBufferWrapper(ByteBuffer.allocate(size));
+            heapBuffer.allowBufferDispose(true);
+            return heapBuffer;
+        }
+
+        usedBytes.addAndGet(buffer.capacity());
+        requestedBytes.addAndGet(size);
+        ProbeNotifier.notifyBufferAllocatedFromPool(monitoringConfig, buffer.capacity());
+
+        if (leakDetector != null) {
+            final Slab slab = buffer.slab;
+            final int region = buffer.region;
+            // reclaim the region of the leaked buffer
+            buffer.leakRecord = leakDetector.track(buffer, buffer.capacity(), () -> onRegionReleased(slab, region, size));
+        }
+
+        return buffer;
+    }
+
+    private void onRegionReleased(final Slab slab, final int region, final int requestedSize) {
+        slab.owner.release(slab, region);
+
+        usedBytes.addAndGet(-slab.regionSize);
+        requestedBytes.addAndGet(-requestedSize);
+        ProbeNotifier.notifyBufferReleasedToPool(monitoringConfig, slab.regionSize);
+    }
+
+    private SizeClass sizeClassFor(final int size) {
+        if (size <= minRegionSize) {
+            return sizeClasses[0];
+        }
+
+        return sizeClasses[32 - Integer.numberOfLeadingZeros(size - 1) - minRegionSizeShift];
+    }
+
+    /**
+     * Assigns a free slab to the size class, allocating a new arena if needed.
+     *
+     * @return the slab or <tt>null</tt>, if all the arenas are exhausted.
+     */
+    private Slab acquireSlab(final SizeClass sizeClass) {
+        synchronized (arenas) {
+            if (isDestroyed) {
+                return null;
+            }
+
+            Slab slab = freeSlabs.pollFirst();
+            if (slab == null) {
+                if (arenas.size() >= maxArenas) {
+                    return null;
+                }
+
+                final Arena arena;
+                try {
+                    arena = new Arena(ByteBuffer.allocateDirect(arenaSize), slabSize);
+                } catch (OutOfMemoryError e) {
+                    // the direct memory limit has been reached
+                    return null;
+                }
+
+                arenas.add(arena);
+                arenasCount = arenas.size();
+                for (Slab s : arena.slabs) {
+                    freeSlabs.addLast(s);
+                }
+
+                slab = freeSlabs.pollFirst();
+            }
+
+            slab.arena.freeSlabsCount--;
+            assignedSlabsCount++;
+            slab.assign(sizeClass);
+
+            return slab;
+        }
+    }
+
+    /**
+     * Returns the completely free slab back to its arena.
+     */
+    private void releaseSlab(final Slab slab) {
+        synchronized (arenas) {
+            slab.unassign();
+            assignedSlabsCount--;
+
+            final Arena arena = slab.arena;
+            arena.freeSlabsCount++;
+            if (isDestroyed && arena.freeSlabsCount == arena.slabsCount) {
+                releaseArena(arena);
+            } else {
+                freeSlabs.addFirst(slab);
+            }
+        }
+    }
+
+    // should be called under the "arenas" lock
+    private void releaseArena(final Arena arena) {
+        for (Iterator<Slab> it = freeSlabs.iterator(); it.hasNext();) {
+            if (it.next().arena == arena) {
+                it.remove();
+            }
+        }
+
+        // the native memory is left to the GC, the views of the disposed buffers may still refer to it
+        arenas.remove(arena);
+        arenasCount = arenas.size();
+    }
+
+    private Buffer allocateToCompositeBuffer(final CompositeBuffer cb, int size) {
+
+        assert size >= 0;
+
+        while (size >= maxRegionSize) {
+            cb.append(allocateRegion(maxRegionSize));
+            size -= maxRegionSize;
+        }
+
+        if (size > 0) {
+            cb.append(allocateRegion(size).limit(size));
+        }
+
+        return cb;
+    }
+
+    private CompositeBuffer newCompositeBuffer() {
+        final CompositeBuffer cb = CompositeBuffer.newBuffer(this);
+        cb.allowInternalBuffersDispose(true);
+        cb.allowBufferDispose(true);
+        return cb;
+    }
+
+    private static boolean isPowerOfTwo(final int valueToCheck) {
+        return valueToCheck > 0 && (valueToCheck & valueToCheck - 1) == 0;
+    }
+
+    // ---------------------------------------------------------- Nested Classes
+
+    /**
+     * {@link DefaultMemoryManagerFactory}, which creates a {@link SlabMemoryManager} with the default settings. Use
+     * <tt>-Dorg.glassfish.grizzly.MEMORY_MANAGER_FACTORY=org.glassfish.grizzly.memory.SlabMemoryManager$Factory</tt> to
+     * install the {@link SlabMemoryManager} as the {@link MemoryManager#DEFAULT_MEMORY_MANAGER}.
+     */
+    public static class Factory implements DefaultMemoryManagerFactory {
+
+        @Override
+        public MemoryManager createMemoryManager() {
+            return new SlabMemoryManager();
+        }
+    }
+
+    /**
+     * Native memory block, which is split into slabs.
+     */
+    private static final class Arena {
+        private final ByteBuffer memory;
+        private final Slab[] slabs;
+        private final int slabsCount;
+
+        // guarded by the SlabMemoryManager "arenas" lock
+        private int freeSlabsCount;
+
+        Arena(final ByteBuffer memory, final int slabSize) {
+            this.memory = memory;
+
+            slabsCount = memory.capacity() / slabSize;
+            slabs = new Slab[slabsCount];
+            for (int i = 0; i < slabsCount; i++) {
+                memory.limit((i + 1) * slabSize).position(i * slabSize);
+                slabs[i] = new Slab(this, memory.slice());
+            }
+            memory.clear();
+
+            freeSlabsCount = slabsCount;
+        }
+    }
+
+    /**
+     * Slab of the arena, which is split into regions of its size class size. All the methods are called under the owner
+     * {@link SizeClass} lock.
+     */
+    private static final class Slab {
+        private final Arena arena;
+        private final ByteBuffer memory;
+
+        private SizeClass owner;
+        private int regionSize;
+        private ByteBuffer[] regions;
+
+        // stack of the free region indexes
+        private int[] freeRegions;
+        private int freeRegionsCount;
+
+        // true, if the slab is in the owner's list of slabs with free regions
+        private boolean isAvailable;
+
+        Slab(final Arena arena, final ByteBuffer memory) {
+            this.arena = arena;
+            this.memory = memory;
+        }
+
+        void assign(final SizeClass owner) {
+            this.owner = owner;
+            regionSize = owner.regionSize;
+
+            final int regionsCount = memory.capacity() / regionSize;
+            regions = new ByteBuffer[regionsCount];
+            freeRegions = new int[regionsCount];
+            for (int i = 0; i < regionsCount; i++) {
+                memory.limit((i + 1) * regionSize).position(i * regionSize);
+                regions[i] = memory.slice();
+                // allocate regions in the address order
+                freeRegions[i] = regionsCount - 1 - i;
+            }
+            memory.clear();
+
+            freeRegionsCount = regionsCount;
+        }
+
+        void unassign() {
+            owner = null;
+            regions = null;
+            freeRegions = null;
+            freeRegionsCount = 0;
+        }
+
+        boolean isFree() {
+            return freeRegionsCount == regions.length;
+        }
+    }
+
+    /**
+     * Allocates regions of the same size from the assigned slabs.
+     */
+    private static final class SizeClass {
+        private final SlabMemoryManager manager;
+        private final int regionSize;
+
+        // the assigned slabs, which have free regions
+        private final ArrayDeque<Slab> availableSlabs = new ArrayDeque<>();
+        // mirrors !availableSlabs.isEmpty() for the lock-free reads
+        private volatile boolean hasAvailableSlabs;
+
+        SizeClass(final SlabMemoryManager manager, final int regionSize) {
+            this.manager = manager;
+            this.regionSize = regionSize;
+        }
+
+        /**
+         * @return the {@link SlabBuffer} or <tt>null</tt>, if all the arenas are exhausted.
+         */
+        SlabBuffer allocate(final int requestedSize) {
+            final Slab slab;
+            final int region;
+
+            synchronized (this) {
+                if (manager.isDestroyed) {
+                    return null;
+                }
+
+                Slab s = availableSlabs.peekFirst();
+                if (s == null) {
+                    s = manager.acquireSlab(this);
+                    if (s == null) {
+                        return null;
+                    }
+
+                    s.isAvailable = true;
+                    availableSlabs.addFirst(s);
+                }
+
+                region = s.freeRegions[--s.freeRegionsCount];
+                if (s.freeRegionsCount == 0) {
+                    s.isAvailable = false;
+                    availableSlabs.pollFirst();
+                }
+
+                hasAvailableSlabs = !availableSlabs.isEmpty();
+
+                slab = s;
+            }
+
+            return new SlabBuffer(manager, slab, region, requestedSize, slab.regions[region].duplicate());
+        }
+
+        synchronized void release(final Slab slab, final int region) {
+            slab.freeRegions[slab.freeRegionsCount++] = region;
+
+            if (slab.isFree() && (manager.isDestroyed || availableSlabs.size() > 1 || !slab.isAvailable && !availableSlabs.isEmpty())) {
+                // keep one free slab per size class, return the others to the arena
+                if (slab.isAvailable) {
+                    slab.isAvailable = false;
+                    availableSlabs.remove(slab);
+                }
+
+                manager.releaseSlab(slab);
+            } else if (!slab.isAvailable) {
+                slab.isAvailable = true;
+                availableSlabs.addLast(slab);
+            }
+
+            hasAvailableSlabs = !availableSlabs.isEmpty();
+        }
+
+        synchronized void releaseFreeSlabs() {
+            for (Iterator<Slab> it = availableSlabs.iterator(); it.hasNext();) {
+                final Slab slab = it.next();
+                if (slab.isFree()) {
+                    it.remove();
+                    slab.isAvailable = false;
+                    manager.releaseSlab(slab);
+                }
+            }
+
+            hasAvailableSlabs = !availableSlabs.isEmpty();
+        }
+    }
+
+    /**
+     * {@link Buffer} backed by a slab region.
+     */
+    private static final class SlabBuffer extends ByteBufferWrapper {
+        private final SlabMemoryManager manager;
+        private final Slab slab;
+        private final int region;
+        private final int requestedSize;
+
+        // the leak detector record, if the buffer is tracked
+        private LeakDetector.LeakRecord leakRecord;
+
+        private boolean free;
+
+        // represents the number of 'child' buffers that have been created using
+        // this as the foundation. The region can't be released unless this value is zero.
+        private final AtomicInteger shareCount;
+
+        // represents the original buffer. This value will be the buffer itself
+        // for the original buffer.
+        private final SlabBuffer source;
+
+        private SlabBuffer(final SlabMemoryManager manager, final Slab slab, final int region, final int requestedSize,
+                final ByteBuffer underlyingByteBuffer) {
+            super(underlyingByteBuffer);
+            this.manager = manager;
+            this.slab = slab;
+            this.region = region;
+            this.requestedSize = requestedSize;
+            this.shareCount = new AtomicInteger();
+            this.source = this;
+            allowBufferDispose = true;
+        }
+
+        private SlabBuffer(final SlabBuffer source, final ByteBuffer underlyingByteBuffer) {
+            super(underlyingByteBuffer);
+            this.manager = source.manager;
+            this.slab = source.slab;
+            this.region = source.region;
+            this.requestedSize = source.requestedSize;
+            this.shareCount = source.shareCount;
+            this.source = source;
+            allowBufferDispose = true;
+        }
+
+        // ------------------------------------------ Methods from ByteBufferWrapper
+
+        @Override
+        public void dispose() {
+            if (free) {
+                return;
+            }
+
+            prepareDispose();
+            free = true;
+
+            // check shared counter optimistically
+            boolean isNotShared = shareCount.get() == 0;
+            if (!isNotShared) {
+                // try pessimistic check using CAS loop
+                isNotShared = shareCount.getAndDecrement() == 0;
+                if (isNotShared) {
+                    // if the former check is true - the shared counter is negative,
+                    // so we have to reset it
+                    shareCount.set(0);
+                }
+            }
+
+            if (isNotShared) {
+                source.releaseRegion();
+            }
+        }
+
+        @Override
+        protected ByteBufferWrapper wrapByteBuffer(final ByteBuffer buffer) {
+            final SlabBuffer b = new SlabBuffer(source, buffer);
+            shareCount.incrementAndGet();
+
+            if (source.leakRecord != null) {
+                source.leakRecord.touch();
+            }
+
+            return b;
+        }
+
+        /**
+         * Override the default implementation to check the <tt>free</tt> status of this buffer (i.e., once released, operations
+         * on the buffer will no longer succeed).
+         */
+        @Override
+        protected void checkDispose() {
+            if (free) {
+                throw new IllegalStateException("SlabBuffer has already been disposed", disposeStackTrace);
+            }
+        }
+
+        // ----------------------------------------------------- Private Methods
+
+        private void releaseRegion() {
+            // should be called on "source" only
+            if (leakRecord != null) {
+                leakRecord.close();
+            }
+
+            manager.onRegionReleased(slab, region, requestedSize);
+        }
+    }
+}
@@ -82,7 +82,19 @@ public abstract class AbstractNIOAsyncQueueWriter extends AbstractWriter<SocketA
         final TaskQueue<AsyncWriteQueueRecord> connectionQueue = nioConnection.getAsyncWriteQueue();
         final int size = connectionQueue.spaceInBytes();
 
-        return size == 0 || size < connectionMaxPendingBytes;
+        if (size == 0 || size < connectionMaxPendingBytes) {
+            return true;
+        }
+
+        // the queued records won't be written, until the connection is uncorked, so flush them now
+        if (nioConnection.isCorked()) {
+            nioConnection.flushCorked();
+
+            final int sizeAfterFlush = connectionQueue.spaceInBytes();
+            return sizeAfterFlush == 0 || sizeAfterFlush < connectionMaxPendingBytes;
+        }
+
+        return false;
     }
 
     /**
@@ -96,7 +108,14 @@ public abstract class AbstractNIOAsyncQueueWriter extends AbstractWriter<SocketA
 
     @Override
     public void notifyWritePossible(final Connection<SocketAddress> connection, final WriteHandler writeHandler) {
-        ((NIOConnection) connection).getAsyncWriteQueue().notifyWritePossible(writeHandler);
+        final NIOConnection nioConnection = (NIOConnection) connection;
+
+        // the queue of a corked connection isn't drained, so the handler would wait for the uncork
+        if (nioConnection.isCorked()) {
+            nioConnection.flushCorked();
+        }
+
+        nioConnection.getAsyncWriteQueue().notifyWritePossible(writeHandler);
     }
 
     /**
@@ -187,6 +206,15 @@ public abstract class AbstractNIOAsyncQueueWriter extends AbstractWriter<SocketA
                     nioConnection, queueRecord, isCurrent, queueRecord.remaining(), queueRecord.isUncountable(), bytesToReserve, pendingBytes);
         }
 
+        if (isCurrent && nioConnection.isCorked()) {
+            // keep the record in the queue, the queue will be flushed once the connection is uncorked
+            queueRecord.setMessage(cloneRecordIfNeeded(nioConnection, cloner, message));
+            writeTaskQueue.setCurrentElement(queueRecord);
+            nioConnection.onCorkedWrite(this);
+            flushIfCorkedQueueFull(nioConnection, pendingBytes);
+            return;
+        }
+
         final Reentrant reentrants = Reentrant.getWriteReentrant();
 
         try {
@@ -200,6 +228,7 @@ public abstract class AbstractNIOAsyncQueueWriter extends AbstractWriter<SocketA
                     nioConnection.simulateIOEvent(IOEvent.WRITE);
                 } else {
                     writeTaskQueue.offer(queueRecord);
+                    flushIfCorkedQueueFull(nioConnection, pendingBytes);
                 }
 
                 return;
@@ -246,6 +275,7 @@ public abstract class AbstractNIOAsyncQueueWriter extends AbstractWriter<SocketA
                 onReadyToWrite(nioConnection);
             } else {
                 writeTaskQueue.offer(queueRecord);
+                flushIfCorkedQueueFull(nioConnection, pendingBytes);
             }
         } catch (IOException e) {
             if (isLogFine) {
@@ -358,6 +388,63 @@ public abstract class AbstractNIOAsyncQueueWriter extends AbstractWriter<SocketA
         return AsyncResult.COMPLETE;
     }
 
+    /**
+     * Flushes the records queued while the connection was corked. The method is called by the thread, which has queued
+     * the first record or uncorked the connection, the caller owns the write queue like a direct writer does.
+     */
+    void flushCorked(final NIOConnection nioConnection) {
+        final TaskQueue<AsyncWriteQueueRecord> writeTaskQueue = nioConnection.getAsyncWriteQueue();
+
+        int bytesReleased = 0;
+
+        AsyncWriteQueueRecord queueRecord = null;
+        try {
+            while ((queueRecord = aggregate(writeTaskQueue)) != null) {
+                final RecordWriteResult writeResult = write0(nioConnection, queueRecord);
+                bytesReleased += (int) writeResult.bytesToReleaseAfterLastWrite();
+
+                if (!queueRecord.isFinished()) {
+                    // the rest will be written, when the channel becomes writable
+                    queueRecord.notifyIncomplete();
+                    writeTaskQueue.setCurrentElement(queueRecord);
+                    writeTaskQueue.releaseSpaceAndNotify(bytesReleased);
+                    onReadyToWrite(nioConnection);
+                    return;
+                }
+
+                finishQueueRecord(nioConnection, queueRecord);
+            }
+
+            // the records queued concurrently are written by the WRITE event processing
+            if (writeTaskQueue.releaseSpaceAndNotify(bytesReleased) != 0) {
+                nioConnection.simulateIOEvent(IOEvent.WRITE);
+            }
+        } catch (IOException e) {
+            if (LOGGER.isLoggable(Level.FINEST)) {
+                LOGGER.log(Level.FINEST, "AsyncQueueWriter.flushCorked exception connection=" + nioConnection + " record=" + queueRecord, e);
+            }
+
+            if (queueRecord != null) {
+                onWriteFailure(nioConnection, queueRecord, e);
+            } else {
+                nioConnection.closeSilently();
+            }
+        }
+    }
+
+    /**
+     * Flushes the queue of the corked connection, once the queued records have reached the max pending bytes limit, like
+     * TCP_CORK sends a full frame. Otherwise a writer, which waits until the queue has space, would wait for the uncork.
+     */
+    private static void flushIfCorkedQueueFull(final NIOConnection nioConnection, final int pendingBytes) {
+        if (nioConnection.isCorked()) {
+            final int connectionMaxPendingBytes = nioConnection.getMaxAsyncWriteQueueSize();
+            if (connectionMaxPendingBytes >= 0 && pendingBytes >= connectionMaxPendingBytes) {
+                nioConnection.flushCorked();
+            }
+        }
+    }
+
     private static void finishQueueRecord(final NIOConnection nioConnection, final AsyncWriteQueueRecord queueRecord) {
         final boolean isLogFine = LOGGER.isLoggable(Level.FINEST);
 
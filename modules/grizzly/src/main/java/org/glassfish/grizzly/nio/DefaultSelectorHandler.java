@@ -46,8 +46,15 @@ public class DefaultSelectorHandler implements SelectorHandler {
     public static final boolean IS_WORKAROUND_SELECTOR_SPIN = Boolean.getBoolean(DefaultSelectorHandler.class.getName() + ".force-selector-spin-detection")
             || System.getProperty("os.name").equalsIgnoreCase("linux");
 
+    /**
+     * The default value for the selected key set optimization, see {@link #isOptimizedSelectedKeySet()}.
+     */
+    public static final boolean DEFAULT_OPTIMIZED_SELECTED_KEY_SET = Boolean.getBoolean(DefaultSelectorHandler.class.getName() + ".optimized-selected-key-set");
+
     protected final long selectTimeout;
 
+    protected final boolean optimizedSelectedKeySet;
+
     // Selector spin workaround artifacts
 
     /**
@@ -63,7 +70,18 @@ public class DefaultSelectorHandler implements SelectorHandler {
     }
 
     public DefaultSelectorHandler(final long selectTimeout, final TimeUnit timeunit) {
+        this(selectTimeout, timeunit, DEFAULT_OPTIMIZED_SELECTED_KEY_SET);
+    }
+
+    /**
+     * @param selectTimeout the select timeout.
+     * @param timeunit the select timeout {@link TimeUnit}.
+     * @param optimizedSelectedKeySet <tt>true</tt>, if the {@link Selector}'s selected key set should be replaced with
+     * an array based one, see {@link #isOptimizedSelectedKeySet()}.
+     */
+    public DefaultSelectorHandler(final long selectTimeout, final TimeUnit timeunit, final boolean optimizedSelectedKeySet) {
         this.selectTimeout = TimeUnit.MILLISECONDS.convert(selectTimeout, timeunit);
+        this.optimizedSelectedKeySet = optimizedSelectedKeySet;
     }
 
     @Override
@@ -71,6 +89,18 @@ public class DefaultSelectorHandler implements SelectorHandler {
         return selectTimeout;
     }
 
+    /**
+     * Returns <tt>true</tt>, if the JDK <tt>HashSet</tt> based selected key set of each {@link Selector} is replaced
+     * with an array based one, so the {@link SelectorRunner} iterates the selected keys by index, without producing
+     * garbage per select. If the replacement is not possible (for example the reflective access to the JDK
+     * {@link Selector} implementation is denied), the JDK selected key set is used.
+     *
+     * @return <tt>true</tt>, if the optimized selected key set is enabled.
+     */
+    public boolean isOptimizedSelectedKeySet() {
+        return optimizedSelectedKeySet;
+    }
+
     @Override
     public boolean preSelect(final SelectorRunner selectorRunner) throws IOException {
         return processPendingTasks(selectorRunner);
@@ -81,6 +111,11 @@ public class DefaultSelectorHandler implements SelectorHandler {
         final Selector selector = selectorRunner.getSelector();
         final boolean hasPostponedTasks = !selectorRunner.getPostponedTasks().isEmpty();
 
+        // the failed replacement is remembered per Selector implementation, so it's not retried for each select
+        if (optimizedSelectedKeySet && !(selector.selectedKeys() instanceof SelectedSelectionKeySet)) {
+            Selectors.installSelectedKeySet(selector);
+        }
+
         // The selector.select(...) returns the *new* SelectionKey count,
         // so it may return 0 even in the case, when there are unprocessed, but
         // ready SelectionKeys in the Selector's selected key set.
@@ -62,6 +62,13 @@ public final class DirectByteBufferRecord {
         return directBufferSlice;
     }
 
+    /**
+     * @return the number of bytes stored in the direct buffer slices since the last {@link #release()}.
+     */
+    public int getSlicedSize() {
+        return directBufferSlice != null ? sliceOffset + directBufferSlice.position() : sliceOffset;
+    }
+
     public ByteBuffer allocate(final int size) {
         ByteBuffer byteBuffer;
         if ((byteBuffer = switchToStrong()) != null && byteBuffer.remaining() >= size) {
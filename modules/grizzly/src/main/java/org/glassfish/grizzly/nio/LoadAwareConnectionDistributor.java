@@ -0,0 +1,276 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.nio;
+
+import java.io.IOException;
+import java.nio.channels.SelectableChannel;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.glassfish.grizzly.CompletionHandler;
+import org.glassfish.grizzly.Connection;
+import org.glassfish.grizzly.TransportProbe;
+
+/**
+ * Load aware {@link NIOChannelDistributor} implementation, which registers a channel with the least loaded
+ * {@link SelectorRunner}.
+ *
+ * The runner load is estimated as the number of channels registered with the runner, plus the weighted rate of the
+ * keys selected by the runner per second and the weighted number of the runner's pending tasks. The rate and the pending
+ * tasks are sampled periodically, the sampled loads are reported to the {@link TransportProbe}s registered on the
+ * transport. The channels registered since the last sample are accounted immediately, so a burst of accepted
+ * connections gets spread among the runners.
+ *
+ * Unlike {@link RoundRobinConnectionDistributor}, this distributor keeps the long-living busy connections from piling
+ * up on the same runner, because the runner is chosen by its actual load rather than by the number of connections it
+ * has been given.
+ *
+ * @see TransportProbe#onSelectorRunnerLoadEvent(org.glassfish.grizzly.Transport, int, int, float, int)
+ *
+ * @since 3.0
+ */
+public final class LoadAwareConnectionDistributor extends AbstractNIOConnectionDistributor {
+    public static final long DEFAULT_SAMPLING_INTERVAL_MILLIS = 1000;
+    public static final float DEFAULT_SELECTED_KEYS_RATE_WEIGHT = 0.01f;
+    public static final float DEFAULT_PENDING_TASKS_WEIGHT = 1;
+
+    private final boolean useDedicatedAcceptor;
+
+    private volatile long samplingIntervalNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_SAMPLING_INTERVAL_MILLIS);
+    private volatile float selectedKeysRateWeight = DEFAULT_SELECTED_KEYS_RATE_WEIGHT;
+    private volatile float pendingTasksWeight = DEFAULT_PENDING_TASKS_WEIGHT;
+
+    private volatile RunnerLoad[] loads = new RunnerLoad[0];
+    private volatile long lastSampleNanos;
+    private final AtomicBoolean isSampling = new AtomicBoolean();
+
+    // the first runner to check, so equally loaded runners are picked in turn
+    private final AtomicInteger offset = new AtomicInteger();
+
+    public LoadAwareConnectionDistributor(final NIOTransport transport) {
+        this(transport, false);
+    }
+
+    /**
+     * Constructs LoadAwareConnectionDistributor with the given configuration.
+     *
+     * @param transport
+     * @param useDedicatedAcceptor depending on this flag server {@link Connection}s, responsible for accepting client
+     * connections, will or will not use dedicated {@link SelectorRunner}
+     */
+    public LoadAwareConnectionDistributor(final NIOTransport transport, final boolean useDedicatedAcceptor) {
+        super(transport);
+        this.useDedicatedAcceptor = useDedicatedAcceptor;
+    }
+
+    /**
+     * @param timeUnit {@link TimeUnit}
+     * @return the interval, the runners load is sampled with.
+     */
+    public long getSamplingInterval(final TimeUnit timeUnit) {
+        return timeUnit.convert(samplingIntervalNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Sets the interval, the runners load is sampled with. The load is sampled, when a channel is being registered, so
+     * the sampled selected keys rate is averaged over the time since the previous registration, if the channels are
+     * registered less frequently.
+     *
+     * @param samplingInterval the sampling interval.
+     * @param timeUnit {@link TimeUnit}
+     */
+    public void setSamplingInterval(final long samplingInterval, final TimeUnit timeUnit) {
+        samplingIntervalNanos = TimeUnit.NANOSECONDS.convert(samplingInterval, timeUnit);
+    }
+
+    /**
+     * @return the weight of a selected key per second in the runner load, compared to a registered channel.
+     */
+    public float getSelectedKeysRateWeight() {
+        return selectedKeysRateWeight;
+    }
+
+    /**
+     * Sets the weight of a selected key per second in the runner load, compared to a registered channel. The default value
+     * {@value #DEFAULT_SELECTED_KEYS_RATE_WEIGHT} means a runner serving a hundred events per second is as loaded as a
+     * runner having one more channel registered.
+     *
+     * @param selectedKeysRateWeight the selected keys rate weight.
+     */
+    public void setSelectedKeysRateWeight(final float selectedKeysRateWeight) {
+        this.selectedKeysRateWeight = selectedKeysRateWeight;
+    }
+
+    /**
+     * @return the weight of a pending task in the runner load, compared to a registered channel.
+     */
+    public float getPendingTasksWeight() {
+        return pendingTasksWeight;
+    }
+
+    /**
+     * Sets the weight of a pending task in the runner load, compared to a registered channel.
+     *
+     * @param pendingTasksWeight the pending tasks weight.
+     */
+    public void setPendingTasksWeight(final float pendingTasksWeight) {
+        this.pendingTasksWeight = pendingTasksWeight;
+    }
+
+    @Override
+    public void registerChannel(final SelectableChannel channel, final int interestOps, final Object attachment) throws IOException {
+        transport.getSelectorHandler().registerChannel(next(), channel, interestOps, attachment);
+    }
+
+    @Override
+    public void registerChannelAsync(final SelectableChannel channel, final int interestOps, final Object attachment,
+            final CompletionHandler<RegisterChannelResult> completionHandler) {
+        transport.getSelectorHandler().registerChannelAsync(next(), channel, interestOps, attachment, completionHandler);
+    }
+
+    @Override
+    public void registerServiceChannelAsync(final SelectableChannel channel, final int interestOps, final Object attachment,
+            final CompletionHandler<RegisterChannelResult> completionHandler) {
+
+        transport.getSelectorHandler().registerChannelAsync(nextService(), channel, interestOps, attachment, completionHandler);
+    }
+
+    private SelectorRunner nextService() {
+        return useDedicatedAcceptor ? getTransportSelectorRunners()[0] : next();
+    }
+
+    private SelectorRunner next() {
+        final SelectorRunner[] runners = getTransportSelectorRunners();
+        if (runners.length == 1) {
+            return runners[0];
+        }
+
+        final RunnerLoad[] loadsNow = obtainLoads(runners);
+
+        final int from = useDedicatedAcceptor ? 1 : 0;
+        final int count = loadsNow.length - from;
+        final int start = (offset.getAndIncrement() & 0x7fffffff) % count;
+
+        final float rateWeight = selectedKeysRateWeight;
+        final float tasksWeight = pendingTasksWeight;
+
+        RunnerLoad leastLoaded = null;
+        float minLoad = Float.MAX_VALUE;
+        for (int i = 0; i < count; i++) {
+            final RunnerLoad load = loadsNow[from + (start + i) % count];
+            final float value = load.value(rateWeight, tasksWeight);
+            if (value < minLoad) {
+                minLoad = value;
+                leastLoaded = load;
+            }
+        }
+
+        leastLoaded.registeredSinceSample.incrementAndGet();
+        return leastLoaded.runner;
+    }
+
+    /**
+     * Returns the loads of the given runners, the loads are resampled if the sampling interval has passed.
+     */
+    private RunnerLoad[] obtainLoads(final SelectorRunner[] runners) {
+        RunnerLoad[] loadsNow = loads;
+        if (!matches(loadsNow, runners)) {
+            // the transport has been restarted with new runners
+            synchronized (this) {
+                loadsNow = loads;
+                if (!matches(loadsNow, runners)) {
+                    loadsNow = new RunnerLoad[runners.length];
+                    for (int i = 0; i < runners.length; i++) {
+                        loadsNow[i] = new RunnerLoad(runners[i]);
+                    }
+
+                    lastSampleNanos = System.nanoTime();
+                    loads = loadsNow;
+                }
+            }
+        }
+
+        final long now = System.nanoTime();
+        final long elapsed = now - lastSampleNanos;
+        if (elapsed >= samplingIntervalNanos && isSampling.compareAndSet(false, true)) {
+            try {
+                for (RunnerLoad load : loadsNow) {
+                    load.sample(elapsed);
+                }
+
+                lastSampleNanos = now;
+            } finally {
+                isSampling.set(false);
+            }
+        }
+
+        return loadsNow;
+    }
+
+    private static boolean matches(final RunnerLoad[] loads, final SelectorRunner[] runners) {
+        if (loads.length != runners.length) {
+            return false;
+        }
+
+        for (int i = 0; i < runners.length; i++) {
+            if (loads[i].runner != runners[i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private final class RunnerLoad {
+        private final SelectorRunner runner;
+
+        private volatile int registeredKeysCount;
+        private volatile float selectedKeysRate;
+        private volatile int pendingTasksCount;
+
+        private final AtomicInteger registeredSinceSample = new AtomicInteger();
+
+        // guarded by isSampling
+        private long lastSelectedKeysTotalCount;
+
+        private RunnerLoad(final SelectorRunner runner) {
+            this.runner = runner;
+            runner.setLoadStatsEnabled(true);
+            registeredKeysCount = runner.getRegisteredKeysCount();
+            pendingTasksCount = runner.getPendingTasksCount();
+            lastSelectedKeysTotalCount = runner.getSelectedKeysTotalCount();
+        }
+
+        private float value(final float rateWeight, final float tasksWeight) {
+            return registeredKeysCount + registeredSinceSample.get() + selectedKeysRate * rateWeight + pendingTasksCount * tasksWeight;
+        }
+
+        private void sample(final long elapsedNanos) {
+            // the channels registered since the previous sample are counted by the selector now
+            registeredSinceSample.set(0);
+            registeredKeysCount = runner.getRegisteredKeysCount();
+            pendingTasksCount = runner.getPendingTasksCount();
+
+            final long selectedKeysTotalCount = runner.getSelectedKeysTotalCount();
+            selectedKeysRate = (float) (selectedKeysTotalCount - lastSelectedKeysTotalCount) * TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+            lastSelectedKeysTotalCount = selectedKeysTotalCount;
+
+            NIOTransport.notifyProbesSelectorRunnerLoad(transport, runner, registeredKeysCount, selectedKeysRate, pendingTasksCount);
+        }
+    }
+}
@@ -114,6 +114,13 @@ public abstract class NIOConnection implements Connection<SocketAddress> {
     private volatile CloseReason closeReason;
     private volatile GrizzlyFuture<CloseReason> closeFuture;
 
+    // true, if the async writes are kept in the write queue until the connection is uncorked
+    private volatile boolean isCorked;
+    // the writer, which has queued the first write while the connection was corked and is expected to flush the queue
+    private static final AtomicReferenceFieldUpdater<NIOConnection, AbstractNIOAsyncQueueWriter> corkedWriterUpdater = AtomicReferenceFieldUpdater
+            .newUpdater(NIOConnection.class, AbstractNIOAsyncQueueWriter.class, "corkedWriter");
+    private volatile AbstractNIOAsyncQueueWriter corkedWriter;
+
     protected volatile boolean isBlocking;
     protected volatile boolean isStandalone;
     protected short zeroByteReadCount;
@@ -253,6 +260,65 @@ public abstract class NIOConnection implements Connection<SocketAddress> {
         }
     }
 
+    /**
+     * Corks the connection: the following async writes are added to the connection's async write queue without touching
+     * the socket, until the connection is {@link #uncork() uncorked}. So several small messages, written during a single
+     * processing cycle, could be flushed with one (gathering) write. Blocking writes are not affected.
+     *
+     * Please note, a write's completion is not notified, until the connection is uncorked, so the writer shouldn't wait
+     * for a write completion while the connection is corked. The queued writes are flushed earlier though, if they reach
+     * the max async write queue size, or if the writer checks or waits for the queue space.
+     *
+     * @since 3.0
+     */
+    public void cork() {
+        isCorked = true;
+    }
+
+    /**
+     * Uncorks the connection and flushes the writes queued while the connection was corked.
+     *
+     * @since 3.0
+     */
+    public void uncork() {
+        isCorked = false;
+        flushCorked();
+    }
+
+    /**
+     * @return <tt>true</tt>, if the connection is corked.
+     *
+     * @see #cork()
+     *
+     * @since 3.0
+     */
+    public boolean isCorked() {
+        return isCorked;
+    }
+
+    /**
+     * Flushes the writes queued while the connection has been corked, the connection stays corked. Called by the async
+     * writer, when the queue is full or a writer is waiting for the queue to drain.
+     */
+    void flushCorked() {
+        final AbstractNIOAsyncQueueWriter writer = corkedWriterUpdater.getAndSet(this, null);
+        if (writer != null) {
+            writer.flushCorked(this);
+        }
+    }
+
+    /**
+     * Called by the async writer, when the first write has been queued because the connection is corked.
+     */
+    void onCorkedWrite(final AbstractNIOAsyncQueueWriter writer) {
+        corkedWriter = writer;
+
+        // the connection might have been uncorked concurrently
+        if (!isCorked && corkedWriterUpdater.compareAndSet(this, writer, null)) {
+            writer.flushCorked(this);
+        }
+    }
+
     public SelectableChannel getChannel() {
         return channel;
     }
@@ -767,6 +833,22 @@ public abstract class NIOConnection implements Connection<SocketAddress> {
         }
     }
 
+    /**
+     * Notify registered {@link ConnectionProbe}s about the read buffer resize event.
+     *
+     * @param connection the <tt>Connection</tt> event occurred on.
+     * @param oldSize the previous read buffer size.
+     * @param newSize the new read buffer size.
+     */
+    protected static void notifyProbesReadBufferResize(NIOConnection connection, int oldSize, int newSize) {
+        final ConnectionProbe[] probes = connection.monitoringConfig.getProbesUnsafe();
+        if (probes != null) {
+            for (ConnectionProbe probe : probes) {
+                probe.onReadBufferResizeEvent(connection, oldSize, newSize);
+            }
+        }
+    }
+
     /**
      * Notify registered {@link ConnectionProbe}s about the close event.
      *
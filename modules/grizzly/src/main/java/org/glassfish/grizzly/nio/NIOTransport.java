@@ -66,6 +66,7 @@ public abstract class NIOTransport extends AbstractTransport
     public static final int DEFAULT_CONNECTION_TIMEOUT = SocketConnectorHandler.DEFAULT_CONNECTION_TIMEOUT;
     public static final int DEFAULT_SELECTOR_RUNNER_COUNT = -1;
     public static final boolean DEFAULT_OPTIMIZED_FOR_MULTIPLEXING = false;
+    public static final boolean DEFAULT_AUTO_CORK_ENABLED = false;
 
     private static final Logger LOGGER = Grizzly.logger(NIOTransport.class);
 
@@ -94,6 +95,8 @@ public abstract class NIOTransport extends AbstractTransport
 
     private boolean optimizedForMultiplexing = DEFAULT_OPTIMIZED_FOR_MULTIPLEXING;
 
+    private volatile boolean autoCorkEnabled = DEFAULT_AUTO_CORK_ENABLED;
+
     protected SelectorRunner[] selectorRunners;
 
     protected NIOChannelDistributor nioChannelDistributor;
@@ -247,11 +250,34 @@ public abstract class NIOTransport extends AbstractTransport
         getAsyncQueueIO().getWriter().setAllowDirectWrite(!optimizedForMultiplexing);
     }
 
+    /**
+     * @return <tt>true</tt>, if connections are corked during {@link IOEvent#READ} processing.
+     *
+     * @see #setAutoCorkEnabled(boolean)
+     */
+    public boolean isAutoCorkEnabled() {
+        return autoCorkEnabled;
+    }
+
+    /**
+     * Enables or disables the connections auto corking. If enabled, a connection is {@link NIOConnection#cork() corked}
+     * before {@link IOEvent#READ} processing and uncorked once the processing is over (or suspended), so all the async
+     * writes made while processing the read data are flushed together. The mode saves syscalls for protocols, which
+     * respond with several small messages per read, but must not be used, if the processing waits for a write completion.
+     *
+     * @param autoCorkEnabled <tt>true</tt> to enable the connections auto corking.
+     */
+    public void setAutoCorkEnabled(final boolean autoCorkEnabled) {
+        this.autoCorkEnabled = autoCorkEnabled;
+        notifyProbesConfigChanged(this);
+    }
+
     protected synchronized void startSelectorRunners() throws IOException {
         selectorRunners = new SelectorRunner[selectorRunnersCount];
 
         for (int i = 0; i < selectorRunnersCount; i++) {
             final SelectorRunner runner = SelectorRunner.create(this);
+            runner.index = i;
             runner.start();
             selectorRunners[i] = runner;
         }
@@ -308,6 +334,21 @@ public abstract class NIOTransport extends AbstractTransport
         }
     }
 
+    /**
+     * Notify registered {@link TransportProbe}s about the sampled {@link SelectorRunner} load.
+     *
+     * @param transport the <tt>Transport</tt> event occurred on.
+     */
+    protected static void notifyProbesSelectorRunnerLoad(final NIOTransport transport, final SelectorRunner runner, final int registeredKeysCount,
+            final float selectedKeysRate, final int pendingTasksCount) {
+        final TransportProbe[] probes = transport.transportMonitoringConfig.getProbesUnsafe();
+        if (probes != null) {
+            for (TransportProbe probe : probes) {
+                probe.onSelectorRunnerLoadEvent(transport, runner.getIndex(), registeredKeysCount, selectedKeysRate, pendingTasksCount);
+            }
+        }
+    }
+
     /**
      * Notify registered {@link TransportProbe}s about the start event.
      *
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.nio;
+
+import java.nio.channels.SelectionKey;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Array based {@link java.nio.channels.Selector} selected key set, which replaces the JDK <tt>HashSet</tt> based one,
+ * so the {@link SelectorRunner} could iterate the selected keys by index without allocating iterators and hash set
+ * entries.
+ *
+ * The set relies on being cleared after each select iteration, so {@link #contains(Object)} always returns
+ * <tt>false</tt> to keep {@link #add(SelectionKey)} O(1). For the same reason {@link #remove(Object)}, which the JDK
+ * {@link java.nio.channels.Selector} calls for each deregistered key, doesn't search the key and returns
+ * <tt>false</tt>: the cancelled key stays in the set until it's cleared, so the {@link SelectorRunner} skips the
+ * invalid keys.
+ *
+ * @see Selectors#installSelectedKeySet(java.nio.channels.Selector)
+ */
+final class SelectedSelectionKeySet extends AbstractSet<SelectionKey> {
+    private SelectionKey[] keys;
+    private int size;
+
+    SelectedSelectionKeySet() {
+        keys = new SelectionKey[1024];
+    }
+
+    @Override
+    public boolean add(final SelectionKey key) {
+        if (key == null) {
+            return false;
+        }
+
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size << 1);
+        }
+
+        keys[size++] = key;
+        return true;
+    }
+
+    @Override
+    public boolean remove(final Object o) {
+        return false;
+    }
+
+    @Override
+    public boolean contains(final Object o) {
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(keys, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * @param index the key index.
+     * @return the selected key with the given index.
+     */
+    SelectionKey get(final int index) {
+        return keys[index];
+    }
+
+    @Override
+    public Iterator<SelectionKey> iterator() {
+        return new Iterator<SelectionKey>() {
+            private int idx;
+
+            @Override
+            public boolean hasNext() {
+                return idx < size;
+            }
+
+            @Override
+            public SelectionKey next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return keys[idx++];
+            }
+        };
+    }
+}
@@ -58,8 +58,10 @@ public final class SelectorRunner implements Runnable {
 
     private final NIOTransport transport;
     private final AtomicReference<State> stateHolder;
+    // the runner index in the transport selector runners array
+    int index;
 
-    private final Queue<SelectorHandlerTask> pendingTasks;
+    private final PendingTasksQueue pendingTasks;
 
     private Queue<SelectorHandlerTask> currentPostponedTasks;
     private final Queue<SelectorHandlerTask> evenPostponedTasks;
@@ -73,8 +75,17 @@ public final class SelectorRunner implements Runnable {
     private boolean isResume;
 
     private int lastSelectedKeysCount;
+    // the load stats below are collected only, if they're used, see setLoadStatsEnabled(boolean)
+    private volatile boolean isLoadStatsEnabled;
+    // the total number of selected keys, updated by the runner thread only
+    private volatile long selectedKeysTotalCount;
+    // the number of keys registered with the selector, updated by the runner thread only
+    private volatile int registeredKeysCount;
     private Set<SelectionKey> readyKeySet;
     private Iterator<SelectionKey> iterator;
+    // not null, if the selected keys are iterated by index
+    private SelectedSelectionKeySet selectedKeySet;
+    private int selectedKeyIndex;
     private SelectionKey key = null;
     private int keyReadyOps;
 
@@ -92,7 +103,7 @@ public final class SelectorRunner implements Runnable {
         this.selector = selector;
         stateHolder = new AtomicReference<>(State.STOPPED);
 
-        pendingTasks = new ConcurrentLinkedQueue<>();
+        pendingTasks = new PendingTasksQueue();
         evenPostponedTasks = new ArrayDeque<>();
         oddPostponedTasks = new ArrayDeque<>();
         currentPostponedTasks = evenPostponedTasks;
@@ -143,6 +154,15 @@ public final class SelectorRunner implements Runnable {
         dumbVolatile++;
     }
 
+    /**
+     * @return the runner index among the transport {@link SelectorRunner}s.
+     *
+     * @since 3.0
+     */
+    public int getIndex() {
+        return index;
+    }
+
     public Thread getRunnerThread() {
         if (dumbVolatile != 0) {
             return selectorRunnerThread;
@@ -215,6 +235,8 @@ public final class SelectorRunner implements Runnable {
             }
         }
 
+        registeredKeysCount = 0;
+
         abortTasksInQueue(pendingTasks);
         abortTasksInQueue(evenPostponedTasks);
         abortTasksInQueue(oddPostponedTasks);
@@ -305,8 +327,17 @@ public final class SelectorRunner implements Runnable {
                 return false;
             }
 
+            final boolean isLoadStatsEnabledLocal = isLoadStatsEnabled;
+
+            // the channels registered by the pending tasks are counted before select, the cancelled ones - after it
+            if (isLoadStatsEnabledLocal) {
+                updateRegisteredKeysCount();
+            }
             readyKeySet = selectorHandler.select(this);
             selectorWakeupFlag.set(false);
+            if (isLoadStatsEnabledLocal) {
+                updateRegisteredKeysCount();
+            }
 
             if (stateHolder.get() == State.STOPPING) {
                 return true;
@@ -315,7 +346,17 @@ public final class SelectorRunner implements Runnable {
             lastSelectedKeysCount = readyKeySet.size();
 
             if (lastSelectedKeysCount != 0) {
-                iterator = readyKeySet.iterator();
+                if (isLoadStatsEnabledLocal) {
+                    selectedKeysTotalCount += lastSelectedKeysCount;
+                }
+
+                if (readyKeySet instanceof SelectedSelectionKeySet) {
+                    selectedKeySet = (SelectedSelectionKeySet) readyKeySet;
+                    selectedKeyIndex = 0;
+                } else {
+                    iterator = readyKeySet.iterator();
+                }
+
                 if (!iterateKeys()) {
                     return false;
                 }
@@ -324,6 +365,7 @@ public final class SelectorRunner implements Runnable {
 
             readyKeySet = null;
             iterator = null;
+            selectedKeySet = null;
             selectorHandler.postSelect(this);
         } catch (ClosedSelectorException e) {
             if (isRunning()) {
@@ -344,26 +386,45 @@ public final class SelectorRunner implements Runnable {
     }
 
     private boolean iterateKeys() {
+        final SelectedSelectionKeySet keySet = selectedKeySet;
+        if (keySet != null) {
+            while (selectedKeyIndex < keySet.size()) {
+                final SelectionKey selectionKey = keySet.get(selectedKeyIndex++);
+                // the set keeps the keys, which were cancelled after they had been selected
+                if (selectionKey.isValid() && !iterateKey(selectionKey)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
         final Iterator<SelectionKey> it = iterator;
 
         while (it.hasNext()) {
-            try {
-                key = it.next();
-                keyReadyOps = key.readyOps();
-                if (!iterateKeyEvents()) {
-                    return false;
-                }
-            } catch (IOException e) {
-                keyReadyOps = 0;
-                dropConnectionDueToException(key, "Unexpected IOException. Channel " + key.channel() + " will be closed.", e, Level.WARNING, Level.FINE);
-            } catch (CancelledKeyException e) {
-                keyReadyOps = 0;
-                dropConnectionDueToException(key, "Unexpected CancelledKeyException. Channel " + key.channel() + " will be closed.", e, Level.FINE, Level.FINE);
+            if (!iterateKey(it.next())) {
+                return false;
             }
         }
         return true;
     }
 
+    private boolean iterateKey(final SelectionKey selectionKey) {
+        try {
+            key = selectionKey;
+            keyReadyOps = key.readyOps();
+            if (!iterateKeyEvents()) {
+                return false;
+            }
+        } catch (IOException e) {
+            keyReadyOps = 0;
+            dropConnectionDueToException(key, "Unexpected IOException. Channel " + key.channel() + " will be closed.", e, Level.WARNING, Level.FINE);
+        } catch (CancelledKeyException e) {
+            keyReadyOps = 0;
+            dropConnectionDueToException(key, "Unexpected CancelledKeyException. Channel " + key.channel() + " will be closed.", e, Level.FINE, Level.FINE);
+        }
+        return true;
+    }
+
     private boolean iterateKeyEvents() throws IOException {
 
         final SelectionKey keyLocal = key;
@@ -457,6 +518,85 @@ public final class SelectorRunner implements Runnable {
         return lastSelectedKeysCount;
     }
 
+    /**
+     * Returns <tt>true</tt>, if the runner collects the load stats, see {@link #getSelectedKeysTotalCount()} and
+     * {@link #getRegisteredKeysCount()}.
+     *
+     * @return <tt>true</tt>, if the runner collects the load stats.
+     *
+     * @since 3.0
+     */
+    public boolean isLoadStatsEnabled() {
+        return isLoadStatsEnabled;
+    }
+
+    /**
+     * Enables or disables the load stats collection, see {@link #getSelectedKeysTotalCount()} and
+     * {@link #getRegisteredKeysCount()}. The stats are disabled by default, because they're updated on each select, and
+     * are enabled by the {@link LoadAwareConnectionDistributor}, which uses them.
+     *
+     * @param isLoadStatsEnabled <tt>true</tt> to enable the load stats collection.
+     *
+     * @since 3.0
+     */
+    public void setLoadStatsEnabled(final boolean isLoadStatsEnabled) {
+        if (this.isLoadStatsEnabled != isLoadStatsEnabled) {
+            this.isLoadStatsEnabled = isLoadStatsEnabled;
+            if (isLoadStatsEnabled) {
+                // refresh the stats, rather than wait for the next selected key
+                wakeupSelector();
+            }
+        }
+    }
+
+    /**
+     * Total number of {@link SelectionKey}s, which were selected by this runner. The value could be used to estimate the
+     * runner's I/O events rate.
+     *
+     * @return total number of {@link SelectionKey}s, which were selected by this runner, since the load stats
+     * collection has been enabled.
+     *
+     * @since 3.0
+     */
+    public long getSelectedKeysTotalCount() {
+        return selectedKeysTotalCount;
+    }
+
+    /**
+     * Number of {@link SelectableChannel}s registered with this runner's {@link Selector}. The value is updated by the
+     * runner thread before and after each select, if the load stats collection is enabled, so the operation could be
+     * called from any thread, the returned value is approximate though.
+     *
+     * @return number of {@link SelectableChannel}s registered with this runner's {@link Selector}.
+     *
+     * @since 3.0
+     */
+    public int getRegisteredKeysCount() {
+        return registeredKeysCount;
+    }
+
+    private void updateRegisteredKeysCount() {
+        final Selector localSelector = getSelector();
+        try {
+            registeredKeysCount = localSelector != null ? localSelector.keys().size() : 0;
+        } catch (ClosedSelectorException e) {
+            registeredKeysCount = 0;
+        }
+    }
+
+    /**
+     * Number of tasks waiting to be executed by this runner. Unlike {@link #getPendingTasks()}, the operation doesn't affect
+     * the runner state and could be called from any thread. The tasks are counted as they're offered to and polled from
+     * the pending tasks queue, so the operation doesn't traverse the queue.
+     *
+     * @return number of tasks waiting to be executed by this runner.
+     *
+     * @since 3.0
+     */
+    public int getPendingTasksCount() {
+        return pendingTasks.count.get();
+    }
+
     protected void switchToNewSelector() throws IOException {
         final Selector oldSelector = selector;
         final Selector newSelector = Selectors.newSelector(transport.getSelectorProvider());
@@ -567,4 +707,42 @@ public final class SelectorRunner implements Runnable {
             currentThread.setName(name.substring(0, name.length() - THREAD_MARKER.length()));
         }
     }
+
+    /**
+     * The pending tasks queue, which counts the offered tasks, so the number of pending tasks could be obtained without
+     * traversing the queue. The tasks are expected to be taken out of the queue using {@link #poll()} or
+     * {@link #remove(Object)}.
+     */
+    private static final class PendingTasksQueue extends ConcurrentLinkedQueue<SelectorHandlerTask> {
+        private static final long serialVersionUID = 1L;
+
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public boolean offer(final SelectorHandlerTask task) {
+            // counted before it's offered, so the count doesn't go negative, if the task is polled right away
+            count.incrementAndGet();
+            return super.offer(task);
+        }
+
+        @Override
+        public SelectorHandlerTask poll() {
+            final SelectorHandlerTask task = super.poll();
+            if (task != null) {
+                count.decrementAndGet();
+            }
+
+            return task;
+        }
+
+        @Override
+        public boolean remove(final Object task) {
+            if (super.remove(task)) {
+                count.decrementAndGet();
+                return true;
+            }
+
+            return false;
+        }
+    }
 }
@@ -17,8 +17,15 @@
 package org.glassfish.grizzly.nio;
 
 import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.nio.channels.Selector;
 import java.nio.channels.spi.SelectorProvider;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.glassfish.grizzly.Grizzly;
 
 /**
  * Utility class for {@link Selector} related operations.
@@ -26,6 +33,35 @@ import java.nio.channels.spi.SelectorProvider;
  * @author Alexey Stashok
  */
 public final class Selectors {
+    private static final Logger LOGGER = Grizzly.logger(Selectors.class);
+
+    /**
+     * The accessible <tt>selectedKeys</tt> and <tt>publicSelectedKeys</tt> fields of the {@link Selector}
+     * implementation class, or <tt>null</tt>, if the class doesn't support the selected key set replacement.
+     */
+    private static final ClassValue<Field[]> SELECTED_KEYS_FIELDS = new ClassValue<Field[]>() {
+        @Override
+        protected Field[] computeValue(final Class<?> selectorClass) {
+            try {
+                final Class<?> selectorImplClass = Class.forName("sun.nio.ch.SelectorImpl", false, Selectors.class.getClassLoader());
+                if (!selectorImplClass.isAssignableFrom(selectorClass)) {
+                    return null;
+                }
+
+                final Field selectedKeysField = selectorImplClass.getDeclaredField("selectedKeys");
+                final Field publicSelectedKeysField = selectorImplClass.getDeclaredField("publicSelectedKeys");
+                selectedKeysField.setAccessible(true);
+                publicSelectedKeysField.setAccessible(true);
+
+                return new Field[] { selectedKeysField, publicSelectedKeysField };
+            } catch (Throwable t) {
+                if (LOGGER.isLoggable(Level.FINE)) {
+                    LOGGER.log(Level.FINE, "Unable to replace the selected key set of " + selectorClass.getName() + ": " + t, t);
+                }
+                return null;
+            }
+        }
+    };
 
     /**
      * Creates new {@link Selector} using passed {@link SelectorProvider}.
@@ -50,4 +86,78 @@ public final class Selectors {
             throw new IOException("Can not open Selector due to NPE");
         }
     }
+
+    /**
+     * Loads and checks the {@link SelectorProvider} implementation with the given class name. The provider is expected
+     * to have either a public static <tt>provider()</tt> method or a public no-arg constructor. Native providers usually
+     * load their native library lazily, so the provider is checked by opening a test {@link Selector}. The result is
+     * meant to be passed to {@link NIOTransport#setSelectorProvider(SelectorProvider)}, so an alternative, for example
+     * native epoll based, provider could be used where it's available, and the JDK one everywhere else.
+     *
+     * @param className the {@link SelectorProvider} implementation class name.
+     * @return the loaded {@link SelectorProvider}, or the JDK default {@link SelectorProvider}, if the requested one can
+     * not be loaded or doesn't work on this platform.
+     */
+    public static SelectorProvider loadSelectorProvider(final String className) {
+        try {
+            final Class<?> providerClass = Class.forName(className, true, Selectors.class.getClassLoader());
+
+            SelectorProvider provider;
+            try {
+                // the declared method only, SelectorProvider.provider() returns the JDK default provider
+                final Method providerMethod = providerClass.getDeclaredMethod("provider");
+                if (!Modifier.isStatic(providerMethod.getModifiers())) {
+                    throw new NoSuchMethodException(className + ".provider() is not static");
+                }
+
+                provider = (SelectorProvider) providerMethod.invoke(null);
+            } catch (NoSuchMethodException e) {
+                provider = (SelectorProvider) providerClass.getDeclaredConstructor().newInstance();
+            }
+
+            newSelector(provider).close();
+            return provider;
+        } catch (Throwable t) {
+            if (LOGGER.isLoggable(Level.WARNING)) {
+                LOGGER.log(Level.WARNING, "Unable to load or use SelectorProvider {0}, falling back to the default one. Cause: {1}",
+                        new Object[] { className, t.toString() });
+            }
+            if (LOGGER.isLoggable(Level.FINE)) {
+                LOGGER.log(Level.FINE, t.toString(), t);
+            }
+            return SelectorProvider.provider();
+        }
+    }
+
+    /**
+     * Replaces the selected key set of the passed JDK {@link Selector} with an array based one, which could be iterated
+     * by index. The replacement relies on reflective access to <tt>sun.nio.ch.SelectorImpl</tt>, which, starting with
+     * JDK 9, requires the <tt>--add-opens java.base/sun.nio.ch=ALL-UNNAMED</tt> JVM option.
+     *
+     * The reflective lookup is done once per {@link Selector} implementation class, so if it fails, the following
+     * calls for the {@link Selector}s of the same implementation return <tt>false</tt> right away.
+     *
+     * @param selector {@link Selector}
+     * @return <tt>true</tt>, if the selected key set was replaced, or <tt>false</tt> if the {@link Selector}
+     * implementation is not supported or the reflective access was denied.
+     */
+    static boolean installSelectedKeySet(final Selector selector) {
+        final Field[] fields = SELECTED_KEYS_FIELDS.get(selector.getClass());
+        if (fields == null) {
+            return false;
+        }
+
+        try {
+            final SelectedSelectionKeySet selectedKeySet = new SelectedSelectionKeySet();
+            for (Field field : fields) {
+                field.set(selector, selectedKeySet);
+            }
+            return true;
+        } catch (Throwable t) {
+            if (LOGGER.isLoggable(Level.FINE)) {
+                LOGGER.log(Level.FINE, "Unable to replace the Selector's selected key set: " + t, t);
+            }
+            return false;
+        }
+    }
 }
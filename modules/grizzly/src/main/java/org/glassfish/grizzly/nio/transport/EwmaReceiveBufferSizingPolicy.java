@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.nio.transport;
+
+/**
+ * {@link ReceiveBufferSizingPolicy}, which tracks the exponentially weighted moving average (EWMA) of the read sizes
+ * per connection.
+ *
+ * The connection read buffer is shrunk to the power of two, which is not smaller than twice the average read size, once
+ * the current size is at least twice as big, and is doubled (within the max size) right after a read, which filled the
+ * entire buffer, as there is likely more data available.
+ *
+ * @since 3.0
+ */
+public class EwmaReceiveBufferSizingPolicy implements ReceiveBufferSizingPolicy {
+
+    public static final int DEFAULT_MIN_SIZE = 1024;
+    public static final float DEFAULT_SMOOTHING_FACTOR = 0.125f;
+
+    private final int minSize;
+    private final int maxSize;
+    private final float smoothingFactor;
+    private final boolean adjustSocketBuffer;
+
+    /**
+     * Creates the policy, which doesn't grow the read buffers beyond their initial size and doesn't change the socket
+     * receive buffer sizes.
+     */
+    public EwmaReceiveBufferSizingPolicy() {
+        this(DEFAULT_MIN_SIZE, -1, DEFAULT_SMOOTHING_FACTOR, false);
+    }
+
+    /**
+     * @param minSize the min read buffer size.
+     * @param maxSize the max read buffer size, non-positive value means the connection initial read buffer size.
+     * @param smoothingFactor the weight of the last read in the average, must be in (0, 1] range.
+     * @param adjustSocketBuffer <tt>true</tt>, if the socket receive buffer (SO_RCVBUF) size has to follow the read
+     * buffer size.
+     */
+    public EwmaReceiveBufferSizingPolicy(final int minSize, final int maxSize, final float smoothingFactor, final boolean adjustSocketBuffer) {
+        if (minSize <= 0) {
+            throw new IllegalArgumentException("minSize must be greater than zero");
+        }
+        if (!(smoothingFactor > 0 && smoothingFactor <= 1)) {
+            throw new IllegalArgumentException("smoothingFactor must be in (0, 1] range");
+        }
+
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.smoothingFactor = smoothingFactor;
+        this.adjustSocketBuffer = adjustSocketBuffer;
+    }
+
+    public int getMinSize() {
+        return minSize;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public float getSmoothingFactor() {
+        return smoothingFactor;
+    }
+
+    public boolean isAdjustSocketBuffer() {
+        return adjustSocketBuffer;
+    }
+
+    @Override
+    public Sizer createSizer(final TCPNIOConnection connection) {
+        final int initialSize = connection.getReadBufferSize();
+        return new EwmaSizer(connection, Math.max(minSize, maxSize > 0 ? maxSize : initialSize));
+    }
+
+    private final class EwmaSizer implements Sizer {
+        private final TCPNIOConnection connection;
+        private final int connectionMaxSize;
+
+        private double averageReadSize;
+
+        private EwmaSizer(final TCPNIOConnection connection, final int connectionMaxSize) {
+            this.connection = connection;
+            this.connectionMaxSize = connectionMaxSize;
+            this.averageReadSize = connection.getReadBufferSize();
+        }
+
+        @Override
+        public void onRead(final int read) {
+            final int currentSize = connection.getReadBufferSize();
+
+            averageReadSize += smoothingFactor * (read - averageReadSize);
+
+            final int newSize;
+            if (read >= currentSize) {
+                newSize = (int) Math.min(connectionMaxSize, (long) currentSize << 1);
+            } else {
+                final int targetSize = Math.max(minSize, Math.min(connectionMaxSize, roundUpToPowerOfTwo(2 * averageReadSize)));
+                if (targetSize > currentSize >>> 1) {
+                    return;
+                }
+
+                newSize = targetSize;
+            }
+
+            if (newSize != currentSize) {
+                connection.resizeReadBuffer(newSize, adjustSocketBuffer);
+            }
+        }
+    }
+
+    private static int roundUpToPowerOfTwo(final double value) {
+        if (value >= 1 << 30) {
+            return 1 << 30;
+        }
+
+        final int intValue = Math.max(1, (int) Math.ceil(value));
+        return intValue == 1 ? 1 : Integer.highestOneBit(intValue - 1) << 1;
+    }
+}
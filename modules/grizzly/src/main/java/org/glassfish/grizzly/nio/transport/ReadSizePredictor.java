@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.nio.transport;
+
+/**
+ * Predicts the number of bytes the next {@link TCPNIOConnection} read is going to return.
+ *
+ * The predicted size is doubled right after a read, which filled the entire buffer, and halved after two consecutive
+ * reads, which filled no more than half of the buffer, so the connection quickly adapts to bulk transfers, but doesn't
+ * shrink its buffers because of a single short read.
+ *
+ * The predictor is not thread-safe, it's expected to be used by the thread, which reads from the connection.
+ */
+final class ReadSizePredictor {
+    private final int minSize;
+    private final int maxSize;
+
+    private int nextSize;
+    private boolean decreaseNow;
+
+    /**
+     * @param minSize the min predicted read size.
+     * @param initialSize the initial predicted read size.
+     * @param maxSize the max predicted read size, if it's less than minSize - minSize is used.
+     */
+    ReadSizePredictor(final int minSize, final int initialSize, final int maxSize) {
+        if (minSize <= 0) {
+            throw new IllegalArgumentException("minSize must be greater than zero");
+        }
+
+        this.minSize = minSize;
+        this.maxSize = Math.max(minSize, maxSize);
+        this.nextSize = Math.max(minSize, Math.min(this.maxSize, initialSize));
+    }
+
+    /**
+     * @return the number of bytes the next read is expected to return.
+     */
+    int nextReadSize() {
+        return nextSize;
+    }
+
+    /**
+     * Adjusts the prediction according to the number of bytes returned by the last read.
+     *
+     * @param read the number of bytes read, non-positive values are ignored.
+     */
+    void onRead(final int read) {
+        if (read <= 0) {
+            return;
+        }
+
+        if (read >= nextSize) {
+            nextSize = (int) Math.min(maxSize, (long) nextSize << 1);
+            decreaseNow = false;
+        } else if (read <= nextSize >>> 1) {
+            if (decreaseNow) {
+                nextSize = Math.max(minSize, nextSize >>> 1);
+                decreaseNow = false;
+            } else {
+                decreaseNow = true;
+            }
+        } else {
+            decreaseNow = false;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.nio.transport;
+
+/**
+ * The policy, which adjusts {@link TCPNIOConnection} read buffer sizes according to the observed traffic, so mostly
+ * idle connections don't hold as much memory as the bulk transfer ones.
+ *
+ * The policy creates a {@link Sizer} per connection, which is notified about every read from the connection and may
+ * change the connection read buffer size using {@link TCPNIOConnection#resizeReadBuffer(int, boolean)}.
+ *
+ * @see TCPNIOTransport#setReceiveBufferSizingPolicy(ReceiveBufferSizingPolicy)
+ * @see EwmaReceiveBufferSizingPolicy
+ *
+ * @since 3.0
+ */
+public interface ReceiveBufferSizingPolicy {
+
+    /**
+     * Creates the {@link Sizer} for the newly created connection.
+     *
+     * @param connection the {@link TCPNIOConnection}.
+     * @return the {@link Sizer}.
+     */
+    Sizer createSizer(TCPNIOConnection connection);
+
+    /**
+     * Tracks the single connection traffic.
+     */
+    interface Sizer {
+
+        /**
+         * Called after each successful read from the connection. The method is not called concurrently for the same
+         * connection.
+         *
+         * @param read the number of bytes read.
+         */
+        void onRead(int read);
+    }
+}
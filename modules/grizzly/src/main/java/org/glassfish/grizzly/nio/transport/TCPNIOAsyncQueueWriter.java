@@ -128,14 +128,15 @@ public final class TCPNIOAsyncQueueWriter extends AbstractNIOAsyncQueueWriter {
         }
 
         if (queueRecord.size > 0) {
-            final int bufferSize = Math.min(queueRecord.size, connection.getWriteBufferSize() * 3 / 2);
+            final int bufferSize = Math.min(queueRecord.size, TCPNIOTransport.MAX_SEND_BUFFER_SIZE);
+            final int copyBufferSize = Math.min(bufferSize, connection.getWriteBufferSize() * 3 / 2);
 
             final DirectByteBufferRecord directByteBufferRecord = DirectByteBufferRecord.get();
 
             try {
                 final SocketChannel socketChannel = (SocketChannel) connection.getChannel();
 
-                fill(queueRecord, bufferSize, directByteBufferRecord);
+                fill(queueRecord, bufferSize, copyBufferSize, directByteBufferRecord);
                 directByteBufferRecord.finishBufferSlice();
 
                 final int arraySize = directByteBufferRecord.getArraySize();
@@ -158,11 +159,8 @@ public final class TCPNIOAsyncQueueWriter extends AbstractNIOAsyncQueueWriter {
         return update(queueRecord, written);
     }
 
-    private static void fill(final CompositeQueueRecord queueRecord, final int totalBufferSize, final DirectByteBufferRecord ioRecord) {
-
-//        int dstBufferRemaining = dstByteBuffer.remaining();
-//
-//        dstByteBuffer.limit(0);
+    private static void fill(final CompositeQueueRecord queueRecord, final int totalBufferSize, final int copyBufferSize,
+            final DirectByteBufferRecord ioRecord) {
 
         int totalRemaining = totalBufferSize;
         final Deque<AsyncWriteQueueRecord> queue = queueRecord.queue;
@@ -184,7 +182,12 @@ public final class TCPNIOAsyncQueueWriter extends AbstractNIOAsyncQueueWriter {
             final BufferArray bufferArray = totalRemaining >= messageRemaining ? message.toBufferArray() : message.toBufferArray(pos, pos + totalRemaining);
 
             savedBufferStates.add(bufferArray);
-            TCPNIOUtils.fill(bufferArray, totalRemaining, ioRecord);
+            final int filled = TCPNIOUtils.fill(bufferArray, totalRemaining, copyBufferSize, ioRecord);
+
+            if (filled < messageRemaining) {
+                // the message wasn't added completely, so the following messages can't be written this time
+                break;
+            }
 
             totalRemaining -= messageRemaining;
         }
@@ -60,12 +60,16 @@ public class TCPNIOBindingHandler extends AbstractBindingHandler {
 
     @Override
     public TCPNIOServerConnection bind(SocketAddress socketAddress, int backlog) throws IOException {
-        return bindToChannelAndAddress(tcpTransport.getSelectorProvider().openServerSocketChannel(), socketAddress, backlog);
+        if (tcpTransport.isReusePortEnabled()) {
+            return bindReusePort(socketAddress, backlog);
+        }
+
+        return bindToChannelAndAddress(tcpTransport.getSelectorProvider().openServerSocketChannel(), socketAddress, backlog, -1);
     }
 
     @Override
     public TCPNIOServerConnection bindToInherited() throws IOException {
-        return bindToChannelAndAddress(this.<ServerSocketChannel>getSystemInheritedChannel(ServerSocketChannel.class), null, -1);
+        return bindToChannelAndAddress(this.<ServerSocketChannel>getSystemInheritedChannel(ServerSocketChannel.class), null, -1, -1);
     }
 
     @Override
@@ -79,8 +83,39 @@ public class TCPNIOBindingHandler extends AbstractBindingHandler {
 
     // --------------------------------------------------------- Private Methods
 
-    private TCPNIOServerConnection bindToChannelAndAddress(final ServerSocketChannel serverSocketChannel, final SocketAddress socketAddress, final int backlog)
-            throws IOException {
+    /**
+     * Binds a SO_REUSEPORT server socket per transport {@link org.glassfish.grizzly.nio.SelectorRunner}, the returned
+     * connection represents all of them.
+     */
+    private TCPNIOServerConnection bindReusePort(final SocketAddress socketAddress, final int backlog) throws IOException {
+        final Lock lock = tcpTransport.getState().getStateLocker().writeLock();
+        lock.lock();
+        try {
+            final TCPNIOServerConnection serverConnection = bindToChannelAndAddress(tcpTransport.getSelectorProvider().openServerSocketChannel(),
+                    socketAddress, backlog, 0);
+
+            // the ephemeral port, if any, has been resolved by the first bind
+            final SocketAddress boundAddress = ((ServerSocketChannel) serverConnection.getChannel()).socket().getLocalSocketAddress();
+            final int acceptorsCount = tcpTransport.getSelectorRunnersCount();
+
+            try {
+                for (int i = 1; i < acceptorsCount; i++) {
+                    serverConnection.reusePortSiblings
+                            .add(bindToChannelAndAddress(tcpTransport.getSelectorProvider().openServerSocketChannel(), boundAddress, backlog, i));
+                }
+            } catch (IOException e) {
+                tcpTransport.unbind(serverConnection);
+                throw e;
+            }
+
+            return serverConnection;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private TCPNIOServerConnection bindToChannelAndAddress(final ServerSocketChannel serverSocketChannel, final SocketAddress socketAddress, final int backlog,
+            final int acceptorIndex) throws IOException {
         TCPNIOServerConnection serverConnection = null;
 
         final Lock lock = tcpTransport.getState().getStateLocker().writeLock();
@@ -91,6 +126,10 @@ public class TCPNIOBindingHandler extends AbstractBindingHandler {
 
             tcpTransport.getChannelConfigurator().preConfigure(transport, serverSocketChannel);
 
+            if (acceptorIndex >= 0) {
+                TCPNIOUtils.setReusePort(serverSocketChannel);
+            }
+
             if (socketAddress != null) {
                 serverSocket.bind(socketAddress, backlog);
             }
@@ -100,6 +139,7 @@ public class TCPNIOBindingHandler extends AbstractBindingHandler {
             serverConnection = tcpTransport.obtainServerNIOConnection(serverSocketChannel);
             serverConnection.setProcessor(getProcessor());
             serverConnection.setProcessorSelector(getProcessorSelector());
+            serverConnection.acceptorIndex = acceptorIndex;
             tcpTransport.serverConnections.add(serverConnection);
             serverConnection.resetProperties();
 
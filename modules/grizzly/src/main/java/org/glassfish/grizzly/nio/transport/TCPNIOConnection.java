@@ -30,6 +30,7 @@ import org.glassfish.grizzly.CloseReason;
 import org.glassfish.grizzly.Closeable;
 import org.glassfish.grizzly.CompletionHandler;
 import org.glassfish.grizzly.Connection;
+import org.glassfish.grizzly.ConnectionProbe;
 import org.glassfish.grizzly.Grizzly;
 import org.glassfish.grizzly.WriteHandler;
 import org.glassfish.grizzly.asyncqueue.AsyncQueueWriter;
@@ -54,6 +55,12 @@ public class TCPNIOConnection extends NIOConnection {
     private int readBufferSize = -1;
     private int writeBufferSize = -1;
 
+    // not null, if the transport adaptive read mode is enabled
+    private ReadSizePredictor readSizePredictor;
+
+    // not null, if the transport has a ReceiveBufferSizingPolicy
+    private ReceiveBufferSizingPolicy.Sizer receiveBufferSizer;
+
     private AtomicReference<ConnectResultHandler> connectHandlerRef;
 
     public TCPNIOConnection(TCPNIOTransport transport, SelectableChannel channel) {
@@ -112,6 +119,14 @@ public class TCPNIOConnection extends NIOConnection {
             setMaxAsyncWriteQueueSize(
                     transportMaxAsyncWriteQueueSize == AsyncQueueWriter.AUTO_SIZE ? getWriteBufferSize() * 4 : transportMaxAsyncWriteQueueSize);
 
+            readSizePredictor = ((TCPNIOTransport) transport).isAdaptiveReadsEnabled()
+                    ? new ReadSizePredictor(TCPNIOTransport.ADAPTIVE_READ_MIN_SIZE, getReadBufferSize(),
+                            Math.min(TCPNIOTransport.MAX_RECEIVE_BUFFER_SIZE, TCPNIOTransport.ADAPTIVE_READ_MAX_SIZE))
+                    : null;
+
+            final ReceiveBufferSizingPolicy receiveBufferSizingPolicy = ((TCPNIOTransport) transport).getReceiveBufferSizingPolicy();
+            receiveBufferSizer = receiveBufferSizingPolicy != null ? receiveBufferSizingPolicy.createSizer(this) : null;
+
             localSocketAddressHolder = Holder.lazyHolder(new NullaryFunction<SocketAddress>() {
                 @Override
                 public SocketAddress evaluate() {
@@ -128,6 +143,13 @@ public class TCPNIOConnection extends NIOConnection {
         }
     }
 
+    /**
+     * @return the {@link ReadSizePredictor}, or <tt>null</tt> if the adaptive read mode is disabled.
+     */
+    ReadSizePredictor getReadSizePredictor() {
+        return readSizePredictor;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -166,6 +188,33 @@ public class TCPNIOConnection extends NIOConnection {
         }
     }
 
+    /**
+     * Changes the read buffer size, which is used as the size of the buffers allocated to read data from this
+     * connection, and notifies {@link ConnectionProbe}s about the change. Unlike {@link #setReadBufferSize(int)}, the
+     * method can shrink the socket receive buffer.
+     *
+     * @param readBufferSize the new read buffer size.
+     * @param adjustSocketBuffer <tt>true</tt>, if the socket receive buffer (SO_RCVBUF) size has to be set to the same
+     * value, or <tt>false</tt> to change the allocation size only.
+     */
+    public void resizeReadBuffer(final int readBufferSize, final boolean adjustSocketBuffer) {
+        final int oldReadBufferSize = getReadBufferSize();
+        if (readBufferSize <= 0 || readBufferSize == oldReadBufferSize) {
+            return;
+        }
+
+        if (adjustSocketBuffer) {
+            try {
+                ((SocketChannel) channel).socket().setReceiveBufferSize(readBufferSize);
+            } catch (IOException e) {
+                LOGGER.log(Level.FINE, LogMessages.WARNING_GRIZZLY_CONNECTION_SET_READBUFFER_SIZE_EXCEPTION(), e);
+            }
+        }
+
+        this.readBufferSize = readBufferSize;
+        notifyProbesReadBufferResize(this, oldReadBufferSize, readBufferSize);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -255,6 +304,10 @@ public class TCPNIOConnection extends NIOConnection {
     protected final void onRead(Buffer data, int size) {
         if (size > 0) {
             notifyProbesRead(this, data, size);
+
+            if (receiveBufferSizer != null) {
+                receiveBufferSizer.onRead(size);
+            }
         }
         checkEmptyRead(size);
     }
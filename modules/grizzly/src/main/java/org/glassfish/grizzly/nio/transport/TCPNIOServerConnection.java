@@ -21,6 +21,8 @@ import java.net.SocketAddress;
 import java.nio.channels.SelectionKey;
 import java.nio.channels.ServerSocketChannel;
 import java.nio.channels.SocketChannel;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
@@ -39,6 +41,7 @@ import org.glassfish.grizzly.impl.FutureImpl;
 import org.glassfish.grizzly.impl.SafeFutureImpl;
 import org.glassfish.grizzly.nio.RegisterChannelResult;
 import org.glassfish.grizzly.nio.SelectionKeyHandler;
+import org.glassfish.grizzly.nio.SelectorRunner;
 import org.glassfish.grizzly.utils.CompletionHandlerAdapter;
 import org.glassfish.grizzly.utils.Exceptions;
 import org.glassfish.grizzly.utils.Holder;
@@ -56,6 +59,11 @@ public final class TCPNIOServerConnection extends TCPNIOConnection {
     private static final Logger LOGGER = Grizzly.logger(TCPNIOServerConnection.class);
     private FutureImpl<Connection> acceptListener;
     private final RegisterAcceptedChannelCompletionHandler defaultCompletionHandler;
+
+    // the SO_REUSEPORT acceptor index, which defines the SelectorRunner serving the connection, -1 if not an acceptor
+    int acceptorIndex = -1;
+    // the other server connections bound to the same port in the SO_REUSEPORT multi-acceptor mode
+    final Collection<TCPNIOServerConnection> reusePortSiblings = new ConcurrentLinkedQueue<>();
     private final Object acceptSync = new Object();
 
     public TCPNIOServerConnection(TCPNIOTransport transport, ServerSocketChannel serverSocketChannel) {
@@ -67,9 +75,15 @@ public final class TCPNIOServerConnection extends TCPNIOConnection {
         final CompletionHandler<RegisterChannelResult> registerCompletionHandler = ((TCPNIOTransport) transport).selectorRegistrationHandler;
 
         final FutureImpl<RegisterChannelResult> future = SafeFutureImpl.create();
+        final CompletionHandler<RegisterChannelResult> completionHandler = new CompletionHandlerAdapter<RegisterChannelResult, RegisterChannelResult>(future,
+                registerCompletionHandler);
 
-        transport.getNIOChannelDistributor().registerServiceChannelAsync(channel, SelectionKey.OP_ACCEPT, this,
-                new CompletionHandlerAdapter<RegisterChannelResult, RegisterChannelResult>(future, registerCompletionHandler));
+        if (acceptorIndex >= 0) {
+            final SelectorRunner acceptorRunner = ((TCPNIOTransport) transport).getAcceptorSelectorRunner(acceptorIndex);
+            transport.getSelectorHandler().registerChannelAsync(acceptorRunner, channel, SelectionKey.OP_ACCEPT, this, completionHandler);
+        } else {
+            transport.getNIOChannelDistributor().registerServiceChannelAsync(channel, SelectionKey.OP_ACCEPT, this, completionHandler);
+        }
         try {
             future.get(10, TimeUnit.SECONDS);
         } catch (ExecutionException e) {
@@ -178,6 +192,13 @@ public final class TCPNIOServerConnection extends TCPNIOConnection {
 
         final TCPNIOTransport tcpNIOTransport = (TCPNIOTransport) transport;
 
+        if (acceptorIndex >= 0) {
+            // the acceptor's SelectorRunner serves the accepted connections as well
+            tcpNIOTransport.getSelectorHandler().registerChannelAsync(selectorRunner, acceptedConnection.getChannel(), initialSelectionKeyInterest,
+                    acceptedConnection, completionHandler);
+            return;
+        }
+
         tcpNIOTransport.getNIOChannelDistributor().registerChannelAsync(acceptedConnection.getChannel(), initialSelectionKeyInterest, acceptedConnection,
                 completionHandler);
     }
@@ -29,6 +29,7 @@ import java.nio.channels.ServerSocketChannel;
 import java.nio.channels.SocketChannel;
 import java.util.Collection;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.logging.Level;
@@ -72,6 +73,8 @@ import org.glassfish.grizzly.nio.RegisterChannelResult;
 import org.glassfish.grizzly.nio.SelectorRunner;
 import org.glassfish.grizzly.nio.tmpselectors.TemporarySelectorIO;
 import org.glassfish.grizzly.nio.tmpselectors.TemporarySelectorsEnabledTransport;
+import org.glassfish.grizzly.utils.DelayedExecutor;
+import org.glassfish.grizzly.utils.TimingWheelDelayedExecutor;
 
 /**
  * TCP Transport NIO implementation
@@ -92,10 +95,34 @@ public final class TCPNIOTransport extends NIOTransport implements AsyncQueueEna
 
     public static final int MAX_SEND_BUFFER_SIZE = Integer.getInteger(TCPNIOTransport.class.getName() + ".max-send-buffer-size", Integer.MAX_VALUE);
 
+    /**
+     * The max number of {@link java.nio.ByteBuffer}s passed to a single gathering write.
+     */
+    public static final int MAX_GATHER_BUFFERS = Math.max(1, Integer.getInteger(TCPNIOTransport.class.getName() + ".max-gather-buffers", 64));
+
+    /**
+     * Direct buffers smaller than the threshold are copied to the thread-local direct buffer along with the heap
+     * buffers, instead of being passed to the gathering write as they are.
+     */
+    public static final int GATHER_COPY_THRESHOLD = Integer.getInteger(TCPNIOTransport.class.getName() + ".gather-copy-threshold", 0);
+
     public static final boolean DEFAULT_TCP_NO_DELAY = true;
     public static final boolean DEFAULT_KEEP_ALIVE = true;
     public static final int DEFAULT_LINGER = -1;
     public static final int DEFAULT_SERVER_CONNECTION_BACKLOG = 4096;
+    public static final boolean DEFAULT_TIMING_WHEEL_ENABLED = false;
+    public static final boolean DEFAULT_ADAPTIVE_READS_ENABLED = false;
+    public static final boolean DEFAULT_REUSE_PORT_ENABLED = false;
+
+    /**
+     * The min number of bytes a connection reads at once in the adaptive read mode.
+     */
+    public static final int ADAPTIVE_READ_MIN_SIZE = Integer.getInteger(TCPNIOTransport.class.getName() + ".adaptive-read-min-size", 512);
+
+    /**
+     * The max number of bytes a connection reads at once in the adaptive read mode.
+     */
+    public static final int ADAPTIVE_READ_MAX_SIZE = Integer.getInteger(TCPNIOTransport.class.getName() + ".adaptive-read-max-size", 256 * 1024);
 
     private static final String DEFAULT_TRANSPORT_NAME = "TCPNIOTransport";
     /**
@@ -125,6 +152,26 @@ public final class TCPNIOTransport extends NIOTransport implements AsyncQueueEna
      * The socket keepAlive mode.
      */
     boolean isKeepAlive = DEFAULT_KEEP_ALIVE;
+    /**
+     * <tt>true</tt>, if {@link #createDelayedExecutor(ExecutorService)} should create a timing wheel based executor.
+     */
+    boolean timingWheelEnabled = DEFAULT_TIMING_WHEEL_ENABLED;
+    /**
+     * The number of timing wheel shards, non-positive value means one shard per {@link SelectorRunner}.
+     */
+    int timingWheelShardsCount = -1;
+    /**
+     * <tt>true</tt>, if connections predict the size of the next read and scatter the data into several pooled buffers.
+     */
+    boolean adaptiveReadsEnabled = DEFAULT_ADAPTIVE_READS_ENABLED;
+    /**
+     * The policy, which adjusts connections read buffer sizes according to the observed traffic, may be <tt>null</tt>.
+     */
+    ReceiveBufferSizingPolicy receiveBufferSizingPolicy;
+    /**
+     * <tt>true</tt>, if a bind opens a SO_REUSEPORT server socket per {@link SelectorRunner}.
+     */
+    boolean reusePortEnabled = DEFAULT_REUSE_PORT_ENABLED;
 
     private final Filter defaultTransportFilter;
     final RegisterChannelCompletionHandler selectorRegistrationHandler;
@@ -268,6 +315,11 @@ public final class TCPNIOTransport extends NIOTransport implements AsyncQueueEna
                 } catch (Exception e) {
                     LOGGER.log(Level.WARNING, LogMessages.WARNING_GRIZZLY_TRANSPORT_UNBINDING_CONNECTION_EXCEPTION(connection), e);
                 }
+
+                // the server sockets bound to the same port in the SO_REUSEPORT multi-acceptor mode
+                for (TCPNIOServerConnection sibling : ((TCPNIOServerConnection) connection).reusePortSiblings) {
+                    unbind(sibling);
+                }
             }
         } finally {
             lock.unlock();
@@ -389,6 +441,15 @@ public final class TCPNIOTransport extends NIOTransport implements AsyncQueueEna
         return connection;
     }
 
+    /**
+     * Returns the {@link SelectorRunner} serving the SO_REUSEPORT acceptor with the given index, or <tt>null</tt> if the
+     * transport is not started.
+     */
+    SelectorRunner getAcceptorSelectorRunner(final int acceptorIndex) {
+        final SelectorRunner[] runners = getSelectorRunners();
+        return runners != null && runners.length > 0 ? runners[acceptorIndex % runners.length] : null;
+    }
+
     TCPNIOServerConnection obtainServerNIOConnection(final ServerSocketChannel channel) {
         final TCPNIOServerConnection connection = new TCPNIOServerConnection(this, channel);
         configureNIOConnection(connection);
@@ -467,6 +528,134 @@ public final class TCPNIOTransport extends NIOTransport implements AsyncQueueEna
         this.serverConnectionBackLog = serverConnectionBackLog;
     }
 
+    /**
+     * @return <tt>true</tt>, if the {@link DelayedExecutor}s, created via {@link #createDelayedExecutor(ExecutorService)},
+     * track idle, keep-alive and other timeouts using a {@link TimingWheelDelayedExecutor hashed timing wheel}, or
+     * <tt>false</tt> if the polling {@link DelayedExecutor} is used.
+     */
+    public boolean isTimingWheelEnabled() {
+        return timingWheelEnabled;
+    }
+
+    /**
+     * Sets whether the {@link DelayedExecutor}s, created via {@link #createDelayedExecutor(ExecutorService)}, track
+     * timeouts using a {@link TimingWheelDelayedExecutor hashed timing wheel}.
+     *
+     * @param timingWheelEnabled <tt>true</tt> to use the timing wheel.
+     */
+    public void setTimingWheelEnabled(final boolean timingWheelEnabled) {
+        this.timingWheelEnabled = timingWheelEnabled;
+        notifyProbesConfigChanged(this);
+    }
+
+    /**
+     * @return the number of timing wheel shards. By default there is one shard per {@link SelectorRunner}.
+     */
+    public int getTimingWheelShardsCount() {
+        return timingWheelShardsCount > 0 ? timingWheelShardsCount : getSelectorRunnersCount();
+    }
+
+    /**
+     * Sets the number of timing wheel shards, non-positive value means one shard per {@link SelectorRunner}.
+     *
+     * @param timingWheelShardsCount the number of timing wheel shards.
+     */
+    public void setTimingWheelShardsCount(final int timingWheelShardsCount) {
+        this.timingWheelShardsCount = timingWheelShardsCount;
+        notifyProbesConfigChanged(this);
+    }
+
+    /**
+     * @return <tt>true</tt>, if the adaptive read mode is enabled.
+     *
+     * @see #setAdaptiveReadsEnabled(boolean)
+     */
+    public boolean isAdaptiveReadsEnabled() {
+        return adaptiveReadsEnabled;
+    }
+
+    /**
+     * Enables or disables the adaptive read mode. In this mode each connection predicts how many bytes the next read
+     * returns, growing the prediction after reads, which filled the entire space, and shrinking it after short reads.
+     * The predicted amount (within [{@link #ADAPTIVE_READ_MIN_SIZE}, {@link #ADAPTIVE_READ_MAX_SIZE}]) is read using a
+     * single scattering read into several buffers, no bigger than the connection read buffer size each, and is passed
+     * up the filter chain as one {@link CompositeBuffer}. The setting affects the connections created afterwards.
+     *
+     * @param adaptiveReadsEnabled <tt>true</tt> to enable the adaptive read mode.
+     */
+    public void setAdaptiveReadsEnabled(final boolean adaptiveReadsEnabled) {
+        this.adaptiveReadsEnabled = adaptiveReadsEnabled;
+        notifyProbesConfigChanged(this);
+    }
+
+    /**
+     * @return the {@link ReceiveBufferSizingPolicy}, or <tt>null</tt> if connections read buffer sizes are fixed.
+     */
+    public ReceiveBufferSizingPolicy getReceiveBufferSizingPolicy() {
+        return receiveBufferSizingPolicy;
+    }
+
+    /**
+     * Sets the {@link ReceiveBufferSizingPolicy}, which adjusts connections read buffer sizes according to the observed
+     * traffic. The policy affects the connections created afterwards.
+     *
+     * @param receiveBufferSizingPolicy the {@link ReceiveBufferSizingPolicy}, or <tt>null</tt> to keep connections read
+     * buffer sizes fixed.
+     */
+    public void setReceiveBufferSizingPolicy(final ReceiveBufferSizingPolicy receiveBufferSizingPolicy) {
+        this.receiveBufferSizingPolicy = receiveBufferSizingPolicy;
+        notifyProbesConfigChanged(this);
+    }
+
+    /**
+     * @return <tt>true</tt>, if a bind opens a SO_REUSEPORT server socket per {@link SelectorRunner}.
+     *
+     * @see #setReusePortEnabled(boolean)
+     */
+    public boolean isReusePortEnabled() {
+        return reusePortEnabled;
+    }
+
+    /**
+     * Enables or disables the SO_REUSEPORT multi-acceptor mode. In this mode a bind to a socket address opens as many
+     * server sockets bound to the same address with SO_REUSEPORT, as many {@link SelectorRunner}s the transport has, so
+     * the kernel spreads the incoming connections among them. Each server socket is registered with its own
+     * {@link SelectorRunner}, which also serves the connections accepted by the socket, so the accepted channels are
+     * registered without a cross-thread hand-off and the {@link org.glassfish.grizzly.nio.NIOChannelDistributor} is not
+     * used for them.
+     *
+     * The {@link TCPNIOServerConnection} returned by the bind represents all the server sockets, unbinding it closes them
+     * all. The mode requires SO_REUSEPORT support by the JDK and the OS, see {@link #isReusePortSupported()}, otherwise
+     * the bind fails. Binds to an inherited channel are not affected. The setting affects the binds made afterwards.
+     *
+     * @param reusePortEnabled <tt>true</tt> to enable the SO_REUSEPORT multi-acceptor mode.
+     */
+    public void setReusePortEnabled(final boolean reusePortEnabled) {
+        this.reusePortEnabled = reusePortEnabled;
+        notifyProbesConfigChanged(this);
+    }
+
+    /**
+     * @return <tt>true</tt>, if SO_REUSEPORT server sockets are supported by the JDK and the OS.
+     *
+     * @see #setReusePortEnabled(boolean)
+     */
+    public static boolean isReusePortSupported() {
+        return TCPNIOUtils.isReusePortSupported();
+    }
+
+    /**
+     * Creates the {@link DelayedExecutor} to be used for the idle, keep-alive and other timeouts of this transport's
+     * connections, according to the transport's timing wheel configuration.
+     *
+     * @param threadPool the {@link ExecutorService} to run the {@link DelayedExecutor} thread on.
+     * @return the {@link DelayedExecutor}.
+     */
+    public DelayedExecutor createDelayedExecutor(final ExecutorService threadPool) {
+        return timingWheelEnabled ? new TimingWheelDelayedExecutor(threadPool, 1000, TimeUnit.MILLISECONDS, getTimingWheelShardsCount())
+                : new DelayedExecutor(threadPool);
+    }
+
     @Override
     public Filter getTransportFilter() {
         return defaultTransportFilter;
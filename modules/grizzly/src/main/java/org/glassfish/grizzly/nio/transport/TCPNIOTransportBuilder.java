@@ -32,6 +32,11 @@ public class TCPNIOTransportBuilder extends NIOTransportBuilder<TCPNIOTransportB
     protected int serverConnectionBackLog = TCPNIOTransport.DEFAULT_SERVER_CONNECTION_BACKLOG;
     protected int serverSocketSoTimeout = TCPNIOTransport.DEFAULT_SERVER_SOCKET_SO_TIMEOUT;
     protected boolean tcpNoDelay = TCPNIOTransport.DEFAULT_TCP_NO_DELAY;
+    protected boolean timingWheelEnabled = TCPNIOTransport.DEFAULT_TIMING_WHEEL_ENABLED;
+    protected int timingWheelShardsCount = -1;
+    protected boolean adaptiveReadsEnabled = TCPNIOTransport.DEFAULT_ADAPTIVE_READS_ENABLED;
+    protected ReceiveBufferSizingPolicy receiveBufferSizingPolicy;
+    protected boolean reusePortEnabled = TCPNIOTransport.DEFAULT_REUSE_PORT_ENABLED;
 
     // ------------------------------------------------------------ Constructors
 
@@ -130,6 +135,91 @@ public class TCPNIOTransportBuilder extends NIOTransportBuilder<TCPNIOTransportB
         return getThis();
     }
 
+    /**
+     * @see TCPNIOTransport#isTimingWheelEnabled()
+     */
+    public boolean isTimingWheelEnabled() {
+        return timingWheelEnabled;
+    }
+
+    /**
+     * @see TCPNIOTransport#setTimingWheelEnabled(boolean)
+     *
+     * @return this <code>TCPNIOTransportBuilder</code>
+     */
+    public TCPNIOTransportBuilder setTimingWheelEnabled(boolean timingWheelEnabled) {
+        this.timingWheelEnabled = timingWheelEnabled;
+        return getThis();
+    }
+
+    /**
+     * @see TCPNIOTransport#getTimingWheelShardsCount()
+     */
+    public int getTimingWheelShardsCount() {
+        return timingWheelShardsCount;
+    }
+
+    /**
+     * @see TCPNIOTransport#setTimingWheelShardsCount(int)
+     *
+     * @return this <code>TCPNIOTransportBuilder</code>
+     */
+    public TCPNIOTransportBuilder setTimingWheelShardsCount(int timingWheelShardsCount) {
+        this.timingWheelShardsCount = timingWheelShardsCount;
+        return getThis();
+    }
+
+    /**
+     * @see TCPNIOTransport#isAdaptiveReadsEnabled()
+     */
+    public boolean isAdaptiveReadsEnabled() {
+        return adaptiveReadsEnabled;
+    }
+
+    /**
+     * @see TCPNIOTransport#setAdaptiveReadsEnabled(boolean)
+     *
+     * @return this <code>TCPNIOTransportBuilder</code>
+     */
+    public TCPNIOTransportBuilder setAdaptiveReadsEnabled(boolean adaptiveReadsEnabled) {
+        this.adaptiveReadsEnabled = adaptiveReadsEnabled;
+        return getThis();
+    }
+
+    /**
+     * @see TCPNIOTransport#getReceiveBufferSizingPolicy()
+     */
+    public ReceiveBufferSizingPolicy getReceiveBufferSizingPolicy() {
+        return receiveBufferSizingPolicy;
+    }
+
+    /**
+     * @see TCPNIOTransport#setReceiveBufferSizingPolicy(ReceiveBufferSizingPolicy)
+     *
+     * @return this <code>TCPNIOTransportBuilder</code>
+     */
+    public TCPNIOTransportBuilder setReceiveBufferSizingPolicy(ReceiveBufferSizingPolicy receiveBufferSizingPolicy) {
+        this.receiveBufferSizingPolicy = receiveBufferSizingPolicy;
+        return getThis();
+    }
+
+    /**
+     * @see TCPNIOTransport#isReusePortEnabled()
+     */
+    public boolean isReusePortEnabled() {
+        return reusePortEnabled;
+    }
+
+    /**
+     * @see TCPNIOTransport#setReusePortEnabled(boolean)
+     *
+     * @return this <code>TCPNIOTransportBuilder</code>
+     */
+    public TCPNIOTransportBuilder setReusePortEnabled(boolean reusePortEnabled) {
+        this.reusePortEnabled = reusePortEnabled;
+        return getThis();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -141,6 +231,11 @@ public class TCPNIOTransportBuilder extends NIOTransportBuilder<TCPNIOTransportB
         transport.setServerConnectionBackLog(serverConnectionBackLog);
         transport.setTcpNoDelay(tcpNoDelay);
         transport.setServerSocketSoTimeout(serverSocketSoTimeout);
+        transport.setTimingWheelEnabled(timingWheelEnabled);
+        transport.setTimingWheelShardsCount(timingWheelShardsCount);
+        transport.setAdaptiveReadsEnabled(adaptiveReadsEnabled);
+        transport.setReceiveBufferSizingPolicy(receiveBufferSizingPolicy);
+        transport.setReusePortEnabled(reusePortEnabled);
         return transport;
     }
 
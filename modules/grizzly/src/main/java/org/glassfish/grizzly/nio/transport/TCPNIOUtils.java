@@ -18,8 +18,12 @@ package org.glassfish.grizzly.nio.transport;
 
 import java.io.EOFException;
 import java.io.IOException;
+import java.net.SocketOption;
+import java.net.StandardSocketOptions;
 import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
 import java.nio.channels.SocketChannel;
+import java.util.Arrays;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -40,9 +44,28 @@ import org.glassfish.grizzly.utils.Exceptions;
 public class TCPNIOUtils {
     static final Logger LOGGER = TCPNIOTransport.LOGGER;
 
+    // the scattering read slices are not smaller than a typical pooled buffer, even if the read buffer size is shrunk
+    private static final int MIN_SCATTER_SLICE_SIZE = 16 * 1024;
+    // the max number of the scattering read slices (iovecs)
+    private static final int MAX_SCATTER_SLICES_COUNT = 16;
+
+    static boolean isReusePortSupported() {
+        return ReusePortHolder.SO_REUSEPORT != null;
+    }
+
+    static void setReusePort(final ServerSocketChannel serverSocketChannel) throws IOException {
+        final SocketOption<Boolean> option = ReusePortHolder.SO_REUSEPORT;
+        if (option == null) {
+            throw new IOException("SO_REUSEPORT is not supported");
+        }
+
+        serverSocketChannel.setOption(option, Boolean.TRUE);
+    }
+
     public static int writeCompositeBuffer(final TCPNIOConnection connection, final CompositeBuffer buffer) throws IOException {
 
-        final int bufferSize = calcWriteBufferSize(connection, buffer.remaining());
+        final int bufferSize = Math.min(TCPNIOTransport.MAX_SEND_BUFFER_SIZE, buffer.remaining());
+        final int copyBufferSize = calcWriteBufferSize(connection, bufferSize);
 
         final int oldPos = buffer.position();
         final int oldLim = buffer.limit();
@@ -55,7 +78,7 @@ public class TCPNIOUtils {
         final DirectByteBufferRecord ioRecord = DirectByteBufferRecord.get();
 
         try {
-            fill(bufferArray, bufferSize, ioRecord);
+            fill(bufferArray, bufferSize, copyBufferSize, ioRecord);
             ioRecord.finishBufferSlice();
 
             final int arraySize = ioRecord.getArraySize();
@@ -131,47 +154,105 @@ public class TCPNIOUtils {
         src.position(oldPos);
     }
 
-    static void fill(final BufferArray bufferArray, final int totalBufferSize, final DirectByteBufferRecord ioRecord) {
+    /**
+     * Prepares the {@link BufferArray} content for a gathering write. Direct buffers are passed to the write as they
+     * are, unless they're smaller than {@link TCPNIOTransport#GATHER_COPY_THRESHOLD}, other buffers are copied to the
+     * thread-local direct buffer. The method stops at the first buffer, which can't be added completely, so the added
+     * content is always contiguous.
+     *
+     * @param bufferArray the buffers to be written.
+     * @param maxSize the max number of bytes to add.
+     * @param maxCopySize the max number of bytes to be copied to the direct buffer, including the bytes copied by the
+     * previous calls since the last {@link DirectByteBufferRecord#release()}.
+     * @param ioRecord the {@link DirectByteBufferRecord} to add the content to.
+     * @return the number of added bytes.
+     */
+    static int fill(final BufferArray bufferArray, final int maxSize, final int maxCopySize, final DirectByteBufferRecord ioRecord) {
 
         final Buffer buffers[] = bufferArray.getArray();
         final int size = bufferArray.size();
 
-        int totalRemaining = totalBufferSize;
+        int filled = 0;
 
-        for (int i = 0; i < size; i++) {
+        for (int i = 0; i < size && filled < maxSize; i++) {
 
             final Buffer buffer = buffers[i];
             assert !buffer.isComposite();
 
-            final int bufferSize = buffer.remaining();
-            if (bufferSize == 0) {
+            final int bufferRemaining = buffer.remaining();
+            if (bufferRemaining == 0) {
                 continue;
             }
 
-            if (buffer.isDirect()) {
+            int bufferSize = Math.min(bufferRemaining, maxSize - filled);
+
+            if (buffer.isDirect() && bufferRemaining >= TCPNIOTransport.GATHER_COPY_THRESHOLD) {
+                final int arraySize = ioRecord.getArraySize() + (ioRecord.getDirectBufferSlice() != null ? 1 : 0);
+                if (arraySize >= TCPNIOTransport.MAX_GATHER_BUFFERS) {
+                    break;
+                }
+
                 ioRecord.finishBufferSlice();
+                buffer.limit(buffer.position() + bufferSize);
                 ioRecord.putToArray(buffer.toByteBuffer());
             } else {
                 ByteBuffer currentDirectBufferSlice = ioRecord.getDirectBufferSlice();
 
                 if (currentDirectBufferSlice == null) {
+                    if (ioRecord.getArraySize() >= TCPNIOTransport.MAX_GATHER_BUFFERS) {
+                        break;
+                    }
+
                     final ByteBuffer directByteBuffer = ioRecord.getDirectBuffer();
                     if (directByteBuffer == null) {
-                        ioRecord.allocate(totalRemaining); // allocate buffer big enough to put the entire message (not just the chunk we're writing)
+                        ioRecord.allocate(maxCopySize); // allocate buffer big enough to put all the data we may copy (not just this chunk)
                     }
 
                     currentDirectBufferSlice = ioRecord.sliceBuffer();
                 }
 
+                bufferSize = Math.min(bufferSize, maxCopySize - ioRecord.getSlicedSize());
+                if (bufferSize <= 0) {
+                    break;
+                }
+
                 final int oldLim = currentDirectBufferSlice.limit();
                 currentDirectBufferSlice.limit(currentDirectBufferSlice.position() + bufferSize);
                 buffer.get(currentDirectBufferSlice);
                 currentDirectBufferSlice.limit(oldLim);
             }
 
-            totalRemaining -= bufferSize;
+            filled += bufferSize;
+
+            if (bufferSize < bufferRemaining) {
+                break;
+            }
         }
 
+        return filled;
+    }
+
+    /**
+     * Looks the SO_REUSEPORT option up on the first use, rather than on the class initialization, because the lookup opens
+     * a probe channel.
+     */
+    private static final class ReusePortHolder {
+        // the SO_REUSEPORT option is available since JDK 9, null if the option is not supported
+        private static final SocketOption<Boolean> SO_REUSEPORT = lookupReusePortOption();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static SocketOption<Boolean> lookupReusePortOption() {
+        try {
+            final SocketOption<Boolean> option = (SocketOption<Boolean>) StandardSocketOptions.class.getField("SO_REUSEPORT").get(null);
+
+            try (ServerSocketChannel channel = ServerSocketChannel.open()) {
+                return channel.supportedOptions().contains(option) ? option : null;
+            }
+        } catch (Exception e) {
+            LOGGER.log(Level.FINE, "SO_REUSEPORT is not supported", e);
+            return null;
+        }
     }
 
     private static int calcWriteBufferSize(final TCPNIOConnection connection, final int bufferSize) {
@@ -186,8 +267,11 @@ public class TCPNIOUtils {
         Throwable error = null;
         Buffer buffer = null;
 
+        final ReadSizePredictor readSizePredictor = connection.getReadSizePredictor();
+
         try {
-            final int receiveBufferSize = Math.min(TCPNIOTransport.MAX_RECEIVE_BUFFER_SIZE, connection.getReadBufferSize());
+            final int receiveBufferSize = readSizePredictor != null ? readSizePredictor.nextReadSize()
+                    : Math.min(TCPNIOTransport.MAX_RECEIVE_BUFFER_SIZE, connection.getReadBufferSize());
 
             if (!memoryManager.willAllocateDirect(receiveBufferSize)) {
                 final DirectByteBufferRecord ioRecord = DirectByteBufferRecord.get();
@@ -203,6 +287,9 @@ public class TCPNIOUtils {
                 } finally {
                     ioRecord.release();
                 }
+            } else if (readSizePredictor != null) {
+                buffer = allocateScatterBuffer(memoryManager, receiveBufferSize, connection.getReadBufferSize());
+                read = readBuffer(connection, buffer);
             } else {
                 buffer = memoryManager.allocateAtLeast(receiveBufferSize);
                 read = readBuffer(connection, buffer);
@@ -212,6 +299,10 @@ public class TCPNIOUtils {
             read = -1;
         }
 
+        if (readSizePredictor != null) {
+            readSizePredictor.onRead(read);
+        }
+
         if (read > 0) {
             buffer.position(read);
             buffer.allowBufferDispose(true);
@@ -234,6 +325,35 @@ public class TCPNIOUtils {
         return buffer;
     }
 
+    /**
+     * Allocates the {@link Buffer} for a scattering read of the given size. If the size is bigger than the slice size,
+     * the {@link CompositeBuffer} of several slices is returned, the slices, which won't get any data, are disposed
+     * when the read buffer is {@link Buffer#trim() trimmed}. The slice size is raised, so the slices are not smaller than
+     * {@link #MIN_SCATTER_SLICE_SIZE} and there are at most {@link #MAX_SCATTER_SLICES_COUNT} of them.
+     */
+    static Buffer allocateScatterBuffer(final MemoryManager memoryManager, final int size, final int readBufferSize) {
+        final int sliceSize = Math.max(Math.max(readBufferSize, MIN_SCATTER_SLICE_SIZE), (size + MAX_SCATTER_SLICES_COUNT - 1) / MAX_SCATTER_SLICES_COUNT);
+        if (size <= sliceSize) {
+            return memoryManager.allocateAtLeast(size);
+        }
+
+        Buffer[] slices = new Buffer[(size + sliceSize - 1) / sliceSize];
+        int slicesCount = 0;
+        // the allocated slices might be bigger than requested
+        for (int remaining = size; remaining > 0; slicesCount++) {
+            slices[slicesCount] = memoryManager.allocateAtLeast(Math.min(remaining, sliceSize));
+            remaining -= slices[slicesCount].remaining();
+        }
+
+        if (slicesCount < slices.length) {
+            slices = Arrays.copyOf(slices, slicesCount);
+        }
+
+        final CompositeBuffer compositeBuffer = CompositeBuffer.newBuffer(memoryManager, slices);
+        compositeBuffer.allowInternalBuffersDispose(true);
+        return compositeBuffer;
+    }
+
     public static int readBuffer(final TCPNIOConnection connection, final Buffer buffer) throws IOException {
         return buffer.isComposite() ? readCompositeBuffer(connection, (CompositeBuffer) buffer) : readSimpleBuffer(connection, buffer);
 
@@ -43,8 +43,12 @@ import java.security.cert.X509Certificate;
 import java.util.Collections;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Filter;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -122,6 +126,11 @@ public class SSLBaseFilter extends BaseFilter {
 
     private SSLTransportFilterWrapper optimizedTransportFilter;
 
+    private volatile Executor delegatedTaskExecutor;
+
+    private int maxWrapBatchSize = -1;
+    private final AtomicInteger pendingDelegatedTasksCount = new AtomicInteger();
+
     // ------------------------------------------------------------ Constructors
 
     public SSLBaseFilter() {
@@ -206,6 +215,64 @@ public class SSLBaseFilter extends BaseFilter {
         }
     }
 
+    /**
+     * @return the {@link Executor} to run {@link SSLEngine} delegated tasks on, <tt>null</tt> if the tasks are run by the
+     * thread processing the handshake (default).
+     */
+    public Executor getDelegatedTaskExecutor() {
+        return delegatedTaskExecutor;
+    }
+
+    /**
+     * Sets the {@link Executor} to run {@link SSLEngine#getDelegatedTask() delegated tasks} (expensive key exchange and
+     * certificate validation operations) of non-blocking handshakes on, so they don't stall the selector or worker thread
+     * processing the handshake. While the delegated tasks are running, the connection {@link FilterChainContext} is
+     * suspended, once they are completed, the handshake is resumed in the transport worker thread pool, or in the
+     * executor thread, if the transport doesn't have a worker thread pool.
+     *
+     * It's recommended to use a dedicated bounded executor, if the executor rejects the tasks, they're run by the thread
+     * processing the handshake. The blocking handshake mode (see {@link #setHandshakeTimeout(long, TimeUnit)}) always
+     * runs the delegated tasks in the thread processing the handshake.
+     *
+     * @param delegatedTaskExecutor the {@link Executor}, or <tt>null</tt> to run the tasks in the thread processing the
+     * handshake.
+     */
+    public void setDelegatedTaskExecutor(final Executor delegatedTaskExecutor) {
+        this.delegatedTaskExecutor = delegatedTaskExecutor;
+    }
+
+    /**
+     * @return the number of connections, which wait for their {@link SSLEngine} delegated tasks to be completed by the
+     * {@link #getDelegatedTaskExecutor() delegated task executor}.
+     */
+    public int getPendingDelegatedTasksCount() {
+        return pendingDelegatedTasksCount.get();
+    }
+
+    /**
+     * @return the max size of a buffer the outbound TLS records are batched into, or <code>-1</code> if the batched wrap
+     * mode is disabled (default).
+     */
+    public int getMaxWrapBatchSize() {
+        return maxWrapBatchSize;
+    }
+
+    /**
+     * Enables the batched wrap mode, in which the outbound application data is encrypted into the buffers allocated by
+     * the {@link Connection}'s {@link MemoryManager}, each buffer holding several TLS records. The buffers are passed to
+     * the transport as they are, without copying them, which pays off for large writes, especially if the
+     * {@link MemoryManager} allocates direct buffers, because the encrypted data is written to the socket directly.
+     *
+     * In the default mode the data is encrypted into a thread-local buffer, which is copied if it can't be written to the
+     * socket immediately.
+     *
+     * @param maxWrapBatchSize the max size of a buffer the outbound TLS records are batched into, or <code>-1</code> to
+     * disable the batched wrap mode.
+     */
+    public void setMaxWrapBatchSize(final int maxWrapBatchSize) {
+        this.maxWrapBatchSize = maxWrapBatchSize < 0 ? -1 : maxWrapBatchSize;
+    }
+
     /**
      * Completely disables renegotiation.
      *
@@ -271,19 +338,51 @@ public class SSLBaseFilter extends BaseFilter {
         final SSLConnectionContext sslCtx = obtainSslConnectionContext(connection);
         SSLEngine sslEngine = sslCtx.getSslEngine();
 
-        if (sslEngine != null && !isHandshaking(sslEngine)) {
+        // the handshake might have been completed by the delegated tasks, executed asynchronously
+        if (sslEngine != null && !isHandshaking(sslEngine) && !sslCtx.isDelegatedTasksCompleted()) {
             return unwrapAll(ctx, sslCtx);
         } else {
+            sslCtx.setDelegatedTasksCompleted(false);
+
             if (sslEngine == null) {
                 sslEngine = serverSSLEngineConfigurator.createSSLEngine();
                 sslEngine.beginHandshake();
                 sslCtx.configure(sslEngine);
+                sslCtx.setSessionResumption(serverSSLEngineConfigurator.getSessionResumption());
                 notifyHandshakeStart(connection);
             }
 
+            final Executor executor = delegatedTaskExecutor;
+
             final Buffer buffer;
-            buffer = handshakeTimeoutMillis >= 0 ? doHandshakeSync(sslCtx, ctx, (Buffer) ctx.getMessage(), handshakeTimeoutMillis)
-                    : makeInputRemainder(sslCtx, ctx, doHandshakeStep(sslCtx, ctx, (Buffer) ctx.getMessage()));
+            if (handshakeTimeoutMillis >= 0) {
+                buffer = doHandshakeSync(sslCtx, ctx, (Buffer) ctx.getMessage(), handshakeTimeoutMillis);
+            } else if (executor == null) {
+                buffer = makeInputRemainder(sslCtx, ctx, doHandshakeStep(sslCtx, ctx, (Buffer) ctx.getMessage()));
+            } else {
+                Buffer remainder = (Buffer) ctx.getMessage();
+                while (true) {
+                    sslCtx.setOffloadDelegatedTasks(true);
+                    try {
+                        remainder = makeInputRemainder(sslCtx, ctx, doHandshakeStep(sslCtx, ctx, remainder));
+                    } finally {
+                        sslCtx.setOffloadDelegatedTasks(false);
+                    }
+
+                    if (sslEngine.getHandshakeStatus() != HandshakeStatus.NEED_TASK) {
+                        break;
+                    }
+
+                    final NextAction suspendAction = offloadDelegatedTasks(ctx, sslCtx, remainder, executor);
+                    if (suspendAction != null) {
+                        return suspendAction;
+                    }
+
+                    // the tasks have been executed by the current thread, continue the handshake
+                }
+
+                buffer = remainder;
+            }
 
             final boolean hasRemaining = buffer != null && buffer.hasRemaining();
 
@@ -337,7 +436,9 @@ public class SSLBaseFilter extends BaseFilter {
 
             final TransportContext transportContext = ctx.getTransportContext();
 
-            ctx.write(null, output, transportContext.getCompletionHandler(), transportContext.getPushBackHandler(), COPY_CLONER, transportContext.isBlocking());
+            // the batched output is allocated by the MemoryManager and doesn't have to be copied
+            ctx.write(null, output, transportContext.getCompletionHandler(), transportContext.getPushBackHandler(),
+                    maxWrapBatchSize < 0 ? COPY_CLONER : null, transportContext.isBlocking());
 
             return ctx.getStopAction();
         }
@@ -414,12 +515,12 @@ public class SSLBaseFilter extends BaseFilter {
         return ctx.getStopAction(makeInputRemainder(sslCtx, ctx, input));
     }
 
-    @SuppressWarnings("MethodMayBeStatic")
     protected Buffer wrapAll(final FilterChainContext ctx, final SSLConnectionContext sslCtx) throws SSLException {
 
         final Buffer input = ctx.getMessage();
 
-        final Buffer output = sslCtx.wrapAll(input, OUTPUT_BUFFER_ALLOCATOR);
+        final Buffer output = maxWrapBatchSize < 0 ? sslCtx.wrapAll(input, OUTPUT_BUFFER_ALLOCATOR)
+                : allowDispose(sslCtx.wrapAllBatched(input, MM_ALLOCATOR, maxWrapBatchSize));
 
         input.tryDispose();
 
@@ -534,6 +635,11 @@ public class SSLBaseFilter extends BaseFilter {
                     if (isLoggingFinest) {
                         LOGGER.log(Level.FINEST, "NEED_TASK Engine: {0}", sslCtx.getSslEngine());
                     }
+                    if (sslCtx.isOffloadDelegatedTasks()) {
+                        // the tasks will be executed by the delegated task executor
+                        break _exitWhile;
+                    }
+
                     executeDelegatedTask(sslCtx.getSslEngine());
                     handshakeStatus = sslCtx.getSslEngine().getHandshakeStatus();
                     break;
@@ -576,6 +682,50 @@ public class SSLBaseFilter extends BaseFilter {
         return inputBuffer;
     }
 
+    /**
+     * Runs the {@link SSLEngine} delegated tasks using the passed {@link Executor} and suspends the
+     * {@link FilterChainContext}, the context is resumed, so the handshake is continued, once the tasks are completed.
+     * If the {@link Executor} rejects the tasks, they're executed by the current thread and the context is not
+     * suspended.
+     *
+     * @param ctx the {@link FilterChainContext} processing the handshake.
+     * @param sslCtx the {@link SSLConnectionContext}.
+     * @param remainder the handshake input remainder, may be <tt>null</tt>.
+     * @param executor the delegated task {@link Executor}.
+     *
+     * @return the suspend {@link NextAction}, or <tt>null</tt>, if the tasks have been executed by the current thread,
+     * so the handshake has to be continued.
+     */
+    protected NextAction offloadDelegatedTasks(final FilterChainContext ctx, final SSLConnectionContext sslCtx, final Buffer remainder,
+            final Executor executor) {
+
+        final Connection connection = ctx.getConnection();
+        final DelegatedTasksRunner tasksRunner = new DelegatedTasksRunner(ctx, sslCtx);
+
+        notifyDelegatedTasksSubmitted(connection, pendingDelegatedTasksCount.incrementAndGet());
+
+        try {
+            executor.execute(tasksRunner);
+        } catch (RejectedExecutionException e) {
+            // the executor is saturated, run the tasks in the current thread
+            tasksRunner.executeTasks();
+            return null;
+        }
+
+        final NextAction suspendAction = ctx.getSuspendAction();
+        boolean isSuspended = false;
+        try {
+            ctx.setMessage(remainder);
+            ctx.suspend();
+            isSuspended = true;
+        } finally {
+            // the tasks runner waits for the suspension before resuming the context, so release it even on failure
+            tasksRunner.onSuspended(isSuspended);
+        }
+
+        return suspendAction;
+    }
+
     /**
      * Performs an SSL renegotiation.
      *
@@ -808,6 +958,11 @@ public class SSLBaseFilter extends BaseFilter {
     }
 
     protected void notifyHandshakeStart(final Connection connection) {
+        final SSLConnectionContext sslCtx = SSL_CTX_ATTR.get(connection);
+        if (sslCtx != null && sslCtx.getSessionResumption() != null) {
+            sslCtx.setHandshakeStartTime(System.currentTimeMillis());
+        }
+
         if (!handshakeListeners.isEmpty()) {
             for (final HandshakeListener listener : handshakeListeners) {
                 listener.onStart(connection);
@@ -816,6 +971,10 @@ public class SSLBaseFilter extends BaseFilter {
     }
 
     protected void notifyHandshakeComplete(final Connection<?> connection, final SSLEngine sslEngine) {
+        final SSLConnectionContext sslCtx = SSL_CTX_ATTR.get(connection);
+        if (sslCtx != null && sslCtx.getSessionResumption() != null) {
+            sslCtx.getSessionResumption().onHandshakeComplete(connection, sslEngine.getSession(), sslCtx.getHandshakeStartTime());
+        }
 
         if (!handshakeListeners.isEmpty()) {
             for (final HandshakeListener listener : handshakeListeners) {
@@ -832,6 +991,22 @@ public class SSLBaseFilter extends BaseFilter {
         }
     }
 
+    protected void notifyDelegatedTasksSubmitted(final Connection<?> connection, final int pendingCount) {
+        if (!handshakeListeners.isEmpty()) {
+            for (final HandshakeListener listener : handshakeListeners) {
+                listener.onDelegatedTasksSubmitted(connection, pendingCount);
+            }
+        }
+    }
+
+    protected void notifyDelegatedTasksComplete(final Connection<?> connection, final long queueTimeNanos, final long executionTimeNanos) {
+        if (!handshakeListeners.isEmpty()) {
+            for (final HandshakeListener listener : handshakeListeners) {
+                listener.onDelegatedTasksComplete(connection, queueTimeNanos, executionTimeNanos);
+            }
+        }
+    }
+
     // ----------------------------------------------------------- Inner Classes
 
     public static class CertificateEvent implements FilterChainEvent {
@@ -876,6 +1051,88 @@ public class SSLBaseFilter extends BaseFilter {
 
     } // END CertificateEvent
 
+    /**
+     * Runs the {@link SSLEngine} delegated tasks and resumes the suspended handshake processing.
+     */
+    private final class DelegatedTasksRunner implements Runnable {
+        private final FilterChainContext ctx;
+        private final SSLConnectionContext sslCtx;
+        private final long submitTime = System.nanoTime();
+
+        // released, once the thread, which submitted the tasks, has suspended the context or failed to
+        private final CountDownLatch suspendLatch = new CountDownLatch(1);
+        private boolean isSuspended;
+
+        private DelegatedTasksRunner(final FilterChainContext ctx, final SSLConnectionContext sslCtx) {
+            this.ctx = ctx;
+            this.sslCtx = sslCtx;
+        }
+
+        void onSuspended(final boolean isSuspended) {
+            this.isSuspended = isSuspended;
+            suspendLatch.countDown();
+        }
+
+        void executeTasks() {
+            final long startTime = System.nanoTime();
+            try {
+                executeDelegatedTask(sslCtx.getSslEngine());
+            } catch (Throwable t) {
+                // the failure will be reported by the SSLEngine during the next handshake step
+                if (LOGGER.isLoggable(Level.FINE)) {
+                    LOGGER.log(Level.FINE, "Error during SSLEngine delegated task execution", t);
+                }
+            } finally {
+                pendingDelegatedTasksCount.decrementAndGet();
+                notifyDelegatedTasksComplete(ctx.getConnection(), startTime - submitTime, System.nanoTime() - startTime);
+            }
+        }
+
+        @Override
+        public void run() {
+            executeTasks();
+
+            // the context is suspended right after the tasks submission
+            boolean isInterrupted = false;
+            while (true) {
+                try {
+                    suspendLatch.await();
+                    break;
+                } catch (InterruptedException e) {
+                    isInterrupted = true;
+                }
+            }
+
+            if (isInterrupted) {
+                Thread.currentThread().interrupt();
+            }
+
+            if (!isSuspended) {
+                // the submitting thread failed, its exception fails the handshake
+                return;
+            }
+
+            // the resumed handshake step has to complete the handshake, even if the tasks have finished it
+            sslCtx.setDelegatedTasksCompleted(true);
+
+            final ExecutorService workerThreadPool = ctx.getConnection().getTransport().getWorkerThreadPool();
+            if (workerThreadPool != null) {
+                try {
+                    workerThreadPool.execute(new Runnable() {
+                        @Override
+                        public void run() {
+                            ctx.resume();
+                        }
+                    });
+                    return;
+                } catch (RejectedExecutionException ignored) {
+                }
+            }
+
+            ctx.resume();
+        }
+    }
+
     private static class InternalProcessingHandler extends Adapter {
         private final FilterChainContext parentContext;
 
@@ -919,6 +1176,7 @@ public class SSLBaseFilter extends BaseFilter {
                 sslBaseFilter.notifyHandshakeInit(connection, sslEngine);
                 sslEngine.beginHandshake();
                 sslCtx.configure(sslEngine);
+                sslCtx.setSessionResumption(sslBaseFilter.serverSSLEngineConfigurator.getSessionResumption());
                 sslBaseFilter.notifyHandshakeStart(connection);
             }
 
@@ -1009,5 +1267,29 @@ public class SSLBaseFilter extends BaseFilter {
         void onStart(Connection<?> connection);
         void onComplete(Connection<?> connection);
         void onFailure(Connection<?> connection, Throwable t);
+
+        /**
+         * Called, when the connection {@link SSLEngine} delegated tasks are submitted to the
+         * {@link SSLBaseFilter#getDelegatedTaskExecutor() delegated task executor}.
+         *
+         * @param connection the {@link Connection}.
+         * @param pendingCount the number of connections waiting for their delegated tasks to be completed, including
+         * this one.
+         */
+        default void onDelegatedTasksSubmitted(Connection<?> connection, int pendingCount) {
+            // nothing
+        }
+
+        /**
+         * Called, when the connection {@link SSLEngine} delegated tasks submitted to the
+         * {@link SSLBaseFilter#getDelegatedTaskExecutor() delegated task executor} are completed.
+         *
+         * @param connection the {@link Connection}.
+         * @param queueTimeNanos the time the tasks waited to be executed in nanoseconds.
+         * @param executionTimeNanos the tasks execution time in nanoseconds.
+         */
+        default void onDelegatedTasksComplete(Connection<?> connection, long queueTimeNanos, long executionTimeNanos) {
+            // nothing
+        }
     }
 }
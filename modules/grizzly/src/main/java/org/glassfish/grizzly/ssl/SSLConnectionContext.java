@@ -76,6 +76,14 @@ public final class SSLConnectionContext {
     private final Connection connection;
     private FilterChain newConnectionFilterChain;
 
+    private SSLSessionResumption sessionResumption;
+    private long handshakeStartTime;
+
+    // true, if the handshake has to stop on NEED_TASK, so the delegated tasks could be executed asynchronously
+    private boolean offloadDelegatedTasks;
+    // true, if the handshake processing is resumed after the asynchronous delegated tasks execution
+    private volatile boolean delegatedTasksCompleted;
+
     public SSLConnectionContext(Connection connection) {
         this.connection = connection;
     }
@@ -124,6 +132,38 @@ public final class SSLConnectionContext {
         this.newConnectionFilterChain = newConnectionFilterChain;
     }
 
+    SSLSessionResumption getSessionResumption() {
+        return sessionResumption;
+    }
+
+    void setSessionResumption(final SSLSessionResumption sessionResumption) {
+        this.sessionResumption = sessionResumption;
+    }
+
+    long getHandshakeStartTime() {
+        return handshakeStartTime;
+    }
+
+    void setHandshakeStartTime(final long handshakeStartTime) {
+        this.handshakeStartTime = handshakeStartTime;
+    }
+
+    boolean isOffloadDelegatedTasks() {
+        return offloadDelegatedTasks;
+    }
+
+    void setOffloadDelegatedTasks(final boolean offloadDelegatedTasks) {
+        this.offloadDelegatedTasks = offloadDelegatedTasks;
+    }
+
+    boolean isDelegatedTasksCompleted() {
+        return delegatedTasksCompleted;
+    }
+
+    void setDelegatedTasksCompleted(final boolean delegatedTasksCompleted) {
+        this.delegatedTasksCompleted = delegatedTasksCompleted;
+    }
+
     Buffer resetLastOutputBuffer() {
         final Buffer tmp = lastOutputBuffer;
         lastOutputBuffer = null;
@@ -248,6 +288,70 @@ public final class SSLConnectionContext {
         }
     }
 
+    /**
+     * Wraps the input into output buffers obtained from the allocator, several TLS records are encrypted into the same
+     * output buffer, so the result could be written as it is, without copying the records into a separate buffer.
+     *
+     * @param input the application data.
+     * @param allocator the output buffers {@link Allocator}.
+     * @param maxBatchSize the max size of an output buffer.
+     * @return the TLS records.
+     * @throws SSLException if the input can't be wrapped.
+     */
+    Buffer wrapAllBatched(final Buffer input, final Allocator allocator, final int maxBatchSize) throws SSLException {
+        final MemoryManager memoryManager = connection.getMemoryManager();
+
+        final ByteBufferArray bba = input.toByteBufferArray(inputByteBufferArray);
+        final ByteBuffer[] inputArray = bba.getArray();
+        final int inputArraySize = bba.size();
+
+        final int minBatchRemaining = (int) (netBufferSize * BUFFER_SIZE_COEF);
+
+        Buffer output = null;
+        Buffer batch = null;
+        SslResult result = null;
+        try {
+            do {
+                if (batch != null && batch.remaining() < minBatchRemaining) {
+                    batch.trim();
+                    output = Buffers.appendBuffers(memoryManager, output, batch);
+                    batch = null;
+                }
+
+                if (batch == null) {
+                    batch = allocator.grow(this, null, getBatchSize(input.remaining(), maxBatchSize));
+                }
+
+                result = wrap(input, inputArray, inputArraySize, batch, allocator);
+                batch = result.getOutput();
+
+                if (result.isError()) {
+                    throw result.getError();
+                }
+            } while (input.hasRemaining());
+
+            batch.trim();
+            return Buffers.appendBuffers(memoryManager, output, batch);
+        } finally {
+            bba.restore();
+            bba.reset();
+            if (result != null && result.isError()) {
+                if (output != null) {
+                    output.dispose();
+                }
+
+                result.getOutput().dispose();
+            }
+        }
+    }
+
+    private int getBatchSize(final int inputRemaining, final int maxBatchSize) {
+        // one spare record, so the last record doesn't make the batch grow
+        final long records = ((long) inputRemaining + appBufferSize - 1) / appBufferSize + 1;
+
+        return (int) Math.max(netBufferSize * BUFFER_SIZE_COEF, Math.min(maxBatchSize, records * netBufferSize));
+    }
+
     private SslResult wrap(final Buffer input, final ByteBuffer[] inputArray, final int inputArraySize, Buffer output, final Allocator allocator) {
 
         output = ensureBufferSize(output, netBufferSize, allocator);
@@ -67,6 +67,10 @@ public class SSLEngineConfigurator implements SSLEngineFactory {
      * Has the enabled Cipher configured.
      */
     private boolean isCipherConfigured = false;
+    /**
+     * TLS session resumption configuration and statistics.
+     */
+    protected volatile SSLSessionResumption sessionResumption;
 
     /**
      * Create SSL Engine configuration basing on passed {@link SSLContext}.
@@ -142,6 +146,7 @@ public class SSLEngineConfigurator implements SSLEngineFactory {
 
         this.isCipherConfigured = pattern.isCipherConfigured;
         this.isProtocolConfigured = pattern.isProtocolConfigured;
+        this.sessionResumption = pattern.sessionResumption;
     }
 
     protected SSLEngineConfigurator() {
@@ -171,15 +176,7 @@ public class SSLEngineConfigurator implements SSLEngineFactory {
      */
     @Override
     public SSLEngine createSSLEngine(final String peerHost, final int peerPort) {
-        if (sslContext == null) {
-            synchronized (sync) {
-                if (sslContext == null) {
-                    sslContext = sslContextConfiguration.createSSLContext(true);
-                }
-            }
-        }
-
-        final SSLEngine sslEngine = sslContext.createSSLEngine(peerHost, peerPort);
+        final SSLEngine sslEngine = getSslContext().createSSLEngine(peerHost, peerPort);
         configure(sslEngine);
 
         return sslEngine;
@@ -321,7 +318,13 @@ public class SSLEngineConfigurator implements SSLEngineFactory {
         if (sslContext == null) {
             synchronized (sync) {
                 if (sslContext == null) {
-                    sslContext = sslContextConfiguration.createSSLContext(true);
+                    final SSLContext newSslContext = sslContextConfiguration.createSSLContext(true);
+                    final SSLSessionResumption resumption = sessionResumption;
+                    if (resumption != null) {
+                        resumption.configure(newSslContext);
+                    }
+
+                    sslContext = newSslContext;
                 }
             }
         }
@@ -329,6 +332,33 @@ public class SSLEngineConfigurator implements SSLEngineFactory {
         return sslContext;
     }
 
+    /**
+     * @return the {@link SSLSessionResumption}, or <tt>null</tt> if the JSSE provider session cache defaults are used and
+     * the handshakes are not counted.
+     */
+    public SSLSessionResumption getSessionResumption() {
+        return sessionResumption;
+    }
+
+    /**
+     * Sets the {@link SSLSessionResumption}, which configures the session cache of the {@link SSLContext} and counts full
+     * and resumed handshakes of the {@link SSLEngine}s created by this configurator. The client {@link SSLEngine}s created
+     * by {@link SSLFilter} get the peer port, so the client sessions could be cached and resumed.
+     *
+     * @param sessionResumption the {@link SSLSessionResumption}, or <tt>null</tt>.
+     * @return this SSLEngineConfigurator
+     */
+    public SSLEngineConfigurator setSessionResumption(final SSLSessionResumption sessionResumption) {
+        synchronized (sync) {
+            this.sessionResumption = sessionResumption;
+            if (sessionResumption != null && sslContext != null) {
+                sessionResumption.configure(sslContext);
+            }
+        }
+
+        return this;
+    }
+
     /**
      * Return the list of allowed protocol.
      * 
@@ -406,6 +436,7 @@ public class SSLEngineConfigurator implements SSLEngineFactory {
         sb.append(", wantClientAuth=").append(wantClientAuth);
         sb.append(", isProtocolConfigured=").append(isProtocolConfigured);
         sb.append(", isCipherConfigured=").append(isCipherConfigured);
+        sb.append(", sessionResumption=").append(sessionResumption);
         sb.append('}');
         return sb.toString();
     }
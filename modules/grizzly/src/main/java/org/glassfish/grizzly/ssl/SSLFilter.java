@@ -179,6 +179,7 @@ public class SSLFilter extends SSLBaseFilter {
             sslEngine = createClientSSLEngine(sslCtx, sslEngineConfigurator);
 
             sslCtx.configure(sslEngine);
+            sslCtx.setSessionResumption(sslEngineConfigurator.getSessionResumption());
         } else if (!isHandshaking(sslEngine)) { // if handshake haven't been started
             sslEngineConfigurator.configure(sslEngine);
         }
@@ -268,8 +269,14 @@ public class SSLFilter extends SSLBaseFilter {
 
     protected SSLEngine createClientSSLEngine(final SSLConnectionContext sslCtx, final SSLEngineConfigurator sslEngineConfigurator) {
 
-        return IS_JDK7_OR_HIGHER ? sslEngineConfigurator.createSSLEngine(HostNameResolver.getPeerHostName(sslCtx.getConnection()), -1)
-                : sslEngineConfigurator.createSSLEngine();
+        if (!IS_JDK7_OR_HIGHER) {
+            return sslEngineConfigurator.createSSLEngine();
+        }
+
+        final Connection<?> connection = sslCtx.getConnection();
+        // the client sessions are cached by the peer host and port, so pass the port only if resumption is configured
+        return sslEngineConfigurator.createSSLEngine(HostNameResolver.getPeerHostName(connection),
+                sslEngineConfigurator.getSessionResumption() != null ? HostNameResolver.getPeerPort(connection) : -1);
     }
 
     // ----------------------------------------------------------- Inner Classes
@@ -408,5 +415,10 @@ public class SSLFilter extends SSLBaseFilter {
             return addr instanceof InetSocketAddress ? ((InetSocketAddress) addr).getHostString() : // supported in 1.7+
                     null;
         }
+
+        public static int getPeerPort(final Connection<?> connection) {
+            final Object addr = connection.getPeerAddress();
+            return addr instanceof InetSocketAddress ? ((InetSocketAddress) addr).getPort() : -1;
+        }
     }
 }
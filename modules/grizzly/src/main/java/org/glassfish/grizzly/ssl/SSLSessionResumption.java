@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.ssl;
+
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSession;
+import javax.net.ssl.SSLSessionContext;
+
+import org.glassfish.grizzly.Connection;
+import org.glassfish.grizzly.monitoring.DefaultMonitoringConfig;
+import org.glassfish.grizzly.monitoring.MonitoringAware;
+import org.glassfish.grizzly.monitoring.MonitoringConfig;
+import org.glassfish.grizzly.monitoring.MonitoringUtils;
+
+/**
+ * TLS session resumption configuration and statistics.
+ *
+ * Once set on an {@link SSLEngineConfigurator}, the session cache size and timeout are applied to the server and client
+ * {@link SSLSessionContext}s of the configurator's {@link SSLContext}. The handshakes of the
+ * {@link javax.net.ssl.SSLEngine}s created by the configurator are counted as full or resumed, so the resumption ratio
+ * could be monitored. Resumption via TLS 1.3 session tickets is counted as well, the ticket keys themselves are managed by
+ * the JSSE provider.
+ *
+ * The same instance may be shared by several {@link SSLEngineConfigurator}s.
+ *
+ * @see SSLEngineConfigurator#setSessionResumption(SSLSessionResumption)
+ *
+ * @since 3.0
+ */
+public class SSLSessionResumption implements MonitoringAware<SSLSessionResumptionProbe> {
+
+    private volatile int sessionCacheSize = -1;
+    private volatile int sessionTimeoutSeconds = -1;
+
+    // the configured session contexts, guarded by "this"
+    private final Set<SSLSessionContext> sessionContexts = Collections.newSetFromMap(new WeakHashMap<SSLSessionContext, Boolean>());
+
+    private final AtomicLong fullHandshakesCount = new AtomicLong();
+    private final AtomicLong resumedHandshakesCount = new AtomicLong();
+
+    private final DefaultMonitoringConfig<SSLSessionResumptionProbe> monitoringConfig = new DefaultMonitoringConfig<SSLSessionResumptionProbe>(
+            SSLSessionResumptionProbe.class) {
+
+        @Override
+        public Object createManagementObject() {
+            return createJmxManagementObject();
+        }
+    };
+
+    /**
+     * @return the max number of sessions cached by an {@link SSLSessionContext}, <tt>0</tt> means no limit, negative
+     * value means the JSSE provider default.
+     */
+    public int getSessionCacheSize() {
+        return sessionCacheSize;
+    }
+
+    /**
+     * Sets the max number of sessions cached by an {@link SSLSessionContext}, the least recently used sessions are evicted
+     * once the limit is reached.
+     *
+     * @param sessionCacheSize the max number of cached sessions, <tt>0</tt> means no limit, negative value means the JSSE
+     * provider default.
+     * @return this {@link SSLSessionResumption}
+     */
+    public SSLSessionResumption setSessionCacheSize(final int sessionCacheSize) {
+        this.sessionCacheSize = sessionCacheSize;
+        reconfigure();
+        return this;
+    }
+
+    /**
+     * @param timeUnit {@link TimeUnit}
+     * @return the time a session may be resumed after it has been created, <tt>0</tt> means no limit, negative value means
+     * the JSSE provider default.
+     */
+    public long getSessionTimeout(final TimeUnit timeUnit) {
+        final int timeout = sessionTimeoutSeconds;
+        return timeout <= 0 ? timeout : timeUnit.convert(timeout, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Sets the time a session may be resumed after it has been created, the expired sessions require a full handshake.
+     * The timeout granularity is one second.
+     *
+     * @param sessionTimeout the timeout, <tt>0</tt> means no limit, negative value means the JSSE provider default.
+     * @param timeUnit {@link TimeUnit}
+     * @return this {@link SSLSessionResumption}
+     */
+    public SSLSessionResumption setSessionTimeout(final long sessionTimeout, final TimeUnit timeUnit) {
+        if (sessionTimeout <= 0) {
+            sessionTimeoutSeconds = (int) Math.max(-1, sessionTimeout);
+        } else {
+            sessionTimeoutSeconds = (int) Math.min(Integer.MAX_VALUE, Math.max(1, TimeUnit.SECONDS.convert(sessionTimeout, timeUnit)));
+        }
+
+        reconfigure();
+        return this;
+    }
+
+    /**
+     * @return the number of completed full handshakes.
+     */
+    public long getFullHandshakesCount() {
+        return fullHandshakesCount.get();
+    }
+
+    /**
+     * @return the number of completed handshakes, which resumed an existing session.
+     */
+    public long getResumedHandshakesCount() {
+        return resumedHandshakesCount.get();
+    }
+
+    /**
+     * @return the fraction of the completed handshakes, which resumed an existing session.
+     */
+    public float getResumptionRatio() {
+        final long resumed = resumedHandshakesCount.get();
+        final long total = resumed + fullHandshakesCount.get();
+
+        return total == 0 ? 0 : (float) resumed / total;
+    }
+
+    /**
+     * @return the number of sessions currently cached by the configured {@link SSLSessionContext}s.
+     */
+    public int getCachedSessionsCount() {
+        int count = 0;
+        synchronized (this) {
+            for (SSLSessionContext sessionContext : sessionContexts) {
+                for (Enumeration<byte[]> ids = sessionContext.getIds(); ids.hasMoreElements(); ids.nextElement()) {
+                    count++;
+                }
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Applies the session cache settings to the {@link SSLContext} session contexts.
+     *
+     * @param sslContext the {@link SSLContext} to configure.
+     */
+    public void configure(final SSLContext sslContext) {
+        synchronized (this) {
+            configure(sslContext.getServerSessionContext());
+            configure(sslContext.getClientSessionContext());
+        }
+    }
+
+    @Override
+    public MonitoringConfig<SSLSessionResumptionProbe> getMonitoringConfig() {
+        return monitoringConfig;
+    }
+
+    @Override
+    public String toString() {
+        return "SSLSessionResumption{sessionCacheSize=" + sessionCacheSize + ", sessionTimeoutSeconds=" + sessionTimeoutSeconds + ", fullHandshakes="
+                + fullHandshakesCount + ", resumedHandshakes=" + resumedHandshakesCount + '}';
+    }
+
+    /**
+     * Counts the completed handshake.
+     *
+     * @param connection the {@link Connection}.
+     * @param session the negotiated {@link SSLSession}.
+     * @param handshakeStartTime the handshake start time in milliseconds.
+     */
+    void onHandshakeComplete(final Connection<?> connection, final SSLSession session, final long handshakeStartTime) {
+        // the resumed session has been created before the handshake started
+        if (session.getCreationTime() < handshakeStartTime) {
+            resumedHandshakesCount.incrementAndGet();
+
+            final SSLSessionResumptionProbe[] probes = monitoringConfig.getProbesUnsafe();
+            if (probes != null) {
+                for (SSLSessionResumptionProbe probe : probes) {
+                    probe.onResumedHandshakeEvent(connection, session);
+                }
+            }
+        } else {
+            fullHandshakesCount.incrementAndGet();
+
+            final SSLSessionResumptionProbe[] probes = monitoringConfig.getProbesUnsafe();
+            if (probes != null) {
+                for (SSLSessionResumptionProbe probe : probes) {
+                    probe.onFullHandshakeEvent(connection, session);
+                }
+            }
+        }
+    }
+
+    protected Object createJmxManagementObject() {
+        return MonitoringUtils.loadJmxObject("org.glassfish.grizzly.ssl.jmx.SSLSessionResumption", this, SSLSessionResumption.class);
+    }
+
+    private void reconfigure() {
+        synchronized (this) {
+            for (SSLSessionContext sessionContext : sessionContexts) {
+                apply(sessionContext);
+            }
+        }
+    }
+
+    private void configure(final SSLSessionContext sessionContext) {
+        if (sessionContext != null && sessionContexts.add(sessionContext)) {
+            apply(sessionContext);
+        }
+    }
+
+    private void apply(final SSLSessionContext sessionContext) {
+        final int cacheSize = sessionCacheSize;
+        if (cacheSize >= 0) {
+            sessionContext.setSessionCacheSize(cacheSize);
+        }
+
+        final int timeout = sessionTimeoutSeconds;
+        if (timeout >= 0) {
+            sessionContext.setSessionTimeout(timeout);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.ssl;
+
+import javax.net.ssl.SSLSession;
+
+import org.glassfish.grizzly.Connection;
+
+/**
+ * {@link SSLSessionResumption} monitoring probe.
+ *
+ * @since 3.0
+ */
+public interface SSLSessionResumptionProbe {
+
+    /**
+     * Called, when a full handshake, which established a new {@link SSLSession}, has been completed.
+     *
+     * @param connection the {@link Connection}.
+     * @param session the new {@link SSLSession}.
+     */
+    default void onFullHandshakeEvent(Connection<?> connection, SSLSession session) {
+    }
+
+    /**
+     * Called, when an abbreviated handshake, which resumed an existing {@link SSLSession}, has been completed.
+     *
+     * @param connection the {@link Connection}.
+     * @param session the resumed {@link SSLSession}.
+     */
+    default void onResumedHandshakeEvent(Connection<?> connection, SSLSession session) {
+    }
+}
@@ -30,6 +30,8 @@ import org.glassfish.grizzly.IOStrategy;
 import org.glassfish.grizzly.Transport;
 import org.glassfish.grizzly.asyncqueue.AsyncQueue;
 import org.glassfish.grizzly.localization.LogMessages;
+import org.glassfish.grizzly.nio.NIOConnection;
+import org.glassfish.grizzly.nio.NIOTransport;
 import org.glassfish.grizzly.threadpool.ThreadPoolConfig;
 
 /**
@@ -78,13 +80,32 @@ public abstract class AbstractIOStrategy implements IOStrategy {
     }
 
     protected static void fireIOEvent(final Connection connection, final IOEvent ioEvent, final IOEventLifeCycleListener listener, final Logger logger) {
+        final NIOConnection corkedConnection = ioEvent == IOEvent.READ ? corkIfEnabled(connection) : null;
+
         try {
             connection.getTransport().fireIOEvent(ioEvent, connection, listener);
         } catch (Exception e) {
             logger.log(Level.WARNING, LogMessages.WARNING_GRIZZLY_IOSTRATEGY_UNCAUGHT_EXCEPTION(), e);
             connection.closeSilently();
+        } finally {
+            if (corkedConnection != null) {
+                corkedConnection.uncork();
+            }
+        }
+
+    }
+
+    private static NIOConnection corkIfEnabled(final Connection connection) {
+        if (connection instanceof NIOConnection && ((NIOTransport) connection.getTransport()).isAutoCorkEnabled()) {
+            final NIOConnection nioConnection = (NIOConnection) connection;
+            // the connection might have been corked by the application
+            if (!nioConnection.isCorked()) {
+                nioConnection.cork();
+                return nioConnection;
+            }
         }
 
+        return null;
     }
 
     // ---------------------------------------------------------- Nested Classes
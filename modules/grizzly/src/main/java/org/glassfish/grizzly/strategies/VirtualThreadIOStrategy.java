@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.strategies;
+
+import java.io.IOException;
+import java.util.concurrent.Executor;
+import java.util.logging.Logger;
+
+import org.glassfish.grizzly.Connection;
+import org.glassfish.grizzly.Grizzly;
+import org.glassfish.grizzly.IOEvent;
+import org.glassfish.grizzly.IOEventLifeCycleListener;
+import org.glassfish.grizzly.Processor;
+import org.glassfish.grizzly.Transport;
+import org.glassfish.grizzly.threadpool.AbstractThreadPool;
+import org.glassfish.grizzly.threadpool.ThreadPoolConfig;
+import org.glassfish.grizzly.threadpool.Threads;
+import org.glassfish.grizzly.threadpool.VirtualThreadPool;
+
+/**
+ * {@link org.glassfish.grizzly.IOStrategy}, which executes {@link Processor}s in virtual threads, so the
+ * {@link Processor}s may block on IO (database or outbound calls) without exhausting the worker thread pool.
+ *
+ * The default worker thread pool is a {@link VirtualThreadPool} without concurrency limit. If the JVM doesn't support
+ * virtual threads (JDK 21+) or the transport is configured with a custom worker thread pool, the strategy behaves like
+ * {@link WorkerThreadIOStrategy}.
+ *
+ * @since 3.0
+ */
+public final class VirtualThreadIOStrategy extends AbstractIOStrategy {
+
+    private static final VirtualThreadIOStrategy INSTANCE = new VirtualThreadIOStrategy();
+
+    private static final Logger logger = Grizzly.logger(VirtualThreadIOStrategy.class);
+
+    // ------------------------------------------------------------ Constructors
+
+    private VirtualThreadIOStrategy() {
+    }
+
+    // ---------------------------------------------------------- Public Methods
+
+    public static VirtualThreadIOStrategy getInstance() {
+        return INSTANCE;
+    }
+
+    // ------------------------------------------------- Methods from IOStrategy
+
+    @Override
+    public boolean executeIoEvent(final Connection connection, final IOEvent ioEvent, final boolean isIoEventEnabled) throws IOException {
+
+        final boolean isReadOrWriteEvent = isReadWrite(ioEvent);
+
+        final IOEventLifeCycleListener listener;
+        if (isReadOrWriteEvent) {
+            if (isIoEventEnabled) {
+                connection.disableIOEvent(ioEvent);
+            }
+
+            listener = ENABLE_INTEREST_LIFECYCLE_LISTENER;
+        } else {
+            listener = null;
+        }
+
+        final Executor threadPool = getThreadPoolFor(connection, ioEvent);
+        if (threadPool != null) {
+            threadPool.execute(new VirtualThreadRunnable(connection, ioEvent, listener));
+        } else {
+            run0(connection, ioEvent, listener);
+        }
+
+        return true;
+    }
+
+    // ----------------------------- Methods from WorkerThreadPoolConfigProducer
+
+    @Override
+    public ThreadPoolConfig createDefaultWorkerPoolConfig(final Transport transport) {
+        final ThreadPoolConfig config = super.createDefaultWorkerPoolConfig(transport);
+        if (Threads.isVirtualThreadsSupported()) {
+            config.setVirtualThreadsEnabled(true);
+            config.setMaxPoolSize(AbstractThreadPool.DEFAULT_MAX_THREAD_COUNT);
+        }
+
+        return config;
+    }
+
+    // --------------------------------------------------------- Private Methods
+
+    private static void run0(final Connection connection, final IOEvent ioEvent, final IOEventLifeCycleListener lifeCycleListener) {
+
+        fireIOEvent(connection, ioEvent, lifeCycleListener, logger);
+
+    }
+
+    private static final class VirtualThreadRunnable implements Runnable {
+        final Connection connection;
+        final IOEvent ioEvent;
+        final IOEventLifeCycleListener lifeCycleListener;
+
+        private VirtualThreadRunnable(final Connection connection, final IOEvent ioEvent, final IOEventLifeCycleListener lifeCycleListener) {
+            this.connection = connection;
+            this.ioEvent = ioEvent;
+            this.lifeCycleListener = lifeCycleListener;
+
+        }
+
+        @Override
+        public void run() {
+            run0(connection, ioEvent, lifeCycleListener);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.strategies;
+
+import java.io.IOException;
+import java.util.concurrent.Executor;
+import java.util.logging.Logger;
+
+import org.glassfish.grizzly.Connection;
+import org.glassfish.grizzly.Grizzly;
+import org.glassfish.grizzly.IOEvent;
+import org.glassfish.grizzly.IOEventLifeCycleListener;
+import org.glassfish.grizzly.Transport;
+import org.glassfish.grizzly.nio.NIOConnection;
+import org.glassfish.grizzly.nio.NIOTransport;
+import org.glassfish.grizzly.nio.SelectorRunner;
+import org.glassfish.grizzly.threadpool.AffinityRunnable;
+import org.glassfish.grizzly.threadpool.ThreadPoolConfig;
+import org.glassfish.grizzly.threadpool.WorkStealingThreadPool;
+
+/**
+ * {@link org.glassfish.grizzly.IOStrategy}, which executes {@link org.glassfish.grizzly.Processor}s in worker threads
+ * affine to the connection's {@link SelectorRunner}.
+ *
+ * The default worker thread pool is a {@link WorkStealingThreadPool} with a worker group per {@link SelectorRunner}, so
+ * the events of the connections registered on the same selector are queued to and processed by the same group of
+ * threads, instead of contending on a single shared queue, while idle groups steal the events queued to the busy ones.
+ * The per-connection event ordering is the same as for {@link WorkerThreadIOStrategy}: the connection READ interest is
+ * disabled until its READ event is processed.
+ *
+ * If the transport is configured with a custom worker thread pool, the strategy behaves like
+ * {@link WorkerThreadIOStrategy}.
+ *
+ * @since 3.0
+ */
+public final class WorkStealingIOStrategy extends AbstractIOStrategy {
+
+    private static final WorkStealingIOStrategy INSTANCE = new WorkStealingIOStrategy();
+
+    private static final Logger logger = Grizzly.logger(WorkStealingIOStrategy.class);
+
+    // ------------------------------------------------------------ Constructors
+
+    private WorkStealingIOStrategy() {
+    }
+
+    // ---------------------------------------------------------- Public Methods
+
+    public static WorkStealingIOStrategy getInstance() {
+        return INSTANCE;
+    }
+
+    // ------------------------------------------------- Methods from IOStrategy
+
+    @Override
+    public boolean executeIoEvent(final Connection connection, final IOEvent ioEvent, final boolean isIoEventEnabled) throws IOException {
+
+        final boolean isReadOrWriteEvent = isReadWrite(ioEvent);
+
+        final IOEventLifeCycleListener listener;
+        if (isReadOrWriteEvent) {
+            if (isIoEventEnabled) {
+                connection.disableIOEvent(ioEvent);
+            }
+
+            listener = ENABLE_INTEREST_LIFECYCLE_LISTENER;
+        } else {
+            listener = null;
+        }
+
+        final Executor threadPool = getThreadPoolFor(connection, ioEvent);
+        if (threadPool != null) {
+            threadPool.execute(new AffinityWorkerRunnable(connection, ioEvent, listener, affinityOf(connection)));
+        } else {
+            fireIOEvent(connection, ioEvent, listener, logger);
+        }
+
+        return true;
+    }
+
+    // ----------------------------- Methods from WorkerThreadPoolConfigProducer
+
+    @Override
+    public ThreadPoolConfig createDefaultWorkerPoolConfig(final Transport transport) {
+        final ThreadPoolConfig config = super.createDefaultWorkerPoolConfig(transport);
+        final int groupsCount = transport instanceof NIOTransport ? ((NIOTransport) transport).getSelectorRunnersCount()
+                : Runtime.getRuntime().availableProcessors();
+        config.setAffinityGroupsCount(groupsCount);
+        return config;
+    }
+
+    // --------------------------------------------------------- Private Methods
+
+    private static int affinityOf(final Connection connection) {
+        if (connection instanceof NIOConnection) {
+            final SelectorRunner selectorRunner = ((NIOConnection) connection).getSelectorRunner();
+            if (selectorRunner != null) {
+                return selectorRunner.getIndex();
+            }
+        }
+
+        return 0;
+    }
+
+    private static final class AffinityWorkerRunnable implements AffinityRunnable {
+        final Connection connection;
+        final IOEvent ioEvent;
+        final IOEventLifeCycleListener lifeCycleListener;
+        final int affinity;
+
+        private AffinityWorkerRunnable(final Connection connection, final IOEvent ioEvent, final IOEventLifeCycleListener lifeCycleListener,
+                final int affinity) {
+            this.connection = connection;
+            this.ioEvent = ioEvent;
+            this.lifeCycleListener = lifeCycleListener;
+            this.affinity = affinity;
+        }
+
+        @Override
+        public int getAffinity() {
+            return affinity;
+        }
+
+        @Override
+        public void run() {
+            fireIOEvent(connection, ioEvent, lifeCycleListener, logger);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.threadpool;
+
+/**
+ * The task, which prefers to be executed by the specific group of {@link WorkStealingThreadPool} threads.
+ *
+ * @see ThreadPoolConfig#setAffinityGroupsCount(int)
+ *
+ * @since 3.0
+ */
+public interface AffinityRunnable extends Runnable {
+
+    /**
+     * @return the non-negative task affinity, the tasks with the same affinity are queued to the same worker group.
+     */
+    int getAffinity();
+}
@@ -21,6 +21,11 @@ import java.util.Queue;
 import java.util.concurrent.AbstractExecutorService;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.glassfish.grizzly.Grizzly;
+import org.glassfish.grizzly.localization.LogMessages;
 
 import org.glassfish.grizzly.memory.MemoryManager;
 import org.glassfish.grizzly.monitoring.MonitoringAware;
@@ -32,6 +37,8 @@ import org.glassfish.grizzly.monitoring.MonitoringConfig;
  */
 public class GrizzlyExecutorService extends AbstractExecutorService implements MonitoringAware<ThreadPoolProbe> {
 
+    private static final Logger LOGGER = Grizzly.logger(GrizzlyExecutorService.class);
+
     private final Object statelock = new Object();
     private volatile AbstractThreadPool pool;
     protected volatile ThreadPoolConfig config;
@@ -68,8 +75,20 @@ public class GrizzlyExecutorService extends AbstractExecutorService implements M
             cfg.setMemoryManager(MemoryManager.DEFAULT_MEMORY_MANAGER);
         }
 
+        if (cfg.isVirtualThreadsEnabled() && !Threads.isVirtualThreadsSupported()) {
+            if (LOGGER.isLoggable(Level.WARNING)) {
+                LOGGER.log(Level.WARNING, LogMessages.WARNING_GRIZZLY_THREADPOOL_VIRTUAL_THREADS_UNSUPPORTED(cfg.getPoolName()));
+            }
+
+            cfg.setVirtualThreadsEnabled(false);
+        }
+
         final Queue<Runnable> queue = cfg.getQueue();
-        if ((queue == null || queue instanceof BlockingQueue) && (cfg.getCorePoolSize() < 0 || cfg.getCorePoolSize() == cfg.getMaxPoolSize())) {
+        if (cfg.isVirtualThreadsEnabled()) {
+            this.pool = new VirtualThreadPool(cfg);
+        } else if (cfg.getAffinityGroupsCount() > 0) {
+            this.pool = new WorkStealingThreadPool(cfg);
+        } else if ((queue == null || queue instanceof BlockingQueue) && (cfg.getCorePoolSize() < 0 || cfg.getCorePoolSize() == cfg.getMaxPoolSize())) {
 
             this.pool = cfg.getQueueLimit() < 0 ? new FixedThreadPool(cfg) : new QueueLimitedThreadPool(cfg);
         } else {
@@ -68,6 +68,8 @@ public final class ThreadPoolConfig {
     protected DelayedExecutor transactionMonitor;
     protected long transactionTimeoutMillis;
     protected ClassLoader initialClassLoader;
+    protected int affinityGroupsCount = -1;
+    protected boolean virtualThreadsEnabled;
 
     /**
      * Thread pool probes
@@ -111,6 +113,8 @@ public final class ThreadPoolConfig {
         this.keepAliveTimeMillis = cfg.keepAliveTimeMillis;
         this.mm = cfg.mm;
         this.initialClassLoader = cfg.initialClassLoader;
+        this.affinityGroupsCount = cfg.affinityGroupsCount;
+        this.virtualThreadsEnabled = cfg.virtualThreadsEnabled;
 
         this.threadPoolMonitoringConfig = new DefaultMonitoringConfig<>(ThreadPoolProbe.class);
 
@@ -361,12 +365,71 @@ public final class ThreadPoolConfig {
         return this;
     }
 
+    /**
+     * @return the number of worker groups with their own task queues, non-positive value means the thread pool uses a
+     * single shared task queue.
+     *
+     * @see #setAffinityGroupsCount(int)
+     *
+     * @since 3.0
+     */
+    public int getAffinityGroupsCount() {
+        return affinityGroupsCount;
+    }
+
+    /**
+     * Splits the thread pool workers into the given number of groups, each serving its own task queue, so tasks
+     * submitted with the same {@link AffinityRunnable#getAffinity() affinity} are processed by the same group of threads,
+     * while idle groups steal tasks from the busy ones. If the value is positive,
+     * {@link GrizzlyExecutorService#createInstance(ThreadPoolConfig)} creates a {@link WorkStealingThreadPool}, which has
+     * a fixed number of threads ({@link #getMaxPoolSize()}) and doesn't support a custom queue and queue limit.
+     *
+     * @param affinityGroupsCount the number of worker groups, non-positive value means a single shared task queue.
+     *
+     * @return the {@link ThreadPoolConfig}
+     *
+     * @since 3.0
+     */
+    public ThreadPoolConfig setAffinityGroupsCount(final int affinityGroupsCount) {
+        this.affinityGroupsCount = affinityGroupsCount;
+        return this;
+    }
+
+    /**
+     * @return <tt>true</tt>, if the thread pool runs each task on a new virtual thread, or <tt>false</tt> otherwise.
+     *
+     * @see #setVirtualThreadsEnabled(boolean)
+     *
+     * @since 3.0
+     */
+    public boolean isVirtualThreadsEnabled() {
+        return virtualThreadsEnabled;
+    }
+
+    /**
+     * Makes the thread pool run each task on a new virtual thread, which suits tasks blocking on IO. If enabled and the
+     * JVM supports virtual threads (JDK 21+), {@link GrizzlyExecutorService#createInstance(ThreadPoolConfig)} creates a
+     * {@link VirtualThreadPool}, where {@link #getMaxPoolSize()} limits the number of concurrently running threads. On
+     * older JVMs the setting is ignored and the thread pool uses platform threads.
+     *
+     * @param virtualThreadsEnabled <tt>true</tt> to run the tasks on virtual threads.
+     *
+     * @return the {@link ThreadPoolConfig}
+     *
+     * @since 3.0
+     */
+    public ThreadPoolConfig setVirtualThreadsEnabled(final boolean virtualThreadsEnabled) {
+        this.virtualThreadsEnabled = virtualThreadsEnabled;
+        return this;
+    }
+
     @Override
     public String toString() {
         return ThreadPoolConfig.class.getSimpleName() + " :\r\n" + "  poolName: " + poolName + "\r\n" + "  corePoolSize: " + corePoolSize + "\r\n"
                 + "  maxPoolSize: " + maxPoolSize + "\r\n" + "  queue: " + (queue != null ? queue.getClass() : "undefined") + "\r\n" + "  queueLimit: "
                 + queueLimit + "\r\n" + "  keepAliveTime (millis): " + keepAliveTimeMillis + "\r\n" + "  threadFactory: " + threadFactory + "\r\n"
                 + "  transactionMonitor: " + transactionMonitor + "\r\n" + "  transactionTimeoutMillis: " + transactionTimeoutMillis + "\r\n" + "  priority: "
-                + priority + "\r\n" + "  isDaemon: " + isDaemon + "\r\n" + "  initialClassLoader: " + initialClassLoader;
+                + priority + "\r\n" + "  isDaemon: " + isDaemon + "\r\n" + "  initialClassLoader: " + initialClassLoader + "\r\n"
+                + "  affinityGroupsCount: " + affinityGroupsCount + "\r\n" + "  virtualThreadsEnabled: " + virtualThreadsEnabled;
     }
 }
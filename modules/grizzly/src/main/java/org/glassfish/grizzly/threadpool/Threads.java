@@ -16,6 +16,11 @@
 
 package org.glassfish.grizzly.threadpool;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ThreadFactory;
+
 /**
  * Set of {@link Thread} utilities.
  *
@@ -24,6 +29,42 @@ package org.glassfish.grizzly.threadpool;
 public class Threads {
     private static final ThreadLocal<Boolean> SERVICE_THREAD = new ThreadLocal<>();
 
+    // Thread.isVirtual() and Thread.ofVirtual(), available since JDK 21
+    private static final MethodHandle IS_VIRTUAL;
+    private static final MethodHandle OF_VIRTUAL;
+    private static final MethodHandle BUILDER_NAME;
+    private static final MethodHandle BUILDER_UNCAUGHT_EXCEPTION_HANDLER;
+    private static final MethodHandle BUILDER_FACTORY;
+
+    static {
+        MethodHandle isVirtual = null;
+        MethodHandle ofVirtual = null;
+        MethodHandle builderName = null;
+        MethodHandle builderUncaughtExceptionHandler = null;
+        MethodHandle builderFactory = null;
+
+        try {
+            final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            final Class<?> virtualBuilderClass = Class.forName("java.lang.Thread$Builder$OfVirtual");
+
+            isVirtual = lookup.findVirtual(Thread.class, "isVirtual", MethodType.methodType(boolean.class));
+            ofVirtual = lookup.findStatic(Thread.class, "ofVirtual", MethodType.methodType(virtualBuilderClass));
+            builderName = lookup.findVirtual(virtualBuilderClass, "name", MethodType.methodType(virtualBuilderClass, String.class, long.class));
+            builderUncaughtExceptionHandler = lookup.findVirtual(virtualBuilderClass, "uncaughtExceptionHandler",
+                    MethodType.methodType(virtualBuilderClass, Thread.UncaughtExceptionHandler.class));
+            builderFactory = lookup.findVirtual(builderClass, "factory", MethodType.methodType(ThreadFactory.class));
+        } catch (Throwable ignored) {
+            isVirtual = null;
+        }
+
+        IS_VIRTUAL = isVirtual;
+        OF_VIRTUAL = ofVirtual;
+        BUILDER_NAME = builderName;
+        BUILDER_UNCAUGHT_EXCEPTION_HANDLER = builderUncaughtExceptionHandler;
+        BUILDER_FACTORY = builderFactory;
+    }
+
     public static boolean isService() {
         return Boolean.TRUE.equals(SERVICE_THREAD.get());
     }
@@ -36,4 +77,57 @@ public class Threads {
         }
     }
 
+    /**
+     * @return <tt>true</tt>, if the JVM supports virtual threads (JDK 21+), or <tt>false</tt> otherwise.
+     *
+     * @since 3.0
+     */
+    public static boolean isVirtualThreadsSupported() {
+        return IS_VIRTUAL != null;
+    }
+
+    /**
+     * @param thread the {@link Thread} to check.
+     * @return <tt>true</tt>, if the thread is a virtual thread, or <tt>false</tt> otherwise.
+     *
+     * @since 3.0
+     */
+    public static boolean isVirtual(final Thread thread) {
+        if (IS_VIRTUAL == null) {
+            return false;
+        }
+
+        try {
+            return (boolean) IS_VIRTUAL.invokeExact(thread);
+        } catch (Throwable t) {
+            return false;
+        }
+    }
+
+    /**
+     * Creates a {@link ThreadFactory}, which creates virtual threads named <tt>namePrefix + counter</tt>.
+     *
+     * @param namePrefix the thread name prefix.
+     * @param uncaughtExceptionHandler the threads {@link Thread.UncaughtExceptionHandler}, may be <tt>null</tt>.
+     * @return the virtual threads {@link ThreadFactory}, or <tt>null</tt>, if virtual threads are not supported.
+     *
+     * @since 3.0
+     */
+    public static ThreadFactory createVirtualThreadFactory(final String namePrefix, final Thread.UncaughtExceptionHandler uncaughtExceptionHandler) {
+        if (IS_VIRTUAL == null) {
+            return null;
+        }
+
+        try {
+            Object builder = OF_VIRTUAL.invoke();
+            builder = BUILDER_NAME.invoke(builder, namePrefix, 1L);
+            if (uncaughtExceptionHandler != null) {
+                builder = BUILDER_UNCAUGHT_EXCEPTION_HANDLER.invoke(builder, uncaughtExceptionHandler);
+            }
+
+            return (ThreadFactory) BUILDER_FACTORY.invoke(builder);
+        } catch (Throwable t) {
+            return null;
+        }
+    }
 }
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.threadpool;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * {@link ExecutorService} implementation, which runs each task on a new virtual thread, so tasks blocking on IO don't
+ * occupy platform threads.
+ *
+ * The number of concurrently running threads is limited by {@link ThreadPoolConfig#getMaxPoolSize()}, once the limit is
+ * reached, the tasks are queued and picked up by the running threads as they complete their tasks. The
+ * {@link ThreadPoolConfig#getCorePoolSize()} and {@link ThreadPoolConfig#getKeepAliveTime(java.util.concurrent.TimeUnit)}
+ * are ignored.
+ *
+ * Virtual threads are not {@link DefaultWorkerThread}s, so {@link org.glassfish.grizzly.ThreadCache} doesn't cache
+ * objects on them, {@link org.glassfish.grizzly.memory.MemoryManager}s allocate buffers without thread-local pools and
+ * {@link org.glassfish.grizzly.memory.PooledMemoryManager} doesn't keep the released buffers in per-thread magazines.
+ *
+ * If {@link ThreadPoolConfig#getThreadFactory()} is set, it's used to create the threads, otherwise the pool requires
+ * virtual threads support (JDK 21+), see {@link Threads#isVirtualThreadsSupported()}.
+ *
+ * @since 3.0
+ */
+public class VirtualThreadPool extends AbstractThreadPool {
+
+    private final Queue<Runnable> workQueue;
+    private final int maxQueuedTasks;
+
+    // the number of threads, which will poll the queue before exiting
+    private int activeThreadsCount;
+
+    public VirtualThreadPool(final ThreadPoolConfig config) {
+        this(config, config.getThreadFactory());
+    }
+
+    private VirtualThreadPool(final ThreadPoolConfig config, final ThreadFactory customThreadFactory) {
+        super(config);
+
+        if (customThreadFactory == null) {
+            final ThreadFactory virtualThreadFactory = Threads.createVirtualThreadFactory(config.getPoolName() + "-virtual-", this);
+            if (virtualThreadFactory == null) {
+                throw new IllegalStateException("Virtual threads are not supported by the JVM");
+            }
+
+            config.setThreadFactory(virtualThreadFactory);
+        }
+
+        workQueue = config.getQueue() != null ? config.getQueue() : config.setQueue(new ConcurrentLinkedQueue<Runnable>()).getQueue();
+        maxQueuedTasks = config.getQueueLimit();
+
+        ProbeNotifier.notifyThreadPoolStarted(this);
+    }
+
+    @Override
+    public void execute(final Runnable task) {
+        if (task == null) {
+            throw new IllegalArgumentException("Runnable task is null");
+        }
+
+        synchronized (stateLock) {
+            if (!running) {
+                throw new RejectedExecutionException("ThreadPool is not running");
+            }
+
+            if (activeThreadsCount < config.getMaxPoolSize()) {
+                onTaskQueued(task);
+                activeThreadsCount++;
+                startWorker(new VirtualThreadWorker(task));
+
+                if (activeThreadsCount == config.getMaxPoolSize()) {
+                    onMaxNumberOfThreadsReached();
+                }
+
+                return;
+            }
+
+            if ((maxQueuedTasks < 0 || workQueue.size() < maxQueuedTasks) && workQueue.offer(task)) {
+                onTaskQueued(task);
+            } else {
+                onTaskQueueOverflow();
+            }
+        }
+    }
+
+    /**
+     * The running threads complete the queued tasks and exit, no poison is needed.
+     */
+    @Override
+    protected void poisonAll() {
+    }
+
+    @Override
+    public String toString() {
+        synchronized (stateLock) {
+            return super.toString() + ", max-queue-size=" + maxQueuedTasks;
+        }
+    }
+
+    private final class VirtualThreadWorker extends Worker {
+
+        private Runnable firstTask;
+
+        private VirtualThreadWorker(final Runnable firstTask) {
+            this.firstTask = firstTask;
+        }
+
+        @Override
+        protected Runnable getTask() {
+            final Runnable task = firstTask;
+            if (task != null) {
+                firstTask = null;
+                return task;
+            }
+
+            synchronized (stateLock) {
+                final Runnable queuedTask = workQueue.poll();
+                if (queuedTask == null) {
+                    activeThreadsCount--;
+                }
+
+                return queuedTask;
+            }
+        }
+    }
+}
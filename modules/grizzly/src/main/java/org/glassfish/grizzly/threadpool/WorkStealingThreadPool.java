@@ -0,0 +1,291 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.threadpool;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fixed thread pool, which splits its threads into several groups, each serving its own task queue.
+ *
+ * {@link AffinityRunnable} tasks are queued to the group defined by the task affinity, so the tasks with the same
+ * affinity (for example the events of the connections registered on the same selector) are processed by the same
+ * threads, other tasks are queued to a random group. The worker, which finds its group queue empty, steals tasks from
+ * the sibling groups, so no task waits while there are idle threads in the pool.
+ *
+ * @see ThreadPoolConfig#setAffinityGroupsCount(int)
+ *
+ * @since 3.0
+ */
+public class WorkStealingThreadPool extends AbstractThreadPool {
+
+    // wakes up an idle worker so it could steal a task queued to a busy sibling group
+    private static final Runnable STEAL_SIGNAL = new Runnable() {
+
+        @Override
+        public void run() {
+        }
+    };
+
+    private final WorkerGroup[] groups;
+    private final Queue<Runnable> queue = new GroupsQueue();
+    private final AtomicLong stolenTasksCount = new AtomicLong();
+
+    public WorkStealingThreadPool(final ThreadPoolConfig config) {
+        super(config);
+
+        final int poolSize = config.getMaxPoolSize();
+        final int groupsCount = Math.max(1, Math.min(config.getAffinityGroupsCount(), poolSize));
+
+        groups = new WorkerGroup[groupsCount];
+        for (int i = 0; i < groupsCount; i++) {
+            groups[i] = new WorkerGroup(i);
+        }
+
+        synchronized (stateLock) {
+            for (int i = 0; i < poolSize; i++) {
+                final WorkerGroup group = groups[i % groupsCount];
+                group.workersCount++;
+                startWorker(new StealingWorker(group));
+            }
+        }
+
+        ProbeNotifier.notifyThreadPoolStarted(this);
+        super.onMaxNumberOfThreadsReached();
+    }
+
+    /**
+     * @return the number of worker groups.
+     */
+    public int getGroupsCount() {
+        return groups.length;
+    }
+
+    /**
+     * @return the number of tasks, which have been processed by the worker group other than the one they were queued
+     * to.
+     */
+    public long getStolenTasksCount() {
+        return stolenTasksCount.get();
+    }
+
+    /**
+     * @return the view of all the worker groups task queues.
+     */
+    @Override
+    public Queue<Runnable> getQueue() {
+        return queue;
+    }
+
+    @Override
+    public void execute(final Runnable command) {
+        if (!running) {
+            throw new RejectedExecutionException("ThreadPool is not running");
+        }
+
+        final WorkerGroup group = groupFor(command);
+        group.queue.offer(command);
+
+        // doublecheck the pool is still running
+        if (!running && group.queue.remove(command)) {
+            throw new RejectedExecutionException("ThreadPool is not running");
+        }
+
+        onTaskQueued(command);
+
+        if (group.idleWorkersCount.get() == 0) {
+            signalIdleSibling(group);
+        }
+    }
+
+    @Override
+    protected void poisonAll() {
+        for (WorkerGroup group : groups) {
+            for (int i = 0; i < group.workersCount; i++) {
+                group.queue.offer(poison);
+            }
+        }
+    }
+
+    private WorkerGroup groupFor(final Runnable command) {
+        final int groupsCount = groups.length;
+        if (groupsCount == 1) {
+            return groups[0];
+        }
+
+        return groups[command instanceof AffinityRunnable ? Math.abs(((AffinityRunnable) command).getAffinity() % groupsCount)
+                : ThreadLocalRandom.current().nextInt(groupsCount)];
+    }
+
+    private void signalIdleSibling(final WorkerGroup group) {
+        final int groupsCount = groups.length;
+        for (int i = 1; i < groupsCount; i++) {
+            final WorkerGroup sibling = groups[(group.index + i) % groupsCount];
+            if (sibling.idleWorkersCount.get() > 0) {
+                sibling.queue.offer(STEAL_SIGNAL);
+                return;
+            }
+        }
+    }
+
+    private Runnable steal(final WorkerGroup thief) {
+        final int groupsCount = groups.length;
+        for (int i = 1; i < groupsCount; i++) {
+            final WorkerGroup victim = groups[(thief.index + i) % groupsCount];
+            final Runnable task = victim.queue.poll();
+            if (task == null || task == STEAL_SIGNAL) {
+                continue;
+            }
+
+            if (task == poison) {
+                // the poison is for the victim group workers
+                victim.queue.offerFirst(task);
+                continue;
+            }
+
+            stolenTasksCount.incrementAndGet();
+            return task;
+        }
+
+        return null;
+    }
+
+    // ---------------------------------------------------------- Nested Classes
+
+    private static final class WorkerGroup {
+        private final int index;
+        private final LinkedBlockingDeque<Runnable> queue = new LinkedBlockingDeque<>();
+        private final AtomicInteger idleWorkersCount = new AtomicInteger();
+        // guarded by stateLock
+        private int workersCount;
+
+        private WorkerGroup(final int index) {
+            this.index = index;
+        }
+    }
+
+    private final class StealingWorker extends Worker {
+        private final WorkerGroup group;
+
+        private StealingWorker(final WorkerGroup group) {
+            this.group = group;
+        }
+
+        @Override
+        protected Runnable getTask() throws InterruptedException {
+            for (;;) {
+                Runnable task = group.queue.poll();
+                if (task == null) {
+                    task = steal(group);
+                }
+
+                if (task == null) {
+                    group.idleWorkersCount.incrementAndGet();
+                    try {
+                        // recheck the siblings, the task could be queued before the worker became idle
+                        task = steal(group);
+                        if (task == null) {
+                            task = group.queue.take();
+                        }
+                    } finally {
+                        group.idleWorkersCount.decrementAndGet();
+                    }
+                }
+
+                if (task != STEAL_SIGNAL) {
+                    return task;
+                }
+            }
+        }
+    }
+
+    /**
+     * The view of all the worker groups task queues. New tasks are queued the same way
+     * {@link WorkStealingThreadPool#execute(Runnable)} does, but without probes notification.
+     */
+    private final class GroupsQueue extends AbstractQueue<Runnable> {
+
+        @Override
+        public boolean offer(final Runnable task) {
+            return groupFor(task).queue.offer(task);
+        }
+
+        @Override
+        public Runnable poll() {
+            for (WorkerGroup group : groups) {
+                Runnable task = group.queue.poll();
+                while (task == STEAL_SIGNAL) {
+                    task = group.queue.poll();
+                }
+
+                if (task != null) {
+                    return task;
+                }
+            }
+
+            return null;
+        }
+
+        @Override
+        public Runnable peek() {
+            for (WorkerGroup group : groups) {
+                for (Runnable task : group.queue) {
+                    if (task != STEAL_SIGNAL) {
+                        return task;
+                    }
+                }
+            }
+
+            return null;
+        }
+
+        /**
+         * @return the iterator over the snapshot of the queued tasks.
+         */
+        @Override
+        public Iterator<Runnable> iterator() {
+            final List<Runnable> tasks = new ArrayList<>();
+            for (WorkerGroup group : groups) {
+                for (Runnable task : group.queue) {
+                    if (task != STEAL_SIGNAL) {
+                        tasks.add(task);
+                    }
+                }
+            }
+
+            return tasks.iterator();
+        }
+
+        @Override
+        public int size() {
+            int size = 0;
+            for (WorkerGroup group : groups) {
+                size += group.queue.size();
+            }
+
+            return size;
+        }
+    }
+}
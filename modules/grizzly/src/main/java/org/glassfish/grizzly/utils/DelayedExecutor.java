@@ -86,16 +86,35 @@ public class DelayedExecutor {
         return threadPool;
     }
 
+    /**
+     * @return the interval (in milliseconds) between two checks of the registered {@link DelayQueue}s.
+     */
+    public long getCheckIntervalMillis() {
+        return checkIntervalMillis;
+    }
+
     public <E> DelayQueue<E> createDelayQueue(final Worker<E> worker, final Resolver<E> resolver) {
 
-        final DelayQueue<E> queue = new DelayQueue<>(worker, resolver);
+        final DelayQueue<E> queue = newDelayQueue(worker, resolver);
 
         queues.add(queue);
 
         return queue;
     }
 
-    private static boolean wasModified(final long l1, final long l2) {
+    /**
+     * Creates the {@link DelayQueue} instance, which will be registered by {@link #createDelayQueue(Worker, Resolver)}.
+     * Subclasses may override this method to provide a different element tracking strategy.
+     *
+     * @param worker the {@link Worker} to be called once an element's timeout expires.
+     * @param resolver the {@link Resolver} to operate upon elements' timeouts.
+     * @return the {@link DelayQueue}.
+     */
+    protected <E> DelayQueue<E> newDelayQueue(final Worker<E> worker, final Resolver<E> resolver) {
+        return new DelayQueue<>(worker, resolver);
+    }
+
+    static boolean wasModified(final long l1, final long l2) {
         return l1 != l2;
     }
 
@@ -108,35 +127,7 @@ public class DelayedExecutor {
                 final long currentTimeMillis = System.currentTimeMillis();
 
                 for (final DelayQueue delayQueue : queues) {
-                    if (delayQueue.queue.isEmpty()) {
-                        continue;
-                    }
-
-                    final Resolver resolver = delayQueue.resolver;
-
-                    for (Iterator it = delayQueue.queue.keySet().iterator(); it.hasNext();) {
-                        final Object element = it.next();
-                        final long timeoutMillis = resolver.getTimeoutMillis(element);
-
-                        if (timeoutMillis == UNSET_TIMEOUT) {
-                            it.remove();
-                            if (wasModified(timeoutMillis, resolver.getTimeoutMillis(element))) {
-                                delayQueue.queue.put(element, delayQueue);
-                            }
-                        } else if (currentTimeMillis - timeoutMillis >= 0) {
-                            it.remove();
-                            if (wasModified(timeoutMillis, resolver.getTimeoutMillis(element))) {
-                                delayQueue.queue.put(element, delayQueue);
-                            } else {
-                                try {
-                                    if (!delayQueue.worker.doWork(element)) {
-                                        delayQueue.queue.put(element, delayQueue);
-                                    }
-                                } catch (Exception ignored) {
-                                }
-                            }
-                        }
-                    }
+                    delayQueue.expire(currentTimeMillis);
                 }
 
                 synchronized (sync) {
@@ -168,7 +159,7 @@ public class DelayedExecutor {
             if (delay >= 0) {
                 final long delayWithSysTime = System.currentTimeMillis() + TimeUnit.MILLISECONDS.convert(delay, timeUnit);
                 resolver.setTimeoutMillis(elem, delayWithSysTime < 0 ? Long.MAX_VALUE : delayWithSysTime);
-                queue.put(elem, this);
+                offer(elem);
             }
         }
 
@@ -176,9 +167,66 @@ public class DelayedExecutor {
             resolver.removeTimeout(elem);
         }
 
+        /**
+         * Notifies the queue, that the element's timeout has been changed directly via the {@link Resolver}, without
+         * re-adding the element. The polling queue checks all the registered elements on each tick, so it's a no-op, but
+         * the queues, which don't check the elements until their timeout is due, have to re-schedule the element, if its
+         * timeout has been shortened.
+         *
+         * @param elem the element, whose timeout has been changed.
+         * @since 3.0
+         */
+        public void reschedule(final E elem) {
+        }
+
         public void destroy() {
             queues.remove(this);
         }
+
+        /**
+         * Registers the element, whose timeout has just been set via the {@link Resolver}.
+         *
+         * @param elem the element to track.
+         */
+        protected void offer(final E elem) {
+            queue.put(elem, this);
+        }
+
+        /**
+         * Checks the registered elements and passes the expired ones to the {@link Worker}. The method is called by the
+         * <tt>DelayedExecutor</tt> thread once per check interval.
+         *
+         * @param currentTimeMillis the current time in milliseconds.
+         */
+        protected void expire(final long currentTimeMillis) {
+            if (queue.isEmpty()) {
+                return;
+            }
+
+            for (Iterator<E> it = queue.keySet().iterator(); it.hasNext();) {
+                final E element = it.next();
+                final long timeoutMillis = resolver.getTimeoutMillis(element);
+
+                if (timeoutMillis == UNSET_TIMEOUT) {
+                    it.remove();
+                    if (wasModified(timeoutMillis, resolver.getTimeoutMillis(element))) {
+                        queue.put(element, this);
+                    }
+                } else if (currentTimeMillis - timeoutMillis >= 0) {
+                    it.remove();
+                    if (wasModified(timeoutMillis, resolver.getTimeoutMillis(element))) {
+                        queue.put(element, this);
+                    } else {
+                        try {
+                            if (!worker.doWork(element)) {
+                                queue.put(element, this);
+                            }
+                        } catch (Exception ignored) {
+                        }
+                    }
+                }
+            }
+        }
     }
 
     public interface Worker<E> {
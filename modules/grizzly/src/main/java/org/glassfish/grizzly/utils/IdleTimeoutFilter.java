@@ -231,7 +231,10 @@ public class IdleTimeoutFilter extends BaseFilter {
                     timeoutToSet = timeout == FOREVER ? FOREVER : System.currentTimeMillis() + timeout;
                 }
 
-                IdleRecord.timeoutMillisUpdater.compareAndSet(idleRecord, FOREVER_SPECIAL, timeoutToSet);
+                if (IdleRecord.timeoutMillisUpdater.compareAndSet(idleRecord, FOREVER_SPECIAL, timeoutToSet) && timeoutToSet != FOREVER) {
+                    // the "infinite" timeout has been shortened in place
+                    queue.reschedule(connection);
+                }
             }
         }
     } // END ContextCompletionListener
@@ -0,0 +1,399 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.utils;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.glassfish.grizzly.nio.NIOConnection;
+import org.glassfish.grizzly.nio.SelectorRunner;
+
+/**
+ * {@link DelayedExecutor} implementation, which tracks elements using a hierarchical hashed timing wheel instead of
+ * checking every registered element on each tick.
+ *
+ * The wheel tick is equal to the executor's check interval. Adding and removing an element costs O(1), and each tick
+ * only touches elements, whose wheel slot is due, so the per-tick cost doesn't depend on the total number of registered
+ * elements.
+ *
+ * Element registration and removal requests are queued and applied by the executor thread, so the wheel itself is
+ * never accessed concurrently. Each {@link DelayQueue} can be split into several independent shards to reduce
+ * contention between the threads adding elements. The {@link NIOConnection} elements are sharded by their
+ * {@link SelectorRunner}, so with one shard per runner each runner's connections are tracked by their own wheel, other
+ * elements are sharded by their hash code.
+ *
+ * Please note, the {@link Resolver} timeout of an element is re-checked once its slot is due, so extending a timeout
+ * without re-adding the element is fine. Elements with a timeout beyond the wheel span (like the "infinite" timeouts
+ * used by {@link IdleTimeoutFilter} while a connection is being processed) are kept aside and re-checked only once per
+ * rotation of the upper wheel level, so they don't add up to the per-tick cost. Shortening a timeout without re-adding
+ * the element requires {@link DelayQueue#reschedule(Object)} to be called.
+ *
+ * @see DelayedExecutor
+ */
+public class TimingWheelDelayedExecutor extends DelayedExecutor {
+    private static final int WHEEL_BITS = 6;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final int LEVELS = 4;
+    // the max number of ticks, which could be represented by the wheel
+    private static final long WHEEL_SPAN = 1L << (WHEEL_BITS * LEVELS);
+
+    private final long tickMillis;
+    private final int shardsCount;
+
+    public TimingWheelDelayedExecutor(final ExecutorService threadPool) {
+        this(threadPool, 1000, TimeUnit.MILLISECONDS);
+    }
+
+    public TimingWheelDelayedExecutor(final ExecutorService threadPool, final long checkInterval, final TimeUnit timeunit) {
+        this(threadPool, checkInterval, timeunit, 1);
+    }
+
+    /**
+     * @param threadPool the {@link ExecutorService} to run the executor's thread on.
+     * @param checkInterval the wheel tick duration.
+     * @param timeunit the tick duration {@link TimeUnit}.
+     * @param shardsCount the number of independent wheels each {@link DelayQueue} is split into. The value is rounded up
+     * to the closest power of two.
+     */
+    public TimingWheelDelayedExecutor(final ExecutorService threadPool, final long checkInterval, final TimeUnit timeunit, final int shardsCount) {
+        super(threadPool, checkInterval, timeunit);
+        if (shardsCount <= 0) {
+            throw new IllegalArgumentException("shards count must be positive");
+        }
+
+        this.tickMillis = Math.max(1, getCheckIntervalMillis());
+        this.shardsCount = shardsCount == 1 ? 1 : Integer.highestOneBit(shardsCount - 1) << 1;
+    }
+
+    /**
+     * @return the number of independent wheels each {@link DelayQueue} is split into.
+     */
+    public int getShardsCount() {
+        return shardsCount;
+    }
+
+    @Override
+    protected <E> DelayQueue<E> newDelayQueue(final Worker<E> worker, final Resolver<E> resolver) {
+        return new WheelDelayQueue<>(worker, resolver);
+    }
+
+    private long toTick(final long timeMillis) {
+        return timeMillis / tickMillis;
+    }
+
+    private class WheelDelayQueue<E> extends DelayQueue<E> {
+        private final Wheel<E>[] shards;
+
+        @SuppressWarnings("unchecked")
+        WheelDelayQueue(final Worker<E> worker, final Resolver<E> resolver) {
+            super(worker, resolver);
+
+            shards = new Wheel[shardsCount];
+            for (int i = 0; i < shardsCount; i++) {
+                shards[i] = new Wheel<>(this);
+            }
+        }
+
+        @Override
+        public void remove(final E elem) {
+            super.remove(elem);
+            // let the executor thread re-check (and most likely drop) the element
+            shardFor(elem).pending.offer(elem);
+        }
+
+        @Override
+        public void reschedule(final E elem) {
+            shardFor(elem).pending.offer(elem);
+        }
+
+        @Override
+        protected void offer(final E elem) {
+            shardFor(elem).pending.offer(elem);
+        }
+
+        @Override
+        protected void expire(final long currentTimeMillis) {
+            for (Wheel<E> shard : shards) {
+                shard.advance(currentTimeMillis);
+            }
+        }
+
+        private Wheel<E> shardFor(final E elem) {
+            if (shards.length == 1) {
+                return shards[0];
+            }
+
+            if (elem instanceof NIOConnection) {
+                final SelectorRunner selectorRunner = ((NIOConnection) elem).getSelectorRunner();
+                if (selectorRunner != null) {
+                    return shards[selectorRunner.getIndex() & (shards.length - 1)];
+                }
+            }
+
+            final int h = elem.hashCode();
+            return shards[(h ^ h >>> 16) & (shards.length - 1)];
+        }
+    }
+
+    /**
+     * Single timing wheel. All the methods except the pending queue operations are called by the executor thread only.
+     */
+    private final class Wheel<E> {
+        private final WheelDelayQueue<E> delayQueue;
+
+        // elements, whose timeout has been set or removed since the last tick
+        private final Queue<E> pending = new ConcurrentLinkedQueue<>();
+
+        private final Map<E, Node<E>> nodes = new HashMap<>();
+        private final Slot<E>[][] slots;
+        // elements with timeouts beyond the wheel span, re-checked once per the upper level rotation
+        private final Slot<E> overflow = new Slot<>();
+
+        // the last processed tick
+        private long currentTick = -1;
+
+        @SuppressWarnings("unchecked")
+        Wheel(final WheelDelayQueue<E> delayQueue) {
+            this.delayQueue = delayQueue;
+
+            slots = new Slot[LEVELS][WHEEL_SIZE];
+            for (int i = 0; i < LEVELS; i++) {
+                for (int j = 0; j < WHEEL_SIZE; j++) {
+                    slots[i][j] = new Slot<>();
+                }
+            }
+        }
+
+        void advance(final long currentTimeMillis) {
+            final long targetTick = toTick(currentTimeMillis);
+            if (currentTick == -1) {
+                currentTick = targetTick - 1;
+            }
+
+            E elem;
+            while ((elem = pending.poll()) != null) {
+                schedule(elem);
+            }
+
+            while (currentTick < targetTick) {
+                currentTick++;
+                cascade();
+
+                Node<E> node = slots[0][(int) (currentTick & WHEEL_MASK)].detachAll();
+                while (node != null) {
+                    final Node<E> next = node.next;
+                    node.next = null;
+                    check(node, currentTimeMillis);
+                    node = next;
+                }
+            }
+        }
+
+        /**
+         * (Re)inserts the element according to its current {@link Resolver} timeout.
+         */
+        private void schedule(final E elem) {
+            final Wheel<E> shard = delayQueue.shardFor(elem);
+            if (shard != this) {
+                // the connection has been moved to another SelectorRunner
+                final Node<E> node = nodes.remove(elem);
+                if (node != null) {
+                    node.unlink();
+                }
+
+                shard.pending.offer(elem);
+                return;
+            }
+
+            final long timeoutMillis = delayQueue.resolver.getTimeoutMillis(elem);
+            Node<E> node = nodes.get(elem);
+
+            if (timeoutMillis == UNSET_TIMEOUT) {
+                if (node != null) {
+                    node.unlink();
+                    nodes.remove(elem);
+                }
+
+                return;
+            }
+
+            if (node == null) {
+                node = new Node<>(elem);
+                nodes.put(elem, node);
+            } else {
+                node.unlink();
+            }
+
+            insert(node, toTick(timeoutMillis));
+        }
+
+        /**
+         * Checks the due node against its element's current {@link Resolver} timeout, the same way the polling
+         * {@link DelayedExecutor} does.
+         */
+        private void check(final Node<E> node, final long currentTimeMillis) {
+            final E element = node.element;
+            if (delayQueue.shardFor(element) != this) {
+                schedule(element);
+                return;
+            }
+
+            final Resolver<E> resolver = delayQueue.resolver;
+            final long timeoutMillis = resolver.getTimeoutMillis(element);
+
+            if (timeoutMillis == UNSET_TIMEOUT) {
+                nodes.remove(element);
+                if (wasModified(timeoutMillis, resolver.getTimeoutMillis(element))) {
+                    schedule(element);
+                }
+            } else if (currentTimeMillis - timeoutMillis >= 0) {
+                nodes.remove(element);
+                if (wasModified(timeoutMillis, resolver.getTimeoutMillis(element))) {
+                    schedule(element);
+                } else {
+                    try {
+                        if (!delayQueue.worker.doWork(element)) {
+                            schedule(element);
+                        }
+                    } catch (Exception ignored) {
+                    }
+                }
+            } else {
+                insert(node, toTick(timeoutMillis));
+            }
+        }
+
+        private void insert(final Node<E> node, long deadlineTick) {
+            if (deadlineTick <= currentTick) {
+                deadlineTick = currentTick + 1;
+            }
+
+            final long delta = deadlineTick - currentTick;
+            node.deadlineTick = deadlineTick;
+
+            if (delta >= WHEEL_SPAN) {
+                overflow.add(node);
+                return;
+            }
+
+            int level = 0;
+            while (delta >= 1L << (WHEEL_BITS * (level + 1))) {
+                level++;
+            }
+
+            slots[level][(int) ((deadlineTick >>> (WHEEL_BITS * level)) & WHEEL_MASK)].add(node);
+        }
+
+        /**
+         * Moves the nodes of the upper level slots, which became due, to the lower levels.
+         */
+        private void cascade() {
+            for (int level = 1; level < LEVELS; level++) {
+                if ((currentTick & ((1L << (WHEEL_BITS * level)) - 1)) != 0) {
+                    return;
+                }
+
+                reinsert(slots[level][(int) ((currentTick >>> (WHEEL_BITS * level)) & WHEEL_MASK)]);
+            }
+
+            // the upper level has moved, so the overflow timeouts might fit into the wheel now
+            reinsert(overflow);
+        }
+
+        private void reinsert(final Slot<E> slot) {
+            Node<E> node = slot.detachAll();
+            while (node != null) {
+                final Node<E> next = node.next;
+                node.next = null;
+                insert(node, node.deadlineTick);
+                node = next;
+            }
+        }
+    }
+
+    private static final class Slot<E> {
+        private Node<E> head;
+
+        boolean isEmpty() {
+            return head == null;
+        }
+
+        void add(final Node<E> node) {
+            node.slot = this;
+            node.prev = null;
+            node.next = head;
+            if (head != null) {
+                head.prev = node;
+            }
+
+            head = node;
+        }
+
+        /**
+         * Detaches and returns all the slot's nodes as a singly linked list.
+         */
+        Node<E> detachAll() {
+            final Node<E> first = head;
+            head = null;
+
+            for (Node<E> node = first; node != null; node = node.next) {
+                node.slot = null;
+                node.prev = null;
+            }
+
+            return first;
+        }
+    }
+
+    private static final class Node<E> {
+        private final E element;
+        private long deadlineTick;
+
+        private Slot<E> slot;
+        private Node<E> prev;
+        private Node<E> next;
+
+        Node(final E element) {
+            this.element = element;
+        }
+
+        void unlink() {
+            if (slot == null) {
+                return;
+            }
+
+            if (prev != null) {
+                prev.next = next;
+            } else {
+                slot.head = next;
+            }
+
+            if (next != null) {
+                next.prev = prev;
+            }
+
+            slot = null;
+            prev = null;
+            next = null;
+        }
+    }
+}
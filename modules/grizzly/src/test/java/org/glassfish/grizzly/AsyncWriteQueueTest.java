@@ -17,6 +17,7 @@
 package org.glassfish.grizzly;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -513,6 +514,124 @@ public class AsyncWriteQueueTest {
         }
     }
 
+    @Test
+    public void testCorkedWrites() throws Exception {
+        final String[] messages = { "Hello", " corked", " world" };
+        final String expected = "Hello corked world";
+
+        final FutureImpl<String> serverFuture = SafeFutureImpl.create();
+
+        FilterChainBuilder filterChainBuilder = FilterChainBuilder.stateless();
+        filterChainBuilder.add(new TransportFilter());
+        filterChainBuilder.add(new AccumulatingFilter(expected.length(), serverFuture));
+
+        final TCPNIOTransport transport = createTransport(isOptimizedForMultiplexing);
+        transport.setProcessor(filterChainBuilder.build());
+
+        Connection connection = null;
+        try {
+            transport.bind(PORT);
+            transport.start();
+
+            connection = transport.connect("localhost", PORT).get(10, TimeUnit.SECONDS);
+            final NIOConnection nioConnection = (NIOConnection) connection;
+
+            final List<FutureImpl<WriteResult>> writeFutures = new ArrayList<>();
+
+            nioConnection.cork();
+            for (String message : messages) {
+                final FutureImpl<WriteResult> writeFuture = SafeFutureImpl.create();
+                connection.write(Buffers.wrap(transport.getMemoryManager(), message), Futures.toCompletionHandler(writeFuture));
+                writeFutures.add(writeFuture);
+            }
+
+            // nothing is written, until the connection is uncorked
+            Thread.sleep(100);
+            for (FutureImpl<WriteResult> writeFuture : writeFutures) {
+                assertFalse(writeFuture.isDone());
+            }
+            assertFalse(serverFuture.isDone());
+
+            nioConnection.uncork();
+
+            for (FutureImpl<WriteResult> writeFuture : writeFutures) {
+                writeFuture.get(10, TimeUnit.SECONDS);
+            }
+            assertEquals(expected, serverFuture.get(10, TimeUnit.SECONDS));
+            assertEquals(0, nioConnection.getAsyncWriteQueue().spaceInBytes());
+        } finally {
+            if (connection != null) {
+                connection.closeSilently();
+            }
+
+            transport.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testAutoCork() throws Exception {
+        final String request = "ping";
+        final String expected = "pong pong pong";
+
+        final FutureImpl<Integer> completedOnReturn = SafeFutureImpl.create();
+        final FutureImpl<String> clientFuture = SafeFutureImpl.create();
+
+        FilterChainBuilder filterChainBuilder = FilterChainBuilder.stateless();
+        filterChainBuilder.add(new TransportFilter());
+        filterChainBuilder.add(new BaseFilter() {
+            @Override
+            public NextAction handleRead(FilterChainContext ctx) throws IOException {
+                final Buffer buffer = ctx.getMessage();
+                buffer.tryDispose();
+
+                // several small responses per read
+                final AtomicInteger completed = new AtomicInteger();
+                final CompletionHandler<WriteResult> completionHandler = new EmptyCompletionHandler<WriteResult>() {
+                    @Override
+                    public void completed(WriteResult result) {
+                        completed.incrementAndGet();
+                    }
+                };
+
+                final MemoryManager mm = ctx.getMemoryManager();
+                ctx.write(Buffers.wrap(mm, "pong"), completionHandler);
+                ctx.write(Buffers.wrap(mm, " pong"), completionHandler);
+                ctx.write(Buffers.wrap(mm, " pong"), completionHandler);
+
+                // the responses are flushed, once the read processing is over
+                completedOnReturn.result(((NIOConnection) ctx.getConnection()).isCorked() ? completed.get() : -1);
+
+                return ctx.getStopAction();
+            }
+        });
+
+        final TCPNIOTransport transport = TCPNIOTransportBuilder.newInstance().setOptimizedForMultiplexing(isOptimizedForMultiplexing)
+                .setAutoCorkEnabled(true).build();
+        transport.setProcessor(filterChainBuilder.build());
+
+        Connection connection = null;
+        try {
+            transport.bind(PORT);
+            transport.start();
+
+            final FilterChain clientFilterChain = FilterChainBuilder.stateless().add(new TransportFilter())
+                    .add(new AccumulatingFilter(expected.length(), clientFuture)).build();
+            connection = TCPNIOConnectorHandler.builder(transport).processor(clientFilterChain).build().connect("localhost", PORT).get(10,
+                    TimeUnit.SECONDS);
+
+            connection.write(Buffers.wrap(transport.getMemoryManager(), request));
+
+            assertEquals(expected, clientFuture.get(10, TimeUnit.SECONDS));
+            assertEquals(Integer.valueOf(0), completedOnReturn.get(10, TimeUnit.SECONDS));
+        } finally {
+            if (connection != null) {
+                connection.closeSilently();
+            }
+
+            transport.shutdownNow();
+        }
+    }
+
     // ---------------------------------------------------------- Nested Classes
 
     private static class WriteQueueHandler implements WriteHandler {
@@ -540,4 +659,28 @@ public class AsyncWriteQueueTest {
         }
 
     } // END WriteQueueFreeSpaceMonitor
+
+    private static class AccumulatingFilter extends BaseFilter {
+        private final int size;
+        private final FutureImpl<String> future;
+        private final StringBuilder received = new StringBuilder();
+
+        public AccumulatingFilter(final int size, final FutureImpl<String> future) {
+            this.size = size;
+            this.future = future;
+        }
+
+        @Override
+        public NextAction handleRead(final FilterChainContext ctx) throws IOException {
+            final Buffer buffer = ctx.getMessage();
+            received.append(buffer.toStringContent(Charsets.ASCII_CHARSET));
+            buffer.tryDispose();
+
+            if (received.length() >= size) {
+                future.result(received.toString());
+            }
+
+            return ctx.getStopAction();
+        }
+    } // END AccumulatingFilter
 }
@@ -22,10 +22,19 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
+import org.glassfish.grizzly.attributes.AtomicAttributeHolder;
 import org.glassfish.grizzly.attributes.Attribute;
 import org.glassfish.grizzly.attributes.AttributeBuilder;
 import org.glassfish.grizzly.attributes.AttributeHolder;
@@ -44,21 +53,21 @@ import org.junit.runners.Parameterized;
 public class AttributesTest {
 
     @Parameterized.Parameters
-    public static Collection<Object[]> isSafe() {
-        return Arrays.asList(new Object[][] { { Boolean.FALSE }, { Boolean.TRUE } });
+    public static Collection<Object[]> holderType() {
+        return Arrays.asList(new Object[][] { { "unsafe" }, { "safe" }, { "atomic" } });
     }
 
-    private final boolean isSafe;
+    private final String holderType;
 
-    public AttributesTest(final boolean isSafe) {
-        this.isSafe = isSafe;
+    public AttributesTest(final String holderType) {
+        this.holderType = holderType;
     }
 
     @SuppressWarnings("unchecked")
     @Test
     public void testAttributes() {
         AttributeBuilder builder = new DefaultAttributeBuilder();
-        AttributeHolder holder = isSafe ? builder.createSafeAttributeHolder() : builder.createUnsafeAttributeHolder();
+        AttributeHolder holder = createHolder(builder);
 
         final int attrCount = 10;
 
@@ -100,7 +109,7 @@ public class AttributesTest {
     @Test
     public void testAttributeGetWithNullaryFunctionOnEmptyHolder() {
         AttributeBuilder builder = new DefaultAttributeBuilder();
-        AttributeHolder holder = isSafe ? builder.createSafeAttributeHolder() : builder.createUnsafeAttributeHolder();
+        AttributeHolder holder = createHolder(builder);
 
         final Attribute<String> attr = builder.createAttribute("attribute", new NullaryFunction<String>() {
             @Override
@@ -118,7 +127,7 @@ public class AttributesTest {
     @Test
     public void testAttributeGetWithoutInitializerOnEmptyHolder() {
         AttributeBuilder builder = new DefaultAttributeBuilder();
-        AttributeHolder holder = isSafe ? builder.createSafeAttributeHolder() : builder.createUnsafeAttributeHolder();
+        AttributeHolder holder = createHolder(builder);
 
         final Attribute<String> attr = builder.createAttribute("attribute");
 
@@ -126,4 +135,148 @@ public class AttributesTest {
         assertEquals(null, attr.get(holder));
         assertFalse(attr.isSet(holder));
     }
+
+    @Test
+    public void testConcurrentAccess() throws Exception {
+        // IndexedAttributeHolder may lose a value set concurrently with the holder growth
+        if (!"atomic".equals(holderType)) {
+            return;
+        }
+
+        final AttributeBuilder builder = new DefaultAttributeBuilder();
+        final AttributeHolder holder = createHolder(builder);
+
+        final int threadsCount = 4;
+        final int attrsPerThread = 50;
+
+        final Attribute[][] attrs = new Attribute[threadsCount][attrsPerThread];
+        for (int i = 0; i < threadsCount; i++) {
+            for (int j = 0; j < attrsPerThread; j++) {
+                attrs[i][j] = builder.createAttribute("attribute-" + i + "-" + j);
+            }
+        }
+
+        final CyclicBarrier barrier = new CyclicBarrier(threadsCount);
+        final ExecutorService executor = Executors.newFixedThreadPool(threadsCount);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threadsCount; i++) {
+                final Attribute[] threadAttrs = attrs[i];
+                futures.add(executor.submit(new Callable<Void>() {
+                    @Override
+                    @SuppressWarnings("unchecked")
+                    public Void call() throws Exception {
+                        barrier.await();
+                        // each new attribute makes the holder grow, while the other threads update their attributes
+                        for (int j = 0; j < threadAttrs.length; j++) {
+                            threadAttrs[j].set(holder, j);
+                            for (int k = 0; k <= j; k++) {
+                                threadAttrs[k].set(holder, (Integer) threadAttrs[k].get(holder) + 1);
+                            }
+                        }
+                        return null;
+                    }
+                }));
+            }
+
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        for (int i = 0; i < threadsCount; i++) {
+            for (int j = 0; j < attrsPerThread; j++) {
+                // j + (attrsPerThread - j) increments
+                assertEquals(attrsPerThread, attrs[i][j].get(holder));
+            }
+        }
+
+        assertEquals(threadsCount * attrsPerThread, holder.getAttributeNames().size());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testSetDuringGrowth() throws Exception {
+        // IndexedAttributeHolder may lose a value set concurrently with the holder growth
+        if (!"atomic".equals(holderType)) {
+            return;
+        }
+
+        final int writersCount = 3;
+
+        final AttributeBuilder builder = new DefaultAttributeBuilder();
+        final Attribute[] counters = new Attribute[writersCount];
+        for (int i = 0; i < writersCount; i++) {
+            counters[i] = builder.createAttribute("counter-" + i);
+        }
+
+        final Attribute[] growAttrs = new Attribute[64];
+        for (int i = 0; i < growAttrs.length; i++) {
+            growAttrs[i] = builder.createAttribute("grow-" + i);
+        }
+
+        final ExecutorService executor = Executors.newFixedThreadPool(writersCount + 1);
+        try {
+            for (int round = 0; round < 10000; round++) {
+                final AttributeHolder holder = createHolder(builder);
+                for (Attribute counter : counters) {
+                    counter.set(holder, 0);
+                }
+
+                final CyclicBarrier barrier = new CyclicBarrier(writersCount + 1);
+                final Future<?> grower = executor.submit(new Callable<Void>() {
+                    @Override
+                    @SuppressWarnings("unchecked")
+                    public Void call() throws Exception {
+                        barrier.await();
+                        // the values are copied several times
+                        for (Attribute growAttr : growAttrs) {
+                            growAttr.set(holder, Boolean.TRUE);
+                        }
+                        return null;
+                    }
+                });
+
+                final List<Future<?>> writers = new ArrayList<>();
+                for (final Attribute counter : counters) {
+                    writers.add(executor.submit(new Callable<Void>() {
+                        @Override
+                        @SuppressWarnings("unchecked")
+                        public Void call() throws Exception {
+                            barrier.await();
+                            int value = 0;
+                            while (!grower.isDone()) {
+                                counter.set(holder, ++value);
+                                // the counter is set by this thread only
+                                assertEquals(value, counter.get(holder));
+                            }
+                            return null;
+                        }
+                    }));
+                }
+
+                grower.get(10, TimeUnit.SECONDS);
+                for (Future<?> writer : writers) {
+                    writer.get(10, TimeUnit.SECONDS);
+                }
+
+                assertEquals(growAttrs.length + writersCount, holder.getAttributeNames().size());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private AttributeHolder createHolder(final AttributeBuilder builder) {
+        switch (holderType) {
+        case "safe":
+            return builder.createSafeAttributeHolder();
+        case "atomic":
+            return new AtomicAttributeHolder(builder);
+        default:
+            return builder.createUnsafeAttributeHolder();
+        }
+    }
 }
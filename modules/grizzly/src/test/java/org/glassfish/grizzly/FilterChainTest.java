@@ -226,6 +226,35 @@ public class FilterChainTest extends TestCase {
         resultFuture.get(10, SECONDS);
     }
 
+    public void testCompiledChainEvents() throws Exception {
+        Connection connection = new TCPNIOConnection(TCPNIOTransportBuilder.newInstance().build(), null);
+
+        FilterChain chain = FilterChainBuilder.stateless().compiled(true).add(new EventCounterFilter(0)).add(new BaseFilter()).add(new EventCounterFilter(1))
+                .add(new BaseFilter()).add(new BaseFilter()).add(new EventCounterFilter(2)).build();
+
+        counterAttr.set(connection, new AtomicInteger(0));
+        FutureImpl<FilterChainContext> resultFuture = Futures.createSafeFuture();
+        chain.fireEventUpstream(connection, INC_EVENT, Futures.toCompletionHandler(resultFuture));
+        resultFuture.get(10, SECONDS);
+        assertEquals(3, counterAttr.get(connection).get());
+
+        counterAttr.set(connection, new AtomicInteger(2));
+        resultFuture = Futures.createSafeFuture();
+        chain.fireEventDownstream(connection, DEC_EVENT, Futures.toCompletionHandler(resultFuture));
+        resultFuture.get(10, SECONDS);
+        assertEquals(-1, counterAttr.get(connection).get());
+
+        // the skipped filters have to be resolved again after the chain is changed
+        chain.set(1, new EventCounterFilter(1));
+        chain.set(2, new BaseFilter());
+
+        counterAttr.set(connection, new AtomicInteger(0));
+        resultFuture = Futures.createSafeFuture();
+        chain.fireEventUpstream(connection, INC_EVENT, Futures.toCompletionHandler(resultFuture));
+        resultFuture.get(10, SECONDS);
+        assertEquals(3, counterAttr.get(connection).get());
+    }
+
     public void testFlush() throws Exception {
         TCPNIOTransport transport = TCPNIOTransportBuilder.newInstance().build();
         MemoryManager mm = transport.getMemoryManager();
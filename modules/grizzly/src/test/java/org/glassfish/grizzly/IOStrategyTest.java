@@ -44,6 +44,8 @@ import org.glassfish.grizzly.nio.transport.TCPNIOTransportBuilder;
 import org.glassfish.grizzly.strategies.LeaderFollowerNIOStrategy;
 import org.glassfish.grizzly.strategies.SameThreadIOStrategy;
 import org.glassfish.grizzly.strategies.SimpleDynamicNIOStrategy;
+import org.glassfish.grizzly.strategies.VirtualThreadIOStrategy;
+import org.glassfish.grizzly.strategies.WorkStealingIOStrategy;
 import org.glassfish.grizzly.strategies.WorkerThreadIOStrategy;
 import org.glassfish.grizzly.utils.Charsets;
 import org.glassfish.grizzly.utils.StringFilter;
@@ -69,7 +71,8 @@ public class IOStrategyTest {
     @Parameters
     public static Collection<Object[]> getIOStrategy() {
         return Arrays.asList(new Object[][] { { WorkerThreadIOStrategy.getInstance() }, { LeaderFollowerNIOStrategy.getInstance() },
-                { SameThreadIOStrategy.getInstance() }, { SimpleDynamicNIOStrategy.getInstance() } });
+                { SameThreadIOStrategy.getInstance() }, { SimpleDynamicNIOStrategy.getInstance() }, { WorkStealingIOStrategy.getInstance() },
+                { VirtualThreadIOStrategy.getInstance() } });
     }
 
     @Before
@@ -19,6 +19,8 @@ package org.glassfish.grizzly;
 import java.io.IOException;
 import java.security.SecureRandom;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
@@ -31,6 +33,7 @@ import org.glassfish.grizzly.nio.transport.TCPNIOTransport;
 import org.glassfish.grizzly.nio.transport.TCPNIOTransportBuilder;
 import org.glassfish.grizzly.utils.DelayedExecutor;
 import org.glassfish.grizzly.utils.IdleTimeoutFilter;
+import org.glassfish.grizzly.utils.TimingWheelDelayedExecutor;
 
 /**
  * Test {@link IdleTimeoutFilter}
@@ -51,10 +54,23 @@ public class IdleConnectionFilterTest extends GrizzlyTestCase {
     }
 
     public void testAcceptedConnectionIdleTimeout() throws Exception {
+        doTestAcceptedConnectionIdleTimeout(IdleTimeoutFilter.createDefaultIdleDelayedExecutor(), 0);
+    }
+
+    public void testAcceptedConnectionIdleTimeoutTimingWheel() throws Exception {
+        final ExecutorService threadPool = Executors.newSingleThreadExecutor();
+        try {
+            // the connection processing takes several ticks, so the wheel sees the "infinite" processing timeout
+            doTestAcceptedConnectionIdleTimeout(new TimingWheelDelayedExecutor(threadPool, 100, TimeUnit.MILLISECONDS, 2), 500);
+        } finally {
+            threadPool.shutdownNow();
+        }
+    }
+
+    private void doTestAcceptedConnectionIdleTimeout(final DelayedExecutor timeoutExecutor, final long processingDelayMillis) throws Exception {
         Connection connection = null;
 
         final CountDownLatch latch = new CountDownLatch(1);
-        final DelayedExecutor timeoutExecutor = IdleTimeoutFilter.createDefaultIdleDelayedExecutor();
         timeoutExecutor.start();
         IdleTimeoutFilter idleTimeoutFilter = new IdleTimeoutFilter(timeoutExecutor, 2, TimeUnit.SECONDS);
 
@@ -67,9 +83,26 @@ public class IdleConnectionFilterTest extends GrizzlyTestCase {
             @Override
             public NextAction handleAccept(FilterChainContext ctx) throws IOException {
                 acceptedConnection = ctx.getConnection();
+                delay();
                 return ctx.getInvokeAction();
             }
 
+            @Override
+            public NextAction handleConnect(FilterChainContext ctx) throws IOException {
+                delay();
+                return ctx.getInvokeAction();
+            }
+
+            private void delay() throws IOException {
+                if (processingDelayMillis > 0) {
+                    try {
+                        Thread.sleep(processingDelayMillis);
+                    } catch (InterruptedException e) {
+                        throw new IOException(e);
+                    }
+                }
+            }
+
             @Override
             public NextAction handleClose(FilterChainContext ctx) throws IOException {
                 if (ctx.getConnection().equals(acceptedConnection)) {
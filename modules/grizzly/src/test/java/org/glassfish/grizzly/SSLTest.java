@@ -31,12 +31,16 @@ import java.security.cert.CertificateException;
 import java.security.cert.X509Certificate;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -45,6 +49,7 @@ import javax.net.ssl.KeyManagerFactory;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLEngine;
 import javax.net.ssl.SSLHandshakeException;
+import javax.net.ssl.SSLSession;
 import javax.net.ssl.TrustManager;
 import javax.net.ssl.X509TrustManager;
 
@@ -65,11 +70,15 @@ import org.glassfish.grizzly.memory.MemoryManager;
 import org.glassfish.grizzly.nio.transport.TCPNIOConnectorHandler;
 import org.glassfish.grizzly.nio.transport.TCPNIOTransport;
 import org.glassfish.grizzly.nio.transport.TCPNIOTransportBuilder;
+import org.glassfish.grizzly.ssl.SSLBaseFilter;
 import org.glassfish.grizzly.ssl.SSLContextConfigurator;
 import org.glassfish.grizzly.ssl.SSLEngineConfigurator;
 import org.glassfish.grizzly.ssl.SSLFilter;
+import org.glassfish.grizzly.ssl.SSLSessionResumption;
+import org.glassfish.grizzly.ssl.SSLSessionResumptionProbe;
 import org.glassfish.grizzly.ssl.SSLStreamReader;
 import org.glassfish.grizzly.ssl.SSLStreamWriter;
+import org.glassfish.grizzly.strategies.SameThreadIOStrategy;
 import org.glassfish.grizzly.streams.StreamReader;
 import org.glassfish.grizzly.streams.StreamWriter;
 import org.glassfish.grizzly.utils.ChunkingFilter;
@@ -370,6 +379,283 @@ public class SSLTest {
 
     }
 
+    @Test
+    public void testDelegatedTaskExecutor() throws Exception {
+        final ExecutorService delegatedTaskExecutor = Executors.newFixedThreadPool(2);
+        try {
+            doTestDelegatedTaskExecutor(delegatedTaskExecutor);
+        } finally {
+            delegatedTaskExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testDelegatedTaskExecutorRejected() throws Exception {
+        // the tasks are executed by the thread processing the handshake
+        doTestDelegatedTaskExecutor(new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                throw new RejectedExecutionException();
+            }
+        });
+    }
+
+    private void doTestDelegatedTaskExecutor(final Executor delegatedTaskExecutor) throws Exception {
+        Connection connection = null;
+        SSLContextConfigurator sslContextConfigurator = createSSLContextConfigurator();
+        SSLEngineConfigurator clientSSLEngineConfigurator = null;
+        SSLEngineConfigurator serverSSLEngineConfigurator = null;
+
+        if (sslContextConfigurator.validateConfiguration(true)) {
+            clientSSLEngineConfigurator = new SSLEngineConfigurator(createSSLContext(), true, false, false);
+            serverSSLEngineConfigurator = new SSLEngineConfigurator(sslContextConfigurator.createSSLContext(true), false, false, false);
+        } else {
+            fail("Failed to validate SSLContextConfiguration.");
+        }
+
+        final AtomicInteger submittedCount = new AtomicInteger();
+        final AtomicInteger completedCount = new AtomicInteger();
+        final AtomicInteger handshakeCompletedCount = new AtomicInteger();
+
+        final SSLFilter serverSSLFilter = new SSLFilter(serverSSLEngineConfigurator, null);
+        serverSSLFilter.setDelegatedTaskExecutor(delegatedTaskExecutor);
+        serverSSLFilter.addHandshakeListener(new SSLBaseFilter.HandshakeListener() {
+            @Override
+            public void onStart(Connection<?> connection) {
+            }
+
+            @Override
+            public void onComplete(Connection<?> connection) {
+                handshakeCompletedCount.incrementAndGet();
+            }
+
+            @Override
+            public void onFailure(Connection<?> connection, Throwable t) {
+            }
+
+            @Override
+            public void onDelegatedTasksSubmitted(Connection<?> connection, int pendingCount) {
+                assertTrue(pendingCount > 0);
+                submittedCount.incrementAndGet();
+            }
+
+            @Override
+            public void onDelegatedTasksComplete(Connection<?> connection, long queueTimeNanos, long executionTimeNanos) {
+                assertTrue(queueTimeNanos >= 0);
+                assertTrue(executionTimeNanos >= 0);
+                completedCount.incrementAndGet();
+            }
+        });
+
+        FilterChainBuilder filterChainBuilder = FilterChainBuilder.stateless();
+        filterChainBuilder.add(new TransportFilter());
+        filterChainBuilder.add(serverSSLFilter);
+        filterChainBuilder.add(new EchoFilter());
+
+        // the handshake is processed by the selector threads
+        TCPNIOTransport transport = TCPNIOTransportBuilder.newInstance().setIOStrategy(SameThreadIOStrategy.getInstance()).build();
+        transport.setProcessor(filterChainBuilder.build());
+        transport.setMemoryManager(manager);
+
+        final FutureImpl<String> echoFuture = Futures.createSafeFuture();
+        TCPNIOTransport cTransport = TCPNIOTransportBuilder.newInstance().build();
+        FilterChainBuilder clientChain = FilterChainBuilder.stateless();
+        clientChain.add(new TransportFilter());
+        clientChain.add(new SSLFilter(null, clientSSLEngineConfigurator));
+        clientChain.add(new StringFilter());
+        clientChain.add(new BaseFilter() {
+            @Override
+            public NextAction handleRead(FilterChainContext ctx) throws IOException {
+                echoFuture.result((String) ctx.getMessage());
+                return ctx.getStopAction();
+            }
+        });
+        cTransport.setProcessor(clientChain.build());
+        cTransport.setMemoryManager(manager);
+
+        try {
+            transport.bind(PORT);
+            transport.start();
+
+            cTransport.start();
+
+            Future<Connection> future = cTransport.connect("localhost", PORT);
+            connection = future.get(10, TimeUnit.SECONDS);
+            assertNotNull(connection);
+
+            connection.write("message");
+            assertEquals("message", echoFuture.get(10, TimeUnit.SECONDS));
+
+            assertEquals(1, handshakeCompletedCount.get());
+            assertTrue(submittedCount.get() > 0);
+            assertEquals(submittedCount.get(), completedCount.get());
+            assertEquals(0, serverSSLFilter.getPendingDelegatedTasksCount());
+        } finally {
+            if (connection != null) {
+                connection.closeSilently();
+            }
+            cTransport.shutdownNow();
+            transport.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testSessionResumption() throws Exception {
+        SSLContextConfigurator sslContextConfigurator = createSSLContextConfigurator();
+        SSLEngineConfigurator clientSSLEngineConfigurator = null;
+        SSLEngineConfigurator serverSSLEngineConfigurator = null;
+
+        if (sslContextConfigurator.validateConfiguration(true)) {
+            clientSSLEngineConfigurator = new SSLEngineConfigurator(createSSLContext(), true, false, false);
+            serverSSLEngineConfigurator = new SSLEngineConfigurator(sslContextConfigurator.createSSLContext(true), false, false, false);
+        } else {
+            fail("Failed to validate SSLContextConfiguration.");
+        }
+
+        final SSLSessionResumption serverResumption = new SSLSessionResumption().setSessionCacheSize(16).setSessionTimeout(1, TimeUnit.MINUTES);
+        serverSSLEngineConfigurator.setSessionResumption(serverResumption);
+        final SSLSessionResumption clientResumption = new SSLSessionResumption();
+        clientSSLEngineConfigurator.setSessionResumption(clientResumption);
+
+        assertEquals(16, serverSSLEngineConfigurator.getSslContext().getServerSessionContext().getSessionCacheSize());
+        assertEquals(60, serverSSLEngineConfigurator.getSslContext().getServerSessionContext().getSessionTimeout());
+
+        final AtomicInteger resumedEventsCount = new AtomicInteger();
+        serverResumption.getMonitoringConfig().addProbes(new SSLSessionResumptionProbe() {
+            @Override
+            public void onResumedHandshakeEvent(Connection<?> connection, SSLSession session) {
+                resumedEventsCount.incrementAndGet();
+            }
+        });
+
+        FilterChainBuilder filterChainBuilder = FilterChainBuilder.stateless();
+        filterChainBuilder.add(new TransportFilter());
+        filterChainBuilder.add(new SSLFilter(serverSSLEngineConfigurator, null));
+        filterChainBuilder.add(new EchoFilter());
+
+        TCPNIOTransport transport = TCPNIOTransportBuilder.newInstance().build();
+        transport.setProcessor(filterChainBuilder.build());
+        transport.setMemoryManager(manager);
+
+        final AtomicReference<FutureImpl<String>> echoFutureRef = new AtomicReference<>();
+        TCPNIOTransport cTransport = TCPNIOTransportBuilder.newInstance().build();
+        FilterChainBuilder clientChain = FilterChainBuilder.stateless();
+        clientChain.add(new TransportFilter());
+        clientChain.add(new SSLFilter(null, clientSSLEngineConfigurator));
+        clientChain.add(new StringFilter());
+        clientChain.add(new BaseFilter() {
+            @Override
+            public NextAction handleRead(FilterChainContext ctx) throws IOException {
+                echoFutureRef.get().result((String) ctx.getMessage());
+                return ctx.getStopAction();
+            }
+        });
+        cTransport.setProcessor(clientChain.build());
+        cTransport.setMemoryManager(manager);
+
+        try {
+            transport.bind(PORT);
+            transport.start();
+
+            cTransport.start();
+
+            for (int i = 0; i < 2; i++) {
+                final FutureImpl<String> echoFuture = Futures.createSafeFuture();
+                echoFutureRef.set(echoFuture);
+
+                final Connection connection = cTransport.connect("localhost", PORT).get(10, TimeUnit.SECONDS);
+                try {
+                    connection.write("message" + i);
+                    assertEquals("message" + i, echoFuture.get(10, TimeUnit.SECONDS));
+                } finally {
+                    connection.closeSilently();
+                }
+            }
+
+            assertEquals(1, serverResumption.getFullHandshakesCount());
+            assertEquals(1, serverResumption.getResumedHandshakesCount());
+            assertEquals(0.5f, serverResumption.getResumptionRatio(), 0.001f);
+            assertEquals(1, resumedEventsCount.get());
+            assertEquals(1, clientResumption.getFullHandshakesCount());
+            assertEquals(1, clientResumption.getResumedHandshakesCount());
+        } finally {
+            cTransport.shutdownNow();
+            transport.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testBatchedWrap() throws Exception {
+        Connection connection = null;
+        SSLContextConfigurator sslContextConfigurator = createSSLContextConfigurator();
+        SSLEngineConfigurator clientSSLEngineConfigurator = null;
+        SSLEngineConfigurator serverSSLEngineConfigurator = null;
+
+        if (sslContextConfigurator.validateConfiguration(true)) {
+            clientSSLEngineConfigurator = new SSLEngineConfigurator(createSSLContext(), true, false, false);
+            serverSSLEngineConfigurator = new SSLEngineConfigurator(sslContextConfigurator.createSSLContext(true), false, false, false);
+        } else {
+            fail("Failed to validate SSLContextConfiguration.");
+        }
+
+        final SSLFilter serverSSLFilter = new SSLFilter(serverSSLEngineConfigurator, null);
+        serverSSLFilter.setMaxWrapBatchSize(64 * 1024);
+
+        FilterChainBuilder filterChainBuilder = FilterChainBuilder.stateless();
+        filterChainBuilder.add(new TransportFilter());
+        filterChainBuilder.add(serverSSLFilter);
+        filterChainBuilder.add(new EchoFilter());
+
+        TCPNIOTransport transport = TCPNIOTransportBuilder.newInstance().build();
+        transport.setProcessor(filterChainBuilder.build());
+        transport.setMemoryManager(manager);
+
+        final SSLFilter clientSSLFilter = new SSLFilter(null, clientSSLEngineConfigurator);
+        clientSSLFilter.setMaxWrapBatchSize(16 * 1024);
+
+        final FutureImpl<String> echoFuture = Futures.createSafeFuture();
+        TCPNIOTransport cTransport = TCPNIOTransportBuilder.newInstance().build();
+        FilterChainBuilder clientChain = FilterChainBuilder.stateless();
+        clientChain.add(new TransportFilter());
+        clientChain.add(clientSSLFilter);
+        clientChain.add(new StringFilter());
+        clientChain.add(new BaseFilter() {
+            @Override
+            public NextAction handleRead(FilterChainContext ctx) throws IOException {
+                echoFuture.result((String) ctx.getMessage());
+                return ctx.getStopAction();
+            }
+        });
+        cTransport.setProcessor(clientChain.build());
+        cTransport.setMemoryManager(manager);
+
+        final char[] chars = new char[1024 * 1024];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = (char) ('a' + i % 26);
+        }
+        final String message = new String(chars);
+
+        try {
+            transport.bind(PORT);
+            transport.start();
+
+            cTransport.start();
+
+            Future<Connection> future = cTransport.connect("localhost", PORT);
+            connection = future.get(10, TimeUnit.SECONDS);
+            assertNotNull(connection);
+
+            connection.write(message);
+            assertEquals(message, echoFuture.get(10, TimeUnit.SECONDS));
+        } finally {
+            if (connection != null) {
+                connection.closeSilently();
+            }
+            cTransport.shutdownNow();
+            transport.shutdownNow();
+        }
+    }
+
     // ------------------------------------------------------- Protected Methods
 
     protected void doTestPingPongFilterChain(boolean isBlocking, int turnAroundsNum, int filterIndex, Filter... filters) throws Exception {
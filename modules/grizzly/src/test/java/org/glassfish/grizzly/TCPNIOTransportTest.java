@@ -29,9 +29,15 @@ import static org.junit.Assert.fail;
 import java.io.IOException;
 import java.lang.reflect.Field;
 import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
 import java.nio.channels.SelectableChannel;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
@@ -49,12 +55,18 @@ import org.glassfish.grizzly.filterchain.NextAction;
 import org.glassfish.grizzly.filterchain.TransportFilter;
 import org.glassfish.grizzly.impl.FutureImpl;
 import org.glassfish.grizzly.impl.SafeFutureImpl;
+import org.glassfish.grizzly.memory.Buffers;
 import org.glassfish.grizzly.memory.ByteBufferWrapper;
+import org.glassfish.grizzly.memory.CompositeBuffer;
+import org.glassfish.grizzly.memory.MemoryManager;
+import org.glassfish.grizzly.memory.PooledMemoryManager;
 import org.glassfish.grizzly.nio.AbstractNIOConnectionDistributor;
+import org.glassfish.grizzly.nio.LoadAwareConnectionDistributor;
 import org.glassfish.grizzly.nio.NIOConnection;
 import org.glassfish.grizzly.nio.NIOTransport;
 import org.glassfish.grizzly.nio.RegisterChannelResult;
 import org.glassfish.grizzly.nio.SelectorRunner;
+import org.glassfish.grizzly.nio.transport.EwmaReceiveBufferSizingPolicy;
 import org.glassfish.grizzly.nio.transport.TCPNIOConnectorHandler;
 import org.glassfish.grizzly.nio.transport.TCPNIOServerConnection;
 import org.glassfish.grizzly.nio.transport.TCPNIOTransport;
@@ -508,6 +520,329 @@ public class TCPNIOTransportTest {
 
     // --------------------------------------------------------- Private Methods
 
+    @Test
+    public void testCompositeBufferGatherWrite() throws Exception {
+        logger.info("Starting test");
+
+        // more chunks than a single gathering write may take
+        final int chunksCount = TCPNIOTransport.MAX_GATHER_BUFFERS * 3;
+        final int chunkSize = 1000;
+        final int totalSize = chunksCount * chunkSize;
+
+        final FutureImpl<byte[]> serverFuture = SafeFutureImpl.create();
+        final byte[] received = new byte[totalSize];
+
+        FilterChainBuilder filterChainBuilder = FilterChainBuilder.stateless();
+        filterChainBuilder.add(new TransportFilter());
+        filterChainBuilder.add(new BaseFilter() {
+            private int receivedSize;
+
+            @Override
+            public NextAction handleRead(FilterChainContext ctx) throws IOException {
+                final Buffer buffer = ctx.getMessage();
+                final int size = buffer.remaining();
+                buffer.get(received, receivedSize, size);
+                buffer.tryDispose();
+
+                receivedSize += size;
+                if (receivedSize == totalSize) {
+                    serverFuture.result(received);
+                }
+
+                return ctx.getStopAction();
+            }
+        });
+
+        Connection<?> connection = null;
+        TCPNIOTransport transport = TCPNIOTransportBuilder.newInstance().build();
+        transport.setProcessor(filterChainBuilder.build());
+
+        try {
+            bindToPort(transport);
+
+            Future<Connection> future = transport.connect("localhost", PORT);
+            connection = future.get(10, SECONDS);
+            assertTrue(connection != null);
+
+            final MemoryManager mm = transport.getMemoryManager();
+            final byte[] expected = new byte[totalSize];
+            final CompositeBuffer composite = CompositeBuffer.newBuffer(mm);
+            for (int i = 0; i < chunksCount; i++) {
+                // mix direct and heap chunks
+                final Buffer chunk = (i % 3 == 0) ? Buffers.wrap(mm, new byte[chunkSize]) : new ByteBufferWrapper(ByteBuffer.allocateDirect(chunkSize));
+                for (int j = 0; j < chunkSize; j++) {
+                    final byte b = (byte) (i + j);
+                    chunk.put(j, b);
+                    expected[i * chunkSize + j] = b;
+                }
+                composite.append(chunk);
+            }
+
+            connection.write(composite);
+
+            assertTrue(Arrays.equals(expected, serverFuture.get(10, SECONDS)));
+        } finally {
+            if (connection != null) {
+                connection.closeSilently();
+            }
+
+            transport.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testAdaptiveReads() throws Exception {
+        logger.info("Starting test");
+
+        final int totalSize = 1024 * 1024;
+
+        final FutureImpl<byte[]> serverFuture = SafeFutureImpl.create();
+        final byte[] received = new byte[totalSize];
+        final AtomicInteger compositeReads = new AtomicInteger();
+
+        FilterChainBuilder filterChainBuilder = FilterChainBuilder.stateless();
+        filterChainBuilder.add(new TransportFilter());
+        filterChainBuilder.add(new BaseFilter() {
+            private int receivedSize;
+
+            @Override
+            public NextAction handleRead(FilterChainContext ctx) throws IOException {
+                final Buffer buffer = ctx.getMessage();
+                if (buffer.isComposite()) {
+                    compositeReads.incrementAndGet();
+                }
+
+                final int size = buffer.remaining();
+                buffer.get(received, receivedSize, size);
+                buffer.tryDispose();
+
+                receivedSize += size;
+                if (receivedSize == totalSize) {
+                    serverFuture.result(received);
+                }
+
+                return ctx.getStopAction();
+            }
+        });
+
+        Connection<?> connection = null;
+        TCPNIOTransport transport = TCPNIOTransportBuilder.newInstance().setAdaptiveReadsEnabled(true).setReadBufferSize(8192)
+                .setMemoryManager(new PooledMemoryManager(true)).build();
+        transport.setProcessor(filterChainBuilder.build());
+
+        try {
+            bindToPort(transport);
+
+            Future<Connection> future = transport.connect("localhost", PORT);
+            connection = future.get(10, SECONDS);
+            assertTrue(connection != null);
+
+            final byte[] expected = new byte[totalSize];
+            for (int i = 0; i < totalSize; i++) {
+                expected[i] = (byte) i;
+            }
+
+            connection.write(Buffers.wrap(transport.getMemoryManager(), expected));
+
+            assertTrue(Arrays.equals(expected, serverFuture.get(10, SECONDS)));
+            // the bulk transfer made the connection read more than its read buffer size at once
+            assertTrue(compositeReads.get() > 0);
+        } finally {
+            if (connection != null) {
+                connection.closeSilently();
+            }
+
+            transport.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testReceiveBufferSizingPolicy() throws Exception {
+        logger.info("Starting test");
+
+        final int readBufferSize = 64 * 1024;
+        final BlockingQueue<Connection> serverReads = new LinkedTransferQueue<>();
+        final BlockingQueue<Integer> resizes = new LinkedTransferQueue<>();
+
+        FilterChainBuilder filterChainBuilder = FilterChainBuilder.stateless();
+        filterChainBuilder.add(new TransportFilter());
+        filterChainBuilder.add(new BaseFilter() {
+            @Override
+            public NextAction handleRead(FilterChainContext ctx) throws IOException {
+                final Buffer buffer = ctx.getMessage();
+                buffer.tryDispose();
+                serverReads.offer(ctx.getConnection());
+                return ctx.getStopAction();
+            }
+        });
+
+        Connection<?> connection = null;
+        TCPNIOTransport transport = TCPNIOTransportBuilder.newInstance().setReadBufferSize(readBufferSize)
+                .setReceiveBufferSizingPolicy(new EwmaReceiveBufferSizingPolicy()).build();
+        transport.setProcessor(filterChainBuilder.build());
+        transport.getConnectionMonitoringConfig().addProbes(new ConnectionProbe.Adapter() {
+            @Override
+            public void onReadBufferResizeEvent(Connection connection, int oldSize, int newSize) {
+                resizes.offer(newSize);
+            }
+        });
+
+        try {
+            bindToPort(transport);
+
+            Future<Connection> future = transport.connect("localhost", PORT);
+            connection = future.get(10, SECONDS);
+            assertTrue(connection != null);
+
+            // small requests on a keep-alive connection
+            Connection<?> serverConnection = null;
+            for (int i = 0; i < 30; i++) {
+                connection.write(Buffers.wrap(transport.getMemoryManager(), new byte[100]));
+                serverConnection = serverReads.poll(10, SECONDS);
+                assertNotNull(serverConnection);
+            }
+
+            assertTrue(serverConnection.getReadBufferSize() < readBufferSize);
+            assertTrue(serverConnection.getReadBufferSize() >= EwmaReceiveBufferSizingPolicy.DEFAULT_MIN_SIZE);
+            assertEquals(Integer.valueOf(serverConnection.getReadBufferSize()), resizes.toArray()[resizes.size() - 1]);
+        } finally {
+            if (connection != null) {
+                connection.closeSilently();
+            }
+
+            transport.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testLoadAwareConnectionDistributor() throws Exception {
+        logger.info("Starting test");
+
+        final int connectionsCount = 12;
+        final BlockingQueue<Integer> sampledRunners = new LinkedTransferQueue<>();
+
+        FilterChainBuilder filterChainBuilder = FilterChainBuilder.stateless();
+        filterChainBuilder.add(new TransportFilter());
+        filterChainBuilder.add(new EchoFilter());
+
+        final Connection<?>[] connections = new Connection[connectionsCount];
+        TCPNIOTransport transport = TCPNIOTransportBuilder.newInstance().build();
+        transport.setProcessor(filterChainBuilder.build());
+        transport.setSelectorRunnersCount(4);
+
+        final LoadAwareConnectionDistributor distributor = new LoadAwareConnectionDistributor(transport, true);
+        // sample the load on every registration
+        distributor.setSamplingInterval(0, SECONDS);
+        transport.setNIOChannelDistributor(distributor);
+        transport.getMonitoringConfig().addProbes(new TransportProbe.Adapter() {
+            @Override
+            public void onSelectorRunnerLoadEvent(Transport transport, int runnerIndex, int registeredKeysCount, float selectedKeysRate,
+                    int pendingTasksCount) {
+                sampledRunners.offer(runnerIndex);
+            }
+        });
+
+        try {
+            final TCPNIOServerConnection serverConnection = transport.bind(PORT);
+            transport.start();
+
+            final Set<SelectorRunner> runners = new HashSet<>();
+            for (int i = 0; i < connectionsCount; i++) {
+                connections[i] = transport.connect("localhost", PORT).get(10, SECONDS);
+                runners.add(((NIOConnection) connections[i]).getSelectorRunner());
+            }
+
+            // the dedicated acceptor runner has only the server channel
+            assertEquals(1, serverConnection.getSelectorRunner().getRegisteredKeysCount());
+            assertEquals(3, runners.size());
+
+            // the client and the accepted channels are spread among the other runners evenly
+            for (SelectorRunner runner : runners) {
+                final int keysCount = runner.getRegisteredKeysCount();
+                assertTrue("Runner " + runner.getIndex() + " has " + keysCount + " channels", keysCount >= connectionsCount * 2 / 3 - 1);
+            }
+
+            assertTrue(sampledRunners.contains(0));
+            assertTrue(sampledRunners.contains(3));
+        } finally {
+            for (Connection<?> connection : connections) {
+                if (connection != null) {
+                    connection.closeSilently();
+                }
+            }
+
+            transport.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testReusePortAcceptors() throws Exception {
+        if (!TCPNIOTransport.isReusePortSupported()) {
+            logger.info("SO_REUSEPORT is not supported, skipping the test");
+            return;
+        }
+
+        logger.info("Starting test");
+
+        final int connectionsCount = 16;
+        final ConcurrentMap<Connection, Connection> acceptors = new ConcurrentHashMap<>();
+
+        FilterChainBuilder filterChainBuilder = FilterChainBuilder.stateless();
+        filterChainBuilder.add(new TransportFilter());
+        filterChainBuilder.add(new EchoFilter());
+
+        final Connection<?>[] connections = new Connection[connectionsCount];
+        TCPNIOTransport transport = TCPNIOTransportBuilder.newInstance().setReusePortEnabled(true).setSelectorRunnersCount(4).build();
+        transport.setProcessor(filterChainBuilder.build());
+        transport.getConnectionMonitoringConfig().addProbes(new ConnectionProbe.Adapter() {
+            @Override
+            public void onAcceptEvent(Connection serverConnection, Connection clientConnection) {
+                acceptors.put(clientConnection, serverConnection);
+            }
+        });
+
+        try {
+            final TCPNIOServerConnection serverConnection = transport.bind(PORT);
+            transport.start();
+
+            for (int i = 0; i < connectionsCount; i++) {
+                connections[i] = transport.connect("localhost", PORT).get(10, SECONDS);
+
+                connections[i].write(Buffers.wrap(transport.getMemoryManager(), "Hello"));
+            }
+
+            final long deadline = System.currentTimeMillis() + 10000;
+            while (acceptors.size() < connectionsCount && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+
+            assertEquals(connectionsCount, acceptors.size());
+
+            // the accepted connections are served by the runner of the server socket, which has accepted them
+            for (Map.Entry<Connection, Connection> entry : acceptors.entrySet()) {
+                final SelectorRunner acceptorRunner = ((NIOConnection) entry.getValue()).getSelectorRunner();
+                assertEquals(acceptorRunner, ((NIOConnection) entry.getKey()).getSelectorRunner());
+            }
+
+            // unbinding the returned connection closes all the server sockets
+            transport.unbind(serverConnection);
+
+            try {
+                transport.connect("localhost", PORT).get(10, SECONDS);
+                fail("The port is still bound");
+            } catch (ExecutionException expected) {
+            }
+        } finally {
+            for (Connection<?> connection : connections) {
+                if (connection != null) {
+                    connection.closeSilently();
+                }
+            }
+
+            transport.shutdownNow();
+        }
+    }
+
     protected void doTestParallelWrites(int packetsNumber, int size, boolean blocking) throws Exception {
         Connection<?> connection = null;
 
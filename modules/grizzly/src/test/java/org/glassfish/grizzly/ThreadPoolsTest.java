@@ -17,19 +17,30 @@
 package org.glassfish.grizzly;
 
 import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
 
 import java.lang.reflect.Field;
 import java.util.Map;
 import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.glassfish.grizzly.nio.transport.TCPNIOTransport;
 import org.glassfish.grizzly.nio.transport.TCPNIOTransportBuilder;
 import org.glassfish.grizzly.strategies.SameThreadIOStrategy;
 import org.glassfish.grizzly.strategies.WorkerThreadIOStrategy;
 import org.glassfish.grizzly.threadpool.AbstractThreadPool;
+import org.glassfish.grizzly.threadpool.AffinityRunnable;
 import org.glassfish.grizzly.threadpool.FixedThreadPool;
+import org.glassfish.grizzly.threadpool.GrizzlyExecutorService;
 import org.glassfish.grizzly.threadpool.SyncThreadPool;
 import org.glassfish.grizzly.threadpool.ThreadPoolConfig;
+import org.glassfish.grizzly.threadpool.ThreadPoolProbe;
+import org.glassfish.grizzly.threadpool.Threads;
+import org.glassfish.grizzly.threadpool.VirtualThreadPool;
+import org.glassfish.grizzly.threadpool.WorkStealingThreadPool;
 import org.junit.Test;
 
 public class ThreadPoolsTest {
@@ -90,4 +101,170 @@ public class ThreadPoolsTest {
             tcpTransport.shutdownNow();
         }
     }
+
+    @Test
+    public void testWorkStealingThreadPool() throws Exception {
+        final ThreadPoolConfig config = ThreadPoolConfig.defaultConfig().setCorePoolSize(2).setMaxPoolSize(2).setAffinityGroupsCount(2);
+        final GrizzlyExecutorService executorService = GrizzlyExecutorService.createInstance(config);
+        Field poolField = GrizzlyExecutorService.class.getDeclaredField("pool");
+        poolField.setAccessible(true);
+        final WorkStealingThreadPool pool = (WorkStealingThreadPool) poolField.get(executorService);
+        assertEquals(2, pool.getGroupsCount());
+
+        try {
+            // block the only worker of the group 0
+            final CountDownLatch blockerStarted = new CountDownLatch(1);
+            final CountDownLatch releaseBlocker = new CountDownLatch(1);
+            executorService.execute(new TestAffinityRunnable(0) {
+                @Override
+                public void run() {
+                    blockerStarted.countDown();
+                    try {
+                        releaseBlocker.await();
+                    } catch (InterruptedException ignored) {
+                    }
+                }
+            });
+            assertTrue(blockerStarted.await(10, TimeUnit.SECONDS));
+
+            // the tasks queued to the group 0 are stolen by the group 1 worker
+            final int tasksCount = 100;
+            final CountDownLatch tasksLatch = new CountDownLatch(tasksCount);
+            for (int i = 0; i < tasksCount; i++) {
+                executorService.execute(new TestAffinityRunnable(0) {
+                    @Override
+                    public void run() {
+                        tasksLatch.countDown();
+                    }
+                });
+            }
+
+            assertTrue(tasksLatch.await(10, TimeUnit.SECONDS));
+            assertTrue(pool.getStolenTasksCount() > 0);
+            releaseBlocker.countDown();
+        } finally {
+            executorService.shutdown();
+        }
+
+        assertTrue(executorService.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testVirtualThreadPool() throws Exception {
+        final ThreadPoolConfig config = ThreadPoolConfig.defaultConfig().copy().setMaxPoolSize(2);
+        if (!Threads.isVirtualThreadsSupported()) {
+            // exercise the pool with platform threads
+            config.setThreadFactory(new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable r) {
+                    return new Thread(r);
+                }
+            });
+        }
+
+        final AtomicInteger queuedCount = new AtomicInteger();
+        final AtomicInteger dequeuedCount = new AtomicInteger();
+        final AtomicInteger completedCount = new AtomicInteger();
+        final AtomicInteger allocatedCount = new AtomicInteger();
+        config.getInitialMonitoringConfig().addProbes(new ThreadPoolProbe.Adapter() {
+            @Override
+            public void onTaskQueueEvent(AbstractThreadPool threadPool, Runnable task) {
+                queuedCount.incrementAndGet();
+            }
+
+            @Override
+            public void onTaskDequeueEvent(AbstractThreadPool threadPool, Runnable task) {
+                dequeuedCount.incrementAndGet();
+            }
+
+            @Override
+            public void onTaskCompleteEvent(AbstractThreadPool threadPool, Runnable task) {
+                completedCount.incrementAndGet();
+            }
+
+            @Override
+            public void onThreadAllocateEvent(AbstractThreadPool threadPool, Thread thread) {
+                allocatedCount.incrementAndGet();
+            }
+        });
+
+        final VirtualThreadPool pool = new VirtualThreadPool(config);
+
+        final int tasksCount = 10;
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        final CountDownLatch tasksLatch = new CountDownLatch(tasksCount);
+        for (int i = 0; i < tasksCount; i++) {
+            pool.execute(new Runnable() {
+                @Override
+                public void run() {
+                    final int current = running.incrementAndGet();
+                    int max;
+                    while ((max = maxRunning.get()) < current && !maxRunning.compareAndSet(max, current)) {
+                    }
+
+                    try {
+                        Thread.sleep(20);
+                    } catch (InterruptedException ignored) {
+                    }
+
+                    running.decrementAndGet();
+                    tasksLatch.countDown();
+                }
+            });
+        }
+
+        assertTrue(tasksLatch.await(10, TimeUnit.SECONDS));
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+
+        // the max pool size limits the number of concurrently running threads
+        assertTrue(maxRunning.get() <= 2);
+        assertEquals(tasksCount, queuedCount.get());
+        assertEquals(tasksCount, dequeuedCount.get());
+        assertEquals(tasksCount, completedCount.get());
+        assertTrue(allocatedCount.get() >= 2);
+    }
+
+    @Test
+    public void testVirtualThreadsEnabled() throws Exception {
+        final GrizzlyExecutorService executorService = GrizzlyExecutorService
+                .createInstance(ThreadPoolConfig.defaultConfig().copy().setVirtualThreadsEnabled(true));
+        Field poolField = GrizzlyExecutorService.class.getDeclaredField("pool");
+        poolField.setAccessible(true);
+
+        try {
+            // falls back to platform threads on JDK 20 and older
+            assertEquals(Threads.isVirtualThreadsSupported(), poolField.get(executorService) instanceof VirtualThreadPool);
+            assertEquals(Threads.isVirtualThreadsSupported(), executorService.getConfiguration().isVirtualThreadsEnabled());
+
+            final CountDownLatch latch = new CountDownLatch(1);
+            final AtomicInteger virtual = new AtomicInteger();
+            executorService.execute(new Runnable() {
+                @Override
+                public void run() {
+                    virtual.set(Threads.isVirtual(Thread.currentThread()) ? 1 : 0);
+                    latch.countDown();
+                }
+            });
+
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+            assertEquals(Threads.isVirtualThreadsSupported() ? 1 : 0, virtual.get());
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private abstract static class TestAffinityRunnable implements AffinityRunnable {
+        private final int affinity;
+
+        TestAffinityRunnable(final int affinity) {
+            this.affinity = affinity;
+        }
+
+        @Override
+        public int getAffinity() {
+            return affinity;
+        }
+    }
 }
@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.glassfish.grizzly.utils.DelayedExecutor;
+import org.glassfish.grizzly.utils.TimingWheelDelayedExecutor;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test {@link TimingWheelDelayedExecutor}.
+ */
+public class TimingWheelDelayedExecutorTest {
+    private static final long TICK_MILLIS = 10;
+
+    private ExecutorService threadPool;
+    private DelayedExecutor executor;
+
+    @Before
+    public void setUp() {
+        threadPool = Executors.newSingleThreadExecutor();
+        executor = new TimingWheelDelayedExecutor(threadPool, TICK_MILLIS, TimeUnit.MILLISECONDS, 4);
+        executor.start();
+    }
+
+    @After
+    public void tearDown() {
+        executor.destroy();
+        threadPool.shutdownNow();
+    }
+
+    @Test
+    public void testExpire() throws Exception {
+        final int count = 1000;
+        final CountDownLatch latch = new CountDownLatch(count);
+        final Set<Element> expired = ConcurrentHashMap.newKeySet();
+
+        final DelayedExecutor.DelayQueue<Element> queue = executor.createDelayQueue(element -> {
+            expired.add(element);
+            latch.countDown();
+            return true;
+        }, new ElementResolver());
+
+        final long startMillis = System.currentTimeMillis();
+        for (int i = 0; i < count; i++) {
+            // spread the timeouts over several wheel levels
+            queue.add(new Element(), i % 2 == 0 ? 50 : 1000, TimeUnit.MILLISECONDS);
+        }
+
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertTrue(System.currentTimeMillis() - startMillis >= 1000);
+        assertEquals(count, expired.size());
+    }
+
+    @Test
+    public void testRemove() throws Exception {
+        final CountDownLatch latch = new CountDownLatch(1);
+        final Set<Element> expired = ConcurrentHashMap.newKeySet();
+
+        final DelayedExecutor.DelayQueue<Element> queue = executor.createDelayQueue(element -> {
+            expired.add(element);
+            latch.countDown();
+            return true;
+        }, new ElementResolver());
+
+        final Element removed = new Element();
+        final Element kept = new Element();
+        queue.add(removed, 100, TimeUnit.MILLISECONDS);
+        queue.add(kept, 200, TimeUnit.MILLISECONDS);
+        queue.remove(removed);
+
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        Thread.sleep(100);
+        assertTrue(expired.contains(kept));
+        assertFalse(expired.contains(removed));
+    }
+
+    @Test
+    public void testTimeoutChangedWithoutReAdding() throws Exception {
+        final CountDownLatch latch = new CountDownLatch(2);
+        final Set<Element> expired = ConcurrentHashMap.newKeySet();
+
+        final DelayedExecutor.DelayQueue<Element> queue = executor.createDelayQueue(element -> {
+            expired.add(element);
+            latch.countDown();
+            return true;
+        }, new ElementResolver());
+
+        final Element extended = new Element();
+        final Element shortened = new Element();
+        final long startMillis = System.currentTimeMillis();
+        queue.add(extended, 100, TimeUnit.MILLISECONDS);
+        queue.add(shortened, Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+        Thread.sleep(TICK_MILLIS * 5);
+
+        // extend the timeout the way IdleTimeoutFilter does, without re-adding the element
+        extended.timeoutMillis = startMillis + 500;
+        // shorten the "infinite" timeout
+        shortened.timeoutMillis = System.currentTimeMillis() + 100;
+        queue.reschedule(shortened);
+
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertTrue(System.currentTimeMillis() - startMillis >= 500);
+        assertEquals(2, expired.size());
+    }
+
+    @Test
+    public void testInfiniteTimeoutsNotPolled() throws Exception {
+        final ElementResolver resolver = new ElementResolver();
+        final DelayedExecutor.DelayQueue<Element> queue = executor.createDelayQueue(element -> true, resolver);
+
+        for (int i = 0; i < 100; i++) {
+            queue.add(new Element(), Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+        }
+
+        Thread.sleep(TICK_MILLIS * 10);
+        final int checksCount = resolver.checksCount.get();
+        assertTrue(checksCount >= 100);
+
+        Thread.sleep(TICK_MILLIS * 20);
+        assertEquals(checksCount, resolver.checksCount.get());
+    }
+
+    @Test
+    public void testReRegisterOnUnfinishedWork() throws Exception {
+        final CountDownLatch latch = new CountDownLatch(3);
+
+        final DelayedExecutor.DelayQueue<Element> queue = executor.createDelayQueue(element -> {
+            latch.countDown();
+            return latch.getCount() == 0;
+        }, new ElementResolver());
+
+        queue.add(new Element(), 50, TimeUnit.MILLISECONDS);
+
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+    }
+
+    private static final class Element {
+        private volatile long timeoutMillis = DelayedExecutor.UNSET_TIMEOUT;
+    }
+
+    private static final class ElementResolver implements DelayedExecutor.Resolver<Element> {
+        private final AtomicInteger checksCount = new AtomicInteger();
+
+        @Override
+        public boolean removeTimeout(final Element element) {
+            if (element.timeoutMillis != DelayedExecutor.UNSET_TIMEOUT) {
+                element.timeoutMillis = DelayedExecutor.UNSET_TIMEOUT;
+                return true;
+            }
+
+            return false;
+        }
+
+        @Override
+        public long getTimeoutMillis(final Element element) {
+            checksCount.incrementAndGet();
+            return element.timeoutMillis;
+        }
+
+        @Override
+        public void setTimeoutMillis(final Element element, final long timeoutMillis) {
+            element.timeoutMillis = timeoutMillis;
+        }
+    }
+}
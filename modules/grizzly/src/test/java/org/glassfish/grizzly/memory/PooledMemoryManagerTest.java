@@ -39,11 +39,17 @@ import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.glassfish.grizzly.Buffer;
+import org.glassfish.grizzly.Grizzly;
 import org.glassfish.grizzly.memory.PooledMemoryManager.PoolSlice;
+import org.glassfish.grizzly.threadpool.DefaultWorkerThread;
+import org.glassfish.grizzly.threadpool.ThreadPoolConfig;
+import org.glassfish.grizzly.threadpool.Threads;
+import org.glassfish.grizzly.threadpool.VirtualThreadPool;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
@@ -249,6 +255,214 @@ public class PooledMemoryManagerTest {
         assertEquals(1, probe.bufferAllocatedFromPool.get());
     }
 
+    @Test
+    public void testMagazineAllocationAndDispose() throws Exception {
+
+        PooledMemoryManager mm = new PooledMemoryManager(DEFAULT_BASE_BUFFER_SIZE, 1, 0, 1, DEFAULT_HEAP_USAGE_PERCENTAGE,
+                DEFAULT_PREALLOCATED_BUFFERS_PERCENTAGE, isDirect, 4);
+        assertEquals(4, mm.getMagazineSize());
+
+        final TestProbe probe = new TestProbe();
+        mm.getMonitoringConfig().addProbes(probe);
+
+        final WorkerThreadExecutor worker = new WorkerThreadExecutor();
+        try {
+            worker.execute(() -> {
+                // the 1st allocation refills the empty magazine with a batch of 2 buffers
+                final Buffer b1 = mm.allocate(4096);
+                assertEquals(1, probe.magazineMiss.get());
+                assertEquals(0, probe.magazineHit.get());
+                assertEquals(2, probe.bufferAllocatedFromPool.get());
+
+                final Buffer b2 = mm.allocate(4096);
+                assertEquals(1, probe.magazineHit.get());
+
+                final Buffer b3 = mm.allocate(4096);
+                assertEquals(2, probe.magazineMiss.get());
+                assertEquals(4, probe.bufferAllocatedFromPool.get());
+
+                // released buffers stay in the magazine
+                b1.tryDispose();
+                b2.tryDispose();
+                b3.tryDispose();
+                assertEquals(0, probe.bufferReleasedToPool.get());
+
+                mm.allocate(4096).tryDispose();
+                assertEquals(2, probe.magazineHit.get());
+                assertEquals(2, probe.magazineMiss.get());
+                assertEquals(4, probe.bufferAllocatedFromPool.get());
+                assertEquals(0, probe.bufferAllocated.get());
+            });
+        } finally {
+            worker.shutdown();
+        }
+    }
+
+    @Test
+    public void testMagazineCrossThreadDispose() throws Exception {
+
+        PooledMemoryManager mm = new PooledMemoryManager(DEFAULT_BASE_BUFFER_SIZE, 1, 0, 1, DEFAULT_HEAP_USAGE_PERCENTAGE,
+                DEFAULT_PREALLOCATED_BUFFERS_PERCENTAGE, isDirect, 4);
+
+        final TestProbe probe = new TestProbe();
+        mm.getMonitoringConfig().addProbes(probe);
+
+        final int maxElementsCount = mm.getPools()[0].getSlices()[0].getMaxElementsCount();
+        final Buffer[] buffers = new Buffer[10];
+
+        final WorkerThreadExecutor allocator = new WorkerThreadExecutor();
+        final WorkerThreadExecutor releaser = new WorkerThreadExecutor();
+        try {
+            allocator.execute(() -> {
+                for (int i = 0; i < buffers.length; i++) {
+                    buffers[i] = mm.allocate(4096);
+                }
+            });
+
+            // the releasing thread's magazine drains the overflow to the pool in batches
+            releaser.execute(() -> {
+                for (Buffer buffer : buffers) {
+                    buffer.tryDispose();
+                }
+            });
+
+            assertEquals(6, probe.bufferReleasedToPool.get());
+            assertEquals(maxElementsCount - 4, mm.getPools()[0].elementsCount());
+        } finally {
+            allocator.shutdown();
+            releaser.shutdown();
+        }
+
+        // the magazine of the terminated releasing thread is returned to the pool
+        assertEquals(maxElementsCount, mm.getPools()[0].elementsCount());
+        assertEquals(10, probe.bufferReleasedToPool.get());
+    }
+
+    @Test
+    public void testTransientThreadDispose() throws Exception {
+
+        PooledMemoryManager mm = new PooledMemoryManager(DEFAULT_BASE_BUFFER_SIZE, 1, 0, 1, DEFAULT_HEAP_USAGE_PERCENTAGE,
+                DEFAULT_PREALLOCATED_BUFFERS_PERCENTAGE, isDirect, 4);
+
+        final TestProbe probe = new TestProbe();
+        mm.getMonitoringConfig().addProbes(probe);
+
+        final int maxElementsCount = mm.getPools()[0].getSlices()[0].getMaxElementsCount();
+        final Buffer[] buffers = new Buffer[10];
+
+        final WorkerThreadExecutor allocator = new WorkerThreadExecutor();
+        try {
+            allocator.execute(() -> {
+                for (int i = 0; i < buffers.length; i++) {
+                    buffers[i] = mm.allocate(4096);
+                }
+            });
+
+            final int magazineMisses = probe.magazineMiss.get();
+
+            // the thread, which is not a worker thread, doesn't cache the released buffers
+            final Thread releaser = new Thread(() -> {
+                for (Buffer buffer : buffers) {
+                    buffer.tryDispose();
+                }
+
+                mm.allocate(4096).tryDispose();
+            });
+            releaser.start();
+            releaser.join();
+
+            assertEquals(11, probe.bufferReleasedToPool.get());
+            assertEquals(magazineMisses, probe.magazineMiss.get());
+            assertEquals(maxElementsCount, mm.getPools()[0].elementsCount());
+        } finally {
+            allocator.shutdown();
+        }
+    }
+
+    @Test
+    public void testVirtualThreadPoolDispose() throws Exception {
+
+        PooledMemoryManager mm = new PooledMemoryManager(DEFAULT_BASE_BUFFER_SIZE, 1, 0, 1, DEFAULT_HEAP_USAGE_PERCENTAGE,
+                DEFAULT_PREALLOCATED_BUFFERS_PERCENTAGE, isDirect, 4);
+
+        final TestProbe probe = new TestProbe();
+        mm.getMonitoringConfig().addProbes(probe);
+
+        final ThreadPoolConfig config = ThreadPoolConfig.defaultConfig().copy().setMaxPoolSize(4);
+        if (!Threads.isVirtualThreadsSupported()) {
+            // exercise the pool with short-lived platform threads
+            config.setThreadFactory(Thread::new);
+        }
+
+        final int tasksCount = 20;
+        final CountDownLatch tasksLatch = new CountDownLatch(tasksCount);
+        final VirtualThreadPool pool = new VirtualThreadPool(config);
+        for (int i = 0; i < tasksCount; i++) {
+            pool.execute(() -> {
+                final Buffer[] buffers = new Buffer[3];
+                for (int j = 0; j < buffers.length; j++) {
+                    buffers[j] = mm.allocate(4096);
+                }
+
+                for (Buffer buffer : buffers) {
+                    buffer.tryDispose();
+                }
+
+                tasksLatch.countDown();
+            });
+        }
+
+        assertTrue(tasksLatch.await(10, TimeUnit.SECONDS));
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+
+        // the pool threads don't have magazines, so all the buffers are back in the pool
+        assertEquals(0, probe.magazineHit.get() + probe.magazineMiss.get());
+        assertEquals(tasksCount * 3, probe.bufferReleasedToPool.get());
+        assertEquals(mm.getPools()[0].getSlices()[0].getMaxElementsCount(), mm.getPools()[0].elementsCount());
+    }
+
+    @Test
+    public void testLeakDetection() throws Exception {
+
+        PooledMemoryManager mm = new PooledMemoryManager(DEFAULT_BASE_BUFFER_SIZE, 1, 0, 1, DEFAULT_HEAP_USAGE_PERCENTAGE,
+                DEFAULT_PREALLOCATED_BUFFERS_PERCENTAGE, isDirect);
+        assertEquals(LeakDetectionMode.DISABLED, mm.getLeakDetectionMode());
+
+        mm.setLeakDetection(LeakDetectionMode.PARANOID, 1);
+        assertEquals(LeakDetectionMode.PARANOID, mm.getLeakDetectionMode());
+
+        final TestProbe probe = new TestProbe();
+        mm.getMonitoringConfig().addProbes(probe);
+
+        // disposed buffers are not reported
+        final ArrayList<Buffer> buffers = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            final Buffer b = mm.allocate(4096);
+            b.split(1024).tryDispose();
+            buffers.add(b);
+        }
+        for (Buffer b : buffers) {
+            b.tryDispose();
+        }
+        buffers.clear();
+
+        // leak a single buffer
+        mm.allocate(4096).duplicate();
+
+        for (int i = 0; i < 100 && probe.bufferLeaked.get() == 0; i++) {
+            System.gc();
+            Thread.sleep(50);
+            // the leaks are checked on allocation
+            mm.allocate(4096).tryDispose();
+        }
+
+        assertEquals(1, probe.bufferLeaked.get());
+        assertEquals(1, mm.getLeakedBuffersCount());
+        // the allocation trace carries the last touch (duplicate) trace
+        assertEquals(1, probe.leakTrace.getSuppressed().length);
+    }
+
     @Test
     public void testSimpleCompositeAllocationAndDispose() throws Exception {
 
@@ -727,10 +941,38 @@ public class PooledMemoryManagerTest {
 
     // ---------------------------------------------------------- Nested Classes
 
+    /**
+     * Runs the tasks in a single {@link DefaultWorkerThread}, the thread is terminated on {@link #shutdown()}.
+     */
+    private static final class WorkerThreadExecutor {
+        private final AtomicReference<Thread> thread = new AtomicReference<>();
+        private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+            final Thread t = new DefaultWorkerThread(Grizzly.DEFAULT_ATTRIBUTE_BUILDER, "magazine-test", null, r);
+            thread.set(t);
+            return t;
+        });
+
+        void execute(final Runnable task) throws Exception {
+            executor.submit(task).get(10, TimeUnit.SECONDS);
+        }
+
+        void shutdown() throws InterruptedException {
+            executor.shutdown();
+            final Thread t = thread.get();
+            if (t != null) {
+                t.join(10000);
+            }
+        }
+    }
+
     static final class TestProbe implements MemoryProbe {
         final AtomicInteger bufferAllocated = new AtomicInteger();
         final AtomicInteger bufferAllocatedFromPool = new AtomicInteger();
         final AtomicInteger bufferReleasedToPool = new AtomicInteger();
+        final AtomicInteger magazineHit = new AtomicInteger();
+        final AtomicInteger magazineMiss = new AtomicInteger();
+        final AtomicInteger bufferLeaked = new AtomicInteger();
+        volatile Throwable leakTrace;
 
         @Override
         public void onBufferAllocateEvent(int size) {
@@ -746,5 +988,21 @@ public class PooledMemoryManagerTest {
         public void onBufferReleaseToPoolEvent(int size) {
             bufferReleasedToPool.incrementAndGet();
         }
+
+        @Override
+        public void onMagazineHitEvent(int size) {
+            magazineHit.incrementAndGet();
+        }
+
+        @Override
+        public void onMagazineMissEvent(int size) {
+            magazineMiss.incrementAndGet();
+        }
+
+        @Override
+        public void onBufferLeakEvent(int size, Throwable allocationTrace) {
+            leakTrace = allocationTrace;
+            bufferLeaked.incrementAndGet();
+        }
     }
 }
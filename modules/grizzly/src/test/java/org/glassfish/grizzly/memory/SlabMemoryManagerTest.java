@@ -0,0 +1,259 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.memory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.glassfish.grizzly.Buffer;
+import org.junit.Test;
+
+public class SlabMemoryManagerTest {
+
+    private static final int ARENA_SIZE = 64 * 1024;
+    private static final int SLAB_SIZE = 16 * 1024;
+    private static final int MIN_REGION_SIZE = 256;
+    private static final int MAX_REGION_SIZE = 4 * 1024;
+
+    @Test
+    public void testAllocateAndDispose() {
+        final SlabMemoryManager mm = new SlabMemoryManager(ARENA_SIZE, 1, SLAB_SIZE, MIN_REGION_SIZE, MAX_REGION_SIZE, 0);
+        final TestProbe probe = new TestProbe();
+        mm.getMonitoringConfig().addProbes(probe);
+
+        final Buffer b = mm.allocate(1000);
+        assertTrue(b.isDirect());
+        assertEquals(1000, b.limit());
+        assertEquals(1024, b.capacity());
+        assertEquals(1, mm.getArenasCount());
+        assertEquals(1024, mm.getUsedBytes());
+        assertEquals(1000, mm.getRequestedBytes());
+        assertEquals(1, probe.bufferAllocatedFromPool.get());
+
+        b.tryDispose();
+        assertEquals(0, mm.getUsedBytes());
+        assertEquals(0, mm.getRequestedBytes());
+        assertEquals(1, probe.bufferReleasedToPool.get());
+    }
+
+    @Test
+    public void testSlabsReusedAcrossSizeClasses() {
+        final SlabMemoryManager mm = new SlabMemoryManager(ARENA_SIZE, 1, SLAB_SIZE, MIN_REGION_SIZE, MAX_REGION_SIZE, 0);
+
+        // occupy the whole arena with the biggest size class
+        final List<Buffer> buffers = new ArrayList<>();
+        for (int i = 0; i < ARENA_SIZE / MAX_REGION_SIZE; i++) {
+            buffers.add(mm.allocate(MAX_REGION_SIZE));
+        }
+        assertEquals(ARENA_SIZE, mm.getAssignedBytes());
+        assertEquals(0, mm.getFragmentation(), 0.0001);
+
+        for (Buffer buffer : buffers) {
+            buffer.tryDispose();
+        }
+
+        // only one free slab is kept by the size class
+        assertEquals(SLAB_SIZE, mm.getAssignedBytes());
+
+        // the released slabs are reused by the smaller size class
+        buffers.clear();
+        for (int i = 0; i < (ARENA_SIZE - SLAB_SIZE) / MIN_REGION_SIZE; i++) {
+            final Buffer b = mm.allocate(MIN_REGION_SIZE);
+            assertTrue(b.isDirect());
+            buffers.add(b);
+        }
+        assertEquals(ARENA_SIZE, mm.getAssignedBytes());
+        assertEquals(1, mm.getArenasCount());
+    }
+
+    @Test
+    public void testArenasExhausted() {
+        final SlabMemoryManager mm = new SlabMemoryManager(SLAB_SIZE, 1, SLAB_SIZE, MIN_REGION_SIZE, MAX_REGION_SIZE, 0);
+        final TestProbe probe = new TestProbe();
+        mm.getMonitoringConfig().addProbes(probe);
+
+        final List<Buffer> buffers = new ArrayList<>();
+        for (int i = 0; i < SLAB_SIZE / MAX_REGION_SIZE; i++) {
+            assertTrue(mm.willAllocateDirect(MAX_REGION_SIZE));
+            final Buffer b = mm.allocate(MAX_REGION_SIZE);
+            assertTrue(b.isDirect());
+            buffers.add(b);
+        }
+
+        assertFalse(mm.willAllocateDirect(MAX_REGION_SIZE));
+        final Buffer heapBuffer = mm.allocate(MAX_REGION_SIZE);
+        assertFalse(heapBuffer.isDirect());
+        assertEquals(1, probe.bufferAllocated.get());
+
+        // the freed region is reused
+        buffers.get(0).tryDispose();
+        assertTrue(mm.willAllocateDirect(MAX_REGION_SIZE));
+        assertTrue(mm.allocate(MAX_REGION_SIZE).isDirect());
+    }
+
+    @Test
+    public void testCompositeAllocation() {
+        final SlabMemoryManager mm = new SlabMemoryManager(ARENA_SIZE, 1, SLAB_SIZE, MIN_REGION_SIZE, MAX_REGION_SIZE, 0);
+
+        final Buffer b = mm.allocate(MAX_REGION_SIZE * 2 + 100);
+        assertTrue(b.isComposite());
+        assertEquals(MAX_REGION_SIZE * 2 + 100, b.remaining());
+        assertEquals(MAX_REGION_SIZE * 2 + MIN_REGION_SIZE, mm.getUsedBytes());
+
+        b.tryDispose();
+        assertEquals(0, mm.getUsedBytes());
+    }
+
+    @Test
+    public void testReallocate() {
+        final SlabMemoryManager mm = new SlabMemoryManager(ARENA_SIZE, 1, SLAB_SIZE, MIN_REGION_SIZE, MAX_REGION_SIZE, 0);
+
+        Buffer b = mm.allocate(100);
+        b.put((byte) 1).put((byte) 2);
+
+        b = mm.reallocate(b, 2000);
+        assertEquals(2, b.position());
+        assertEquals(2000, b.limit());
+        assertEquals(2048, b.capacity());
+        assertEquals(1, b.get(0));
+        assertEquals(2, b.get(1));
+        assertEquals(2048, mm.getUsedBytes());
+
+        b = mm.reallocate(b, 10);
+        assertEquals(2, b.position());
+        assertEquals(10, b.limit());
+        assertEquals(MIN_REGION_SIZE, mm.getUsedBytes());
+
+        b.tryDispose();
+        assertEquals(0, mm.getUsedBytes());
+    }
+
+    @Test
+    public void testSplitBufferReleasedOnce() {
+        final SlabMemoryManager mm = new SlabMemoryManager(ARENA_SIZE, 1, SLAB_SIZE, MIN_REGION_SIZE, MAX_REGION_SIZE, 0);
+
+        final Buffer b = mm.allocate(1024);
+        final Buffer tail = b.split(512);
+        final Buffer slice = b.slice(0, 128);
+
+        b.tryDispose();
+        slice.tryDispose();
+        assertEquals(1024, mm.getUsedBytes());
+
+        tail.tryDispose();
+        assertEquals(0, mm.getUsedBytes());
+
+        // the second dispose is no-op
+        tail.tryDispose();
+        assertEquals(0, mm.getUsedBytes());
+    }
+
+    @Test
+    public void testDestroy() {
+        final SlabMemoryManager mm = new SlabMemoryManager(SLAB_SIZE, 2, SLAB_SIZE, MIN_REGION_SIZE, MAX_REGION_SIZE, 0);
+
+        final Buffer b1 = mm.allocate(MAX_REGION_SIZE);
+        final Buffer b2 = mm.allocate(MIN_REGION_SIZE);
+        assertEquals(2, mm.getArenasCount());
+        final ByteBuffer view1 = b1.toByteBuffer();
+        b1.tryDispose();
+
+        mm.destroy();
+        assertTrue(mm.isDestroyed());
+        // the arena is still used by b2
+        assertEquals(1, mm.getArenasCount());
+        assertFalse(mm.willAllocateDirect(MIN_REGION_SIZE));
+        assertFalse(mm.allocate(MIN_REGION_SIZE).isDirect());
+
+        final ByteBuffer view2 = b2.toByteBuffer();
+        b2.tryDispose();
+        assertEquals(0, mm.getArenasCount());
+        assertEquals(0, mm.getReservedBytes());
+
+        // the native memory of the released arenas is still accessible through the views
+        view1.put(0, (byte) 1);
+        view2.put(0, (byte) 2);
+        assertEquals(1, view1.get(0));
+        assertEquals(2, view2.get(0));
+    }
+
+    @Test
+    public void testLeakDetection() throws Exception {
+        final SlabMemoryManager mm = new SlabMemoryManager(ARENA_SIZE, 1, SLAB_SIZE, MIN_REGION_SIZE, MAX_REGION_SIZE, 1);
+        final TestProbe probe = new TestProbe();
+        mm.getMonitoringConfig().addProbes(probe);
+
+        mm.allocate(1000);
+        assertEquals(1024, mm.getUsedBytes());
+
+        for (int i = 0; i < 100 && mm.getLeakedBuffersCount() == 0; i++) {
+            System.gc();
+            Thread.sleep(50);
+            // the leaks are checked on allocation
+            mm.allocate(MIN_REGION_SIZE).tryDispose();
+        }
+
+        assertEquals(1, mm.getLeakedBuffersCount());
+        assertEquals(1, probe.bufferLeaked.get());
+        assertEquals(1024, probe.leakedBufferSize.get());
+        assertNotNull(probe.leakTrace.get());
+        // the leaked region has been reclaimed
+        assertEquals(0, mm.getUsedBytes());
+    }
+
+    // ---------------------------------------------------------- Nested Classes
+
+    private static final class TestProbe extends MemoryProbe.Adapter {
+
+        final AtomicInteger bufferAllocated = new AtomicInteger();
+        final AtomicInteger bufferAllocatedFromPool = new AtomicInteger();
+        final AtomicInteger bufferReleasedToPool = new AtomicInteger();
+        final AtomicInteger bufferLeaked = new AtomicInteger();
+        final AtomicInteger leakedBufferSize = new AtomicInteger();
+        final AtomicReference<Throwable> leakTrace = new AtomicReference<>();
+
+        @Override
+        public void onBufferAllocateEvent(int size) {
+            bufferAllocated.incrementAndGet();
+        }
+
+        @Override
+        public void onBufferAllocateFromPoolEvent(int size) {
+            bufferAllocatedFromPool.incrementAndGet();
+        }
+
+        @Override
+        public void onBufferReleaseToPoolEvent(int size) {
+            bufferReleasedToPool.incrementAndGet();
+        }
+
+        @Override
+        public void onBufferLeakEvent(int size, Throwable allocationTrace) {
+            bufferLeaked.incrementAndGet();
+            leakedBufferSize.set(size);
+            leakTrace.set(allocationTrace);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.nio;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.glassfish.grizzly.filterchain.FilterChainBuilder;
+import org.glassfish.grizzly.filterchain.TransportFilter;
+import org.glassfish.grizzly.nio.transport.TCPNIOServerConnection;
+import org.glassfish.grizzly.nio.transport.TCPNIOTransport;
+import org.glassfish.grizzly.nio.transport.TCPNIOTransportBuilder;
+import org.glassfish.grizzly.utils.EchoFilter;
+import org.junit.Test;
+
+/**
+ * Tests the {@link SelectorRunner} iterating the {@link SelectedSelectionKeySet}.
+ */
+public class SelectedSelectionKeySetTest {
+    private static final int CLIENTS_COUNT = 32;
+    private static final int MESSAGES_COUNT = 50;
+
+    @Test
+    public void testOptimizedSelectedKeySet() throws Exception {
+        final boolean isSupported;
+        try (Selector selector = Selector.open()) {
+            isSupported = Selectors.installSelectedKeySet(selector);
+        }
+
+        final TCPNIOTransport transport = createTransport(new DefaultSelectorHandler(30, TimeUnit.SECONDS, true));
+        try {
+            runEchoClients(transport);
+
+            // the replacement is done only, if the reflective access is allowed, otherwise the JDK key set is used
+            for (SelectorRunner runner : transport.getSelectorRunners()) {
+                assertEquals(isSupported, runner.getSelector().selectedKeys() instanceof SelectedSelectionKeySet);
+            }
+        } finally {
+            transport.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testIterateSelectedKeySet() throws Exception {
+        // iterates the keys by index regardless of the reflective access to the JDK Selector
+        final TCPNIOTransport transport = createTransport(new DefaultSelectorHandler() {
+            @Override
+            public Set<SelectionKey> select(final SelectorRunner selectorRunner) throws IOException {
+                final Set<SelectionKey> selectedKeys = super.select(selectorRunner);
+                final SelectedSelectionKeySet keySet = new SelectedSelectionKeySet();
+                for (SelectionKey key : selectedKeys) {
+                    keySet.add(key);
+                }
+
+                selectedKeys.clear();
+                return keySet;
+            }
+        });
+
+        try {
+            runEchoClients(transport);
+        } finally {
+            transport.shutdownNow();
+        }
+    }
+
+    private static TCPNIOTransport createTransport(final SelectorHandler selectorHandler) {
+        final FilterChainBuilder filterChainBuilder = FilterChainBuilder.stateless();
+        filterChainBuilder.add(new TransportFilter());
+        filterChainBuilder.add(new EchoFilter());
+
+        final TCPNIOTransport transport = TCPNIOTransportBuilder.newInstance().setSelectorHandler(selectorHandler).setSelectorRunnersCount(2).build();
+        transport.setProcessor(filterChainBuilder.build());
+        return transport;
+    }
+
+    private static void runEchoClients(final TCPNIOTransport transport) throws Exception {
+        final TCPNIOServerConnection serverConnection = transport.bind("localhost", 0);
+        transport.start();
+
+        final int port = ((InetSocketAddress) serverConnection.getLocalAddress()).getPort();
+
+        final ExecutorService executor = Executors.newFixedThreadPool(CLIENTS_COUNT);
+        try {
+            final List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < CLIENTS_COUNT; i++) {
+                final int clientId = i;
+                results.add(executor.submit(new Callable<Boolean>() {
+                    @Override
+                    public Boolean call() throws Exception {
+                        // the connections are opened and closed concurrently, so the keys get cancelled between selects
+                        try (Socket socket = new Socket("localhost", port)) {
+                            socket.setSoTimeout(10000);
+                            final OutputStream out = socket.getOutputStream();
+                            final DataInputStream in = new DataInputStream(socket.getInputStream());
+
+                            for (int j = 0; j < MESSAGES_COUNT; j++) {
+                                final byte[] message = ("client" + clientId + "-message" + j).getBytes("UTF-8");
+                                out.write(message);
+                                out.flush();
+
+                                final byte[] echo = new byte[message.length];
+                                in.readFully(echo);
+                                assertArrayEquals(message, echo);
+                            }
+                        }
+
+                        return true;
+                    }
+                }));
+            }
+
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
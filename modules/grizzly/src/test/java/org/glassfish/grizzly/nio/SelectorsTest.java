@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.nio;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.net.ProtocolFamily;
+import java.nio.channels.DatagramChannel;
+import java.nio.channels.Pipe;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.channels.spi.AbstractSelector;
+import java.nio.channels.spi.SelectorProvider;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.glassfish.grizzly.Connection;
+import org.glassfish.grizzly.nio.transport.TCPNIOServerConnection;
+import org.glassfish.grizzly.nio.transport.TCPNIOTransport;
+import org.glassfish.grizzly.nio.transport.TCPNIOTransportBuilder;
+import org.junit.Test;
+
+/**
+ * {@link Selectors} tests
+ */
+public class SelectorsTest {
+
+    @Test
+    public void testLoadCustomProvider() throws Exception {
+        final SelectorProvider provider = Selectors.loadSelectorProvider(DelegatingSelectorProvider.class.getName());
+        assertTrue(provider instanceof DelegatingSelectorProvider);
+
+        final int selectorsCount = DelegatingSelectorProvider.SELECTORS_COUNT.get();
+
+        final TCPNIOTransport transport = TCPNIOTransportBuilder.newInstance().setSelectorProvider(provider).build();
+        try {
+            final TCPNIOServerConnection serverConnection = transport.bind("localhost", 0);
+            transport.start();
+
+            final Connection<?> connection = transport.connect(serverConnection.getLocalAddress()).get(10, TimeUnit.SECONDS);
+            assertNotNull(connection);
+            connection.closeSilently();
+        } finally {
+            transport.shutdownNow();
+        }
+
+        // the transport selectors have been opened by the custom provider
+        assertTrue(DelegatingSelectorProvider.SELECTORS_COUNT.get() > selectorsCount);
+    }
+
+    @Test
+    public void testFallbackToDefaultProvider() {
+        assertSame(SelectorProvider.provider(), Selectors.loadSelectorProvider("org.glassfish.grizzly.nio.NoSuchSelectorProvider"));
+
+        // the provider is loaded, but it can't open selectors on this platform
+        assertSame(SelectorProvider.provider(), Selectors.loadSelectorProvider(BrokenSelectorProvider.class.getName()));
+    }
+
+    public static class DelegatingSelectorProvider extends SelectorProvider {
+        static final AtomicInteger SELECTORS_COUNT = new AtomicInteger();
+
+        private final SelectorProvider delegate = SelectorProvider.provider();
+
+        @Override
+        public DatagramChannel openDatagramChannel() throws IOException {
+            return delegate.openDatagramChannel();
+        }
+
+        @Override
+        public DatagramChannel openDatagramChannel(final ProtocolFamily family) throws IOException {
+            return delegate.openDatagramChannel(family);
+        }
+
+        @Override
+        public Pipe openPipe() throws IOException {
+            return delegate.openPipe();
+        }
+
+        @Override
+        public AbstractSelector openSelector() throws IOException {
+            SELECTORS_COUNT.incrementAndGet();
+            return delegate.openSelector();
+        }
+
+        @Override
+        public ServerSocketChannel openServerSocketChannel() throws IOException {
+            return delegate.openServerSocketChannel();
+        }
+
+        @Override
+        public SocketChannel openSocketChannel() throws IOException {
+            return delegate.openSocketChannel();
+        }
+    }
+
+    public static class BrokenSelectorProvider extends DelegatingSelectorProvider {
+
+        @Override
+        public AbstractSelector openSelector() throws IOException {
+            throw new IOException("native library is not available");
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.nio.transport;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.glassfish.grizzly.Buffer;
+import org.glassfish.grizzly.memory.CompositeBuffer;
+import org.glassfish.grizzly.memory.HeapMemoryManager;
+import org.glassfish.grizzly.memory.MemoryManager;
+import org.junit.Test;
+
+public class ReadSizePredictorTest {
+
+    @Test
+    public void testInitialSizeBounds() {
+        assertEquals(512, new ReadSizePredictor(512, 100, 4096).nextReadSize());
+        assertEquals(4096, new ReadSizePredictor(512, 100000, 4096).nextReadSize());
+        assertEquals(2048, new ReadSizePredictor(512, 2048, 4096).nextReadSize());
+        assertEquals(512, new ReadSizePredictor(512, 2048, 100).nextReadSize());
+    }
+
+    @Test
+    public void testGrowOnFullReads() {
+        final ReadSizePredictor predictor = new ReadSizePredictor(512, 1024, 4096);
+
+        predictor.onRead(1024);
+        assertEquals(2048, predictor.nextReadSize());
+        predictor.onRead(2048);
+        assertEquals(4096, predictor.nextReadSize());
+        predictor.onRead(4096);
+        assertEquals(4096, predictor.nextReadSize());
+    }
+
+    @Test
+    public void testShrinkOnConsecutiveSmallReads() {
+        final ReadSizePredictor predictor = new ReadSizePredictor(512, 4096, 4096);
+
+        // a single small read doesn't shrink the prediction
+        predictor.onRead(100);
+        assertEquals(4096, predictor.nextReadSize());
+        predictor.onRead(3000);
+        predictor.onRead(100);
+        assertEquals(4096, predictor.nextReadSize());
+
+        predictor.onRead(100);
+        assertEquals(2048, predictor.nextReadSize());
+        predictor.onRead(100);
+        predictor.onRead(100);
+        assertEquals(1024, predictor.nextReadSize());
+        predictor.onRead(100);
+        predictor.onRead(100);
+        predictor.onRead(100);
+        predictor.onRead(100);
+        assertEquals(512, predictor.nextReadSize());
+    }
+
+    @Test
+    public void testEofIgnored() {
+        final ReadSizePredictor predictor = new ReadSizePredictor(512, 1024, 4096);
+
+        predictor.onRead(0);
+        predictor.onRead(-1);
+        predictor.onRead(0);
+        predictor.onRead(-1);
+        assertEquals(1024, predictor.nextReadSize());
+    }
+
+    @Test
+    public void testScatterBufferSlices() {
+        final MemoryManager mm = new HeapMemoryManager();
+
+        // the read buffer size, shrunk by the receive buffer sizing policy, doesn't produce tiny slices
+        final Buffer small = TCPNIOUtils.allocateScatterBuffer(mm, 8 * 1024, 1024);
+        assertFalse(small.isComposite());
+        assertTrue(small.remaining() >= 8 * 1024);
+        small.dispose();
+
+        final Buffer big = TCPNIOUtils.allocateScatterBuffer(mm, 256 * 1024, 1024);
+        assertTrue(big.isComposite());
+        assertTrue(big.remaining() >= 256 * 1024);
+        assertTrue(((CompositeBuffer) big).toByteBufferArray().size() <= 16);
+        big.dispose();
+
+        final Buffer huge = TCPNIOUtils.allocateScatterBuffer(mm, 4 * 1024 * 1024, 64 * 1024);
+        assertTrue(((CompositeBuffer) huge).toByteBufferArray().size() <= 16);
+        huge.dispose();
+    }
+}
@@ -31,8 +31,8 @@ import org.glassfish.grizzly.http.HttpRequestPacket;
 import org.glassfish.grizzly.http.server.jmxbase.JmxEventListener;
 import org.glassfish.grizzly.http.server.jmxbase.Monitorable;
 import org.glassfish.grizzly.http.server.util.DispatcherHelper;
-import org.glassfish.grizzly.http.server.util.Mapper;
 import org.glassfish.grizzly.http.server.util.MappingData;
+import org.glassfish.grizzly.http.server.util.RadixTreeMapper;
 import org.glassfish.grizzly.http.util.DataChunk;
 import org.glassfish.grizzly.http.util.HttpStatus;
 import org.glassfish.grizzly.http.util.RequestURIRef;
@@ -85,9 +85,10 @@ public class HttpHandlerChain extends HttpHandler implements JmxEventListener {
     private volatile RootHttpHandler rootHttpHandler;
 
     /**
-     * Internal {@link Mapper} used to Map request to their associated {@link HttpHandler}
+     * Internal {@link RadixTreeMapper} used to Map request to their associated {@link HttpHandler}. The mapper is
+     * immutable, so it's replaced with the updated one, once all the {@link HttpHandler}'s mappings are added or removed.
      */
-    private final Mapper mapper;
+    private volatile RadixTreeMapper mapper = RadixTreeMapper.EMPTY;
 
     /**
      * DispatchHelper, which maps path or name to the Mapper entry
@@ -95,9 +96,9 @@ public class HttpHandlerChain extends HttpHandler implements JmxEventListener {
     private final DispatcherHelper dispatchHelper;
 
     /**
-     * The default host.
+     * The welcome files of the contexts.
      */
-    private final static String LOCAL_HOST = "localhost";
+    private static final String[] WELCOME_RESOURCES = { "index.html", "index.htm" };
     /**
      * Flag indicating this HttpHandler has been started. Any subsequent HttpHandler instances added to this chain after is
      * has been started will have their start() method invoked.
@@ -112,8 +113,6 @@ public class HttpHandlerChain extends HttpHandler implements JmxEventListener {
     // ------------------------------------------------------------ Constructors
     public HttpHandlerChain(final HttpServer httpServer) {
         this.httpServer = httpServer;
-        mapper = new Mapper();
-        mapper.setDefaultHostName(LOCAL_HOST);
         dispatchHelper = new DispatchHelperImpl();
         // We will decode it
         setDecodeUrl(false);
@@ -172,7 +171,7 @@ public class HttpHandlerChain extends HttpHandler implements JmxEventListener {
 
             final MappingData mappingData = request.obtainMappingData();
 
-            mapper.mapUriWithSemicolon(request.getRequest(), decodedURI, mappingData, 0);
+            mapper.mapUriWithSemicolon(decodedURI, mappingData, 0);
 
             HttpHandler httpHandler;
             if (mappingData.context != null && mappingData.context instanceof HttpHandler) {
@@ -261,12 +260,13 @@ public class HttpHandlerChain extends HttpHandler implements JmxEventListener {
 
                 httpHandler.setDispatcherHelper(dispatchHelper);
 
+                RadixTreeMapper newMapper = mapper;
                 for (HttpHandlerRegistration reg : mappings) {
 
                     final String ctx = reg.getContextPath();
                     final String wrapper = reg.getUrlPattern();
                     if (ctx.length() != 0) {
-                        mapper.addContext(LOCAL_HOST, ctx, httpHandler, new String[] { "index.html", "index.htm" }, null);
+                        newMapper = newMapper.addContext(ctx, httpHandler, WELCOME_RESOURCES);
                     } else {
                         if (!isRootConfigured && wrapper.startsWith("*.")) {
                             isRootConfigured = true;
@@ -277,14 +277,17 @@ public class HttpHandlerChain extends HttpHandler implements JmxEventListener {
                                     response.sendError(404);
                                 }
                             };
-                            mapper.addContext(LOCAL_HOST, ctx, a, new String[] { "index.html", "index.htm" }, null);
+                            newMapper = newMapper.addContext(ctx, a, WELCOME_RESOURCES);
                         } else {
-                            mapper.addContext(LOCAL_HOST, ctx, httpHandler, new String[] { "index.html", "index.htm" }, null);
+                            newMapper = newMapper.addContext(ctx, httpHandler, WELCOME_RESOURCES);
                         }
                     }
-                    mapper.addWrapper(LOCAL_HOST, ctx, wrapper, httpHandler);
+                    newMapper = newMapper.addWrapper(ctx, wrapper, httpHandler);
                 }
 
+                // publish all the HttpHandler mappings at once
+                mapper = newMapper;
+
                 // Check if the only one HttpHandler is registered
                 // and if it's a root HttpHandler - apply optimization
                 if (handlersCount == 1 && mappings.length == 1 && ROOT_URLS.containsKey(mappings[0])) {
@@ -320,16 +323,19 @@ public class HttpHandlerChain extends HttpHandler implements JmxEventListener {
 
             final HttpHandlerRegistration[] mappings = handlers.remove(httpHandler);
             if (mappings != null) {
+                RadixTreeMapper newMapper = mapper;
                 for (HttpHandlerRegistration mapping : mappings) {
                     final String contextPath = mapping.getContextPath();
 
-                    mapper.removeWrapper(LOCAL_HOST, contextPath, mapping.getUrlPattern());
+                    newMapper = newMapper.removeWrapper(contextPath, mapping.getUrlPattern());
 
-                    if (mapper.getWrapperNames(LOCAL_HOST, name).length == 0) {
-                        mapper.removeContext(LOCAL_HOST, contextPath);
+                    if (!newMapper.hasWrappers(contextPath)) {
+                        newMapper = newMapper.removeContext(contextPath);
                     }
                 }
 
+                mapper = newMapper;
+
                 deregisterJmxForHandler(httpHandler);
                 httpHandler.destroy();
 
@@ -416,7 +422,7 @@ public class HttpHandlerChain extends HttpHandler implements JmxEventListener {
         @Override
         public void mapPath(final HttpRequestPacket requestPacket, final DataChunk path, final MappingData mappingData) throws Exception {
 
-            mapper.map(requestPacket, path, mappingData);
+            mapper.map(path, mappingData);
         }
 
         @Override
@@ -218,7 +218,7 @@ public class HttpServer {
 
         configureAuxThreadPool();
 
-        delayedExecutor = new DelayedExecutor(auxExecutorService);
+        delayedExecutor = createDelayedExecutor();
         delayedExecutor.start();
 
         for (final NetworkListener listener : listeners.values()) {
@@ -256,6 +256,21 @@ public class HttpServer {
 
     }
 
+    /**
+     * The {@link DelayedExecutor} is shared by all the listeners, so the timing wheel based implementation is used if
+     * any of the listeners' transports is configured to use it.
+     */
+    private DelayedExecutor createDelayedExecutor() {
+        for (final NetworkListener listener : listeners.values()) {
+            final TCPNIOTransport transport = listener.getTransport();
+            if (transport.isTimingWheelEnabled()) {
+                return transport.createDelayedExecutor(auxExecutorService);
+            }
+        }
+
+        return new DelayedExecutor(auxExecutorService);
+    }
+
     private void setupHttpHandler() {
 
         serverConfig.addJmxEventListener(httpHandlerChain);
@@ -379,7 +394,7 @@ public class HttpServer {
 
             final String[] names = listeners.keySet().toArray(new String[listeners.size()]);
             for (final String name : names) {
-                removeListener(name);
+                removeListener(name).getFileCache().destroy();
             }
 
             delayedExecutor.stop();
@@ -824,6 +824,14 @@ public class NetworkListener {
         shutdownEvent = new ShutdownEvent(gracePeriod, timeUnit);
         state = State.STOPPING;
         shutdownFuture = Futures.createSafeFuture();
+        shutdownFuture.addCompletionHandler(new EmptyCompletionHandler<NetworkListener>() {
+            @Override
+            public void completed(final NetworkListener result) {
+                // stop the cached files watcher, the cache could be used again, if the listener is restarted
+                fileCache.destroy();
+            }
+        });
+
         transport.shutdown(gracePeriod, timeUnit);
         return shutdownFuture;
     }
@@ -860,6 +868,7 @@ public class NetworkListener {
             }
         } finally {
             state = State.STOPPED;
+            fileCache.destroy();
             if (shutdownFuture != null) {
                 shutdownFuture.result(this);
             }
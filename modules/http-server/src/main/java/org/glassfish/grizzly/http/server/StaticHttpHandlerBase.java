@@ -48,6 +48,11 @@ import org.glassfish.grizzly.memory.MemoryManager;
 public abstract class StaticHttpHandlerBase extends HttpHandler {
     private static final Logger LOGGER = Grizzly.logger(StaticHttpHandlerBase.class);
 
+    private static final int CHUNK_SIZE = 8192;
+
+    // the max TLS record plain text size is 16K, so each chunk is encrypted into 4 full records
+    private static final int SECURE_CHUNK_SIZE = 4 * 16384;
+
     private volatile int fileCacheFilterIdx = -1;
 
     private volatile boolean isFileCacheEnabled = true;
@@ -99,7 +104,7 @@ public abstract class StaticHttpHandlerBase extends HttpHandler {
     }
 
     private static void sendUsingBuffers(final Response response, final File file) throws FileNotFoundException, IOException {
-        final int chunkSize = 8192;
+        final int chunkSize = response.getRequest().isSecure() ? SECURE_CHUNK_SIZE : CHUNK_SIZE;
 
         response.suspend();
 
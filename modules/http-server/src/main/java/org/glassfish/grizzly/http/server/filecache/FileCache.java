@@ -25,6 +25,7 @@ import java.io.OutputStream;
 import java.nio.ByteBuffer;
 import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
+import java.util.List;
 import java.util.StringTokenizer;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -86,6 +87,11 @@ public class FileCache implements MonitoringAware<FileCacheProbe> {
 
     private final FileCacheEntry NULL_CACHE_ENTRY = new FileCacheEntry(this);
 
+    /**
+     * The policy, which chooses the entries to be evicted, when the cache is full.
+     */
+    private final FileCacheEvictionPolicy evictionPolicy = new FileCacheEvictionPolicy();
+
     /**
      * Specifies the maximum time in seconds a resource may be cached.
      */
@@ -147,6 +153,16 @@ public class FileCache implements MonitoringAware<FileCacheProbe> {
      */
     private boolean fileSendEnabled;
 
+    /**
+     * <tt>true</tt>, if the cached files have to be watched for changes
+     */
+    private volatile boolean fileWatchEnabled;
+
+    /**
+     * The cached files watcher, it's started once the first file is cached
+     */
+    private volatile FileCacheWatcher fileWatcher;
+
     /**
      * File cache probes
      */
@@ -200,9 +216,9 @@ public class FileCache implements MonitoringAware<FileCacheProbe> {
             return CacheResult.FAILED_ENTRY_EXISTS;
         }
 
-        final int size = cacheSize.incrementAndGet();
-        // cache is full.
-        if (size > getMaxCacheEntries()) {
+        cacheSize.incrementAndGet();
+        // the cache can't hold any entry
+        if (getMaxCacheEntries() <= 0) {
             cacheSize.decrementAndGet();
             fileCacheMap.remove(key);
             key.recycle();
@@ -216,7 +232,7 @@ public class FileCache implements MonitoringAware<FileCacheProbe> {
 
         final FileCacheEntry entry;
         if (cacheFile != null) { // If we have a file - try to create File-aware cache resource
-            entry = createEntry(cacheFile);
+            entry = createEntry(cacheFile, key);
             entry.setCanBeCompressed(canBeCompressed(cacheFile, contentType));
         } else {
             entry = new FileCacheEntry(this);
@@ -235,13 +251,41 @@ public class FileCache implements MonitoringAware<FileCacheProbe> {
         entry.Etag = headers.getHeader(Header.ETag);
         entry.server = headers.getHeader(Header.Server);
 
+        final FileCacheWatcher watcher = entry.plainFile != null && fileWatchEnabled ? getFileWatcher() : null;
+
         fileCacheMap.put(key, entry);
 
         notifyProbesEntryAdded(this, entry);
 
-        final int secondsMaxAgeLocal = getSecondsMaxAge();
-        if (secondsMaxAgeLocal > 0) {
-            delayQueue.add(entry, secondsMaxAgeLocal, TimeUnit.SECONDS);
+        // if the cache is full - evict the less frequently used entries
+        final List<FileCacheEntry> evictedEntries = evictionPolicy.add(entry, getMaxCacheEntries());
+        for (int i = 0; i < evictedEntries.size(); i++) {
+            evict(evictedEntries.get(i));
+        }
+
+        // the new entry itself might have lost the admission
+        if (!evictedEntries.contains(entry)) {
+            final int secondsMaxAgeLocal = getSecondsMaxAge();
+            if (secondsMaxAgeLocal > 0) {
+                delayQueue.add(entry, secondsMaxAgeLocal, TimeUnit.SECONDS);
+            }
+
+            // the watcher might invalidate the entry right away, so it's registered once the entry is fully added
+            if (watcher != null) {
+                watcher.register(entry);
+            }
+
+            // the entry might have been removed concurrently, before it was added to the eviction policy
+            if (fileCacheMap.get(key) != entry) {
+                evictionPolicy.remove(entry);
+                if (secondsMaxAgeLocal > 0) {
+                    delayQueue.remove(entry);
+                }
+
+                if (watcher != null) {
+                    watcher.unregister(entry);
+                }
+            }
         }
 
         return entry.type == CacheType.TIMESTAMP ? CacheResult.OK_CACHED_TIMESTAMP : CacheResult.OK_CACHED;
@@ -259,9 +303,14 @@ public class FileCache implements MonitoringAware<FileCacheProbe> {
 
         final LazyFileCacheKey key = LazyFileCacheKey.create(request);
         final FileCacheEntry entry = fileCacheMap.get(key);
+        evictionPolicy.recordAccess(key.hashCode());
         key.recycle();
         try {
             if (entry != null && entry != NULL_CACHE_ENTRY) {
+                if (!entry.isAccessed) {
+                    entry.isAccessed = true;
+                }
+
                 // determine if we need to send the cache entry bytes
                 // to the user-agent
                 final HttpStatus httpStatus = checkIfHeaders(entry, request);
@@ -289,8 +338,47 @@ public class FileCache implements MonitoringAware<FileCacheProbe> {
     }
 
     protected void remove(final FileCacheEntry entry) {
-        if (fileCacheMap.remove(entry.key) != null) {
-            cacheSize.decrementAndGet();
+        removeEntry(entry);
+    }
+
+    /**
+     * Removes the entry, whose file has been changed.
+     */
+    void invalidate(final FileCacheEntry entry) {
+        if (delayQueue != null) {
+            delayQueue.remove(entry);
+        }
+
+        removeEntry(entry);
+    }
+
+    /**
+     * Removes the entry, which has been chosen by the eviction policy.
+     */
+    private void evict(final FileCacheEntry entry) {
+        if (delayQueue != null) {
+            delayQueue.remove(entry);
+        }
+
+        if (removeEntry(entry)) {
+            notifyProbesEntryEvicted(this, entry);
+        }
+    }
+
+    /**
+     * @return <tt>true</tt>, if the entry has been removed, or <tt>false</tt>, if it had been removed already.
+     */
+    private boolean removeEntry(final FileCacheEntry entry) {
+        if (!fileCacheMap.remove(entry.key, entry)) {
+            return false;
+        }
+
+        cacheSize.decrementAndGet();
+        evictionPolicy.remove(entry);
+
+        final FileCacheWatcher watcher = fileWatcher;
+        if (watcher != null && entry.plainFile != null) {
+            watcher.unregister(entry);
         }
 
         if (entry.type == FileCache.CacheType.MAPPED) {
@@ -300,6 +388,7 @@ public class FileCache implements MonitoringAware<FileCacheProbe> {
         }
 
         notifyProbesEntryRemoved(this, entry);
+        return true;
     }
 
     protected Object createJmxManagementObject() {
@@ -309,8 +398,8 @@ public class FileCache implements MonitoringAware<FileCacheProbe> {
     /**
      * Creates {@link FileCacheEntry}.
      */
-    private FileCacheEntry createEntry(final File file) {
-        FileCacheEntry entry = tryMapFileToBuffer(file);
+    private FileCacheEntry createEntry(final File file, final FileCacheKey key) {
+        FileCacheEntry entry = tryMapFileToBuffer(file, key);
         if (entry == null) {
             entry = new FileCacheEntry(this);
             entry.type = CacheType.FILE;
@@ -327,7 +416,7 @@ public class FileCache implements MonitoringAware<FileCacheProbe> {
      * 
      * @return the preinitialized {@link FileCacheEntry}
      */
-    private FileCacheEntry tryMapFileToBuffer(final File file) {
+    private FileCacheEntry tryMapFileToBuffer(final File file, final FileCacheKey key) {
 
         final long size = file.length();
         if (size > getMaxEntrySize()) {
@@ -339,22 +428,10 @@ public class FileCache implements MonitoringAware<FileCacheProbe> {
         FileChannel fileChannel = null;
         FileInputStream stream = null;
         try {
-            if (size > getMinEntrySize()) {
-                if (addMappedMemorySize(size) > getMaxLargeFileCacheSize()) {
-                    // Cache full
-                    subMappedMemorySize(size);
-                    return null;
-                }
-
-                type = CacheType.MAPPED;
-            } else {
-                if (addHeapSize(size) > getMaxSmallFileCacheSize()) {
-                    // Cache full
-                    subHeapSize(size);
-                    return null;
-                }
-
-                type = CacheType.HEAP;
+            type = size > getMinEntrySize() ? CacheType.MAPPED : CacheType.HEAP;
+            if (!reserveMemory(type, size, key)) {
+                // Cache full
+                return null;
             }
 
             stream = new FileInputStream(file);
@@ -393,6 +470,37 @@ public class FileCache implements MonitoringAware<FileCacheProbe> {
         return entry;
     }
 
+    /**
+     * Reserves the heap or mapped memory for the new entry. If there is not enough memory - the less frequently used
+     * entries of the same type get evicted.
+     *
+     * @return <tt>true</tt>, if the memory has been reserved, or <tt>false</tt> otherwise.
+     */
+    private boolean reserveMemory(final CacheType type, final long size, final FileCacheKey key) {
+        final boolean isHeap = type == CacheType.HEAP;
+        final long maxSize = isHeap ? getMaxSmallFileCacheSize() : getMaxLargeFileCacheSize();
+        if (size > maxSize) {
+            return false;
+        }
+
+        while ((isHeap ? addHeapSize(size) : addMappedMemorySize(size)) > maxSize) {
+            if (isHeap) {
+                subHeapSize(size);
+            } else {
+                subMappedMemorySize(size);
+            }
+
+            final FileCacheEntry victim = evictionPolicy.evictForSize(type, key.hashCode());
+            if (victim == null) {
+                return false;
+            }
+
+            evict(victim);
+        }
+
+        return true;
+    }
+
     /**
      * Checks if the {@link File} with the given content-type could be compressed.
      */
@@ -441,7 +549,8 @@ public class FileCache implements MonitoringAware<FileCacheProbe> {
     }
 
     /**
-     * Sets the maximum number of files that may be cached.
+     * Sets the maximum number of files that may be cached. Once the cache is full, adding a new file evicts the entry,
+     * which has been used less frequently recently.
      *
      * @param maxCacheEntries the maximum number of files that may be cached.
      */
@@ -594,6 +703,66 @@ public class FileCache implements MonitoringAware<FileCacheProbe> {
         this.fileSendEnabled = fileSendEnabled;
     }
 
+    /**
+     * Returns <tt>true</tt> if the cached files are watched for changes, so the entries are removed from the cache, once
+     * their files, or the files' compressed representations, are modified or deleted. Otherwise the cached entries are
+     * served until they expire (see {@link #getSecondsMaxAge()}).
+     *
+     * @since 3.0
+     */
+    public boolean isFileWatchEnabled() {
+        return fileWatchEnabled;
+    }
+
+    /**
+     * Enables or disables watching the cached files for changes. With the watching enabled the {@link FileCache} could be
+     * used without the max age set. Only the files cached using {@link #add(HttpRequestPacket, File)} are watched.
+     *
+     * @param fileWatchEnabled <tt>true</tt> to watch the cached files for changes.
+     * @since 3.0
+     */
+    public void setFileWatchEnabled(final boolean fileWatchEnabled) {
+        this.fileWatchEnabled = fileWatchEnabled;
+
+        if (!fileWatchEnabled) {
+            destroy();
+        }
+    }
+
+    /**
+     * Stops watching the cached files. If the watching is enabled, it's restarted once a new file is cached.
+     *
+     * @since 3.0
+     */
+    public void destroy() {
+        final FileCacheWatcher watcher;
+        synchronized (this) {
+            watcher = fileWatcher;
+            fileWatcher = null;
+        }
+
+        if (watcher != null) {
+            watcher.stop();
+        }
+    }
+
+    private synchronized FileCacheWatcher getFileWatcher() {
+        if (fileWatcher == null) {
+            fileWatcher = FileCacheWatcher.start(this);
+
+            // the cache might have been used, while the watching was disabled
+            if (fileWatcher != null) {
+                for (FileCacheEntry entry : fileCacheMap.values()) {
+                    if (entry.plainFile != null) {
+                        fileWatcher.register(entry);
+                    }
+                }
+            }
+        }
+
+        return fileWatcher;
+    }
+
     /**
      * Creates a temporary compressed representation of the given cache entry.
      */
@@ -666,6 +835,16 @@ public class FileCache implements MonitoringAware<FileCacheProbe> {
 
             entry.compressedFileSize = size;
             entry.compressedFile = tmpCompressedFile;
+
+            final FileCacheWatcher watcher = fileWatcher;
+            if (watcher != null) {
+                watcher.register(entry);
+
+                // the entry might have been removed concurrently
+                if (fileCacheMap.get(entry.key) != entry) {
+                    watcher.unregister(entry);
+                }
+            }
         } catch (IOException e) {
             LOGGER.log(Level.FINE, "Can not compress file: " + entry.plainFile, e);
         }
@@ -921,6 +1100,21 @@ public class FileCache implements MonitoringAware<FileCacheProbe> {
         }
     }
 
+    /**
+     * Notify registered {@link FileCacheProbe}s about the "entry evicted" event.
+     *
+     * @param fileCache the <tt>FileCache</tt> event occurred on.
+     * @param entry entry been evicted
+     */
+    protected static void notifyProbesEntryEvicted(final FileCache fileCache, final FileCacheEntry entry) {
+        final FileCacheProbe[] probes = fileCache.monitoringConfig.getProbesUnsafe();
+        if (probes != null) {
+            for (FileCacheProbe probe : probes) {
+                probe.onEntryEvictedEvent(fileCache, entry);
+            }
+        }
+    }
+
     /**
      * Notify registered {@link FileCacheProbe}s about the "entry hit event.
      *
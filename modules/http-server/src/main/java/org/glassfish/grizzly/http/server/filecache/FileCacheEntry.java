@@ -61,6 +61,9 @@ public final class FileCacheEntry implements Runnable {
 
     public volatile long timeoutMillis;
 
+    // the entry has been hit since the eviction policy checked it last time
+    volatile boolean isAccessed;
+
     private final FileCache fileCache;
 
     public FileCacheEntry(FileCache fileCache) {
@@ -0,0 +1,335 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.http.server.filecache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * W-TinyLFU {@link FileCache} eviction policy.
+ *
+ * New entries are admitted to a small window, the entries leaving the window compete with the main space victim, the
+ * entry, which has been accessed less frequently, gets evicted. The access frequencies, including the ones of the
+ * missed resources, are estimated by a count-min sketch, which is periodically aged, so the entries, which used to be
+ * hot, don't stay in the cache forever. The main space is segmented: an entry hit while in the probation segment is
+ * promoted to the protected segment.
+ *
+ * The hit path doesn't acquire the policy lock: the access is recorded in the sketch and the entry is flagged as
+ * accessed, the flags are applied lazily, when the policy looks for a victim. So the segments are approximated LRUs
+ * (CLOCK): a flagged window or protected entry is given a second chance, i.e. moved to the most recently used end of its
+ * segment, instead of leaving the segment.
+ *
+ * @since 3.0
+ */
+final class FileCacheEvictionPolicy {
+    private static final int WINDOW_PERCENT = 1;
+    private static final int PROTECTED_PERCENT = 80;
+
+    private final FrequencySketch sketch = new FrequencySketch();
+
+    // the segments are ordered from the least to the most recently used entry, as of the last time the flags were applied
+    private final LinkedHashSet<FileCacheEntry> window = new LinkedHashSet<>();
+    private final LinkedHashSet<FileCacheEntry> probation = new LinkedHashSet<>();
+    private final LinkedHashSet<FileCacheEntry> protectedSegment = new LinkedHashSet<>();
+
+    /**
+     * Records the access to the resource with the given key hash.
+     */
+    void recordAccess(final int keyHash) {
+        sketch.increment(keyHash);
+    }
+
+    /**
+     * Returns the estimated number of the recent accesses to the resource with the given key hash.
+     */
+    int frequency(final int keyHash) {
+        return sketch.frequency(keyHash);
+    }
+
+    /**
+     * Adds the new entry to the policy.
+     *
+     * @return the entries, which have to be evicted to keep the cache within the <tt>maxEntries</tt>.
+     */
+    synchronized List<FileCacheEntry> add(final FileCacheEntry entry, final int maxEntries) {
+        sketch.ensureCapacity(maxEntries);
+        window.add(entry);
+
+        List<FileCacheEntry> evicted = Collections.emptyList();
+
+        final int windowMax = Math.max(1, maxEntries * WINDOW_PERCENT / 100);
+        while (window.size() > windowMax) {
+            final FileCacheEntry candidate = pollLeastRecentlyUsed(window);
+            probation.add(candidate);
+
+            if (size() > maxEntries) {
+                final FileCacheEntry victim = mainVictim(candidate, maxEntries);
+                final FileCacheEntry loser = victim == null || frequency(candidate.key.hashCode()) > frequency(victim.key.hashCode()) ? victim
+                        : candidate;
+
+                if (loser != null) {
+                    remove(loser);
+                    evicted = addTo(evicted, loser);
+                }
+            }
+        }
+
+        // the max entries might have been decreased
+        while (size() > maxEntries) {
+            FileCacheEntry victim = first(probation);
+            if (victim == null) {
+                victim = first(protectedSegment);
+                if (victim == null) {
+                    victim = first(window);
+                }
+            }
+
+            remove(victim);
+            evicted = addTo(evicted, victim);
+        }
+
+        return evicted;
+    }
+
+    /**
+     * Removes the entry from the policy.
+     */
+    synchronized void remove(final FileCacheEntry entry) {
+        if (!window.remove(entry) && !probation.remove(entry)) {
+            protectedSegment.remove(entry);
+        }
+    }
+
+    /**
+     * Returns the entry of the given type to be evicted to free the memory for the new resource with the given key hash,
+     * the returned entry is removed from the policy. If the entries of the type are accessed more frequently than the new
+     * resource - <tt>null</tt> is returned.
+     */
+    synchronized FileCacheEntry evictForSize(final FileCache.CacheType type, final int keyHash) {
+        FileCacheEntry victim = firstOfType(probation, type);
+        if (victim == null) {
+            victim = firstOfType(protectedSegment, type);
+            if (victim == null) {
+                victim = firstOfType(window, type);
+            }
+        }
+
+        if (victim == null || frequency(victim.key.hashCode()) >= frequency(keyHash)) {
+            return null;
+        }
+
+        remove(victim);
+        return victim;
+    }
+
+    synchronized int size() {
+        return window.size() + probation.size() + protectedSegment.size();
+    }
+
+    /**
+     * Returns the least recently used probation entry, which hasn't been accessed since it was checked last time. The
+     * accessed probation entries are promoted to the protected segment.
+     */
+    private FileCacheEntry mainVictim(final FileCacheEntry candidate, final int maxEntries) {
+        final int protectedMax = maxEntries * PROTECTED_PERCENT / 100;
+
+        // bound the scan, the entries might be accessed concurrently
+        for (int i = probation.size() + protectedSegment.size(); i > 0; i--) {
+            final FileCacheEntry head = firstExcept(probation, candidate);
+            if (head == null) {
+                break;
+            }
+
+            if (!head.isAccessed) {
+                return head;
+            }
+
+            head.isAccessed = false;
+            probation.remove(head);
+            protectedSegment.add(head);
+
+            if (protectedSegment.size() > protectedMax) {
+                probation.add(pollLeastRecentlyUsed(protectedSegment));
+            }
+        }
+
+        final FileCacheEntry head = firstExcept(probation, candidate);
+        return head != null ? head : first(protectedSegment);
+    }
+
+    private static FileCacheEntry first(final LinkedHashSet<FileCacheEntry> segment) {
+        final Iterator<FileCacheEntry> it = segment.iterator();
+        return it.hasNext() ? it.next() : null;
+    }
+
+    private static FileCacheEntry firstExcept(final LinkedHashSet<FileCacheEntry> segment, final FileCacheEntry excluded) {
+        final Iterator<FileCacheEntry> it = segment.iterator();
+        while (it.hasNext()) {
+            final FileCacheEntry entry = it.next();
+            if (entry != excluded) {
+                return entry;
+            }
+        }
+
+        return null;
+    }
+
+    private static FileCacheEntry pollFirst(final LinkedHashSet<FileCacheEntry> segment) {
+        final Iterator<FileCacheEntry> it = segment.iterator();
+        final FileCacheEntry entry = it.next();
+        it.remove();
+
+        return entry;
+    }
+
+    /**
+     * Removes and returns the least recently used entry of the segment, the entries, which have been accessed since they
+     * were checked last time, are moved to the most recently used end.
+     */
+    private static FileCacheEntry pollLeastRecentlyUsed(final LinkedHashSet<FileCacheEntry> segment) {
+        // if all the entries have been accessed, the first one is returned after the full round
+        for (int i = segment.size(); i > 0; i--) {
+            final FileCacheEntry head = first(segment);
+            if (!head.isAccessed) {
+                break;
+            }
+
+            head.isAccessed = false;
+            segment.remove(head);
+            segment.add(head);
+        }
+
+        return pollFirst(segment);
+    }
+
+    private static FileCacheEntry firstOfType(final LinkedHashSet<FileCacheEntry> segment, final FileCache.CacheType type) {
+        for (FileCacheEntry entry : segment) {
+            if (entry.type == type) {
+                return entry;
+            }
+        }
+
+        return null;
+    }
+
+    private static List<FileCacheEntry> addTo(List<FileCacheEntry> list, final FileCacheEntry entry) {
+        if (list.isEmpty()) {
+            list = new ArrayList<>(2);
+        }
+
+        list.add(entry);
+        return list;
+    }
+
+    /**
+     * Count-min sketch with 4-bit counters, the counters are halved once the number of the recorded accesses reaches ten
+     * times the sketch width.
+     */
+    private static final class FrequencySketch {
+        private static final long[] SEEDS = { 0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L };
+        private static final long RESET_MASK = 0x7777777777777777L;
+        private static final int MIN_WIDTH = 16;
+
+        private volatile AtomicLongArray table = new AtomicLongArray(MIN_WIDTH);
+        private volatile int sampleSize = 10 * MIN_WIDTH;
+
+        private final AtomicInteger size = new AtomicInteger();
+
+        /**
+         * Grows the sketch, so it's wide enough to estimate the frequencies of the given number of the entries.
+         */
+        void ensureCapacity(final int maxEntries) {
+            final int width = maxEntries <= MIN_WIDTH ? MIN_WIDTH : Integer.highestOneBit(maxEntries - 1) << 1;
+            if (width > table.length()) {
+                table = new AtomicLongArray(width);
+                sampleSize = 10 * width;
+                size.set(0);
+            }
+        }
+
+        int frequency(final int hash) {
+            final AtomicLongArray tableNow = table;
+
+            int frequency = Integer.MAX_VALUE;
+            for (long seed : SEEDS) {
+                final long h = spread(hash, seed);
+                final int count = (int) (tableNow.get(index(h, tableNow)) >>> offset(h) & 0xF);
+                frequency = Math.min(frequency, count);
+            }
+
+            return frequency;
+        }
+
+        void increment(final int hash) {
+            final AtomicLongArray tableNow = table;
+
+            boolean isIncremented = false;
+            for (long seed : SEEDS) {
+                final long h = spread(hash, seed);
+                isIncremented |= increment(tableNow, index(h, tableNow), offset(h));
+            }
+
+            if (isIncremented && size.incrementAndGet() == sampleSize) {
+                reset(tableNow);
+            }
+        }
+
+        private boolean increment(final AtomicLongArray tableNow, final int index, final int offset) {
+            while (true) {
+                final long value = tableNow.get(index);
+                if ((value >>> offset & 0xF) == 0xF) {
+                    return false;
+                }
+
+                if (tableNow.compareAndSet(index, value, value + (1L << offset))) {
+                    return true;
+                }
+            }
+        }
+
+        private void reset(final AtomicLongArray tableNow) {
+            for (int i = 0; i < tableNow.length(); i++) {
+                long value;
+                do {
+                    value = tableNow.get(i);
+                } while (!tableNow.compareAndSet(i, value, value >>> 1 & RESET_MASK));
+            }
+
+            size.set(sampleSize / 2);
+        }
+
+        private static long spread(final int hash, final long seed) {
+            long h = (hash + seed) * seed;
+            h ^= h >>> 29;
+            return h;
+        }
+
+        private static int index(final long h, final AtomicLongArray tableNow) {
+            return (int) h & tableNow.length() - 1;
+        }
+
+        private static int offset(final long h) {
+            // one of 16 counters in the long
+            return (int) (h >>> 60) << 2;
+        }
+    }
+}
@@ -57,6 +57,18 @@ public interface FileCacheProbe {
      */
     void onEntryMissedEvent(FileCache fileCache, String host, String requestURI);
 
+    /**
+     * Method will be called, when file cache entry gets evicted to make room for a more frequently used resource.
+     * {@link #onEntryRemovedEvent(FileCache, FileCacheEntry)} is called for the evicted entry as well.
+     *
+     * @param fileCache {@link FileCache}, the event belongs to.
+     * @param entry {@link FileCacheEntry} been evicted.
+     *
+     * @since 3.0
+     */
+    default void onEntryEvictedEvent(FileCache fileCache, FileCacheEntry entry) {
+    }
+
     /**
      * Method will be called, when error occurs on the {@link FileCache}.
      *
@@ -0,0 +1,304 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.http.server.filecache;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.glassfish.grizzly.Grizzly;
+
+/**
+ * Invalidates the {@link FileCache} entries, once their files, or their compressed representations, are modified or
+ * deleted.
+ *
+ * The directories of the cached files are registered with a {@link WatchService}. The file events are coalesced: the
+ * watcher thread waits until no new events come during the quiet period, but not longer than the max delay, and only
+ * then checks the affected entries, so a deployment touching lots of files results in a single pass over the cache.
+ *
+ * @since 3.0
+ */
+final class FileCacheWatcher {
+    private static final Logger LOGGER = Grizzly.logger(FileCacheWatcher.class);
+
+    private static final long QUIET_PERIOD_MILLIS = 100;
+    private static final long MAX_DELAY_MILLIS = 1000;
+
+    private final FileCache fileCache;
+    private final WatchService watchService;
+
+    // the watched directories, guarded by "this"
+    private final Map<Path, Directory> directories = new HashMap<>();
+
+    private FileCacheWatcher(final FileCache fileCache, final WatchService watchService) {
+        this.fileCache = fileCache;
+        this.watchService = watchService;
+    }
+
+    /**
+     * Creates and starts the watcher.
+     *
+     * @return the watcher, or <tt>null</tt>, if the file system doesn't support watching.
+     */
+    static FileCacheWatcher start(final FileCache fileCache) {
+        final WatchService watchService;
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+        } catch (IOException | UnsupportedOperationException e) {
+            LOGGER.log(Level.WARNING, "Unable to watch the cached files, the entries will be invalidated on timeout only", e);
+            return null;
+        }
+
+        final FileCacheWatcher watcher = new FileCacheWatcher(fileCache, watchService);
+
+        final Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                watcher.processEvents();
+            }
+        }, "Grizzly-FileCache-Watcher");
+        thread.setDaemon(true);
+        thread.start();
+
+        return watcher;
+    }
+
+    /**
+     * Stops the watcher.
+     */
+    void stop() {
+        synchronized (this) {
+            directories.clear();
+        }
+
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            LOGGER.log(Level.FINE, "Unable to close the watch service", e);
+        }
+    }
+
+    /**
+     * Starts watching the entry's files. The entry is invalidated right away, if the files have been changed before
+     * they've got registered.
+     */
+    void register(final FileCacheEntry entry) {
+        final boolean isRegistered = register(entry, entry.plainFile);
+        if ((register(entry, entry.compressedFile) || isRegistered) && isStale(entry)) {
+            fileCache.invalidate(entry);
+        }
+    }
+
+    /**
+     * Stops watching the entry's files.
+     */
+    void unregister(final FileCacheEntry entry) {
+        unregister(entry, entry.plainFile);
+        unregister(entry, entry.compressedFile);
+    }
+
+    private boolean register(final FileCacheEntry entry, final File file) {
+        if (file == null) {
+            return false;
+        }
+
+        final Path path = file.toPath().toAbsolutePath();
+        final Path dir = path.getParent();
+        if (dir == null) {
+            return false;
+        }
+
+        synchronized (this) {
+            Directory directory = directories.get(dir);
+            if (directory == null) {
+                try {
+                    directory = new Directory(dir.register(watchService, ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY));
+                } catch (IOException | ClosedWatchServiceException e) {
+                    FileCache.notifyProbesError(fileCache, e);
+                    LOGGER.log(Level.FINE, "Unable to watch the directory " + dir, e);
+                    return false;
+                }
+
+                directories.put(dir, directory);
+            }
+
+            List<FileCacheEntry> entries = directory.entries.get(path.getFileName());
+            if (entries == null) {
+                entries = new ArrayList<>(1);
+                directory.entries.put(path.getFileName(), entries);
+            }
+
+            if (!entries.contains(entry)) {
+                entries.add(entry);
+            }
+        }
+
+        return true;
+    }
+
+    private synchronized void unregister(final FileCacheEntry entry, final File file) {
+        if (file == null) {
+            return;
+        }
+
+        final Path path = file.toPath().toAbsolutePath();
+        final Directory directory = directories.get(path.getParent());
+        if (directory == null) {
+            return;
+        }
+
+        final List<FileCacheEntry> entries = directory.entries.get(path.getFileName());
+        if (entries != null && entries.remove(entry) && entries.isEmpty()) {
+            directory.entries.remove(path.getFileName());
+
+            if (directory.entries.isEmpty()) {
+                directory.key.cancel();
+                directories.remove(path.getParent());
+            }
+        }
+    }
+
+    private void processEvents() {
+        final Map<Path, Set<Path>> changes = new HashMap<>();
+
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+
+                final long deadline = System.currentTimeMillis() + MAX_DELAY_MILLIS;
+                do {
+                    collect(key, changes);
+                } while (System.currentTimeMillis() < deadline && (key = watchService.poll(QUIET_PERIOD_MILLIS, TimeUnit.MILLISECONDS)) != null);
+
+                for (FileCacheEntry entry : changedEntries(changes)) {
+                    if (isStale(entry)) {
+                        fileCache.invalidate(entry);
+                    }
+                }
+
+                changes.clear();
+            }
+        } catch (ClosedWatchServiceException | InterruptedException ignored) {
+        } catch (Throwable t) {
+            LOGGER.log(Level.WARNING, "The cached files watcher has been stopped", t);
+        }
+    }
+
+    /**
+     * Collects the names of the changed files by directory, the <tt>null</tt> name set means all the directory files
+     * have to be checked.
+     */
+    private static void collect(final WatchKey key, final Map<Path, Set<Path>> changes) {
+        final Path dir = (Path) key.watchable();
+
+        Set<Path> names = changes.get(dir);
+        final boolean isAll = names == null && changes.containsKey(dir);
+
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (isAll) {
+                continue;
+            }
+
+            if (event.kind() == OVERFLOW) {
+                names = null;
+                changes.put(dir, null);
+                break;
+            }
+
+            if (names == null) {
+                names = new HashSet<>();
+                changes.put(dir, names);
+            }
+
+            names.add((Path) event.context());
+        }
+
+        // the directory is not accessible anymore
+        if (!key.reset()) {
+            changes.put(dir, null);
+        }
+    }
+
+    private synchronized Collection<FileCacheEntry> changedEntries(final Map<Path, Set<Path>> changes) {
+        final Set<FileCacheEntry> changedEntries = new HashSet<>();
+
+        for (Map.Entry<Path, Set<Path>> change : changes.entrySet()) {
+            final Directory directory = directories.get(change.getKey());
+            if (directory == null) {
+                continue;
+            }
+
+            if (change.getValue() == null) {
+                for (List<FileCacheEntry> entries : directory.entries.values()) {
+                    changedEntries.addAll(entries);
+                }
+            } else {
+                for (Path name : change.getValue()) {
+                    final List<FileCacheEntry> entries = directory.entries.get(name);
+                    if (entries != null) {
+                        changedEntries.addAll(entries);
+                    }
+                }
+            }
+        }
+
+        return changedEntries;
+    }
+
+    /**
+     * Returns <tt>true</tt>, if the entry's file or its compressed representation doesn't match the cached one.
+     */
+    private static boolean isStale(final FileCacheEntry entry) {
+        final File plainFile = entry.plainFile;
+        if (plainFile.lastModified() != entry.lastModified || plainFile.length() != entry.plainFileSize) {
+            // lastModified() returns 0, if the file doesn't exist
+            return true;
+        }
+
+        final File compressedFile = entry.compressedFile;
+        return compressedFile != null && (!compressedFile.exists() || compressedFile.length() != entry.compressedFileSize);
+    }
+
+    private static final class Directory {
+        private final WatchKey key;
+        private final Map<Path, List<FileCacheEntry>> entries = new HashMap<>();
+
+        private Directory(final WatchKey key) {
+            this.key = key;
+        }
+    }
+}
@@ -0,0 +1,670 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.http.server.util;
+
+import java.io.CharConversionException;
+import java.util.Arrays;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.glassfish.grizzly.Grizzly;
+import org.glassfish.grizzly.http.util.CharChunk;
+import org.glassfish.grizzly.http.util.DataChunk;
+import org.glassfish.grizzly.utils.Charsets;
+
+/**
+ * Immutable request mapper, which keeps the context paths and the wrapper mappings in compressed radix trees, so the
+ * request is mapped by walking the URI once, no matter how many mappings are registered.
+ *
+ * The methods adding or removing the mappings don't change the mapper, but return a new one, which shares the unchanged
+ * tree nodes with the original mapper. So the mappings could be updated while the original mapper keeps serving the
+ * requests without any locking, and several mappings could be published at once by replacing the mapper reference.
+ *
+ * The requests are mapped according to the {@link Mapper} rules for a single virtual host without static resources:
+ * the longest context path matching the URI on a '/' boundary is chosen (the "" context is the fallback), then the
+ * wrapper is looked up by the exact match, the prefix ("/path/*") match, the extension ("*.ext") match, the welcome
+ * resources and finally the default ("/") wrapper is used.
+ *
+ * @see Mapper
+ *
+ * @since 3.0
+ */
+public final class RadixTreeMapper {
+    private static final Logger LOGGER = Grizzly.logger(RadixTreeMapper.class);
+
+    /**
+     * The mapper without any mappings.
+     */
+    public static final RadixTreeMapper EMPTY = new RadixTreeMapper(Node.<Context>empty());
+
+    private static final char[] SLASH = { '/' };
+
+    private final Node<Context> contexts;
+
+    private RadixTreeMapper(final Node<Context> contexts) {
+        this.contexts = contexts;
+    }
+
+    /**
+     * Returns the mapper with the new context added. If the context is already registered, it's replaced only if
+     * {@link Mapper#allowReplacement()} is <tt>true</tt>.
+     *
+     * @param path the context path
+     * @param context the context object
+     * @param welcomeResources the welcome files defined for the context
+     * @return the mapper with the context added
+     */
+    public RadixTreeMapper addContext(final String path, final Object context, final String[] welcomeResources) {
+        final Context oldContext = contexts.get(path);
+        if (oldContext == null) {
+            return new RadixTreeMapper(contexts.put(path, new Context(path, context, welcomeResources)));
+        }
+
+        if (Mapper.allowReplacement()) {
+            return new RadixTreeMapper(contexts.put(path, oldContext.replace(context, welcomeResources)));
+        }
+
+        return this;
+    }
+
+    /**
+     * Returns the mapper with the context and all its wrappers removed.
+     *
+     * @param path the context path
+     * @return the mapper with the context removed
+     */
+    public RadixTreeMapper removeContext(final String path) {
+        final Node<Context> newContexts = contexts.remove(path);
+        return newContexts != contexts ? new RadixTreeMapper(newContexts) : this;
+    }
+
+    /**
+     * Returns the mapper with the new wrapper added to the existing context. If the wrapper is already registered, it's
+     * replaced only if {@link Mapper#allowReplacement()} is <tt>true</tt>.
+     *
+     * @param contextPath the context path this wrapper belongs to
+     * @param path the wrapper mapping
+     * @param wrapper the wrapper object
+     * @return the mapper with the wrapper added
+     */
+    public RadixTreeMapper addWrapper(final String contextPath, final String path, final Object wrapper) {
+        final Context context = contexts.get(contextPath);
+        if (context == null) {
+            LOGGER.log(Level.SEVERE, "No context found: {0}", contextPath);
+            return this;
+        }
+
+        final Context newContext = context.addWrapper(path, wrapper);
+        return newContext != context ? new RadixTreeMapper(contexts.put(contextPath, newContext)) : this;
+    }
+
+    /**
+     * Returns the mapper with the wrapper removed from the context.
+     *
+     * @param contextPath the context path this wrapper belongs to
+     * @param path the wrapper mapping
+     * @return the mapper with the wrapper removed
+     */
+    public RadixTreeMapper removeWrapper(final String contextPath, final String path) {
+        final Context context = contexts.get(contextPath);
+        if (context == null) {
+            return this;
+        }
+
+        final Context newContext = context.removeWrapper(path);
+        return newContext != context ? new RadixTreeMapper(contexts.put(contextPath, newContext)) : this;
+    }
+
+    /**
+     * @param contextPath the context path
+     * @return <tt>true</tt>, if the context is registered and has at least one wrapper, or <tt>false</tt> otherwise
+     */
+    public boolean hasWrappers(final String contextPath) {
+        final Context context = contexts.get(contextPath);
+        return context != null && context.hasWrappers();
+    }
+
+    /**
+     * Maps the decodedURI to the corresponding context and wrapper, considering that URI may have a semicolon with extra
+     * data followed, which shouldn't be a part of mapping process. Unlike {@link Mapper}, the URI is never modified.
+     *
+     * @param decodedURI decoded URI
+     * @param mappingData {@link MappingData} based on the URI.
+     * @param semicolonPos semicolon position. Might be <tt>0</tt> if position wasn't resolved yet (so it will be resolved
+     * in the method), or <tt>-1</tt> if there is no semicolon in the URI.
+     * @throws CharConversionException if the URI can't be converted to chars
+     */
+    public void mapUriWithSemicolon(final DataChunk decodedURI, final MappingData mappingData, int semicolonPos) throws CharConversionException {
+        decodedURI.toChars(Charsets.UTF8_CHARSET);
+        final CharChunk uri = decodedURI.getCharChunk();
+
+        if (semicolonPos == 0) {
+            semicolonPos = uri.indexOf(';', 0);
+        }
+
+        final int start = uri.getStart();
+        internalMap(uri.getBuffer(), start, semicolonPos >= 0 ? start + semicolonPos : uri.getEnd(), mappingData);
+    }
+
+    /**
+     * Maps the URI to the corresponding context and wrapper, mutating the given mapping data.
+     *
+     * @param uri URI
+     * @param mappingData This structure will contain the result of the mapping operation
+     * @throws CharConversionException if the URI can't be converted to chars
+     */
+    public void map(final DataChunk uri, final MappingData mappingData) throws CharConversionException {
+        uri.toChars(Charsets.UTF8_CHARSET);
+        final CharChunk uriCC = uri.getCharChunk();
+
+        internalMap(uriCC.getBuffer(), uriCC.getStart(), uriCC.getEnd(), mappingData);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("RadixTreeMapper{");
+        contexts.appendTo(sb, new StringBuilder());
+        return sb.append('}').toString();
+    }
+
+    private void internalMap(final char[] buf, final int start, final int end, final MappingData mappingData) {
+        Context context = contexts.longestPrefix(buf, start, end);
+        if (context == null) {
+            // the root context is used, even if the URI doesn't start with '/'
+            context = contexts.get(buf, start, start);
+            if (context == null) {
+                return;
+            }
+        }
+
+        mappingData.context = context.object;
+        mappingData.contextPath.setString(context.name);
+
+        final int servletPath = start + context.name.length();
+        if (servletPath != end) {
+            internalMapWrapper(context, buf, servletPath, end, mappingData);
+            return;
+        }
+
+        // the URI matches the context path, map it as "/"
+        internalMapExactWrapper(context, SLASH, 0, 1, mappingData);
+        if (mappingData.wrapper == null) {
+            internalMapWildcardWrapper(context, SLASH, 0, 1, mappingData);
+        }
+
+        // the wrapperPath is empty for url-pattern /*
+        if (mappingData.wrapper == null || mappingData.wrapperPath.getLength() == 0) {
+            // The path is empty, redirect to "/"
+            mappingData.redirectPath.setString(new String(buf, start, end - start) + '/');
+        }
+    }
+
+    private static void internalMapWrapper(final Context context, final char[] buf, final int start, final int end, final MappingData mappingData) {
+        // Rule 1 -- Exact Match
+        internalMapExactWrapper(context, buf, start, end, mappingData);
+
+        // Rule 2 -- Prefix Match
+        if (mappingData.wrapper == null) {
+            internalMapWildcardWrapper(context, buf, start, end, mappingData);
+        }
+
+        // Rule 3 -- Extension Match
+        if (mappingData.wrapper == null) {
+            internalMapExtensionWrapper(context, buf, start, end, mappingData);
+        }
+
+        // Rule 4 -- Welcome resources processing for servlets
+        if (mappingData.wrapper == null && buf[end - 1] == '/') {
+            final int length = end - start;
+            for (int i = 0; i < context.welcomeResources.length && mappingData.wrapper == null; i++) {
+                final String welcomeResource = context.welcomeResources[i];
+
+                final char[] path = new char[length + welcomeResource.length()];
+                System.arraycopy(buf, start, path, 0, length);
+                welcomeResource.getChars(0, welcomeResource.length(), path, length);
+
+                internalMapExactWrapper(context, path, 0, path.length, mappingData);
+
+                if (mappingData.wrapper == null) {
+                    internalMapWildcardWrapper(context, path, 0, path.length, mappingData);
+                }
+
+                if (mappingData.wrapper == null) {
+                    internalMapExtensionWrapper(context, path, 0, path.length, mappingData);
+                }
+            }
+        }
+
+        // Rule 7 -- Default servlet
+        if (mappingData.wrapper == null && context.defaultWrapper != null) {
+            mappingData.wrapper = context.defaultWrapper.object;
+            mappingData.requestPath.setChars(buf, start, end);
+            mappingData.wrapperPath.setChars(buf, start, end);
+            mappingData.mappingType = MappingData.DEFAULT;
+            mappingData.descriptorPath = "/";
+            mappingData.matchedPath = mappingData.requestPath.toString();
+        }
+    }
+
+    private static void internalMapExactWrapper(final Context context, final char[] buf, final int start, final int end,
+            final MappingData mappingData) {
+        final Wrapper wrapper = context.exactWrappers.get(buf, start, end);
+        if (wrapper != null) {
+            mappingData.requestPath.setString(wrapper.name);
+            mappingData.wrapperPath.setString(wrapper.name);
+            mappingData.wrapper = wrapper.object;
+            mappingData.descriptorPath = wrapper.path;
+            mappingData.matchedPath = wrapper.name;
+            mappingData.mappingType = "/".equals(wrapper.name) ? MappingData.DEFAULT : MappingData.EXACT;
+        }
+    }
+
+    private static void internalMapWildcardWrapper(final Context context, final char[] buf, final int start, final int end,
+            final MappingData mappingData) {
+        final Wrapper wrapper = context.wildcardWrappers.longestPrefix(buf, start, end);
+        if (wrapper != null) {
+            final int length = wrapper.name.length();
+
+            mappingData.wrapperPath.setString(wrapper.name);
+            if (end - start > length) {
+                mappingData.pathInfo.setChars(buf, start + length, end);
+            }
+            mappingData.requestPath.setChars(buf, start, end);
+            mappingData.wrapper = wrapper.object;
+            mappingData.mappingType = MappingData.PATH;
+            mappingData.descriptorPath = wrapper.path;
+            mappingData.matchedPath = new String(buf, start, end - start);
+        }
+    }
+
+    private static void internalMapExtensionWrapper(final Context context, final char[] buf, final int start, final int end,
+            final MappingData mappingData) {
+        for (int i = end - 1; i >= start; i--) {
+            final char c = buf[i];
+            if (c == '/') {
+                // no extension in the last path segment
+                return;
+            }
+
+            if (c == '.') {
+                final Wrapper wrapper = context.extensionWrappers.get(buf, i + 1, end);
+                if (wrapper != null) {
+                    mappingData.wrapperPath.setChars(buf, start, end);
+                    mappingData.requestPath.setChars(buf, start, end);
+                    mappingData.wrapper = wrapper.object;
+                    mappingData.mappingType = MappingData.EXTENSION;
+                    mappingData.descriptorPath = wrapper.path;
+                }
+
+                mappingData.matchedPath = new String(buf, start, end - start);
+                return;
+            }
+        }
+    }
+
+    private static final class Context {
+        private final String name;
+        private final Object object;
+        private final String[] welcomeResources;
+
+        private final Node<Wrapper> exactWrappers;
+        private final Node<Wrapper> wildcardWrappers;
+        private final Node<Wrapper> extensionWrappers;
+        private final Wrapper defaultWrapper;
+
+        private Context(final String name, final Object object, final String[] welcomeResources) {
+            this(name, object, welcomeResources != null ? welcomeResources : new String[0], Node.<Wrapper>empty(), Node.<Wrapper>empty(),
+                    Node.<Wrapper>empty(), null);
+        }
+
+        private Context(final String name, final Object object, final String[] welcomeResources, final Node<Wrapper> exactWrappers,
+                final Node<Wrapper> wildcardWrappers, final Node<Wrapper> extensionWrappers, final Wrapper defaultWrapper) {
+            this.name = name;
+            this.object = object;
+            this.welcomeResources = welcomeResources;
+            this.exactWrappers = exactWrappers;
+            this.wildcardWrappers = wildcardWrappers;
+            this.extensionWrappers = extensionWrappers;
+            this.defaultWrapper = defaultWrapper;
+        }
+
+        private Context replace(final Object newObject, final String[] newWelcomeResources) {
+            return new Context(name, newObject, newWelcomeResources != null ? newWelcomeResources : new String[0], exactWrappers, wildcardWrappers,
+                    extensionWrappers, defaultWrapper);
+        }
+
+        private boolean hasWrappers() {
+            return !exactWrappers.isEmpty() || !wildcardWrappers.isEmpty() || !extensionWrappers.isEmpty() || defaultWrapper != null;
+        }
+
+        private Context addWrapper(final String path, final Object wrapper) {
+            if (path.endsWith("/*")) {
+                // Wildcard wrapper
+                final String wrapperName = path.substring(0, path.length() - 2);
+                final Node<Wrapper> newWrappers = add(wildcardWrappers, new Wrapper(wrapperName, path, wrapper));
+                return newWrappers == wildcardWrappers ? this
+                        : new Context(name, object, welcomeResources, exactWrappers, newWrappers, extensionWrappers, defaultWrapper);
+            }
+
+            if (path.startsWith("*.")) {
+                // Extension wrapper
+                final Node<Wrapper> newWrappers = add(extensionWrappers, new Wrapper(path.substring(2), path, wrapper));
+                return newWrappers == extensionWrappers ? this
+                        : new Context(name, object, welcomeResources, exactWrappers, wildcardWrappers, newWrappers, defaultWrapper);
+            }
+
+            final Wrapper newWrapper = new Wrapper(path, path, wrapper);
+
+            // "/" is both the default and the exact wrapper
+            return new Context(name, object, welcomeResources, add(exactWrappers, newWrapper), wildcardWrappers, extensionWrappers,
+                    "/".equals(path) ? newWrapper : defaultWrapper);
+        }
+
+        private Context removeWrapper(final String path) {
+            if (path.endsWith("/*")) {
+                // Wildcard wrapper
+                final Node<Wrapper> newWrappers = wildcardWrappers.remove(path.substring(0, path.length() - 2));
+                return newWrappers == wildcardWrappers ? this
+                        : new Context(name, object, welcomeResources, exactWrappers, newWrappers, extensionWrappers, defaultWrapper);
+            }
+
+            if (path.startsWith("*.")) {
+                // Extension wrapper
+                final Node<Wrapper> newWrappers = extensionWrappers.remove(path.substring(2));
+                return newWrappers == extensionWrappers ? this
+                        : new Context(name, object, welcomeResources, exactWrappers, wildcardWrappers, newWrappers, defaultWrapper);
+            }
+
+            final Node<Wrapper> newWrappers = exactWrappers.remove(path);
+            final Wrapper newDefaultWrapper = "/".equals(path) ? null : defaultWrapper;
+
+            return newWrappers == exactWrappers && newDefaultWrapper == defaultWrapper ? this
+                    : new Context(name, object, welcomeResources, newWrappers, wildcardWrappers, extensionWrappers, newDefaultWrapper);
+        }
+
+        private static Node<Wrapper> add(final Node<Wrapper> wrappers, final Wrapper wrapper) {
+            if (wrappers.get(wrapper.name) != null && !Mapper.allowReplacement()) {
+                return wrappers;
+            }
+
+            return wrappers.put(wrapper.name, wrapper);
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    private static final class Wrapper {
+        private final String name;
+        private final String path;
+        private final Object object;
+
+        private Wrapper(final String name, final String path, final Object object) {
+            this.name = name;
+            this.path = path;
+            this.object = object;
+        }
+
+        @Override
+        public String toString() {
+            return path;
+        }
+    }
+
+    /**
+     * Immutable compressed radix tree node. The node's key is the concatenation of the labels on the path from the root,
+     * the children are sorted by the first label char.
+     */
+    private static final class Node<V> {
+        @SuppressWarnings("rawtypes")
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        @SuppressWarnings("unchecked")
+        private static final Node<?> EMPTY = new Node<>(new char[0], null, NO_CHILDREN);
+
+        private final char[] label;
+        private final V value;
+        private final Node<V>[] children;
+
+        private Node(final char[] label, final V value, final Node<V>[] children) {
+            this.label = label;
+            this.value = value;
+            this.children = children;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <V> Node<V> empty() {
+            return (Node<V>) EMPTY;
+        }
+
+        private boolean isEmpty() {
+            return value == null && children.length == 0;
+        }
+
+        private V get(final String key) {
+            final char[] chars = key.toCharArray();
+            return get(chars, 0, chars.length);
+        }
+
+        /**
+         * Returns the value, which key is equal to the given chars.
+         */
+        private V get(final char[] buf, final int start, final int end) {
+            Node<V> node = this;
+            int pos = start;
+            while (pos < end) {
+                node = node.child(buf[pos]);
+                if (node == null || !node.labelMatches(buf, pos, end)) {
+                    return null;
+                }
+
+                pos += node.label.length;
+            }
+
+            return node.value;
+        }
+
+        /**
+         * Returns the value, which key is the longest prefix of the given chars followed either by '/' or by the end.
+         */
+        private V longestPrefix(final char[] buf, final int start, final int end) {
+            V result = null;
+            Node<V> node = this;
+            int pos = start;
+            while (true) {
+                if (node.value != null && (pos == end || buf[pos] == '/')) {
+                    result = node.value;
+                }
+
+                if (pos == end) {
+                    return result;
+                }
+
+                node = node.child(buf[pos]);
+                if (node == null || !node.labelMatches(buf, pos, end)) {
+                    return result;
+                }
+
+                pos += node.label.length;
+            }
+        }
+
+        private Node<V> put(final String key, final V newValue) {
+            return put(key.toCharArray(), 0, newValue);
+        }
+
+        private Node<V> put(final char[] key, final int pos, final V newValue) {
+            if (pos == key.length) {
+                return new Node<>(label, newValue, children);
+            }
+
+            final int idx = indexOf(key[pos]);
+            if (idx < 0) {
+                return withChild(-idx - 1, false, new Node<>(Arrays.copyOfRange(key, pos, key.length), newValue, Node.<V>noChildren()));
+            }
+
+            final Node<V> child = children[idx];
+            final int common = child.commonPrefixLength(key, pos);
+            if (common == child.label.length) {
+                return withChild(idx, true, child.put(key, pos + common, newValue));
+            }
+
+            // split the child label
+            final Node<V> tail = new Node<>(Arrays.copyOfRange(child.label, common, child.label.length), child.value, child.children);
+            final Node<V> head = new Node<>(Arrays.copyOf(child.label, common), null, Node.<V>noChildren()).withChild(0, false, tail);
+
+            return withChild(idx, true, head.put(key, pos + common, newValue));
+        }
+
+        private Node<V> remove(final String key) {
+            return remove(key.toCharArray(), 0);
+        }
+
+        private Node<V> remove(final char[] key, final int pos) {
+            if (pos == key.length) {
+                return value == null ? this : new Node<>(label, null, children);
+            }
+
+            final int idx = indexOf(key[pos]);
+            if (idx < 0) {
+                return this;
+            }
+
+            final Node<V> child = children[idx];
+            if (!child.labelMatches(key, pos, key.length)) {
+                return this;
+            }
+
+            Node<V> newChild = child.remove(key, pos + child.label.length);
+            if (newChild == child) {
+                return this;
+            }
+
+            if (newChild.value == null) {
+                if (newChild.children.length == 0) {
+                    return withoutChild(idx);
+                }
+
+                if (newChild.children.length == 1) {
+                    // merge the child with its only child
+                    final Node<V> grandChild = newChild.children[0];
+                    final char[] mergedLabel = Arrays.copyOf(newChild.label, newChild.label.length + grandChild.label.length);
+                    System.arraycopy(grandChild.label, 0, mergedLabel, newChild.label.length, grandChild.label.length);
+
+                    newChild = new Node<>(mergedLabel, grandChild.value, grandChild.children);
+                }
+            }
+
+            return withChild(idx, true, newChild);
+        }
+
+        private void appendTo(final StringBuilder sb, final StringBuilder key) {
+            final int length = key.length();
+            key.append(label);
+
+            if (value != null) {
+                if (sb.charAt(sb.length() - 1) != '{') {
+                    sb.append(", ");
+                }
+                sb.append('"').append(key).append("\"=").append(value);
+            }
+
+            for (Node<V> child : children) {
+                child.appendTo(sb, key);
+            }
+
+            key.setLength(length);
+        }
+
+        private Node<V> child(final char c) {
+            final int idx = indexOf(c);
+            return idx >= 0 ? children[idx] : null;
+        }
+
+        /**
+         * Returns the index of the child, which label starts with the given char, or <tt>(-(insertion point) - 1)</tt>.
+         */
+        private int indexOf(final char c) {
+            int low = 0;
+            int high = children.length - 1;
+            while (low <= high) {
+                final int mid = low + high >>> 1;
+                final char midChar = children[mid].label[0];
+                if (midChar < c) {
+                    low = mid + 1;
+                } else if (midChar > c) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+
+            return -(low + 1);
+        }
+
+        private boolean labelMatches(final char[] buf, final int pos, final int end) {
+            if (end - pos < label.length) {
+                return false;
+            }
+
+            for (int i = 0; i < label.length; i++) {
+                if (buf[pos + i] != label[i]) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        private int commonPrefixLength(final char[] key, final int pos) {
+            final int max = Math.min(label.length, key.length - pos);
+            int i = 0;
+            while (i < max && label[i] == key[pos + i]) {
+                i++;
+            }
+
+            return i;
+        }
+
+        private Node<V> withChild(final int idx, final boolean replace, final Node<V> child) {
+            final Node<V>[] newChildren;
+            if (replace) {
+                newChildren = children.clone();
+            } else {
+                newChildren = Arrays.copyOf(children, children.length + 1);
+                System.arraycopy(children, idx, newChildren, idx + 1, children.length - idx);
+            }
+
+            newChildren[idx] = child;
+            return new Node<>(label, value, newChildren);
+        }
+
+        private Node<V> withoutChild(final int idx) {
+            final Node<V>[] newChildren = Arrays.copyOf(children, children.length - 1);
+            System.arraycopy(children, idx + 1, newChildren, idx, children.length - idx - 1);
+
+            return new Node<>(label, value, newChildren);
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <V> Node<V>[] noChildren() {
+            return NO_CHILDREN;
+        }
+    }
+}
@@ -904,6 +904,41 @@ public class FileCacheTest {
 
     }
 
+    @Test
+    public void testWatcherStoppedOnGracefulShutdown() throws Exception {
+        final File file = createTempFile();
+        httpServer.getListener("grizzly").getFileCache().setFileWatchEnabled(true);
+        startHttpServer(new StaticHttpHandler(file.getParent()));
+
+        final HttpRequestPacket request = HttpRequestPacket.builder().method("GET").uri("/" + file.getName()).protocol("HTTP/1.1").header("Host", "localhost")
+                .build();
+
+        final ReusableFuture<HttpContent> responseFuture = new ReusableFuture<>();
+        final Connection c = getConnection("localhost", PORT, responseFuture);
+        c.write(request);
+        assertEquals(200, ((HttpResponsePacket) responseFuture.get(10, TimeUnit.SECONDS).getHttpHeader()).getStatus());
+        c.closeSilently();
+
+        // the file has been cached, so the watcher has been started
+        final Thread watcher = findWatcherThread();
+        assertNotNull("The file cache watcher is not running", watcher);
+
+        httpServer.shutdown().get(10, TimeUnit.SECONDS);
+
+        watcher.join(TimeUnit.SECONDS.toMillis(10));
+        assertFalse("The file cache watcher is still running", watcher.isAlive());
+    }
+
+    private static Thread findWatcherThread() {
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if ("Grizzly-FileCache-Watcher".equals(thread.getName())) {
+                return thread;
+            }
+        }
+
+        return null;
+    }
+
     private void configureHttpServer() throws Exception {
         httpServer = new HttpServer();
         final NetworkListener listener = new NetworkListener("grizzly", NetworkListener.DEFAULT_NETWORK_HOST, PORT);
@@ -625,6 +625,96 @@ public class NIOOutputSinksTest {
         }
     }
 
+    @Test
+    public void testAutoCorkBlockingWrite() throws Exception {
+
+        HttpServer server = new HttpServer();
+        NetworkListener listener = new NetworkListener("Grizzly", DEFAULT_NETWORK_HOST, PORT);
+        int LENGTH = 16384;
+        int MAX_LENGTH = LENGTH * 2;
+        int RESPONSE_LENGTH = MAX_LENGTH * 16;
+        listener.setMaxPendingBytes(MAX_LENGTH);
+        // the handler is executed by the READ processing, which corks the connection, so the handler's writes are queued
+        listener.getTransport().setIOStrategy(WorkerThreadIOStrategy.getInstance());
+        listener.getTransport().setAutoCorkEnabled(true);
+        server.addListener(listener);
+        FutureImpl<String> parseResult = SafeFutureImpl.create();
+        FilterChainBuilder filterChainBuilder = FilterChainBuilder.stateless();
+        filterChainBuilder.add(new TransportFilter());
+        filterChainBuilder.add(new HttpClientFilter());
+        filterChainBuilder.add(new BaseFilter() {
+
+            private StringBuilder sb = new StringBuilder();
+
+            @Override
+            public NextAction handleConnect(FilterChainContext ctx) throws IOException {
+                HttpRequestPacket httpRequest = HttpRequestPacket.builder().method("GET").uri("/path").protocol(HTTP_1_1)
+                        .header("Host", "localhost:" + PORT).build();
+
+                ctx.write(httpRequest);
+
+                return ctx.getStopAction();
+            }
+
+            @Override
+            public NextAction handleRead(FilterChainContext ctx) throws IOException {
+
+                HttpContent message = ctx.getMessage();
+                Buffer b = message.getContent();
+                if (b.hasRemaining()) {
+                    sb.append(b.toStringContent());
+                }
+
+                if (message.isLast()) {
+                    parseResult.result(sb.toString());
+                }
+                return ctx.getStopAction();
+            }
+        });
+
+        TCPNIOTransport clientTransport = TCPNIOTransportBuilder.newInstance().build();
+        clientTransport.setProcessor(filterChainBuilder.build());
+        HttpHandler ga = new HttpHandler() {
+
+            @Override
+            public void service(Request request, Response response) throws Exception {
+
+                response.setContentType("text/plain");
+                response.setContentLength(RESPONSE_LENGTH);
+
+                // the blocking writes wait for the queue space, once the max pending bytes are reached
+                byte[] b = new byte[LENGTH];
+                for (int i = 0; i < RESPONSE_LENGTH / LENGTH; i++) {
+                    Arrays.fill(b, (byte) ('a' + i % ('z' - 'a')));
+                    response.getOutputStream().write(b);
+                }
+            }
+        };
+
+        server.getServerConfiguration().addHttpHandler(ga, "/path");
+
+        try {
+            server.start();
+            clientTransport.start();
+
+            Future<Connection> connectFuture = clientTransport.connect("localhost", PORT);
+            Connection connection = null;
+            try {
+                connection = connectFuture.get(10, SECONDS);
+                String resultStr = parseResult.get(10, SECONDS);
+                assertEquals(RESPONSE_LENGTH, resultStr.length());
+                check1(resultStr, LENGTH);
+            } finally {
+                if (connection != null) {
+                    connection.closeSilently();
+                }
+            }
+        } finally {
+            clientTransport.shutdownNow();
+            server.shutdownNow();
+        }
+    }
+
     /*
      * Added for GRIZZLY-1839.
      */
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.http.server;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.glassfish.grizzly.http.server.util.Mapper;
+import org.glassfish.grizzly.http.server.util.MappingData;
+import org.glassfish.grizzly.http.server.util.RadixTreeMapper;
+import org.glassfish.grizzly.http.util.DataChunk;
+import org.junit.Test;
+
+/**
+ * {@link RadixTreeMapper} tests
+ */
+public class RadixTreeMapperTest {
+    private static final String[] WELCOME_RESOURCES = { "index.html", "index.htm" };
+
+    private static final String[][] MAPPINGS = { { "", "/" }, { "", "*.jsp" }, { "", "/exact" }, { "", "/prefix/*" }, { "/a", "/" },
+            { "/a", "/b/*" }, { "/a", "/b/c/*" }, { "/a", "/index.html" }, { "/ab", "/*" }, { "/a/b", "/x" }, { "/c", "*.txt" },
+            { "/c", "/d/*" }, { "/e", "" } };
+
+    private static final String[] URIS = { "/", "", "/exact", "/exact/", "/exactly", "/prefix", "/prefix/", "/prefix/1/2", "/prefixx",
+            "/x.jsp", "/y/x.jsp", "/y.jsp/z", "/a", "/a/", "/a/b", "/a/b/", "/a/b/c", "/a/b/c/d", "/a/b/x", "/a/bx", "/a/z", "/ab", "/ab/",
+            "/ab/c", "/abc", "/c", "/c/", "/c/1.txt", "/c/d", "/c/d/1.txt", "/c/e/1.txt", "/c/.txt", "/c/1.txt.bak", "/e", "/e/", "/e/f",
+            "/unknown" };
+
+    @Test
+    public void testMapperCompatibility() throws Exception {
+        final Mapper mapper = new Mapper();
+        mapper.setDefaultHostName("localhost");
+        RadixTreeMapper radixTreeMapper = RadixTreeMapper.EMPTY;
+
+        for (String[] mapping : MAPPINGS) {
+            final Object handler = mapping[0] + mapping[1];
+
+            mapper.addContext("localhost", mapping[0], mapping[0], WELCOME_RESOURCES, null);
+            mapper.addWrapper("localhost", mapping[0], mapping[1], handler);
+
+            radixTreeMapper = radixTreeMapper.addContext(mapping[0], mapping[0], WELCOME_RESOURCES).addWrapper(mapping[0], mapping[1], handler);
+        }
+
+        for (String uri : URIS) {
+            final MappingData expected = new MappingData();
+            mapper.map(DataChunk.newInstance(), chunk(uri), expected);
+            expected.host = null;
+
+            final MappingData actual = new MappingData();
+            radixTreeMapper.map(chunk(uri), actual);
+
+            assertEquals(uri, expected.toString(), actual.toString());
+        }
+    }
+
+    @Test
+    public void testSnapshots() throws Exception {
+        final RadixTreeMapper empty = RadixTreeMapper.EMPTY;
+        final RadixTreeMapper mapper1 = empty.addContext("/ctx", "ctx", WELCOME_RESOURCES).addWrapper("/ctx", "/a/*", "a");
+        final RadixTreeMapper mapper2 = mapper1.addWrapper("/ctx", "/b/*", "b");
+
+        assertEquals("b", map(mapper2, "/ctx/b/1").wrapper);
+        assertNull(map(mapper1, "/ctx/b/1").wrapper);
+        assertNull(map(empty, "/ctx/a/1").context);
+
+        // the registered mappings are not replaced
+        assertSame(mapper2, mapper2.addWrapper("/ctx", "/b/*", "c"));
+        assertSame(mapper2, mapper2.addContext("/ctx", "ctx2", WELCOME_RESOURCES));
+
+        final RadixTreeMapper mapper3 = mapper2.removeWrapper("/ctx", "/a/*");
+        assertTrue(mapper3.hasWrappers("/ctx"));
+        assertEquals("ctx", map(mapper3, "/ctx/a/1").context);
+        assertNull(map(mapper3, "/ctx/a/1").wrapper);
+        assertEquals("a", map(mapper2, "/ctx/a/1").wrapper);
+
+        final RadixTreeMapper mapper4 = mapper3.removeWrapper("/ctx", "/b/*");
+        assertFalse(mapper4.hasWrappers("/ctx"));
+        assertNull(map(mapper4.removeContext("/ctx"), "/ctx/b/1").context);
+    }
+
+    @Test
+    public void testManyMappings() throws Exception {
+        RadixTreeMapper mapper = RadixTreeMapper.EMPTY.addContext("", "", WELCOME_RESOURCES);
+        for (int i = 0; i < 50000; i++) {
+            mapper = mapper.addWrapper("", "/api/v" + i % 10 + "/resource" + i + "/*", i);
+        }
+
+        for (int i = 0; i < 50000; i += 97) {
+            final MappingData mappingData = map(mapper, "/api/v" + i % 10 + "/resource" + i + "/item");
+            assertEquals(i, mappingData.wrapper);
+            assertEquals("/item", mappingData.pathInfo.toString());
+        }
+
+        assertNull(map(mapper, "/api/v1/resource2/item").wrapper);
+
+        for (int i = 0; i < 50000; i += 2) {
+            mapper = mapper.removeWrapper("", "/api/v" + i % 10 + "/resource" + i + "/*");
+        }
+
+        assertNull(map(mapper, "/api/v0/resource0").wrapper);
+        assertEquals(1, map(mapper, "/api/v1/resource1").wrapper);
+        assertEquals(49999, map(mapper, "/api/v9/resource49999/").wrapper);
+    }
+
+    private static MappingData map(final RadixTreeMapper mapper, final String uri) throws Exception {
+        final MappingData mappingData = new MappingData();
+        mapper.map(chunk(uri), mappingData);
+        return mappingData;
+    }
+
+    private static DataChunk chunk(final String value) {
+        final DataChunk chunk = DataChunk.newInstance();
+        chunk.setString(value);
+        return chunk;
+    }
+}
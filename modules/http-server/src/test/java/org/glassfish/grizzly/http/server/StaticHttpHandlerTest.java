@@ -16,6 +16,7 @@
 
 package org.glassfish.grizzly.http.server;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
@@ -142,6 +143,44 @@ public class StaticHttpHandlerTest {
         }
     }
 
+    /**
+     * Make sure the file, which is sent in several chunks (the secure chunk is 64K), is received unchanged.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testMultiChunkFile() throws Exception {
+        final byte[] data = new byte[5 * 64 * 1024 + 123];
+        new Random().nextBytes(data);
+
+        final File control = File.createTempFile("grizzly-temp-chunks", ".tmp2");
+        control.deleteOnExit();
+        Files.write(control.toPath(), data);
+
+        final FutureImpl<File> result = Futures.createSafeFuture();
+
+        TCPNIOTransport client = createClient(result, new ResponseValidator() {
+            @Override
+            public void validate(HttpResponsePacket response) {
+                assertEquals(200, response.getStatus());
+                assertEquals(Integer.toString(data.length), response.getHeader(Header.ContentLength));
+            }
+        }, isSslEnabled);
+        try {
+            client.start();
+            Connection c = client.connect("localhost", PORT).get(10, TimeUnit.SECONDS);
+
+            HttpRequestPacket request = HttpRequestPacket.builder().uri("/" + control.getName()).method(Method.GET).protocol(Protocol.HTTP_1_1)
+                    .header("Host", "localhost:" + PORT).build();
+            c.write(request);
+            File fResult = result.get(20, TimeUnit.SECONDS);
+            assertArrayEquals(data, Files.readAllBytes(fResult.toPath()));
+
+            c.close();
+        } finally {
+            client.shutdownNow();
+        }
+    }
+
     @Test
     @SuppressWarnings("unchecked")
     public void testPostMethod() throws Exception {
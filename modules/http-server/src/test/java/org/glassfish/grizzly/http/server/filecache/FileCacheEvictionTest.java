@@ -0,0 +1,251 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.http.server.filecache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.glassfish.grizzly.http.HttpRequestPacket;
+import org.glassfish.grizzly.http.HttpResponsePacket;
+import org.glassfish.grizzly.http.ProcessingState;
+import org.glassfish.grizzly.http.util.Header;
+import org.glassfish.grizzly.utils.DelayedExecutor;
+import org.junit.Test;
+
+/**
+ * {@link FileCache} eviction tests
+ */
+public class FileCacheEvictionTest {
+
+    @Test
+    public void testFrequentlyUsedEntriesStay() {
+        final FileCache fileCache = new FileCache();
+        fileCache.setMaxCacheEntries(10);
+        final EvictionProbe probe = new EvictionProbe();
+        fileCache.getMonitoringConfig().addProbes(probe);
+
+        for (int i = 0; i < 8; i++) {
+            assertEquals(FileCache.CacheResult.OK_CACHED_TIMESTAMP, fileCache.add(request("/hot" + i), 1000));
+        }
+
+        for (int j = 0; j < 3; j++) {
+            for (int i = 0; i < 8; i++) {
+                fileCache.get(request("/hot" + i));
+            }
+        }
+
+        for (int i = 0; i < 20; i++) {
+            assertEquals(FileCache.CacheResult.OK_CACHED_TIMESTAMP, fileCache.add(request("/cold" + i), 1000));
+        }
+
+        assertEquals(18, probe.evicted.size());
+        for (int i = 0; i < 8; i++) {
+            assertFalse(probe.evicted.contains("/hot" + i));
+        }
+
+        assertEquals(10, probe.cachedCount);
+    }
+
+    @Test
+    public void testStaleEntriesReplaced() {
+        final FileCache fileCache = new FileCache();
+        fileCache.setMaxCacheEntries(10);
+        final EvictionProbe probe = new EvictionProbe();
+        fileCache.getMonitoringConfig().addProbes(probe);
+
+        for (int i = 0; i < 10; i++) {
+            fileCache.add(request("/old" + i), 1000);
+            fileCache.get(request("/old" + i));
+        }
+
+        // the new resource is requested more often, than the cached ones
+        for (int i = 0; i < 5; i++) {
+            fileCache.get(request("/new"));
+        }
+
+        fileCache.add(request("/new"), 1000);
+        fileCache.add(request("/other"), 1000);
+
+        assertFalse(probe.evicted.contains("/new"));
+        assertEquals(2, probe.evicted.size());
+        assertEquals(10, probe.cachedCount);
+    }
+
+    @Test
+    public void testWindowEntryHitStays() {
+        final FileCache fileCache = new FileCache();
+        fileCache.setMaxCacheEntries(5);
+        final EvictionProbe probe = new EvictionProbe();
+        fileCache.getMonitoringConfig().addProbes(probe);
+
+        for (int i = 0; i < 5; i++) {
+            fileCache.add(request("/e" + i), 1000);
+        }
+
+        for (int j = 0; j < 2; j++) {
+            for (int i = 0; i < 4; i++) {
+                fileCache.get(request("/e" + i));
+            }
+        }
+
+        // the only entry, which hasn't been requested, loses
+        fileCache.add(request("/x1"), 1000);
+        assertEquals(Collections.singleton("/e4"), probe.evicted);
+
+        for (int i = 0; i < 3; i++) {
+            fileCache.get(request("/x1"));
+        }
+
+        // the hit entry is moved to the most recently used end of the window, so the new entry leaves the window instead
+        fileCache.add(request("/x2"), 1000);
+        assertEquals(new HashSet<>(Arrays.asList("/e4", "/x2")), probe.evicted);
+        assertEquals(5, probe.cachedCount);
+    }
+
+    @Test
+    public void testRejectedEntryNotScheduled() {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final FileCache fileCache = new FileCache();
+            fileCache.initialize(new DelayedExecutor(executor));
+            fileCache.setSecondsMaxAge(60);
+            fileCache.setMaxCacheEntries(2);
+            final EvictionProbe probe = new EvictionProbe();
+            fileCache.getMonitoringConfig().addProbes(probe);
+
+            fileCache.add(request("/a"), 1000);
+            fileCache.add(request("/b"), 1000);
+            for (int i = 0; i < 2; i++) {
+                fileCache.get(request("/a"));
+                fileCache.get(request("/b"));
+            }
+
+            fileCache.add(request("/c"), 1000);
+            assertEquals(Collections.singleton("/c"), probe.evicted);
+
+            // the evicted entry has no timeout, so it's not tracked by the delay queue
+            assertEquals(-1, probe.entries.get("/c").timeoutMillis);
+            assertTrue(probe.entries.get("/a").timeoutMillis > 0);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testHeapSizeBound() throws IOException {
+        final FileCache fileCache = new FileCache();
+        fileCache.setMinEntrySize(1000);
+        fileCache.setMaxSmallFileCacheSize(250);
+        final EvictionProbe probe = new EvictionProbe();
+        fileCache.getMonitoringConfig().addProbes(probe);
+
+        final File file1 = createFile(100);
+        final File file2 = createFile(100);
+        final File file3 = createFile(100);
+        final File file4 = createFile(100);
+        try {
+            fileCache.add(request("/file1"), file1);
+            fileCache.add(request("/file2"), file2);
+            assertEquals(200, fileCache.getHeapCacheSize());
+
+            fileCache.get(request("/file3"));
+            fileCache.get(request("/file3"));
+
+            // file3 is requested more often than file1, so file1 gets evicted
+            fileCache.add(request("/file3"), file3);
+            assertEquals(Collections.singleton("/file1"), probe.evicted);
+            assertEquals(200, fileCache.getHeapCacheSize());
+            assertEquals(FileCache.CacheType.HEAP, probe.types.get("/file3"));
+
+            // file4 is not requested more often than the cached files, so it's cached as a file
+            fileCache.add(request("/file4"), file4);
+            assertEquals(1, probe.evicted.size());
+            assertEquals(200, fileCache.getHeapCacheSize());
+            assertEquals(FileCache.CacheType.FILE, probe.types.get("/file4"));
+        } finally {
+            file1.delete();
+            file2.delete();
+            file3.delete();
+            file4.delete();
+        }
+    }
+
+    private static File createFile(final int size) throws IOException {
+        final File file = File.createTempFile("grizzly-filecache", ".txt");
+        try (FileOutputStream out = new FileOutputStream(file)) {
+            out.write(new byte[size]);
+        }
+
+        return file;
+    }
+
+    private static HttpRequestPacket request(final String uri) {
+        final HttpRequestPacket request = new HttpRequestPacket() {
+            private final ProcessingState processingState = new ProcessingState();
+
+            {
+                setResponse(HttpResponsePacket.builder(this).build());
+            }
+
+            @Override
+            public ProcessingState getProcessingState() {
+                return processingState;
+            }
+        };
+
+        request.setRequestURI(uri);
+        request.setHeader(Header.Host, "localhost");
+        return request;
+    }
+
+    private static class EvictionProbe extends FileCacheProbe.Adapter {
+        private final Set<String> evicted = new HashSet<>();
+        private final Map<String, FileCache.CacheType> types = new HashMap<>();
+        private final Map<String, FileCacheEntry> entries = new HashMap<>();
+        private int cachedCount;
+
+        @Override
+        public void onEntryAddedEvent(FileCache fileCache, FileCacheEntry entry) {
+            types.put(entry.requestURI, entry.type);
+            entries.put(entry.requestURI, entry);
+            cachedCount++;
+        }
+
+        @Override
+        public void onEntryRemovedEvent(FileCache fileCache, FileCacheEntry entry) {
+            cachedCount--;
+        }
+
+        @Override
+        public void onEntryEvictedEvent(FileCache fileCache, FileCacheEntry entry) {
+            assertTrue(evicted.add(entry.requestURI));
+        }
+    }
+}
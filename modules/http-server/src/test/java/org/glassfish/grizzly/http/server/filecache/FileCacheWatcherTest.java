@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.http.server.filecache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.glassfish.grizzly.http.CompressionConfig;
+import org.glassfish.grizzly.http.HttpRequestPacket;
+import org.glassfish.grizzly.http.HttpResponsePacket;
+import org.glassfish.grizzly.http.ProcessingState;
+import org.glassfish.grizzly.http.Protocol;
+import org.glassfish.grizzly.http.util.Header;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * {@link FileCache} file watching tests
+ */
+public class FileCacheWatcherTest {
+    private static final long TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(30);
+
+    private File dir;
+    private FileCache fileCache;
+    private RemovalProbe probe;
+
+    @Before
+    public void before() throws IOException {
+        dir = File.createTempFile("grizzly-filecache", "");
+        assertTrue(dir.delete());
+        assertTrue(dir.mkdir());
+
+        fileCache = new FileCache();
+        fileCache.setFileWatchEnabled(true);
+        probe = new RemovalProbe();
+        fileCache.getMonitoringConfig().addProbes(probe);
+    }
+
+    @After
+    public void after() {
+        fileCache.destroy();
+
+        for (File file : dir.listFiles()) {
+            file.delete();
+        }
+
+        dir.delete();
+    }
+
+    @Test
+    public void testModifiedFileInvalidated() throws Exception {
+        final File file1 = createFile("file1", 100);
+        final File file2 = createFile("file2", 100);
+
+        assertEquals(FileCache.CacheResult.OK_CACHED, fileCache.add(request("/file1"), file1));
+        assertEquals(FileCache.CacheResult.OK_CACHED, fileCache.add(request("/file2"), file2));
+
+        createFile("file1", 200);
+
+        awaitRemoved("/file1");
+        assertNotNull(fileCache.get(request("/file2")));
+
+        // the file is cached again
+        assertEquals(FileCache.CacheResult.OK_CACHED, fileCache.add(request("/file1"), file1));
+        assertEquals(200, fileCache.get(request("/file1")).getFileSize(false));
+    }
+
+    @Test
+    public void testDeletedFileInvalidated() throws Exception {
+        final File file = createFile("file", 100);
+        assertEquals(FileCache.CacheResult.OK_CACHED, fileCache.add(request("/file"), file));
+
+        assertTrue(file.delete());
+
+        awaitRemoved("/file");
+    }
+
+    @Test
+    public void testDeletedCompressedFileInvalidated() throws Exception {
+        fileCache.setCompressedFilesFolder(dir);
+        fileCache.getCompressionConfig().setCompressionMode(CompressionConfig.CompressionMode.FORCE);
+
+        final File file = createFile("file.txt", 100);
+        assertEquals(FileCache.CacheResult.OK_CACHED, fileCache.add(request("/file.txt"), file));
+
+        final HttpRequestPacket request = request("/file.txt");
+        request.setProtocol(Protocol.HTTP_1_1);
+        request.setHeader(Header.AcceptEncoding, "gzip");
+        final FileCacheEntry entry = fileCache.get(request);
+        assertTrue(entry.canServeCompressed(request));
+
+        assertTrue(entry.getFile(true).delete());
+
+        awaitRemoved("/file.txt");
+    }
+
+    private void awaitRemoved(final String uri) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!probe.removed.contains(uri)) {
+            assertTrue(uri + " has not been removed", System.currentTimeMillis() < deadline);
+            Thread.sleep(50);
+        }
+    }
+
+    private File createFile(final String name, final int size) throws IOException {
+        final File file = new File(dir, name);
+        try (FileOutputStream out = new FileOutputStream(file)) {
+            out.write(new byte[size]);
+        }
+
+        return file;
+    }
+
+    private static HttpRequestPacket request(final String uri) {
+        final HttpRequestPacket request = new HttpRequestPacket() {
+            private final ProcessingState processingState = new ProcessingState();
+
+            {
+                setResponse(HttpResponsePacket.builder(this).build());
+            }
+
+            @Override
+            public ProcessingState getProcessingState() {
+                return processingState;
+            }
+        };
+
+        request.setRequestURI(uri);
+        request.setHeader(Header.Host, "localhost");
+        return request;
+    }
+
+    private static class RemovalProbe extends FileCacheProbe.Adapter {
+        private final Set<String> removed = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public void onEntryRemovedEvent(FileCache fileCache, FileCacheEntry entry) {
+            removed.add(entry.requestURI);
+        }
+    }
+}
@@ -18,10 +18,14 @@ package org.glassfish.grizzly.http;
 
 import static org.glassfish.grizzly.http.util.HttpCodecUtils.checkEOL;
 import static org.glassfish.grizzly.http.util.HttpCodecUtils.put;
+import static org.glassfish.grizzly.http.util.HttpCodecUtils.skipHeaderNameWords;
+import static org.glassfish.grizzly.http.util.HttpCodecUtils.skipHeaderValueWords;
 import static org.glassfish.grizzly.http.util.HttpCodecUtils.skipSpaces;
 import static org.glassfish.grizzly.utils.Charsets.ASCII_CHARSET;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.Arrays;
 import java.util.List;
 import java.util.logging.Level;
@@ -39,6 +43,7 @@ import org.glassfish.grizzly.http.util.CacheableDataChunk;
 import org.glassfish.grizzly.http.util.Constants;
 import org.glassfish.grizzly.http.util.DataChunk;
 import org.glassfish.grizzly.http.util.Header;
+import org.glassfish.grizzly.http.util.HeaderNameInterningTable;
 import org.glassfish.grizzly.http.util.MimeHeaders;
 import org.glassfish.grizzly.memory.Buffers;
 import org.glassfish.grizzly.memory.CompositeBuffer;
@@ -125,6 +130,16 @@ public abstract class HttpCodecFilter extends HttpBaseFilter implements Monitori
 
     protected boolean preserveHeaderCase = Boolean.parseBoolean(System.getProperty("org.glassfish.grizzly.http.PRESERVE_HEADER_CASE", "false"));
 
+    /**
+     * @see #setSwarParsingEnabled(boolean)
+     */
+    protected boolean swarParsingEnabled = Boolean.parseBoolean(System.getProperty("org.glassfish.grizzly.http.SWAR_PARSING", "false"));
+
+    /**
+     * @see #setHeaderNameInterningTable(HeaderNameInterningTable)
+     */
+    protected HeaderNameInterningTable headerNameInterningTable = new HeaderNameInterningTable();
+
     /**
      * Method is responsible for parsing initial line of HTTP message (different for {@link HttpRequestPacket} and
      * {@link HttpResponsePacket}).
@@ -333,6 +348,54 @@ public abstract class HttpCodecFilter extends HttpBaseFilter implements Monitori
         this.preserveHeaderCase = preserveHeaderCase;
     }
 
+    /**
+     * @return <code>true</code> if the HTTP message header is scanned 8 bytes at a time, otherwise <code>false</code>.
+     * Default is <code>false</code>.
+     *
+     * @since 3.0
+     */
+    public boolean isSwarParsingEnabled() {
+        return swarParsingEnabled;
+    }
+
+    /**
+     * Set to <code>true</code> to scan the request URI, header names and header values 8 bytes at a time (SIMD within a
+     * register) looking for the delimiters, instead of checking them byte by byte. The scanning applies to the
+     * {@link Buffer}s backed by a heap array, the last bytes of the packet and the bytes around the delimiters are still
+     * parsed byte by byte, so the packets split at any position are parsed the same way. Default is <code>false</code>.
+     *
+     * @param swarParsingEnabled <code>true</code> to scan the HTTP message header 8 bytes at a time.
+     *
+     * @since 3.0
+     */
+    public void setSwarParsingEnabled(boolean swarParsingEnabled) {
+        this.swarParsingEnabled = swarParsingEnabled;
+    }
+
+    /**
+     * @return the {@link HeaderNameInterningTable} the parsed header names are interned with, or <code>null</code>, if
+     * the header names are not interned.
+     *
+     * @since 3.0
+     */
+    public HeaderNameInterningTable getHeaderNameInterningTable() {
+        return headerNameInterningTable;
+    }
+
+    /**
+     * Sets the {@link HeaderNameInterningTable} the parsed header names are interned with, so the header names don't
+     * allocate {@link String}s and the known {@link Header}s are looked up by identity. The table may be shared by
+     * several filters. By default each filter has its own table.
+     *
+     * @param headerNameInterningTable the {@link HeaderNameInterningTable}, or <code>null</code> to not intern the header
+     * names.
+     *
+     * @since 3.0
+     */
+    public void setHeaderNameInterningTable(final HeaderNameInterningTable headerNameInterningTable) {
+        this.headerNameInterningTable = headerNameInterningTable;
+    }
+
     /**
      * <p>
      * Gets registered {@link TransferEncoding}s.
@@ -762,11 +825,18 @@ public abstract class HttpCodecFilter extends HttpBaseFilter implements Monitori
         final int start = arrayOffs + parsingState.start;
         int offset = arrayOffs + parsingState.offset;
 
+        final ByteBuffer swarView = parsingState.getSwarView(input);
+        if (swarView != null) {
+            offset = skipHeaderNameWords(swarView, offset, limit, !preserveHeaderCase);
+        }
+
         while (offset < limit) {
             byte b = input[offset];
             if (b == Constants.COLON) {
 
-                parsingState.headerValueStorage = mimeHeaders.addValue(input, start, offset - start);
+                final HeaderNameInterningTable internTable = headerNameInterningTable;
+                parsingState.headerValueStorage = internTable == null ? mimeHeaders.addValue(input, start, offset - start)
+                        : mimeHeaders.addValue(input, start, offset - start, internTable.intern(input, start, offset));
                 parsingState.offset = offset + 1 - arrayOffs;
                 finalizeKnownHeaderNames(httpHeader, parsingState, input, start, offset);
 
@@ -794,6 +864,25 @@ public abstract class HttpCodecFilter extends HttpBaseFilter implements Monitori
 
         final boolean hasShift = offset != arrayOffs + parsingState.checkpoint;
 
+        final ByteBuffer swarView = hasShift ? null : parsingState.getSwarView(input);
+        if (swarView != null) {
+            final int wordsEnd = skipHeaderValueWords(swarView, offset, limit);
+            if (wordsEnd > offset) {
+                // the checkpoint follows the offset, checkpoint2 follows the last non-space byte
+                int lastNonSpace = wordsEnd - 1;
+                while (lastNonSpace >= offset && input[lastNonSpace] == Constants.SP) {
+                    lastNonSpace--;
+                }
+
+                if (lastNonSpace >= offset) {
+                    parsingState.checkpoint2 = lastNonSpace + 1 - arrayOffs;
+                }
+
+                parsingState.checkpoint = wordsEnd - arrayOffs;
+                offset = wordsEnd;
+            }
+        }
+
         while (offset < limit) {
             final byte b = input[offset];
             if (b == Constants.CR) {
@@ -1019,7 +1108,9 @@ public abstract class HttpCodecFilter extends HttpBaseFilter implements Monitori
             byte b = input.get(offset);
             if (b == Constants.COLON) {
 
-                parsingState.headerValueStorage = mimeHeaders.addValue(input, start, offset - start);
+                final HeaderNameInterningTable internTable = headerNameInterningTable;
+                parsingState.headerValueStorage = internTable == null ? mimeHeaders.addValue(input, start, offset - start)
+                        : mimeHeaders.addValue(input, start, offset - start, internTable.intern(input, start, offset));
                 parsingState.offset = offset + 1;
                 finalizeKnownHeaderNames(httpHeader, parsingState, input, start, offset);
 
@@ -1806,6 +1897,9 @@ public abstract class HttpCodecFilter extends HttpBaseFilter implements Monitori
         public boolean isTransferEncodingHeader;
         public boolean isUpgradeHeader;
 
+        // the little-endian view of the parsed array, used by SWAR scanning
+        private ByteBuffer swarView;
+
         public void initialize(final HttpCodecFilter codecFilter, final int initialOffset, final int maxHeaderSize) {
             this.codecFilter = codecFilter;
             offset = initialOffset;
@@ -1830,6 +1924,25 @@ public abstract class HttpCodecFilter extends HttpBaseFilter implements Monitori
             parsingNumericValue = 0;
             contentLengthHeadersCount = 0;
             contentLengthsDiffer = false;
+            swarView = null;
+        }
+
+        /**
+         * Returns the {@link ByteBuffer} view of the parsed array to be scanned 8 bytes at a time, or <tt>null</tt>, if
+         * SWAR parsing is disabled.
+         */
+        ByteBuffer getSwarView(final byte[] input) {
+            if (codecFilter == null || !codecFilter.swarParsingEnabled) {
+                return null;
+            }
+
+            ByteBuffer view = swarView;
+            if (view == null || view.array() != input) {
+                view = ByteBuffer.wrap(input).order(ByteOrder.LITTLE_ENDIAN);
+                swarView = view;
+            }
+
+            return view;
         }
 
         public void checkOverflow(final int pos, final String errorDescriptionIfOverflow) {
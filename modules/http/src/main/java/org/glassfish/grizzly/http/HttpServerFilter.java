@@ -19,10 +19,12 @@ package org.glassfish.grizzly.http;
 import static org.glassfish.grizzly.http.util.HttpCodecUtils.findEOL;
 import static org.glassfish.grizzly.http.util.HttpCodecUtils.findSpace;
 import static org.glassfish.grizzly.http.util.HttpCodecUtils.put;
+import static org.glassfish.grizzly.http.util.HttpCodecUtils.skipRequestURIWords;
 import static org.glassfish.grizzly.http.util.HttpCodecUtils.skipSpaces;
 import static org.glassfish.grizzly.http.util.HttpCodecUtils.toCheckedByteArray;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.concurrent.TimeUnit;
 
 import org.glassfish.grizzly.Buffer;
@@ -362,6 +364,11 @@ public class HttpServerFilter extends HttpCodecFilter {
 
         boolean found = false;
 
+        final ByteBuffer swarView = state.getSwarView(input);
+        if (swarView != null) {
+            offset = skipRequestURIWords(swarView, offset, limit, state.checkpoint == -1);
+        }
+
         while (offset < limit) {
             final byte b = input[offset];
             if (b == Constants.SP || b == Constants.HT) {
@@ -373,6 +380,11 @@ public class HttpServerFilter extends HttpCodecFilter {
                 break;
             } else if (b == Constants.QUESTION && state.checkpoint == -1) {
                 state.checkpoint = offset - arrayOffs;
+                if (swarView != null) {
+                    // skip the query string
+                    offset = skipRequestURIWords(swarView, offset + 1, limit, false);
+                    continue;
+                }
             }
 
             offset++;
@@ -485,6 +485,14 @@ public class BufferChunk implements Chunk {
         cachedStringCharset = null;
     }
 
+    /**
+     * Sets the known {@link String} value of the US-ASCII bytes, so the bytes don't get decoded.
+     */
+    void setCachedString(final String value) {
+        cachedString = value;
+        cachedStringCharset = DEFAULT_CHARSET;
+    }
+
     protected final void reset() {
         buffer = null;
         start = -1;
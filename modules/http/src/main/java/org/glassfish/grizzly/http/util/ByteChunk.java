@@ -151,6 +151,14 @@ public final class ByteChunk implements Chunk, Cloneable, Serializable {
         cachedStringCharset = null;
     }
 
+    /**
+     * Sets the known {@link String} value of the US-ASCII bytes, so the bytes don't get decoded.
+     */
+    void setCachedString(final String value) {
+        cachedString = value;
+        cachedStringCharset = DEFAULT_CHARSET;
+    }
+
     // -------------------- Setup --------------------
 
     public void allocate(int initial, int limit) {
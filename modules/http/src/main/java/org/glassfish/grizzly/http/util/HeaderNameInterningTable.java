@@ -0,0 +1,335 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.http.util;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.glassfish.grizzly.Buffer;
+
+/**
+ * Bounded lock-free table, which maps the header name bytes to the canonical name {@link String} and {@link Header}
+ * instances, so the parsed header names don't create new {@link String}s and could be matched against {@link Header}s
+ * by identity.
+ *
+ * The table is populated with the lower case {@link Header} names, the other names are added as they are parsed. A name
+ * may be stored in one of two neighbouring slots, when both are taken - the name, which hasn't been looked up since the
+ * last replacement, gets replaced, so the table adapts to the actual header names distribution.
+ *
+ * @since 3.0
+ */
+public final class HeaderNameInterningTable {
+    public static final int DEFAULT_CAPACITY = 256;
+
+    /**
+     * The max length of the header name to be interned.
+     */
+    public static final int MAX_NAME_LENGTH = 64;
+
+    private final AtomicReferenceArray<Name> slots;
+    private final int mask;
+
+    private final LongAdder hitsCount = new LongAdder();
+    private final LongAdder missesCount = new LongAdder();
+
+    public HeaderNameInterningTable() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity the max number of the names, the table may hold, rounded up to the power of two.
+     */
+    public HeaderNameInterningTable(final int capacity) {
+        final int size = capacity <= 2 ? 2 : Integer.highestOneBit(capacity - 1) << 1;
+        slots = new AtomicReferenceArray<>(size);
+        mask = size - 1;
+
+        for (Header header : Header.values()) {
+            final byte[] bytes = header.getLowerCaseBytes();
+            final int hash = hash(bytes, 0, bytes.length);
+            final int idx = hash & mask;
+            final int slot = slots.get(idx) == null ? idx : idx + 1 & mask;
+            if (slots.get(slot) == null) {
+                slots.set(slot, new Name(bytes, hash, header.getLowerCase(), header));
+            }
+        }
+    }
+
+    /**
+     * Returns the interned {@link Name} for the given header name bytes. If the name is not in the table - it's added.
+     *
+     * @param bytes the array containing the header name.
+     * @param start the header name start offset (inclusive).
+     * @param end the header name end offset (exclusive).
+     * @return the interned {@link Name}, or <tt>null</tt>, if the header name can't be interned.
+     */
+    public Name intern(final byte[] bytes, final int start, final int end) {
+        final int length = end - start;
+        if (length == 0 || length > MAX_NAME_LENGTH) {
+            missesCount.increment();
+            return null;
+        }
+
+        final int hash = hash(bytes, start, end);
+        final int idx = hash & mask;
+
+        Name name = slots.get(idx);
+        if (name != null && name.matches(bytes, start, end, hash)) {
+            return hit(name);
+        }
+
+        name = slots.get(idx + 1 & mask);
+        if (name != null && name.matches(bytes, start, end, hash)) {
+            return hit(name);
+        }
+
+        missesCount.increment();
+
+        final byte[] nameBytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            final byte b = bytes[start + i];
+            if (b <= Constants.SP || b >= 0x7F) {
+                // intern only printable US-ASCII names
+                return null;
+            }
+
+            nameBytes[i] = b;
+        }
+
+        return add(idx, new Name(nameBytes, hash));
+    }
+
+    /**
+     * Returns the interned {@link Name} for the given header name bytes. If the name is not in the table - it's added.
+     *
+     * @param buffer the {@link Buffer} containing the header name.
+     * @param start the header name start offset (inclusive).
+     * @param end the header name end offset (exclusive).
+     * @return the interned {@link Name}, or <tt>null</tt>, if the header name can't be interned.
+     */
+    public Name intern(final Buffer buffer, final int start, final int end) {
+        final int length = end - start;
+        if (length == 0 || length > MAX_NAME_LENGTH) {
+            missesCount.increment();
+            return null;
+        }
+
+        final int hash = hash(buffer, start, end);
+        final int idx = hash & mask;
+
+        Name name = slots.get(idx);
+        if (name != null && name.matches(buffer, start, end, hash)) {
+            return hit(name);
+        }
+
+        name = slots.get(idx + 1 & mask);
+        if (name != null && name.matches(buffer, start, end, hash)) {
+            return hit(name);
+        }
+
+        missesCount.increment();
+
+        final byte[] nameBytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            final byte b = buffer.get(start + i);
+            if (b <= Constants.SP || b >= 0x7F) {
+                // intern only printable US-ASCII names
+                return null;
+            }
+
+            nameBytes[i] = b;
+        }
+
+        return add(idx, new Name(nameBytes, hash));
+    }
+
+    /**
+     * @return the max number of the names, the table may hold.
+     */
+    public int getCapacity() {
+        return slots.length();
+    }
+
+    /**
+     * @return the number of the names currently held by the table.
+     */
+    public int getSize() {
+        int size = 0;
+        for (int i = 0; i < slots.length(); i++) {
+            if (slots.get(i) != null) {
+                size++;
+            }
+        }
+
+        return size;
+    }
+
+    /**
+     * @return the number of the lookups, which found the name in the table.
+     */
+    public long getHitsCount() {
+        return hitsCount.sum();
+    }
+
+    /**
+     * @return the number of the lookups, which didn't find the name in the table.
+     */
+    public long getMissesCount() {
+        return missesCount.sum();
+    }
+
+    /**
+     * @return the fraction of the lookups, which found the name in the table.
+     */
+    public float getHitRatio() {
+        final long hits = hitsCount.sum();
+        final long total = hits + missesCount.sum();
+
+        return total == 0 ? 0 : (float) hits / total;
+    }
+
+    @Override
+    public String toString() {
+        return "HeaderNameInterningTable{capacity=" + getCapacity() + ", hits=" + getHitsCount() + ", misses=" + getMissesCount() + '}';
+    }
+
+    private Name hit(final Name name) {
+        if (!name.isReferenced) {
+            name.isReferenced = true;
+        }
+
+        hitsCount.increment();
+        return name;
+    }
+
+    /**
+     * Stores the name to an empty or a not referenced slot of the two, the concurrently added names may replace each
+     * other, it's fine as long as the table stays consistent.
+     */
+    private Name add(final int idx, final Name name) {
+        final int idx2 = idx + 1 & mask;
+
+        final Name name1 = slots.get(idx);
+        final Name name2 = slots.get(idx2);
+
+        if (name1 == null || name2 != null && !name1.isReferenced) {
+            slots.set(idx, name);
+        } else if (name2 == null || !name2.isReferenced) {
+            slots.set(idx2, name);
+        } else {
+            // both names are in use - give them the second chance
+            name2.isReferenced = false;
+            name1.isReferenced = false;
+            slots.set(idx, name);
+        }
+
+        return name;
+    }
+
+    private static int hash(final byte[] bytes, final int start, final int end) {
+        int h = 0;
+        for (int i = start; i < end; i++) {
+            h = 31 * h + bytes[i];
+        }
+
+        return h ^ h >>> 16;
+    }
+
+    private static int hash(final Buffer buffer, final int start, final int end) {
+        int h = 0;
+        for (int i = start; i < end; i++) {
+            h = 31 * h + buffer.get(i);
+        }
+
+        return h ^ h >>> 16;
+    }
+
+    /**
+     * The interned header name.
+     */
+    public static final class Name {
+        private final byte[] bytes;
+        private final int hash;
+        private final String value;
+        private final Header header;
+
+        // the name has been looked up since the last replacement in its slots
+        volatile boolean isReferenced;
+
+        private Name(final byte[] bytes, final int hash) {
+            this.bytes = bytes;
+            this.hash = hash;
+            this.value = new String(bytes, Constants.DEFAULT_HTTP_CHARSET);
+            this.header = Header.find(value);
+        }
+
+        private Name(final byte[] bytes, final int hash, final String value, final Header header) {
+            this.bytes = bytes;
+            this.hash = hash;
+            this.value = value;
+            this.header = header;
+        }
+
+        /**
+         * @return the canonical name {@link String}.
+         */
+        public String getValue() {
+            return value;
+        }
+
+        /**
+         * @return the {@link Header} matching the name case-insensitively, or <tt>null</tt>, if the name is not a known
+         * {@link Header}.
+         */
+        public Header getHeader() {
+            return header;
+        }
+
+        @Override
+        public String toString() {
+            return value;
+        }
+
+        private boolean matches(final byte[] input, final int start, final int end, final int inputHash) {
+            if (hash != inputHash || bytes.length != end - start) {
+                return false;
+            }
+
+            for (int i = 0; i < bytes.length; i++) {
+                if (bytes[i] != input[start + i]) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        private boolean matches(final Buffer input, final int start, final int end, final int inputHash) {
+            if (hash != inputHash || bytes.length != end - start) {
+                return false;
+            }
+
+            for (int i = 0; i < bytes.length; i++) {
+                if (bytes[i] != input.get(start + i)) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+    }
+}
@@ -18,6 +18,7 @@ package org.glassfish.grizzly.http.util;
 
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
 
 import org.glassfish.grizzly.Buffer;
 import org.glassfish.grizzly.Connection;
@@ -34,6 +35,22 @@ public class HttpCodecUtils {
     static final byte[] EMPTY_ARRAY = new byte[0];
     private static final int[] DEC = HexUtils.getDecBytes();
 
+    /**
+     * The number of bytes scanned at once by the SWAR (SIMD within a register) methods.
+     */
+    public static final int SWAR_WORD_SIZE = 8;
+
+    private static final long ONE_BITS = 0x0101010101010101L;
+    private static final long LOW_BITS = 0x7F7F7F7F7F7F7F7FL;
+    private static final long HIGH_BITS = 0x8080808080808080L;
+
+    private static final long COLON_WORD = ONE_BITS * Constants.COLON;
+    private static final long CR_WORD = ONE_BITS * Constants.CR;
+    private static final long LF_WORD = ONE_BITS * Constants.LF;
+    private static final long SP_WORD = ONE_BITS * Constants.SP;
+    private static final long HT_WORD = ONE_BITS * Constants.HT;
+    private static final long QUESTION_WORD = ONE_BITS * Constants.QUESTION;
+
     public static void parseHost(final DataChunk hostDC, final DataChunk serverNameDC, final HttpRequestPacket request) {
 
         if (hostDC == null) {
@@ -299,6 +316,116 @@ public class HttpCodecUtils {
         return -1;
     }
 
+    /**
+     * Skips the 8-byte words of the header name, which don't contain a colon, the words are converted to lower case if
+     * required. The scanning stops at the first word, which contains a colon or doesn't fit the limit, so the caller
+     * continues byte by byte from the returned offset.
+     *
+     * @param view the little-endian {@link ByteBuffer} view of the input array.
+     * @param offset the offset in the input array to start from.
+     * @param limit the input array limit.
+     * @param toLowerCase <tt>true</tt> if the skipped name bytes have to be converted to lower case.
+     * @return the offset of the first word, which hasn't been skipped.
+     *
+     * @since 3.0
+     */
+    public static int skipHeaderNameWords(final ByteBuffer view, int offset, final int limit, final boolean toLowerCase) {
+        while (offset + SWAR_WORD_SIZE <= limit) {
+            final long word = view.getLong(offset);
+            if (matchBytes(word, COLON_WORD) != 0) {
+                break;
+            }
+
+            if (toLowerCase) {
+                final long upperCase = matchUpperCase(word);
+                if (upperCase != 0) {
+                    // 0x80 >>> 2 == 0x20 - the lower case offset
+                    view.putLong(offset, word | upperCase >>> 2);
+                }
+            }
+
+            offset += SWAR_WORD_SIZE;
+        }
+
+        return offset;
+    }
+
+    /**
+     * Skips the 8-byte words of the header value, which contain neither CR nor LF. The scanning stops at the first word,
+     * which contains CR or LF or doesn't fit the limit, so the caller continues byte by byte from the returned offset.
+     *
+     * @param view the little-endian {@link ByteBuffer} view of the input array.
+     * @param offset the offset in the input array to start from.
+     * @param limit the input array limit.
+     * @return the offset of the first word, which hasn't been skipped.
+     *
+     * @since 3.0
+     */
+    public static int skipHeaderValueWords(final ByteBuffer view, int offset, final int limit) {
+        while (offset + SWAR_WORD_SIZE <= limit) {
+            final long word = view.getLong(offset);
+            if ((matchBytes(word, CR_WORD) | matchBytes(word, LF_WORD)) != 0) {
+                break;
+            }
+
+            offset += SWAR_WORD_SIZE;
+        }
+
+        return offset;
+    }
+
+    /**
+     * Skips the 8-byte words of the request URI, which contain neither SP, HT, CR, LF nor, if requested, the query
+     * string delimiter. The scanning stops at the first word, which contains any of them or doesn't fit the limit, so the
+     * caller continues byte by byte from the returned offset.
+     *
+     * @param view the little-endian {@link ByteBuffer} view of the input array.
+     * @param offset the offset in the input array to start from.
+     * @param limit the input array limit.
+     * @param stopAtQuestion <tt>true</tt> if the words containing '?' have not to be skipped.
+     * @return the offset of the first word, which hasn't been skipped.
+     *
+     * @since 3.0
+     */
+    public static int skipRequestURIWords(final ByteBuffer view, int offset, final int limit, final boolean stopAtQuestion) {
+        while (offset + SWAR_WORD_SIZE <= limit) {
+            final long word = view.getLong(offset);
+            long matches = matchBytes(word, SP_WORD) | matchBytes(word, HT_WORD) | matchBytes(word, CR_WORD) | matchBytes(word, LF_WORD);
+            if (stopAtQuestion) {
+                matches |= matchBytes(word, QUESTION_WORD);
+            }
+
+            if (matches != 0) {
+                break;
+            }
+
+            offset += SWAR_WORD_SIZE;
+        }
+
+        return offset;
+    }
+
+    /**
+     * Returns the word, which has the high bit set for every byte equal to the corresponding byte of the pattern and all
+     * the other bits cleared.
+     */
+    private static long matchBytes(final long word, final long pattern) {
+        final long x = word ^ pattern;
+        return ~((x & LOW_BITS) + LOW_BITS | x | LOW_BITS);
+    }
+
+    /**
+     * Returns the word, which has the high bit set for every 'A'..'Z' byte and all the other bits cleared.
+     */
+    private static long matchUpperCase(final long word) {
+        final long lowBits = word & LOW_BITS;
+        // the high bit is set, if the byte is >= 'A' and > 'Z' respectively
+        final long aOrAbove = lowBits + ONE_BITS * (0x80 - 'A');
+        final long aboveZ = lowBits + ONE_BITS * (0x80 - 'Z' - 1);
+
+        return aOrAbove & ~aboveZ & ~word & HIGH_BITS;
+    }
+
     public static int indexOf(final Buffer input, int offset, final byte b, final int packetLimit) {
         final int limit = Math.min(input.limit(), packetLimit);
         while (offset < limit) {
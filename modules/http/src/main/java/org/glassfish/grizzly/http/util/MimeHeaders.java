@@ -203,6 +203,8 @@ public class MimeHeaders {
                 f = new MimeHeaderField();
                 headers[i] = f;
             }
+            f.header = sourceField.header;
+            f.internedName = sourceField.internedName;
             if (sourceField.nameB.type == DataChunk.Type.Buffer) {
                 copyBufferChunk(sourceField.nameB, f.nameB);
             } else {
@@ -307,7 +309,7 @@ public class MimeHeaders {
 
         // A custom search tree may be better
         for (int i = fromIndex; i < count; i++) {
-            if (headers[i].getName().equalsIgnoreCase(name)) {
+            if (headers[i].nameEquals(name)) {
                 return i;
             }
         }
@@ -327,7 +329,7 @@ public class MimeHeaders {
         // A custom search tree may be better
         final byte[] bytes = header.getLowerCaseBytes();
         for (int i = fromIndex; i < count; i++) {
-            if (headers[i].getName().equalsIgnoreCaseLowerCase(bytes)) {
+            if (headers[i].nameEquals(header, bytes)) {
                 return i;
             }
         }
@@ -439,6 +441,7 @@ public class MimeHeaders {
         }
         MimeHeaderField mh = createHeader();
         mh.getName().setBytes(header.toByteArray());
+        mh.header = header;
         return mh.getValue();
     }
 
@@ -454,6 +457,30 @@ public class MimeHeaders {
         return mhf.getValue();
     }
 
+    /**
+     * Create a new named header using un-translated byte[], the name {@link String} and {@link Header} are taken from the
+     * interned name.
+     *
+     * @param buffer the array containing the header name.
+     * @param startN the header name start offset.
+     * @param len the header name length.
+     * @param internedName the interned header name, or <tt>null</tt>, if the name hasn't been interned.
+     * @return the header value {@link DataChunk}.
+     *
+     * @since 3.0
+     */
+    public DataChunk addValue(final byte[] buffer, final int startN, final int len, final HeaderNameInterningTable.Name internedName) {
+        final DataChunk value = addValue(buffer, startN, len);
+        if (internedName != null && value != NOOP_CHUNK) {
+            final MimeHeaderField mhf = headers[count - 1];
+            mhf.getName().getByteChunk().setCachedString(internedName.getValue());
+            mhf.header = internedName.getHeader();
+            mhf.internedName = internedName.getValue();
+        }
+
+        return value;
+    }
+
     /**
      * Create a new named header using un-translated Buffer. The conversion to chars can be delayed until encoding is known.
      */
@@ -466,6 +493,30 @@ public class MimeHeaders {
         return mhf.getValue();
     }
 
+    /**
+     * Create a new named header using un-translated Buffer, the name {@link String} and {@link Header} are taken from
+     * the interned name.
+     *
+     * @param buffer the {@link Buffer} containing the header name.
+     * @param startN the header name start offset.
+     * @param len the header name length.
+     * @param internedName the interned header name, or <tt>null</tt>, if the name hasn't been interned.
+     * @return the header value {@link DataChunk}.
+     *
+     * @since 3.0
+     */
+    public DataChunk addValue(final Buffer buffer, final int startN, final int len, final HeaderNameInterningTable.Name internedName) {
+        final DataChunk value = addValue(buffer, startN, len);
+        if (internedName != null && value != NOOP_CHUNK) {
+            final MimeHeaderField mhf = headers[count - 1];
+            mhf.getName().getBufferChunk().setCachedString(internedName.getValue());
+            mhf.header = internedName.getHeader();
+            mhf.internedName = internedName.getValue();
+        }
+
+        return value;
+    }
+
     /**
      * Allow "set" operations - return a DataChunk container for the header value ( existing header or new if this .
      */
@@ -474,9 +525,9 @@ public class MimeHeaders {
             return NOOP_CHUNK;
         }
         for (int i = 0; i < count; i++) {
-            if (headers[i].getName().equalsIgnoreCase(name)) {
+            if (headers[i].nameEquals(name)) {
                 for (int j = i + 1; j < count; j++) {
-                    if (headers[j].getName().equalsIgnoreCase(name)) {
+                    if (headers[j].nameEquals(name)) {
                         removeHeader(j--);
                     }
                 }
@@ -497,9 +548,9 @@ public class MimeHeaders {
         }
         final byte[] bytes = header.getLowerCaseBytes();
         for (int i = 0; i < count; i++) {
-            if (headers[i].getName().equalsIgnoreCaseLowerCase(bytes)) {
+            if (headers[i].nameEquals(header, bytes)) {
                 for (int j = i + 1; j < count; j++) {
-                    if (headers[j].getName().equalsIgnoreCaseLowerCase(bytes)) {
+                    if (headers[j].nameEquals(header, bytes)) {
                         removeHeader(j--);
                     }
                 }
@@ -508,6 +559,7 @@ public class MimeHeaders {
         }
         MimeHeaderField mh = createHeader();
         mh.getName().setBytes(header.toByteArray());
+        mh.header = header;
 
         return mh.getValue();
     }
@@ -519,7 +571,7 @@ public class MimeHeaders {
      */
     public DataChunk getValue(String name) {
         for (int i = 0; i < count; i++) {
-            if (headers[i].getName().equalsIgnoreCase(name)) {
+            if (headers[i].nameEquals(name)) {
                 return headers[i].getValue();
             }
         }
@@ -533,7 +585,7 @@ public class MimeHeaders {
     public DataChunk getValue(final Header header) {
         final byte[] bytes = header.getLowerCaseBytes();
         for (int i = 0; i < count; i++) {
-            if (headers[i].getName().equalsIgnoreCaseLowerCase(bytes)) {
+            if (headers[i].nameEquals(header, bytes)) {
                 return headers[i].getValue();
             }
         }
@@ -563,7 +615,7 @@ public class MimeHeaders {
         // warning: rather sticky code; heavily tuned
 
         for (int i = 0; i < count; i++) {
-            if (headers[i].getName().equalsIgnoreCase(name)) {
+            if (headers[i].nameEquals(name)) {
                 removeHeader(i--);
             }
         }
@@ -572,7 +624,7 @@ public class MimeHeaders {
     public void removeHeader(final Header header) {
 
         for (int i = 0; i < count; i++) {
-            if (headers[i].getName().equalsIgnoreCase(header.getBytes())) {
+            if (headers[i].nameEquals(header, header.getLowerCaseBytes())) {
                 removeHeader(i--);
             }
         }
@@ -588,7 +640,7 @@ public class MimeHeaders {
     @SuppressWarnings("UnusedDeclaration")
     public void removeHeader(final String name, final String str) {
         for (int i = 0; i < count; i++) {
-            if (headers[i].getName().equalsIgnoreCase(name) && getValue(i) != null && getValue(i).toString() != null && getValue(i).toString().contains(str)) {
+            if (headers[i].nameEquals(name) && getValue(i) != null && getValue(i).toString() != null && getValue(i).toString().contains(str)) {
                 removeHeader(i--);
             }
         }
@@ -603,7 +655,7 @@ public class MimeHeaders {
     @SuppressWarnings("UnusedDeclaration")
     public void removeHeaderMatches(final String name, final String regex) {
         for (int i = 0; i < count; i++) {
-            if (headers[i].getName().equalsIgnoreCase(name) && getValue(i) != null && getValue(i).toString() != null && getValue(i).toString().matches(regex)) {
+            if (headers[i].nameEquals(name) && getValue(i) != null && getValue(i).toString() != null && getValue(i).toString().matches(regex)) {
                 removeHeader(i--);
             }
         }
@@ -617,7 +669,7 @@ public class MimeHeaders {
      */
     public void removeHeaderMatches(final Header header, final String regex) {
         for (int i = 0; i < count; i++) {
-            if (headers[i].getName().equalsIgnoreCaseLowerCase(header.getLowerCaseBytes()) && getValue(i) != null && getValue(i).toString() != null
+            if (headers[i].nameEquals(header, header.getLowerCaseBytes()) && getValue(i) != null && getValue(i).toString() != null
                     && getValue(i).toString().matches(regex)) {
                 removeHeader(i--);
             }
@@ -804,6 +856,10 @@ final class MimeHeaderField {
 
     private boolean isSerialized;
 
+    // the known header and the canonical name, if the name has been interned or set as a Header
+    Header header;
+    String internedName;
+
     /**
      * Creates a new, uninitialized header field.
      */
@@ -812,6 +868,8 @@ final class MimeHeaderField {
 
     public void recycle() {
         isSerialized = false;
+        header = null;
+        internedName = null;
         nameB.recycle();
         valueB.recycle();
     }
@@ -828,6 +886,22 @@ final class MimeHeaderField {
         return isSerialized;
     }
 
+    /**
+     * Checks if the field name equals to the given name case-insensitively, the interned name is compared by identity
+     * first.
+     */
+    boolean nameEquals(final String name) {
+        return internedName == name || nameB.equalsIgnoreCase(name);
+    }
+
+    /**
+     * Checks if the field name equals to the given {@link Header} name, the known header is compared by identity.
+     */
+    boolean nameEquals(final Header name, final byte[] lowerCaseBytes) {
+        final Header knownHeader = header;
+        return knownHeader != null ? knownHeader == name : nameB.equalsIgnoreCaseLowerCase(lowerCaseBytes);
+    }
+
     public void setSerialized(boolean isSerialized) {
         this.isSerialized = isSerialized;
     }
@@ -175,6 +175,78 @@ public class HttpRequestParseTest extends TestCase {
         assertTrue(packet.getHttpHeader().isChunked());
     }
 
+    public void testSwarParsing() {
+        final String request = "GET /context/servlet/path/resource.html?first=value&second=Long%20Value HTTP/1.1\r\n"
+                + "Host: www.example.com:8080\r\n"
+                + "User-Agent: Mozilla/5.0 (X11; Linux x86_64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0 Safari/537.36\r\n"
+                + "ACCEPT: text/html,application/xhtml+xml,application/xml;q=0.9,*/*;q=0.8\r\n"
+                + "Accept-Language: en-US,en;q=0.5   \r\n"
+                + "X-Forwarded-For-Original-Client: 192.168.100.200\r\n"
+                + "Multi-Line-Header-Value: first line\r\n        second line\r\n"
+                + "Content-Length: 0\r\n"
+                + "\r\n";
+
+        final HttpRequestPacket expected = (HttpRequestPacket) doTestDecoder(request, 4096).getHttpHeader();
+
+        for (int split = 1; split < request.length(); split++) {
+            final HttpRequestPacket actual = doTestSwarDecoder(request, split);
+            assertEquals("split=" + split, expected.getMethod().getMethodString(), actual.getMethod().getMethodString());
+            assertEquals("split=" + split, expected.getRequestURI(), actual.getRequestURI());
+            assertEquals("split=" + split, expected.getQueryString(), actual.getQueryString());
+            assertEquals("split=" + split, expected.getProtocol(), actual.getProtocol());
+            assertEquals("split=" + split, expected.getContentLength(), actual.getContentLength());
+
+            final MimeHeaders expectedHeaders = expected.getHeaders();
+            final MimeHeaders actualHeaders = actual.getHeaders();
+            assertEquals("split=" + split, expectedHeaders.size(), actualHeaders.size());
+            for (int i = 0; i < expectedHeaders.size(); i++) {
+                assertEquals("split=" + split, expectedHeaders.getName(i).toString(), actualHeaders.getName(i).toString());
+                assertEquals("split=" + split, expectedHeaders.getValue(i).toString(), actualHeaders.getValue(i).toString());
+            }
+        }
+
+        assertEquals("multi-line-header-value", expected.getHeaders().getName(5).toString());
+        assertEquals("first line second line", expected.getHeader("Multi-Line-Header-Value"));
+        assertEquals("en-US,en;q=0.5", expected.getHeader("Accept-Language"));
+    }
+
+    /**
+     * Parses the request passed in two parts, split at the given position, with SWAR parsing enabled.
+     */
+    private HttpRequestPacket doTestSwarDecoder(String request, int split) {
+        MemoryManager mm = MemoryManager.DEFAULT_MEMORY_MANAGER;
+        Buffer input = Buffers.wrap(mm, request);
+        assertTrue(input.hasArray());
+
+        HttpServerFilter filter = new HttpServerFilter(true, 4096, null, null) {
+
+            @Override
+            protected void onHttpHeaderError(final HttpHeader httpHeader, final FilterChainContext ctx, final Throwable t) throws IOException {
+                throw new IllegalStateException(t);
+            }
+        };
+        filter.setSwarParsingEnabled(true);
+
+        final StandaloneConnection connection = new StandaloneConnection();
+
+        try {
+            input.limit(split);
+            FilterChainContext ctx = FilterChainContext.create(connection);
+            ctx.setMessage(input);
+            filter.handleRead(ctx);
+
+            input.position(0);
+            input.limit(request.length());
+            ctx = FilterChainContext.create(connection);
+            ctx.setMessage(input);
+            filter.handleRead(ctx);
+
+            return (HttpRequestPacket) ((HttpPacket) ctx.getMessage()).getHttpHeader();
+        } catch (IOException e) {
+            throw new IllegalStateException(e.getMessage());
+        }
+    }
+
     @SuppressWarnings({ "unchecked" })
     private HttpPacket doTestDecoder(String request, int limit) {
 
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.http.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.glassfish.grizzly.Buffer;
+import org.glassfish.grizzly.memory.Buffers;
+import org.glassfish.grizzly.memory.MemoryManager;
+import org.junit.Test;
+
+public class HeaderNameInterningTableTest {
+
+    @Test
+    public void testKnownHeaders() {
+        final HeaderNameInterningTable table = new HeaderNameInterningTable();
+
+        final byte[] bytes = "xcontent-lengthx".getBytes(StandardCharsets.US_ASCII);
+        final HeaderNameInterningTable.Name name = table.intern(bytes, 1, bytes.length - 1);
+        assertNotNull(name);
+        assertSame(Header.ContentLength, name.getHeader());
+        assertSame(Header.ContentLength.getLowerCase(), name.getValue());
+        assertEquals(1, table.getHitsCount());
+        assertEquals(0, table.getMissesCount());
+
+        final Buffer buffer = Buffers.wrap(MemoryManager.DEFAULT_MEMORY_MANAGER, "host");
+        assertSame(Header.Host, table.intern(buffer, 0, buffer.limit()).getHeader());
+    }
+
+    @Test
+    public void testCustomHeaders() {
+        final HeaderNameInterningTable table = new HeaderNameInterningTable();
+
+        final byte[] bytes = "X-Request-Id".getBytes(StandardCharsets.US_ASCII);
+        final HeaderNameInterningTable.Name name = table.intern(bytes, 0, bytes.length);
+        assertNotNull(name);
+        assertEquals("X-Request-Id", name.getValue());
+        assertNull(name.getHeader());
+        assertEquals(1, table.getMissesCount());
+
+        assertSame(name, table.intern(bytes.clone(), 0, bytes.length));
+        assertEquals(1, table.getHitsCount());
+        assertEquals(0.5f, table.getHitRatio(), 0.001f);
+
+        // the case is preserved, the known header is resolved case-insensitively
+        final byte[] upperCaseBytes = "CONTENT-TYPE".getBytes(StandardCharsets.US_ASCII);
+        final HeaderNameInterningTable.Name upperCaseName = table.intern(upperCaseBytes, 0, upperCaseBytes.length);
+        assertEquals("CONTENT-TYPE", upperCaseName.getValue());
+        assertSame(Header.ContentType, upperCaseName.getHeader());
+    }
+
+    @Test
+    public void testNotInternedNames() {
+        final HeaderNameInterningTable table = new HeaderNameInterningTable();
+
+        final byte[] longName = new byte[HeaderNameInterningTable.MAX_NAME_LENGTH + 1];
+        Arrays.fill(longName, (byte) 'a');
+        assertNull(table.intern(longName, 0, longName.length));
+
+        final byte[] nonAscii = { 'x', '-', (byte) 0xE9 };
+        assertNull(table.intern(nonAscii, 0, nonAscii.length));
+        assertNull(table.intern(nonAscii, 0, nonAscii.length));
+
+        assertEquals(0, table.getHitsCount());
+        assertEquals(3, table.getMissesCount());
+    }
+
+    @Test
+    public void testBoundedSize() {
+        final HeaderNameInterningTable table = new HeaderNameInterningTable(4);
+        assertEquals(4, table.getCapacity());
+
+        for (int i = 0; i < 1000; i++) {
+            final byte[] bytes = ("x-custom-" + i).getBytes(StandardCharsets.US_ASCII);
+            assertEquals("x-custom-" + i, table.intern(bytes, 0, bytes.length).getValue());
+        }
+
+        assertTrue(table.getSize() <= 4);
+
+        // the frequently used name stays in the table
+        final byte[] hot = "x-hot".getBytes(StandardCharsets.US_ASCII);
+        final HeaderNameInterningTable.Name hotName = table.intern(hot, 0, hot.length);
+        for (int i = 0; i < 100; i++) {
+            assertSame(hotName, table.intern(hot, 0, hot.length));
+
+            final byte[] bytes = ("x-cold-" + i).getBytes(StandardCharsets.US_ASCII);
+            table.intern(bytes, 0, bytes.length);
+        }
+    }
+
+    @Test
+    public void testMimeHeadersLookup() {
+        final HeaderNameInterningTable table = new HeaderNameInterningTable();
+        final MimeHeaders mimeHeaders = new MimeHeaders();
+
+        final byte[] bytes = "content-lengthx-request-id".getBytes(StandardCharsets.US_ASCII);
+        mimeHeaders.addValue(bytes, 0, 14, table.intern(bytes, 0, 14)).setString("100");
+        mimeHeaders.addValue(bytes, 14, 12, table.intern(bytes, 14, bytes.length)).setString("abc");
+
+        assertSame(Header.ContentLength.getLowerCase(), mimeHeaders.getName(0).toString());
+        assertEquals("100", mimeHeaders.getHeader(Header.ContentLength));
+        assertEquals("100", mimeHeaders.getHeader("Content-Length"));
+        assertNull(mimeHeaders.getHeader(Header.ContentType));
+
+        for (String name : mimeHeaders.names()) {
+            assertNotNull(mimeHeaders.getHeader(name));
+        }
+
+        assertEquals("abc", mimeHeaders.getHeader("X-REQUEST-ID"));
+
+        mimeHeaders.removeHeader(Header.ContentLength);
+        assertEquals(1, mimeHeaders.size());
+        assertNull(mimeHeaders.getHeader(Header.ContentLength));
+
+        mimeHeaders.setValue(Header.ContentLength).setString("200");
+        assertEquals("200", mimeHeaders.getHeader("content-length"));
+    }
+}
@@ -42,6 +42,9 @@ public class MemoryManager extends JmxObject {
     private final AtomicLong realAllocatedBytes = new AtomicLong();
     private final AtomicLong poolAllocatedBytes = new AtomicLong();
     private final AtomicLong poolReleasedBytes = new AtomicLong();
+    private final AtomicLong magazineHits = new AtomicLong();
+    private final AtomicLong magazineMisses = new AtomicLong();
+    private final AtomicLong leakedBuffers = new AtomicLong();
     
     public MemoryManager(org.glassfish.grizzly.memory.MemoryManager memoryManager) {
         this.memoryManager = memoryManager;
@@ -94,6 +97,24 @@ public class MemoryManager extends JmxObject {
         return poolReleasedBytes.get();
     }
 
+    @ManagedAttribute(id="magazine-hits")
+    @Description("Total number of buffers allocated from thread-local magazines")
+    public long getMagazineHits() {
+        return magazineHits.get();
+    }
+
+    @ManagedAttribute(id="magazine-misses")
+    @Description("Total number of allocations, which found an empty thread-local magazine")
+    public long getMagazineMisses() {
+        return magazineMisses.get();
+    }
+
+    @ManagedAttribute(id="leaked-buffers")
+    @Description("Total number of buffers, which were garbage collected without being disposed (requires leak detection)")
+    public long getLeakedBuffers() {
+        return leakedBuffers.get();
+    }
+
     private class JmxMemoryProbe implements MemoryProbe {
 
         @Override
@@ -113,5 +134,20 @@ public class MemoryManager extends JmxObject {
             poolReleasedBytes.addAndGet(size);
         }
 
+        @Override
+        public void onMagazineHitEvent(int size) {
+            magazineHits.incrementAndGet();
+        }
+
+        @Override
+        public void onMagazineMissEvent(int size) {
+            magazineMisses.incrementAndGet();
+        }
+
+        @Override
+        public void onBufferLeakEvent(int size, Throwable allocationTrace) {
+            leakedBuffers.incrementAndGet();
+        }
+
     }
 }
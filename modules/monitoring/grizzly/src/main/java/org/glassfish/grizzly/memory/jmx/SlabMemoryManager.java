@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.memory.jmx;
+
+import org.glassfish.gmbal.Description;
+import org.glassfish.gmbal.ManagedAttribute;
+import org.glassfish.gmbal.ManagedObject;
+
+/**
+ * {@link org.glassfish.grizzly.memory.SlabMemoryManager} JMX object.
+ */
+@ManagedObject
+@Description("Grizzly Memory Manager")
+public class SlabMemoryManager extends MemoryManager {
+
+    public SlabMemoryManager(org.glassfish.grizzly.memory.SlabMemoryManager memoryManager) {
+        super(memoryManager);
+    }
+
+    @ManagedAttribute(id="arenas-count")
+    @Description("The number of allocated native memory arenas")
+    public int getArenasCount() {
+        return getSlabMemoryManager().getArenasCount();
+    }
+
+    @ManagedAttribute(id="max-arenas")
+    @Description("The max number of native memory arenas")
+    public int getMaxArenas() {
+        return getSlabMemoryManager().getMaxArenas();
+    }
+
+    @ManagedAttribute(id="reserved-bytes")
+    @Description("Total size of the allocated native memory arenas")
+    public long getReservedBytes() {
+        return getSlabMemoryManager().getReservedBytes();
+    }
+
+    @ManagedAttribute(id="assigned-bytes")
+    @Description("Total size of the slabs assigned to the size classes")
+    public long getAssignedBytes() {
+        return getSlabMemoryManager().getAssignedBytes();
+    }
+
+    @ManagedAttribute(id="used-bytes")
+    @Description("Total size of the regions backing the buffers, which are not disposed yet")
+    public long getUsedBytes() {
+        return getSlabMemoryManager().getUsedBytes();
+    }
+
+    @ManagedAttribute(id="fragmentation")
+    @Description("The fraction of the assigned slabs memory, which doesn't store the requested data")
+    public float getFragmentation() {
+        return getSlabMemoryManager().getFragmentation();
+    }
+
+    @ManagedAttribute(id="leaked-buffers-count")
+    @Description("The number of detected buffer leaks")
+    public long getLeakedBuffersCount() {
+        return getSlabMemoryManager().getLeakedBuffersCount();
+    }
+
+    private org.glassfish.grizzly.memory.SlabMemoryManager getSlabMemoryManager() {
+        return (org.glassfish.grizzly.memory.SlabMemoryManager) memoryManager;
+    }
+}
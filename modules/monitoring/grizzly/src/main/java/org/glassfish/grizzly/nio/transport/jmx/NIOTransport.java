@@ -30,6 +30,7 @@ import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
@@ -66,6 +67,16 @@ public class NIOTransport extends JmxObject {
     private final AtomicInteger openConnectionsNum = new AtomicInteger();
     private final AtomicLong totalConnectionsNum = new AtomicLong();
 
+    private final AtomicLong readBufferResizesNum = new AtomicLong();
+    private final AtomicLong readBufferBytesSaved = new AtomicLong();
+    // the read buffer size reduction per open resized connection
+    private final ConcurrentMap<Connection, AtomicInteger> readBufferSizeReductions =
+            new ConcurrentHashMap<>();
+
+    // the last sampled selector runners load, if a load aware channel distributor is used
+    private final ConcurrentMap<Integer, String> selectorRunnersLoad =
+            new ConcurrentSkipListMap<>();
+
     private GrizzlyJmxManager mom;
     
     private MemoryManager currentMemoryManager;
@@ -205,6 +216,21 @@ public class NIOTransport extends JmxObject {
         return totalConnectionsNum.get();
     }
 
+    @ManagedAttribute(id="read-buffer-resizes-count")
+    public long getReadBufferResizesCount() {
+        return readBufferResizesNum.get();
+    }
+
+    @ManagedAttribute(id="read-buffer-bytes-saved")
+    public long getReadBufferBytesSaved() {
+        return readBufferBytesSaved.get();
+    }
+
+    @ManagedAttribute(id="selector-runners-load")
+    public String getSelectorRunnersLoad() {
+        return selectorRunnersLoad.toString();
+    }
+
     private static String getType(Object o) {
         return o != null ? o.getClass().getName() : "N/A";
     }
@@ -328,6 +354,13 @@ public class NIOTransport extends JmxObject {
                 rebuildSubTree();
             }
         }
+
+        @Override
+        public void onSelectorRunnerLoadEvent(Transport transport, int runnerIndex,
+                int registeredKeysCount, float selectedKeysRate, int pendingTasksCount) {
+            selectorRunnersLoad.put(runnerIndex, "keys=" + registeredKeysCount
+                    + ", keys-selected-per-sec=" + selectedKeysRate + ", pending-tasks=" + pendingTasksCount);
+        }
     }
 
     private class JmxConnectionProbe implements ConnectionProbe {
@@ -376,6 +409,21 @@ public class NIOTransport extends JmxObject {
             if (openConnectionsNum.get() > 0) {
                 openConnectionsNum.decrementAndGet();
             }
+
+            final AtomicInteger sizeReduction = readBufferSizeReductions.remove(connection);
+            if (sizeReduction != null) {
+                readBufferBytesSaved.addAndGet(-sizeReduction.get());
+            }
+        }
+
+        @Override
+        public void onReadBufferResizeEvent(Connection connection, int oldSize, int newSize) {
+            readBufferResizesNum.incrementAndGet();
+
+            final int sizeReduction = oldSize - newSize;
+            readBufferBytesSaved.addAndGet(sizeReduction);
+
+            readBufferSizeReductions.computeIfAbsent(connection, c -> new AtomicInteger()).addAndGet(sizeReduction);
         }
 
         @Override
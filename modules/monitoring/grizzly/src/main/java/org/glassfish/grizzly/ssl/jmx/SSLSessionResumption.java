@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package org.glassfish.grizzly.ssl.jmx;
+
+import java.util.concurrent.TimeUnit;
+
+import org.glassfish.gmbal.Description;
+import org.glassfish.gmbal.GmbalMBean;
+import org.glassfish.gmbal.ManagedAttribute;
+import org.glassfish.gmbal.ManagedObject;
+import org.glassfish.grizzly.jmxbase.GrizzlyJmxManager;
+import org.glassfish.grizzly.monitoring.jmx.JmxObject;
+
+/**
+ * {@link org.glassfish.grizzly.ssl.SSLSessionResumption} JMX object.
+ *
+ * @since 3.0
+ */
+@ManagedObject
+@Description("Grizzly TLS session resumption")
+public class SSLSessionResumption extends JmxObject {
+
+    private final org.glassfish.grizzly.ssl.SSLSessionResumption sessionResumption;
+
+    public SSLSessionResumption(org.glassfish.grizzly.ssl.SSLSessionResumption sessionResumption) {
+        this.sessionResumption = sessionResumption;
+    }
+
+    @Override
+    public String getJmxName() {
+        return "SSLSessionResumption";
+    }
+
+    @Override
+    protected void onRegister(GrizzlyJmxManager mom, GmbalMBean bean) {
+    }
+
+    @Override
+    protected void onDeregister(GrizzlyJmxManager mom) {
+    }
+
+    @ManagedAttribute(id = "session-cache-size")
+    @Description("The max number of sessions cached by a session context (0 - unlimited, -1 - JSSE provider default)")
+    public int getSessionCacheSize() {
+        return sessionResumption.getSessionCacheSize();
+    }
+
+    @ManagedAttribute(id = "session-timeout-seconds")
+    @Description("The time a session may be resumed after it has been created (0 - unlimited, -1 - JSSE provider default)")
+    public long getSessionTimeout() {
+        return sessionResumption.getSessionTimeout(TimeUnit.SECONDS);
+    }
+
+    @ManagedAttribute(id = "cached-sessions-count")
+    @Description("The number of currently cached sessions")
+    public int getCachedSessionsCount() {
+        return sessionResumption.getCachedSessionsCount();
+    }
+
+    @ManagedAttribute(id = "full-handshakes-count")
+    @Description("The number of completed full handshakes")
+    public long getFullHandshakesCount() {
+        return sessionResumption.getFullHandshakesCount();
+    }
+
+    @ManagedAttribute(id = "resumed-handshakes-count")
+    @Description("The number of completed handshakes, which resumed an existing session")
+    public long getResumedHandshakesCount() {
+        return sessionResumption.getResumedHandshakesCount();
+    }
+
+    @ManagedAttribute(id = "resumption-ratio")
+    @Description("The fraction of the completed handshakes, which resumed an existing session")
+    public float getResumptionRatio() {
+        return sessionResumption.getResumptionRatio();
+    }
+}
@@ -58,6 +58,11 @@ public class FileCache extends JmxObject {
      */
     private final AtomicLong cacheMissCount = new AtomicLong();
 
+    /**
+     * The number of cache evictions.
+     */
+    private final AtomicLong cacheEvictionCount = new AtomicLong();
+
     /**
      * The number of cache errors.
      */
@@ -222,6 +227,15 @@ public class FileCache extends JmxObject {
         return cacheMissCount.get();
     }
 
+    /**
+     * @return the total number of cache evictions.
+     */
+    @ManagedAttribute(id="cache-eviction-count")
+    @Description("The total number of entries evicted to make room for more frequently used resources.")
+    public long getCacheEvictionCount() {
+        return cacheEvictionCount.get();
+    }
+
     /**
      * @return the total number of cache errors.
      */
@@ -284,6 +298,11 @@ public class FileCache extends JmxObject {
             cacheMissCount.incrementAndGet();
         }
 
+        @Override
+        public void onEntryEvictedEvent(org.glassfish.grizzly.http.server.filecache.FileCache fileCache, FileCacheEntry entry) {
+            cacheEvictionCount.incrementAndGet();
+        }
+
         @Override
         public void onErrorEvent(org.glassfish.grizzly.http.server.filecache.FileCache fileCache, Throwable error) {
             cacheErrorCount.incrementAndGet();
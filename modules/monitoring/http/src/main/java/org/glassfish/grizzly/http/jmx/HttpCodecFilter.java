@@ -25,6 +25,7 @@ import org.glassfish.grizzly.http.HttpHeader;
 import org.glassfish.grizzly.http.HttpProbe;
 import org.glassfish.grizzly.http.LZMAContentEncoding;
 import org.glassfish.grizzly.http.TransferEncoding;
+import org.glassfish.grizzly.http.util.HeaderNameInterningTable;
 import org.glassfish.grizzly.monitoring.jmx.JmxObject;
 import org.glassfish.gmbal.Description;
 import org.glassfish.gmbal.GmbalMBean;
@@ -187,6 +188,26 @@ public class HttpCodecFilter extends JmxObject {
         return calculateAvgCompressionPercent(l1, l2);
     }
 
+    /**
+     * @return the fraction of the parsed header names found in the interning table.
+     */
+    @ManagedAttribute(id = "http-codec-header-names-interning-hit-ratio")
+    @Description("The fraction of the parsed header names, which have been found in the header names interning table.")
+    public float getHeaderNamesInterningHitRatio() {
+        final HeaderNameInterningTable table = httpCodecFilter.getHeaderNameInterningTable();
+        return table != null ? table.getHitRatio() : 0;
+    }
+
+    /**
+     * @return the number of the header names held by the interning table.
+     */
+    @ManagedAttribute(id = "http-codec-header-names-interning-size")
+    @Description("The number of the header names held by the header names interning table.")
+    public int getHeaderNamesInterningSize() {
+        final HeaderNameInterningTable table = httpCodecFilter.getHeaderNameInterningTable();
+        return table != null ? table.getSize() : 0;
+    }
+
 
     // --------------------------------------------------------- Private Methods
 